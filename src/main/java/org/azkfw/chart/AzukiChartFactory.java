@@ -224,11 +224,29 @@ public class AzukiChartFactory {
 	 * @return 散布図
 	 */
 	public static AzukiChart createScatterChart(final List<Double> data) {
-		ScatterDataset dataset = new ScatterDataset();
-		ScatterSeries series = new ScatterSeries();
-		for (int i = 0; i < data.size(); i++) {
-			series.add(i, data.get(i));
+		double[] values = new double[data.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = data.get(i);
 		}
+		return createScatterChart(values);
+	}
+
+	/**
+	 * 散布図のインスタンスを生成する。
+	 * <p>
+	 * x値にはデータのインデックスを使用する。
+	 * </p>
+	 * 
+	 * @param data データ
+	 * @return 散布図
+	 */
+	public static AzukiChart createScatterChart(final double[] data) {
+		double[] xs = new double[data.length];
+		for (int i = 0; i < xs.length; i++) {
+			xs[i] = i;
+		}
+		ScatterDataset dataset = new ScatterDataset();
+		ScatterSeries series = ScatterSeries.wrap(null, xs, data);
 		dataset.addSeries(series);
 
 		ScatterChartPlot plot = new ScatterChartPlot(dataset);
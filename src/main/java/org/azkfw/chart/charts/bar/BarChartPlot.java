@@ -30,7 +30,7 @@ import java.util.List;
 import org.azkfw.chart.charts.bar.BarAxis.BarHorizontalAxis;
 import org.azkfw.chart.charts.bar.BarAxis.BarVerticalAxis;
 import org.azkfw.chart.charts.bar.BarChartDesign.BarChartStyle;
-import org.azkfw.chart.charts.bar.BarSeries.BarSeriesPoint;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
 import org.azkfw.chart.core.element.BarLegendElement;
 import org.azkfw.chart.core.element.LegendElement;
 import org.azkfw.chart.core.plot.AbstractSeriesChartPlot;
@@ -138,7 +138,7 @@ public class BarChartPlot extends AbstractSeriesChartPlot<BarDataset, BarChartDe
 				if (0 < dataSize) {
 					dataPointSize = 0;
 					for (BarSeries series : dataset.getSeriesList()) {
-						dataPointSize = Math.max(dataPointSize, series.getPoints().size());
+						dataPointSize = Math.max(dataPointSize, series.getSize());
 					}
 				}
 			}
@@ -290,7 +290,7 @@ public class BarChartPlot extends AbstractSeriesChartPlot<BarDataset, BarChartDe
 		int dataPointSize = 5;
 		if (null != dataset) {
 			if (0 < dataset.getSeriesList().size()) {
-				dataPointSize = dataset.getSeriesList().get(0).getPoints().size();
+				dataPointSize = dataset.getSeriesList().get(0).getSize();
 			}
 		}
 
@@ -429,14 +429,13 @@ public class BarChartPlot extends AbstractSeriesChartPlot<BarDataset, BarChartDe
 			List<BarSeries> seriesList = aDataset.getSeriesList();
 			for (int index = 0; index < seriesList.size(); index++) {
 				BarSeries series = seriesList.get(index);
-				List<BarSeriesPoint> points = series.getPoints();
-				for (int i = 0; i < points.size(); i++) {
+				int pointSize = series.getSize();
+				for (int i = 0; i < pointSize; i++) {
 					if (aDataPointSize <= i) {
 						break;
 					}
-					BarSeriesPoint point = points.get(i);
 
-					float barHeight = (float) ((point.getValue() - aScaleValue.getMin()) * pixPerValue);
+					float barHeight = (float) ((series.getValue(i) - aScaleValue.getMin()) * pixPerValue);
 					Rect rtBar = new Rect();
 					rtBar.setX(aRect.getX() + (width * i) + barInterval + (index * (barWidth + ((0 == index) ? 0 : barMargin))));
 					rtBar.setY((aRect.getY() + aRect.getHeight()) - barHeight);
@@ -479,16 +478,10 @@ public class BarChartPlot extends AbstractSeriesChartPlot<BarDataset, BarChartDe
 		Double dataMinValue = null;
 		Double dataMaxValue = null;
 		if (null != aDataset) {
-			for (BarSeries series : aDataset.getSeriesList()) {
-				for (BarSeriesPoint point : series.getPoints()) {
-					if (null == dataMinValue) {
-						dataMinValue = point.getValue();
-						dataMaxValue = point.getValue();
-					} else {
-						dataMinValue = Math.min(dataMinValue, point.getValue());
-						dataMaxValue = Math.max(dataMaxValue, point.getValue());
-					}
-				}
+			SeriesStatistics statistics = aDataset.getStatistics();
+			if (!statistics.isEmpty()) {
+				dataMinValue = statistics.getMin();
+				dataMaxValue = statistics.getMax();
 			}
 		}
 		debug(String.format("Data minimum value : %f", dataMinValue));
@@ -17,32 +17,28 @@
  */
 package org.azkfw.chart.charts.bar;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import org.azkfw.chart.core.dataset.series.AbstractSeries;
+import org.azkfw.chart.core.dataset.series.AbstractValueSeries;
 import org.azkfw.chart.core.dataset.series.SeriesPoint;
 
 /**
  * このクラスは、棒グラフのシリーズ情報を保持したクラスです。
+ * <p>
+ * 値は<code>double</code>配列で保持します。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2014/06/25
  * @author Kawakicchi
  */
-public class BarSeries extends AbstractSeries {
-
-	/**
-	 * ポイント
-	 */
-	private List<BarSeriesPoint> points;
+public class BarSeries extends AbstractValueSeries<BarSeries.BarSeriesPoint> {
 
 	/**
 	 * コンストラクタ
 	 */
 	public BarSeries() {
 		super();
-		points = new ArrayList<BarSeriesPoint>();
 	}
 
 	/**
@@ -52,7 +48,6 @@ public class BarSeries extends AbstractSeries {
 	 */
 	public BarSeries(final String aTitle) {
 		super(aTitle);
-		points = new ArrayList<BarSeriesPoint>();
 	}
 
 	/**
@@ -63,7 +58,10 @@ public class BarSeries extends AbstractSeries {
 	 */
 	public BarSeries(final String aTitle, final List<BarSeriesPoint> aPoints) {
 		super(aTitle);
-		points = new ArrayList<BarSeriesPoint>(aPoints);
+		ensureCapacity(aPoints.size());
+		for (BarSeriesPoint point : aPoints) {
+			add(point.getValue());
+		}
 	}
 
 	/**
@@ -74,38 +72,55 @@ public class BarSeries extends AbstractSeries {
 	 */
 	public BarSeries(final String aTitle, final double... aValues) {
 		super(aTitle);
-		points = new ArrayList<BarSeriesPoint>();
-		for (double value : aValues) {
-			points.add(new BarSeriesPoint(value));
-		}
+		addAll(aValues);
 	}
 
 	/**
-	 * ポイントを追加する。
+	 * 値配列をコピーせずに保持するシリーズを生成する。
+	 * <p>
+	 * 生成後に配列の要素を変更した場合、シリーズの値も変更されます。
+	 * </p>
 	 * 
-	 * @param aPoint ポイント
+	 * @param aValues 値配列
+	 * @return シリーズ
 	 */
-	public void add(final BarSeriesPoint aPoint) {
-		points.add(aPoint);
+	public static BarSeries wrap(final double[] aValues) {
+		return wrap(null, aValues);
 	}
 
 	/**
-	 * ポイントを追加する。
+	 * 値配列をコピーせずに保持するシリーズを生成する。
+	 * <p>
+	 * 生成後に配列の要素を変更した場合、シリーズの値も変更されます。
+	 * </p>
 	 * 
-	 * @param aValue 値
+	 * @param aTitle タイトル
+	 * @param aValues 値配列
+	 * @return シリーズ
 	 */
-	public void add(final double aValue) {
-		BarSeriesPoint point = new BarSeriesPoint(aValue);
-		points.add(point);
+	public static BarSeries wrap(final String aTitle, final double[] aValues) {
+		BarSeries series = new BarSeries(aTitle);
+		series.wrapValues(aValues);
+		return series;
 	}
 
 	/**
-	 * ポイント一覧を取得する。
+	 * ポイントを追加する。
 	 * 
-	 * @return ポイント一覧
+	 * @param aPoint ポイント
 	 */
-	public List<BarSeriesPoint> getPoints() {
-		return points;
+	public void add(final BarSeriesPoint aPoint) {
+		add(aPoint.getValue());
+	}
+
+	@Override
+	protected BarSeriesPoint createPoint(final double aValue) {
+		return new BarSeriesPoint(aValue);
+	}
+
+	@Override
+	protected double getPointValue(final BarSeriesPoint aPoint) {
+		return aPoint.getValue();
 	}
 
 	/**
@@ -0,0 +1,166 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.line;
+
+import org.azkfw.chart.core.dataset.series.FunctionSeries;
+import org.azkfw.chart.core.dataset.series.SeriesFunction;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
+
+/**
+ * このクラスは、関数で値を定義する折れ線グラフのシリーズクラスです。
+ * <p>
+ * ポイントは保持せず、描画時に描画領域の1ピクセル列毎に関数を評価します。
+ * 関数の引数はデータポイントのインデックス（小数を含む）で、定義域はインデックスの範囲で指定します。
+ * </p>
+ * <p>
+ * 値の追加など、ポイントを変更するメソッドは{@link UnsupportedOperationException}をスローします。
+ * </p>
+ * <p>
+ * 他のシリーズと同様に同期化されていません。関数・定義域の変更と描画は同じスレッドから行ってください。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class FunctionLineSeries extends LineSeries implements FunctionSeries {
+
+	/** 統計情報の評価数 */
+	private static final int STATISTICS_SAMPLE_SIZE = 1024;
+
+	/** 関数 */
+	private SeriesFunction function;
+	/** 定義域の最小値 */
+	private double domainMinimum;
+	/** 定義域の最大値 */
+	private double domainMaximum;
+
+	/** 統計情報 */
+	private SeriesStatistics statistics;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aFunction 関数
+	 * @param aDomainMin 定義域の最小値
+	 * @param aDomainMax 定義域の最大値
+	 */
+	public FunctionLineSeries(final SeriesFunction aFunction, final double aDomainMin, final double aDomainMax) {
+		this(null, aFunction, aDomainMin, aDomainMax);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aFunction 関数
+	 * @param aDomainMin 定義域の最小値
+	 * @param aDomainMax 定義域の最大値
+	 */
+	public FunctionLineSeries(final String aTitle, final SeriesFunction aFunction, final double aDomainMin, final double aDomainMax) {
+		super(aTitle);
+		checkDomain(aDomainMin, aDomainMax);
+		function = aFunction;
+		domainMinimum = aDomainMin;
+		domainMaximum = aDomainMax;
+	}
+
+	/**
+	 * 関数を設定する。
+	 * 
+	 * @param aFunction 関数
+	 */
+	public void setFunction(final SeriesFunction aFunction) {
+		function = aFunction;
+		statistics = null;
+		fireChanged();
+	}
+
+	@Override
+	public SeriesFunction getFunction() {
+		return function;
+	}
+
+	/**
+	 * 定義域を設定する。
+	 * 
+	 * @param aMin 最小値
+	 * @param aMax 最大値
+	 */
+	public void setDomain(final double aMin, final double aMax) {
+		checkDomain(aMin, aMax);
+		domainMinimum = aMin;
+		domainMaximum = aMax;
+		statistics = null;
+		fireChanged();
+	}
+
+	@Override
+	public double getDomainMinimum() {
+		return domainMinimum;
+	}
+
+	@Override
+	public double getDomainMaximum() {
+		return domainMaximum;
+	}
+
+	/**
+	 * 統計情報を取得する。
+	 * <p>
+	 * 定義域を等間隔に1024点評価した値から求める近似値です。評価点の間にある極値は含まれない場合があります。
+	 * </p>
+	 */
+	@Override
+	public SeriesStatistics getStatistics() {
+		if (null == statistics) {
+			statistics = SeriesStatistics.sample(function, domainMinimum, domainMaximum, STATISTICS_SAMPLE_SIZE);
+		}
+		return new SeriesStatistics(statistics);
+	}
+
+	@Override
+	public void add(final double aValue) {
+		throw new UnsupportedOperationException("Function series.");
+	}
+
+	@Override
+	public void addAll(final double[] aValues, final int aOffset, final int aLength) {
+		throw new UnsupportedOperationException("Function series.");
+	}
+
+	@Override
+	public void insert(final int aIndex, final double aValue) {
+		throw new UnsupportedOperationException("Function series.");
+	}
+
+	@Override
+	public void setValue(final int aIndex, final double aValue) {
+		throw new UnsupportedOperationException("Function series.");
+	}
+
+	@Override
+	public void ensureCapacity(final int aCapacity) {
+	}
+
+	private static void checkDomain(final double aMin, final double aMax) {
+		if (!(aMin <= aMax)) {
+			throw new IllegalArgumentException(String.format("Illegal domain: [%f, %f]", aMin, aMax));
+		}
+	}
+}
@@ -94,10 +94,63 @@ public class LineChartDesign extends AbstractSeriesChartDesign<LineChartStyle, L
 	 */
 	public static class LineChartStyle extends AbstractSeriesChartStyle<LineSeries, LineSeriesPoint> {
 
+		/** 間引き描画 */
+		private boolean downsampling;
+
+		/** 間引き描画時の1ピクセルあたりの頂点数 */
+		private double downsamplingPointsPerPixel;
+
 		/**
 		 * コンストラクタ
 		 */
 		public LineChartStyle() {
+			downsampling = false;
+			downsamplingPointsPerPixel = 2.0;
+		}
+
+		/**
+		 * 間引き描画を設定する。
+		 * <p>
+		 * 有効にした場合、データポイント数が描画幅に対する頂点数を超えるシリーズをLargest-Triangle-Three-Bucketsで間引いて描画します。
+		 * 塗りつぶし・線・マーカーは間引き後のデータポイントで描画されます。
+		 * </p>
+		 * 
+		 * @param aDownsampling 間引き描画
+		 */
+		public void setDownsampling(final boolean aDownsampling) {
+			downsampling = aDownsampling;
+			fireChanged();
+		}
+
+		/**
+		 * 間引き描画を判断する。
+		 * 
+		 * @return 間引き描画する場合、<code>true</code>を返す。
+		 */
+		public boolean isDownsampling() {
+			return downsampling;
+		}
+
+		/**
+		 * 間引き描画時の1ピクセルあたりの頂点数を設定する。
+		 * 
+		 * @param aPointsPerPixel 頂点数
+		 */
+		public void setDownsamplingPointsPerPixel(final double aPointsPerPixel) {
+			if (!(0 < aPointsPerPixel)) {
+				throw new IllegalArgumentException(String.format("Points per pixel: %f", aPointsPerPixel));
+			}
+			downsamplingPointsPerPixel = aPointsPerPixel;
+			fireChanged();
+		}
+
+		/**
+		 * 間引き描画時の1ピクセルあたりの頂点数を取得する。
+		 * 
+		 * @return 頂点数
+		 */
+		public double getDownsamplingPointsPerPixel() {
+			return downsamplingPointsPerPixel;
 		}
 
 		/**
@@ -21,8 +21,6 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
-import java.awt.GradientPaint;
-import java.awt.Polygon;
 import java.awt.Stroke;
 import java.awt.geom.AffineTransform;
 import java.util.List;
@@ -30,14 +28,17 @@ import java.util.List;
 import org.azkfw.chart.charts.line.LineAxis.LineHorizontalAxis;
 import org.azkfw.chart.charts.line.LineAxis.LineVerticalAxis;
 import org.azkfw.chart.charts.line.LineChartDesign.LineChartStyle;
-import org.azkfw.chart.charts.line.LineSeries.LineSeriesPoint;
+import org.azkfw.chart.core.dataset.series.FunctionSeries;
+import org.azkfw.chart.core.dataset.series.SeriesPyramid;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
 import org.azkfw.chart.core.plot.AbstractSeriesChartPlot;
+import org.azkfw.chart.core.plot.FunctionSampler;
 import org.azkfw.chart.design.marker.Marker;
+import org.azkfw.chart.design.marker.MarkerOccupancy;
 import org.azkfw.chart.displayformat.DisplayFormat;
 import org.azkfw.graphics.Graphics;
 import org.azkfw.graphics.Margin;
 import org.azkfw.graphics.Rect;
-import org.azkfw.graphics.Size;
 import org.azkfw.util.ObjectUtility;
 import org.azkfw.util.StringUtility;
 
@@ -131,7 +132,7 @@ public class LineChartPlot extends AbstractSeriesChartPlot<LineDataset, LineChar
 				if (0 < dataSize) {
 					dataPointSize = 0;
 					for (LineSeries series : dataset.getSeriesList()) {
-						dataPointSize = Math.max(dataPointSize, series.getPoints().size());
+						dataPointSize = Math.max(dataPointSize, getDataPointSize(series));
 					}
 				}
 			}
@@ -289,7 +290,7 @@ public class LineChartPlot extends AbstractSeriesChartPlot<LineDataset, LineChar
 		int dataPointSize = 5;
 		if (null != dataset) {
 			if (0 < dataset.getSeriesList().size()) {
-				dataPointSize = dataset.getSeriesList().get(0).getPoints().size();
+				dataPointSize = getDataPointSize(dataset.getSeriesList().get(0));
 			}
 		}
 
@@ -419,81 +420,70 @@ public class LineChartPlot extends AbstractSeriesChartPlot<LineDataset, LineChar
 
 			float lineOffset = width / 2.f;
 
+			// 重なったマーカーの省略
+			MarkerOccupancy occupancy = (aStyle.isMarkerCulling()) ? new MarkerOccupancy(aRect) : null;
+
 			List<LineSeries> seriesList = aDataset.getSeriesList();
 			for (int index = 0; index < seriesList.size(); index++) {
 				LineSeries series = seriesList.get(index);
-				List<LineSeriesPoint> points = series.getPoints();
-
-				if (!aStyle.isOverflow()) {
-					g.setClip(aRect.getX(), aRect.getY(), aRect.getWidth(), aRect.getHeight());
+				if (series instanceof FunctionSeries) {
+					drawFunctionSeries(g, index, series, (FunctionSeries) series, width, lineOffset, aScaleValue, aStyle, aRect);
+					continue;
 				}
-
-				// Draw series fill
-				{
-					Color fillColor = aStyle.getSeriesFillColor(index, series);
-					if (ObjectUtility.isNotNull(fillColor)) {
-						int xps[] = new int[points.size() + 2];
-						int yps[] = new int[points.size() + 2];
-						for (int j = 0; j < points.size(); j++) {
-							LineSeriesPoint point = points.get(j);
-							xps[j + 1] = (int) (aRect.getX() + (j * width + lineOffset));
-							yps[j + 1] = (int) ((aRect.getY() + aRect.getHeight()) - ((point.getValue() - aScaleValue.getMin()) * pixPerValue));
-						}
-						xps[0] = (int) (xps[1]);
-						yps[0] = (int) (aRect.getY() + aRect.getHeight());
-						xps[points.size() + 1] = (int) (xps[points.size()]);
-						yps[points.size() + 1] = (int) (aRect.getY() + aRect.getHeight());
-
-						GradientPaint paint = new GradientPaint(0f, aRect.getY(), fillColor, 0f, aRect.getY() + aRect.getHeight(), new Color(
-								fillColor.getRed(), fillColor.getGreen(), fillColor.getBlue(), 0));
-						g.setPaint(paint);
-						g.fillPolygon(new Polygon(xps, yps, points.size() + 2));
+				if (series.isPyramidEnabled() && 0 < width) {
+					// 1ピクセル列に複数ポイントが含まれる場合は集計値で描画する
+					SeriesPyramid.Level level = series.getPyramid().getLevel((int) Math.min(Integer.MAX_VALUE, 1.0 / width));
+					if (null != level) {
+						drawPyramidLevel(g, index, series, level, width, lineOffset, aScaleValue, aStyle, aRect);
+						continue;
 					}
 				}
-
-				// Draw series line
-				{
-					Stroke stroke = aStyle.getSeriesStroke(index, series);
-					Color strokeColor = aStyle.getSeriesStrokeColor(index, series);
-					if (ObjectUtility.isAllNotNull(stroke, strokeColor)) {
-						float xps[] = new float[points.size()];
-						float yps[] = new float[points.size()];
-						for (int j = 0; j < points.size(); j++) {
-							LineSeriesPoint point = points.get(j);
-							xps[j] = (int) (aRect.getX() + (j * width + lineOffset));
-							yps[j] = (int) ((aRect.getY() + aRect.getHeight()) - ((point.getValue() - aScaleValue.getMin()) * pixPerValue));
-						}
-						g.setStroke(stroke, strokeColor);
-						g.drawPolyline(xps, yps, points.size());
+				int pointSize = series.getSize();
+
+				// 間引き描画（indexes が null の場合は全データポイント）
+				int[] indexes = null;
+				if (aStyle.isDownsampling()) {
+					int threshold = (int) Math.min(Integer.MAX_VALUE, Math.ceil(aRect.getWidth() * aStyle.getDownsamplingPointsPerPixel()));
+					indexes = LineDownsampler.select(series, threshold);
+					if (null != indexes) {
+						pointSize = indexes.length;
 					}
 				}
 
-				if (!aStyle.isOverflow()) {
-					g.clearClip();
+				// Draw series fill and line
+				{
+					float xps[] = new float[pointSize];
+					float yps[] = new float[pointSize];
+					for (int k = 0; k < pointSize; k++) {
+						int j = (null == indexes) ? k : indexes[k];
+						xps[k] = (int) (aRect.getX() + (j * width + lineOffset));
+						yps[k] = (int) ((aRect.getY() + aRect.getHeight()) - ((series.getValue(j) - aScaleValue.getMin()) * pixPerValue));
+					}
+					drawPath(g, index, series, xps, yps, pointSize, aStyle, aStyle.isOverflow(), aRect);
 				}
 
 				// Draw series marker
 				{
 					Marker seriesMarker = aStyle.getSeriesMarker(index, series);
-					for (int j = 0; j < points.size(); j++) {
-						LineSeriesPoint point = points.get(j);
+					if (null != occupancy) {
+						occupancy.clear();
+					}
+					for (int k = 0; k < pointSize; k++) {
+						int j = (null == indexes) ? k : indexes[k];
+						double value = series.getValue(j);
 
 						if (!aStyle.isOverflow()) {
-							if (point.getValue() < aScaleValue.getMin() || point.getValue() > aScaleValue.getMax()) {
+							if (value < aScaleValue.getMin() || value > aScaleValue.getMax()) {
 								continue;
 							}
 						}
 
-						Marker pointMarker = aStyle.getSeriesPointMarker(index, series, j, point);
+						Marker pointMarker = aStyle.getSeriesPointMarker(index, series, j, series.getPoint(j));
 						Marker marker = (Marker) ObjectUtility.getNotNullObject(pointMarker, seriesMarker);
 						if (ObjectUtility.isNotNull(marker)) {
 							float xMarker = (float) (aRect.getX() + (j * width + lineOffset));
-							float yMarker = (float) ((aRect.getY() + aRect.getHeight()) - ((point.getValue() - aScaleValue.getMin()) * pixPerValue));
-							Size size = marker.getSize();
-
-							int mx = (0 == (int) size.getWidth() % 2) ? 0 : 1;
-							int my = (0 == (int) size.getHeight() % 2) ? 0 : 1;
-							marker.draw(g, xMarker - (size.getWidth() / 2) + mx, yMarker - (size.getHeight() / 2) + my);
+							float yMarker = (float) ((aRect.getY() + aRect.getHeight()) - ((value - aScaleValue.getMin()) * pixPerValue));
+							drawMarker(g, marker, xMarker, yMarker, occupancy);
 						}
 
 					}
@@ -502,24 +492,86 @@ public class LineChartPlot extends AbstractSeriesChartPlot<LineDataset, LineChar
 
 			}
 
+			setSkippedMarkerCount(occupancy);
+		}
+	}
+
+	private void drawFunctionSeries(final Graphics g, final int aIndex, final LineSeries aSeries, final FunctionSeries aFunction,
+			final float aWidth, final float aLineOffset, final ScaleValue aScaleValue, final LineChartStyle aStyle, final Rect aRect) {
+		double pixPerValue = aRect.getHeight() / aScaleValue.getDiff();
+
+		// 描画領域の解像度で関数を評価する（関数の引数はデータポイントのインデックス）
+		FunctionSampler sampler = new FunctionSampler(aRect.getX() + aLineOffset, 0.0, aWidth, aRect.getY() + aRect.getHeight(),
+				aScaleValue.getMin(), pixPerValue);
+		List<FunctionSampler.Path> paths = sampler.sample(aFunction.getFunction(), aFunction.getDomainMinimum(), aFunction.getDomainMaximum(),
+				aRect.getX(), aRect.getX() + aRect.getWidth());
+
+		for (FunctionSampler.Path path : paths) {
+			drawPath(g, aIndex, aSeries, path.getXs(), path.getYs(), path.getSize(), aStyle, aStyle.isOverflow(), aRect);
 		}
 	}
 
+	private void drawPyramidLevel(final Graphics g, final int aIndex, final LineSeries aSeries, final SeriesPyramid.Level aLevel,
+			final float aWidth, final float aLineOffset, final ScaleValue aScaleValue, final LineChartStyle aStyle, final Rect aRect) {
+		double pixPerValue = aRect.getHeight() / aScaleValue.getDiff();
+		float bottom = aRect.getY() + aRect.getHeight();
+
+		// バケット毎に先頭値・最小値・最大値・末尾値の4点とする
+		int bucketCount = aLevel.getBucketCount();
+		float xps[] = new float[bucketCount * 4];
+		float yps[] = new float[bucketCount * 4];
+		int pointSize = 0;
+		for (int bucket = 0; bucket < bucketCount; bucket++) {
+			if (Double.isNaN(aLevel.getMin(bucket))) {
+				continue;
+			}
+			float x0 = aRect.getX() + (aLevel.getStartIndex(bucket) * aWidth + aLineOffset);
+			float x1 = aRect.getX() + (aLevel.getEndIndex(bucket) * aWidth + aLineOffset);
+			float xm = (x0 + x1) / 2;
+			double[] values = { aLevel.getFirst(bucket), aLevel.getMin(bucket), aLevel.getMax(bucket), aLevel.getLast(bucket) };
+			float[] xs = { x0, xm, xm, x1 };
+			for (int i = 0; i < 4; i++) {
+				if (!Double.isNaN(values[i])) {
+					xps[pointSize] = xs[i];
+					yps[pointSize] = (float) (bottom - ((values[i] - aScaleValue.getMin()) * pixPerValue));
+					pointSize++;
+				}
+			}
+		}
+		if (0 == pointSize) {
+			return;
+		}
+
+		// マーカーは1ピクセル列に複数重なる為、描画しない
+		drawPath(g, aIndex, aSeries, xps, yps, pointSize, aStyle, aStyle.isOverflow(), aRect);
+	}
+
+	/**
+	 * シリーズのデータポイント数を取得する。
+	 * <p>
+	 * 関数で定義されたシリーズの場合、定義域の最大インデックスまでをデータポイント数とします。
+	 * </p>
+	 * 
+	 * @param aSeries シリーズ
+	 * @return データポイント数
+	 */
+	private int getDataPointSize(final LineSeries aSeries) {
+		if (aSeries instanceof FunctionSeries) {
+			double max = ((FunctionSeries) aSeries).getDomainMaximum();
+			return (0 <= max) ? (int) Math.min(Integer.MAX_VALUE, Math.floor(max) + 1) : 0;
+		}
+		return aSeries.getSize();
+	}
+
 	private ScaleValue getScaleValue(final LineDataset aDataset) {
 		// データ最小値・最大値取得 //////////////////////////
 		Double dataMinValue = null;
 		Double dataMaxValue = null;
 		if (ObjectUtility.isNotNull(aDataset)) {
-			for (LineSeries series : aDataset.getSeriesList()) {
-				for (LineSeriesPoint point : series.getPoints()) {
-					if (null == dataMinValue) {
-						dataMinValue = point.getValue();
-						dataMaxValue = point.getValue();
-					} else {
-						dataMinValue = Math.min(dataMinValue, point.getValue());
-						dataMaxValue = Math.max(dataMaxValue, point.getValue());
-					}
-				}
+			SeriesStatistics statistics = aDataset.getStatistics();
+			if (!statistics.isEmpty()) {
+				dataMinValue = statistics.getMin();
+				dataMaxValue = statistics.getMax();
 			}
 		}
 		debug(String.format("Data minimum value : %f", dataMinValue));
@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.line;
+
+/**
+ * このクラスは、Largest-Triangle-Three-Bucketsで折れ線グラフのデータポイントを間引くクラスです。
+ * <p>
+ * 先頭と末尾のデータポイントを残し、残りを頂点数-2個のバケットに分割します。
+ * 各バケットからは、直前に選択したデータポイントと次バケットの平均点とで作る三角形の面積が最大となるデータポイントを1つ選択します。
+ * 値が<code>NaN</code>のデータポイントは、バケット内に他のデータポイントが無い場合のみ選択されます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class LineDownsampler {
+
+	/** 最小頂点数 */
+	private static final int MIN_THRESHOLD = 3;
+
+	private LineDownsampler() {
+	}
+
+	/**
+	 * 間引き後のデータポイントのインデックスを取得する。
+	 * 
+	 * @param aSeries シリーズ
+	 * @param aThreshold 頂点数
+	 * @return インデックス配列（昇順）。間引く必要がない場合、<code>null</code>を返す。
+	 */
+	public static int[] select(final LineSeries aSeries, final int aThreshold) {
+		int size = aSeries.getSize();
+		if (aThreshold < MIN_THRESHOLD || size <= aThreshold) {
+			return null;
+		}
+
+		int[] indexes = new int[aThreshold];
+		double every = (double) (size - 2) / (aThreshold - 2);
+
+		int a = 0;
+		indexes[0] = a;
+		for (int i = 0; i < aThreshold - 2; i++) {
+			// 次バケットの平均点
+			int avgStart = (int) ((i + 1) * every) + 1;
+			int avgEnd = Math.min((int) ((i + 2) * every) + 1, size);
+			double avgX = 0.0;
+			double avgY = 0.0;
+			int avgCount = 0;
+			for (int j = avgStart; j < avgEnd; j++) {
+				double value = aSeries.getValue(j);
+				if (!Double.isNaN(value)) {
+					avgX += j;
+					avgY += value;
+					avgCount++;
+				}
+			}
+			if (0 < avgCount) {
+				avgX /= avgCount;
+				avgY /= avgCount;
+			} else {
+				avgX = (avgStart + avgEnd - 1) / 2.0;
+				avgY = Double.NaN;
+			}
+
+			// 直前の選択点
+			double ax = a;
+			double ay = aSeries.getValue(a);
+			if (Double.isNaN(ay)) {
+				ay = avgY;
+			}
+			if (Double.isNaN(avgY)) {
+				avgY = ay;
+			}
+
+			// 三角形の面積が最大となる点を選択する
+			int rangeStart = (int) (i * every) + 1;
+			int rangeEnd = (int) ((i + 1) * every) + 1;
+			int selected = rangeStart;
+			double maxArea = -1.0;
+			for (int j = rangeStart; j < rangeEnd; j++) {
+				double value = aSeries.getValue(j);
+				if (Double.isNaN(value)) {
+					continue;
+				}
+				double area;
+				if (Double.isNaN(ay)) {
+					area = 0.0;
+				} else {
+					area = Math.abs((ax - avgX) * (value - ay) - (ax - j) * (avgY - ay));
+				}
+				if (area > maxArea) {
+					maxArea = area;
+					selected = j;
+				}
+			}
+
+			indexes[i + 1] = selected;
+			a = selected;
+		}
+		indexes[aThreshold - 1] = size - 1;
+
+		return indexes;
+	}
+}
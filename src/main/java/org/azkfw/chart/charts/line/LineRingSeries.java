@@ -0,0 +1,296 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.line;
+
+/**
+ * このクラスは、容量固定のリングバッファで値を保持する折れ線グラフのシリーズクラスです。
+ * <p>
+ * 値の追加はO(1)で行われ、容量を超えた場合は最も古い値から破棄されます。
+ * リアルタイムに更新される直近N件のデータの表示に使用します。
+ * </p>
+ * <p>
+ * 最小値または最大値の値が破棄された場合、統計情報は次回参照時に再集計されます。
+ * 多重解像度ピラミッドは破棄された値を含むバケットのみ更新する為、容量到達後の追加でも再構築されません。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class LineRingSeries extends LineSeries {
+
+	/** リングバッファ */
+	private final double[] buffer;
+	/** 先頭位置 */
+	private int head;
+	/** 値数 */
+	private int count;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aCapacity 容量
+	 */
+	public LineRingSeries(final int aCapacity) {
+		this(null, aCapacity);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aCapacity 容量
+	 */
+	public LineRingSeries(final String aTitle, final int aCapacity) {
+		super(aTitle);
+		if (0 >= aCapacity) {
+			throw new IllegalArgumentException(String.format("Illegal capacity: %d", aCapacity));
+		}
+		buffer = new double[aCapacity];
+		head = 0;
+		count = 0;
+	}
+
+	/**
+	 * 容量を取得する。
+	 * 
+	 * @return 容量
+	 */
+	public int getCapacity() {
+		return buffer.length;
+	}
+
+	/**
+	 * 値が容量まで格納されているか判断する。
+	 * 
+	 * @return 格納されている場合、<code>true</code>
+	 */
+	public boolean isFull() {
+		return count == buffer.length;
+	}
+
+	/**
+	 * 値を追加する。
+	 * <p>
+	 * 容量を超えた場合、最も古い値が破棄されます。
+	 * </p>
+	 * 
+	 * @param aValue 値
+	 */
+	@Override
+	public void add(final double aValue) {
+		if (count < buffer.length) {
+			buffer[physical(count)] = aValue;
+			count++;
+		} else {
+			removeStatistics(buffer[head]);
+			buffer[head] = aValue;
+			head = (head + 1 == buffer.length) ? 0 : head + 1;
+			evictPyramid(1);
+		}
+		addStatistics(aValue);
+		fireChanged();
+	}
+
+	/**
+	 * 値を一括で追加する。
+	 * <p>
+	 * 容量を超えた場合、最も古い値から破棄されます。
+	 * </p>
+	 * 
+	 * @param aValues 値配列
+	 * @param aOffset 開始位置
+	 * @param aLength 追加数
+	 */
+	@Override
+	public void addAll(final double[] aValues, final int aOffset, final int aLength) {
+		if (aOffset < 0 || aLength < 0 || aOffset + aLength > aValues.length) {
+			throw new IndexOutOfBoundsException(String.format("Offset: %d, Length: %d, Array length: %d", aOffset, aLength, aValues.length));
+		}
+		int offset = aOffset;
+		int length = aLength;
+		if (length >= buffer.length) {
+			// 残るのは末尾の容量分のみ
+			offset += length - buffer.length;
+			length = buffer.length;
+			head = 0;
+			count = 0;
+			resetStatistics();
+		}
+		int overflow = count + length - buffer.length;
+		for (int i = 0; i < overflow; i++) {
+			removeStatistics(buffer[physical(i)]);
+		}
+		for (int i = offset; i < offset + length; i++) {
+			addStatistics(aValues[i]);
+		}
+
+		int tail = physical(count);
+		int first = Math.min(length, buffer.length - tail);
+		System.arraycopy(aValues, offset, buffer, tail, first);
+		System.arraycopy(aValues, offset + first, buffer, 0, length - first);
+		if (overflow > 0) {
+			head = physical(overflow);
+			count = buffer.length;
+		} else {
+			count += length;
+		}
+		if (aLength >= buffer.length) {
+			invalidatePyramid();
+		} else if (overflow > 0) {
+			evictPyramid(overflow);
+		}
+		fireChanged();
+	}
+
+	/**
+	 * 値を挿入する。
+	 * <p>
+	 * 容量を超えた場合、最も古い値が破棄されます。
+	 * </p>
+	 * 
+	 * @param aIndex インデックス
+	 * @param aValue 値
+	 */
+	@Override
+	public void insert(final int aIndex, final double aValue) {
+		if (aIndex < 0 || aIndex > count) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", aIndex, count));
+		}
+		if (count == buffer.length) {
+			if (0 == aIndex) {
+				// 挿入した値が即座に破棄される
+				return;
+			}
+			removeFirst();
+			insertInternal(aIndex - 1, aValue);
+		} else {
+			insertInternal(aIndex, aValue);
+		}
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	@Override
+	public void setValue(final int aIndex, final double aValue) {
+		checkIndex(aIndex);
+		int index = physical(aIndex);
+		removeStatistics(buffer[index]);
+		buffer[index] = aValue;
+		addStatistics(aValue);
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * 値を削除する。
+	 * <p>
+	 * 先頭（最も古い値）の削除はO(1)で行われます。
+	 * </p>
+	 * 
+	 * @param aIndex インデックス
+	 */
+	@Override
+	public void remove(final int aIndex) {
+		checkIndex(aIndex);
+		if (0 == aIndex) {
+			removeFirst();
+			evictPyramid(1);
+		} else {
+			removeStatistics(buffer[physical(aIndex)]);
+			for (int i = aIndex; i < count - 1; i++) {
+				buffer[physical(i)] = buffer[physical(i + 1)];
+			}
+			count--;
+			invalidatePyramid();
+		}
+		fireChanged();
+	}
+
+	@Override
+	public void clear() {
+		head = 0;
+		count = 0;
+		resetStatistics();
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	@Override
+	public int getSize() {
+		return count;
+	}
+
+	@Override
+	public double getValue(final int aIndex) {
+		checkIndex(aIndex);
+		return buffer[physical(aIndex)];
+	}
+
+	/**
+	 * 値配列のコピーを取得する。
+	 * 
+	 * @return 値配列（古い順）
+	 */
+	@Override
+	public double[] toArray() {
+		double[] result = new double[count];
+		int first = Math.min(count, buffer.length - head);
+		System.arraycopy(buffer, head, result, 0, first);
+		System.arraycopy(buffer, 0, result, first, count - first);
+		return result;
+	}
+
+	/**
+	 * 容量を確保する。
+	 * <p>
+	 * 容量は固定の為、何もしません。
+	 * </p>
+	 * 
+	 * @param aCapacity 必要容量
+	 */
+	@Override
+	public void ensureCapacity(final int aCapacity) {
+	}
+
+	private void removeFirst() {
+		removeStatistics(buffer[head]);
+		head = (head + 1 == buffer.length) ? 0 : head + 1;
+		count--;
+	}
+
+	private void insertInternal(final int aIndex, final double aValue) {
+		for (int i = count; i > aIndex; i--) {
+			buffer[physical(i)] = buffer[physical(i - 1)];
+		}
+		buffer[physical(aIndex)] = aValue;
+		count++;
+		addStatistics(aValue);
+	}
+
+	private int physical(final int aIndex) {
+		int index = head + aIndex;
+		return (index >= buffer.length) ? index - buffer.length : index;
+	}
+
+	private void checkIndex(final int aIndex) {
+		if (aIndex < 0 || aIndex >= count) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", aIndex, count));
+		}
+	}
+}
@@ -17,32 +17,28 @@
  */
 package org.azkfw.chart.charts.line;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import org.azkfw.chart.core.dataset.series.AbstractSeries;
+import org.azkfw.chart.core.dataset.series.AbstractValueSeries;
 import org.azkfw.chart.core.dataset.series.SeriesPoint;
 
 /**
  * このクラスは、折れ線グラフのシリーズ情報を保持したクラスです。
+ * <p>
+ * 値は<code>double</code>配列で保持します。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2014/07/02
  * @author Kawakicchi
  */
-public class LineSeries extends AbstractSeries {
-
-	/**
-	 * ポイント
-	 */
-	private List<LineSeriesPoint> points;
+public class LineSeries extends AbstractValueSeries<LineSeries.LineSeriesPoint> {
 
 	/**
 	 * コンストラクタ
 	 */
 	public LineSeries() {
 		super();
-		points = new ArrayList<LineSeriesPoint>();
 	}
 
 	/**
@@ -52,7 +48,6 @@ public class LineSeries extends AbstractSeries {
 	 */
 	public LineSeries(final String aTitle) {
 		super(aTitle);
-		points = new ArrayList<LineSeriesPoint>();
 	}
 
 	/**
@@ -63,7 +58,10 @@ public class LineSeries extends AbstractSeries {
 	 */
 	public LineSeries(final String aTitle, final List<LineSeriesPoint> aPoints) {
 		super(aTitle);
-		points = new ArrayList<LineSeriesPoint>(aPoints);
+		ensureCapacity(aPoints.size());
+		for (LineSeriesPoint point : aPoints) {
+			add(point.getValue());
+		}
 	}
 
 	/**
@@ -74,38 +72,57 @@ public class LineSeries extends AbstractSeries {
 	 */
 	public LineSeries(final String aTitle, final double... aValues) {
 		super(aTitle);
-		points = new ArrayList<LineSeriesPoint>();
-		for (double value : aValues) {
-			points.add(new LineSeriesPoint(value));
-		}
+		addAll(aValues);
 	}
 
 	/**
-	 * ポイントを追加する。
+	 * 値配列をコピーせずに保持するシリーズを生成する。
+	 * <p>
+	 * 生成後に配列の要素を変更した場合、シリーズの値も変更されます。
+	 * 変更後は{@link #valuesChanged()}を呼び出してください。
+	 * </p>
 	 * 
-	 * @param aPoint ポイント
+	 * @param aValues 値配列
+	 * @return シリーズ
 	 */
-	public void add(final LineSeriesPoint aPoint) {
-		points.add(aPoint);
+	public static LineSeries wrap(final double[] aValues) {
+		return wrap(null, aValues);
 	}
 
 	/**
-	 * ポイントを追加する。
+	 * 値配列をコピーせずに保持するシリーズを生成する。
+	 * <p>
+	 * 生成後に配列の要素を変更した場合、シリーズの値も変更されます。
+	 * 変更後は{@link #valuesChanged()}を呼び出してください。
+	 * </p>
 	 * 
-	 * @param aValue 値
+	 * @param aTitle タイトル
+	 * @param aValues 値配列
+	 * @return シリーズ
 	 */
-	public void add(final double aValue) {
-		LineSeriesPoint point = new LineSeriesPoint(aValue);
-		points.add(point);
+	public static LineSeries wrap(final String aTitle, final double[] aValues) {
+		LineSeries series = new LineSeries(aTitle);
+		series.wrapValues(aValues);
+		return series;
 	}
 
 	/**
-	 * ポイント一覧を取得する。
+	 * ポイントを追加する。
 	 * 
-	 * @return ポイント一覧
+	 * @param aPoint ポイント
 	 */
-	public List<LineSeriesPoint> getPoints() {
-		return points;
+	public void add(final LineSeriesPoint aPoint) {
+		add(aPoint.getValue());
+	}
+
+	@Override
+	protected LineSeriesPoint createPoint(final double aValue) {
+		return new LineSeriesPoint(aValue);
+	}
+
+	@Override
+	protected double getPointValue(final LineSeriesPoint aPoint) {
+		return aPoint.getValue();
 	}
 
 	/**
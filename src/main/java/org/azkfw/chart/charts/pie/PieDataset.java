@@ -53,6 +53,7 @@ public class PieDataset extends AbstractDataset {
 
 	public void addData(final PieData aData) {
 		dataList.add(aData);
+		fireChanged();
 	}
 
 	public List<PieData> getDataList() {
@@ -29,14 +29,15 @@ import java.util.List;
 
 import org.azkfw.chart.charts.polar.PolarChartDesign.PolarChartStyle;
 import org.azkfw.chart.charts.polar.PolarSeries.PolarSeriesPoint;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
 import org.azkfw.chart.core.plot.AbstractSeriesChartPlot;
 import org.azkfw.chart.design.marker.Marker;
+import org.azkfw.chart.design.marker.MarkerOccupancy;
 import org.azkfw.chart.displayformat.DisplayFormat;
 import org.azkfw.graphics.Graphics;
 import org.azkfw.graphics.Margin;
 import org.azkfw.graphics.Point;
 import org.azkfw.graphics.Rect;
-import org.azkfw.graphics.Size;
 import org.azkfw.util.ObjectUtility;
 import org.azkfw.util.StringUtility;
 
@@ -256,6 +257,9 @@ public class PolarChartPlot extends AbstractSeriesChartPlot<PolarDataset, PolarC
 
 			float maxRange = (float) ((aScaleValue.getMax() - aScaleValue.getMin()) * pixPerValue);
 
+			// 重なったマーカーの省略
+			MarkerOccupancy occupancy = (aStyle.isMarkerCulling()) ? new MarkerOccupancy(aRect) : null;
+
 			// Draw series
 			List<PolarSeries> seriesList = aDataset.getSeriesList();
 			for (int index = 0; index < seriesList.size(); index++) {
@@ -307,6 +311,9 @@ public class PolarChartPlot extends AbstractSeriesChartPlot<PolarDataset, PolarC
 				// Draw series marker
 				{
 					Marker seriesMarker = aStyle.getSeriesMarker(index, series);
+					if (null != occupancy) {
+						occupancy.clear();
+					}
 					for (int j = 0; j < points.size(); j++) {
 						PolarSeriesPoint point = points.get(j);
 
@@ -325,17 +332,15 @@ public class PolarChartPlot extends AbstractSeriesChartPlot<PolarDataset, PolarC
 							x = pixelLimit(x);
 							y = pixelLimit(y);
 
-							Size size = marker.getSize();
-
-							int mx = (0 == (int) size.getWidth() % 2) ? 0 : 1;
-							int my = (0 == (int) size.getHeight() % 2) ? 0 : 1;
-							marker.draw(g, x - (size.getWidth() / 2) + mx, y - (size.getHeight() / 2) + my);
+							drawMarker(g, marker, x, y, occupancy);
 						}
 
 					}
 
 				}
 			}
+
+			setSkippedMarkerCount(occupancy);
 		}
 
 	}
@@ -345,16 +350,10 @@ public class PolarChartPlot extends AbstractSeriesChartPlot<PolarDataset, PolarC
 		Double dataMinValue = null;
 		Double dataMaxValue = null;
 		if (null != aDataset) {
-			for (PolarSeries series : aDataset.getSeriesList()) {
-				for (PolarSeriesPoint point : series.getPoints()) {
-					if (null == dataMinValue) {
-						dataMinValue = point.getRange();
-						dataMaxValue = point.getRange();
-					} else {
-						dataMinValue = Math.min(dataMinValue, point.getRange());
-						dataMaxValue = Math.max(dataMaxValue, point.getRange());
-					}
-				}
+			SeriesStatistics statistics = aDataset.getStatistics();
+			if (!statistics.isEmpty()) {
+				dataMinValue = statistics.getMin();
+				dataMaxValue = statistics.getMax();
 			}
 		}
 		debug(String.format("Data minimum value : %f", dataMinValue));
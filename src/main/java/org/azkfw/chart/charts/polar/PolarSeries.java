@@ -17,11 +17,11 @@
  */
 package org.azkfw.chart.charts.polar;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import org.azkfw.chart.core.dataset.series.AbstractSeries;
+import org.azkfw.chart.core.dataset.series.AbstractPointSeries;
 import org.azkfw.chart.core.dataset.series.SeriesPoint;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
 
 /**
  * このクラスは、極座標のシリーズクラスです。
@@ -30,19 +30,20 @@ import org.azkfw.chart.core.dataset.series.SeriesPoint;
  * @version 1.0.0 2014/06/19
  * @author Kawakicchi
  */
-public class PolarSeries extends AbstractSeries {
+public class PolarSeries extends AbstractPointSeries<PolarSeries.PolarSeriesPoint> {
 
-	/**
-	 * ポイント
-	 */
-	private List<PolarSeriesPoint> points;
+	/** 統計情報の軸数 */
+	private static final int AXIS_SIZE = 2;
+	/** 統計情報の軸：値 */
+	private static final int AXIS_RANGE = 0;
+	/** 統計情報の軸：角度 */
+	private static final int AXIS_ANGLE = 1;
 
 	/**
 	 * コンストラクタ
 	 */
 	public PolarSeries() {
-		super();
-		points = new ArrayList<PolarSeriesPoint>();
+		super(AXIS_SIZE);
 	}
 
 	/**
@@ -51,8 +52,7 @@ public class PolarSeries extends AbstractSeries {
 	 * @param aTitle タイトル
 	 */
 	public PolarSeries(final String aTitle) {
-		super(aTitle);
-		points = new ArrayList<PolarSeriesPoint>();
+		super(aTitle, AXIS_SIZE);
 	}
 
 	/**
@@ -62,37 +62,44 @@ public class PolarSeries extends AbstractSeries {
 	 * @param aPoints ポイント
 	 */
 	public PolarSeries(final String aTitle, final List<PolarSeriesPoint> aPoints) {
-		super(aTitle);
-		points = new ArrayList<PolarSeriesPoint>(aPoints);
+		super(aTitle, AXIS_SIZE);
+		for (PolarSeriesPoint point : aPoints) {
+			add(point);
+		}
 	}
 
 	/**
 	 * ポイントを追加する。
 	 * 
-	 * @param aPoint ポイント
+	 * @param aAngle 角度
+	 * @param aRange 値
 	 */
-	public void add(final PolarSeriesPoint aPoint) {
-		points.add(aPoint);
+	public void add(final double aAngle, final double aRange) {
+		PolarSeriesPoint point = new PolarSeriesPoint(aAngle, aRange);
+		add(point);
 	}
 
 	/**
-	 * ポイントを追加する。
+	 * 値の統計情報を取得する。
 	 * 
-	 * @param aAngle 角度
-	 * @param aRange 値
+	 * @return 統計情報（コピー）
 	 */
-	public void add(final double aAngle, final double aRange) {
-		PolarSeriesPoint point = new PolarSeriesPoint(aAngle, aRange);
-		points.add(point);
+	public SeriesStatistics getRangeStatistics() {
+		return getStatistics(AXIS_RANGE);
 	}
 
 	/**
-	 * ポイント一覧を取得する。
+	 * 角度の統計情報を取得する。
 	 * 
-	 * @return ポイント一覧
+	 * @return 統計情報（コピー）
 	 */
-	public List<PolarSeriesPoint> getPoints() {
-		return points;
+	public SeriesStatistics getAngleStatistics() {
+		return getStatistics(AXIS_ANGLE);
+	}
+
+	@Override
+	protected double getPointValue(final PolarSeriesPoint aPoint, final int aAxis) {
+		return (AXIS_RANGE == aAxis) ? aPoint.getRange() : aPoint.getAngle();
 	}
 
 	/**
@@ -29,6 +29,7 @@ import java.util.List;
 
 import org.azkfw.chart.charts.polararea.PolarAreaChartDesign.PolarAreaChartStyle;
 import org.azkfw.chart.charts.polararea.PolarAreaSeries.PolarAreaSeriesPoint;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
 import org.azkfw.chart.core.plot.AbstractSeriesChartPlot;
 import org.azkfw.chart.displayformat.DisplayFormat;
 import org.azkfw.graphics.Graphics;
@@ -310,16 +311,10 @@ public class PolarAreaChartPlot extends AbstractSeriesChartPlot<PolarAreaDataset
 		Double dataMaxValue = null;
 		Double dataMinValue = null;
 		if (null != aDataset) {
-			for (PolarAreaSeries series : aDataset.getSeriesList()) {
-				for (PolarAreaSeriesPoint point : series.getPoints()) {
-					if (null == dataMaxValue) {
-						dataMinValue = point.getRange();
-						dataMaxValue = point.getRange();
-					} else {
-						dataMinValue = Math.min(dataMinValue, point.getRange());
-						dataMaxValue = Math.max(dataMaxValue, point.getRange());
-					}
-				}
+			SeriesStatistics statistics = aDataset.getStatistics();
+			if (!statistics.isEmpty()) {
+				dataMinValue = statistics.getMin();
+				dataMaxValue = statistics.getMax();
 			}
 		}
 		debug(String.format("Data minimum value : %f", dataMinValue));
@@ -17,10 +17,9 @@
  */
 package org.azkfw.chart.charts.polararea;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import org.azkfw.chart.core.dataset.series.AbstractSeries;
+import org.azkfw.chart.core.dataset.series.AbstractPointSeries;
 import org.azkfw.chart.core.dataset.series.SeriesPoint;
 
 /**
@@ -30,19 +29,13 @@ import org.azkfw.chart.core.dataset.series.SeriesPoint;
  * @version 1.0.0 2014/06/19
  * @author Kawakicchi
  */
-public class PolarAreaSeries extends AbstractSeries {
-
-	/**
-	 * ポイント
-	 */
-	private List<PolarAreaSeriesPoint> points;
+public class PolarAreaSeries extends AbstractPointSeries<PolarAreaSeries.PolarAreaSeriesPoint> {
 
 	/**
 	 * コンストラクタ
 	 */
 	public PolarAreaSeries() {
-		super();
-		points = new ArrayList<PolarAreaSeriesPoint>();
+		super(1);
 	}
 
 	/**
@@ -51,8 +44,7 @@ public class PolarAreaSeries extends AbstractSeries {
 	 * @param aTitle タイトル
 	 */
 	public PolarAreaSeries(final String aTitle) {
-		super(aTitle);
-		points = new ArrayList<PolarAreaSeriesPoint>();
+		super(aTitle, 1);
 	}
 
 	/**
@@ -62,8 +54,10 @@ public class PolarAreaSeries extends AbstractSeries {
 	 * @param aPoints ポイントリスト
 	 */
 	public PolarAreaSeries(final String aTitle, final List<PolarAreaSeriesPoint> aPoints) {
-		super(aTitle);
-		points = new ArrayList<PolarAreaSeriesPoint>(aPoints);
+		super(aTitle, 1);
+		for (PolarAreaSeriesPoint point : aPoints) {
+			add(point);
+		}
 	}
 
 	/**
@@ -73,22 +67,12 @@ public class PolarAreaSeries extends AbstractSeries {
 	 * @param aValues 値配列
 	 */
 	public PolarAreaSeries(final String aTitle, final double... aValues) {
-		super(aTitle);
-		points = new ArrayList<PolarAreaSeriesPoint>();
+		super(aTitle, 1);
 		for (double value : aValues) {
-			points.add(new PolarAreaSeriesPoint(value));
+			add(new PolarAreaSeriesPoint(value));
 		}
 	}
 
-	/**
-	 * ポイントを追加する。
-	 * 
-	 * @param aPoint ポイント
-	 */
-	public void add(final PolarAreaSeriesPoint aPoint) {
-		points.add(aPoint);
-	}
-
 	/**
 	 * ポイントを追加する。
 	 * 
@@ -96,16 +80,12 @@ public class PolarAreaSeries extends AbstractSeries {
 	 */
 	public void add(final double aRange) {
 		PolarAreaSeriesPoint point = new PolarAreaSeriesPoint(aRange);
-		points.add(point);
+		add(point);
 	}
 
-	/**
-	 * ポイント一覧を取得する。
-	 * 
-	 * @return ポイント一覧
-	 */
-	public List<PolarAreaSeriesPoint> getPoints() {
-		return points;
+	@Override
+	protected double getPointValue(final PolarAreaSeriesPoint aPoint, final int aAxis) {
+		return aPoint.getRange();
 	}
 
 	/**
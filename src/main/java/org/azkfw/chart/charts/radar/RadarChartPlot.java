@@ -29,6 +29,7 @@ import java.util.List;
 
 import org.azkfw.chart.charts.radar.RadarChartDesign.RadarChartStyle;
 import org.azkfw.chart.charts.radar.RadarSeries.RadarSeriesPoint;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
 import org.azkfw.chart.core.plot.AbstractSeriesChartPlot;
 import org.azkfw.chart.design.marker.Marker;
 import org.azkfw.chart.displayformat.DisplayFormat;
@@ -36,7 +37,6 @@ import org.azkfw.graphics.Graphics;
 import org.azkfw.graphics.Margin;
 import org.azkfw.graphics.Point;
 import org.azkfw.graphics.Rect;
-import org.azkfw.graphics.Size;
 import org.azkfw.util.ObjectUtility;
 import org.azkfw.util.StringUtility;
 
@@ -374,11 +374,7 @@ public class RadarChartPlot extends AbstractSeriesChartPlot<RadarDataset, RadarC
 							x = pixelLimit(x);
 							y = pixelLimit(y);
 
-							Size size = marker.getSize();
-
-							int mx = (0 == (int) size.getWidth() % 2) ? 0 : 1;
-							int my = (0 == (int) size.getHeight() % 2) ? 0 : 1;
-							marker.draw(g, x - (size.getWidth() / 2) + mx, y - (size.getHeight() / 2) + my);
+							drawMarker(g, marker, x, y);
 						}
 
 					}
@@ -393,16 +389,10 @@ public class RadarChartPlot extends AbstractSeriesChartPlot<RadarDataset, RadarC
 		Double dataMaxValue = null;
 		Double dataMinValue = null;
 		if (null != aDataset) {
-			for (RadarSeries series : aDataset.getSeriesList()) {
-				for (RadarSeriesPoint point : series.getPoints()) {
-					if (null == dataMaxValue) {
-						dataMinValue = point.getValue();
-						dataMaxValue = point.getValue();
-					} else {
-						dataMinValue = Math.min(dataMinValue, point.getValue());
-						dataMaxValue = Math.max(dataMaxValue, point.getValue());
-					}
-				}
+			SeriesStatistics statistics = aDataset.getStatistics();
+			if (!statistics.isEmpty()) {
+				dataMinValue = statistics.getMin();
+				dataMaxValue = statistics.getMax();
 			}
 		}
 		debug(String.format("Data minimum value : %f", dataMinValue));
@@ -17,10 +17,9 @@
  */
 package org.azkfw.chart.charts.radar;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import org.azkfw.chart.core.dataset.series.AbstractSeries;
+import org.azkfw.chart.core.dataset.series.AbstractPointSeries;
 import org.azkfw.chart.core.dataset.series.SeriesPoint;
 
 /**
@@ -30,19 +29,13 @@ import org.azkfw.chart.core.dataset.series.SeriesPoint;
  * @version 1.0.0 2014/06/19
  * @author Kawakicchi
  */
-public class RadarSeries extends AbstractSeries {
-
-	/**
-	 * ポイント
-	 */
-	private List<RadarSeriesPoint> points;
+public class RadarSeries extends AbstractPointSeries<RadarSeries.RadarSeriesPoint> {
 
 	/**
 	 * コンストラクタ
 	 */
 	public RadarSeries() {
-		super();
-		points = new ArrayList<RadarSeriesPoint>();
+		super(1);
 	}
 
 	/**
@@ -51,8 +44,7 @@ public class RadarSeries extends AbstractSeries {
 	 * @param aTitle タイトル
 	 */
 	public RadarSeries(final String aTitle) {
-		super(aTitle);
-		points = new ArrayList<RadarSeriesPoint>();
+		super(aTitle, 1);
 	}
 
 	/**
@@ -62,8 +54,10 @@ public class RadarSeries extends AbstractSeries {
 	 * @param aPoints ポイント
 	 */
 	public RadarSeries(final String aTitle, final List<RadarSeriesPoint> aPoints) {
-		super(aTitle);
-		points = new ArrayList<>(aPoints);
+		super(aTitle, 1);
+		for (RadarSeriesPoint point : aPoints) {
+			add(point);
+		}
 	}
 
 	/**
@@ -73,22 +67,12 @@ public class RadarSeries extends AbstractSeries {
 	 * @param aValues 値配列
 	 */
 	public RadarSeries(final String aTitle, final double... aValues) {
-		super(aTitle);
-		points = new ArrayList<RadarSeriesPoint>();
+		super(aTitle, 1);
 		for (double value : aValues) {
-			points.add(new RadarSeriesPoint(value));
+			add(new RadarSeriesPoint(value));
 		}
 	}
 
-	/**
-	 * ポイントを追加する。
-	 * 
-	 * @param aPoint ポイント
-	 */
-	public void add(final RadarSeriesPoint aPoint) {
-		points.add(aPoint);
-	}
-
 	/**
 	 * ポイントを追加する。
 	 * 
@@ -96,16 +80,12 @@ public class RadarSeries extends AbstractSeries {
 	 */
 	public void add(final double aValue) {
 		RadarSeriesPoint point = new RadarSeriesPoint(aValue);
-		points.add(point);
+		add(point);
 	}
 
-	/**
-	 * ポイント一覧を取得する。
-	 * 
-	 * @return ポイント一覧
-	 */
-	public List<RadarSeriesPoint> getPoints() {
-		return points;
+	@Override
+	protected double getPointValue(final RadarSeriesPoint aPoint, final int aAxis) {
+		return aPoint.getValue();
 	}
 
 	/**
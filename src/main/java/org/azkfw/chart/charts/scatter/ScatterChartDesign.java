@@ -109,11 +109,83 @@ public class ScatterChartDesign extends AbstractSeriesChartDesign<ScatterChartSt
 	 */
 	public static class ScatterChartStyle extends AbstractSeriesChartStyle<ScatterSeries, ScatterSeriesPoint> {
 
+		/** ピクセル列毎の集約描画 */
+		private boolean m4Aggregation;
+
+		/** 密度表示へ切り替える1ピクセルあたりのポイント数 */
+		private double densityThreshold;
+
 		/**
 		 * コンストラクタ
 		 */
 		public ScatterChartStyle() {
+			m4Aggregation = false;
+			densityThreshold = 1.0;
+		}
+
+		/**
+		 * 密度表示へ切り替える1ピクセルあたりのポイント数を設定する。
+		 * <p>
+		 * 描画範囲のポイント数が描画領域のピクセル数×このポイント数以上となった場合、
+		 * シリーズ毎のマーカー・線の代わりにピクセル毎のポイント数を{@link #getDensityColor(double)}の色で描画します。
+		 * 0以下の場合は密度表示を行いません。
+		 * </p>
+		 * 
+		 * @param aPointsPerPixel ポイント数
+		 */
+		public void setDensityThreshold(final double aPointsPerPixel) {
+			densityThreshold = aPointsPerPixel;
+			fireChanged();
+		}
 
+		/**
+		 * 密度表示へ切り替える1ピクセルあたりのポイント数を取得する。
+		 * 
+		 * @return ポイント数
+		 */
+		public double getDensityThreshold() {
+			return densityThreshold;
+		}
+
+		/**
+		 * 密度表示のカラーを取得する。
+		 * 
+		 * @param aRatio 密度（0.0～1.0、ポイント数の対数で正規化した値）
+		 * @return カラー
+		 */
+		public Color getDensityColor(final double aRatio) {
+			// 青 → 水色 → 黄 → 赤
+			double ratio = Math.max(0.0, Math.min(1.0, aRatio)) * 3.0;
+			if (ratio < 1.0) {
+				return new Color(0, (int) (255 * ratio), 255);
+			} else if (ratio < 2.0) {
+				return new Color((int) (255 * (ratio - 1.0)), 255, (int) (255 * (2.0 - ratio)));
+			} else {
+				return new Color(255, (int) (255 * (3.0 - ratio)), 0);
+			}
+		}
+
+		/**
+		 * ピクセル列毎の集約描画（M4）を設定する。
+		 * <p>
+		 * 有効にした場合、x値が昇順のシリーズはピクセル列毎に先頭・末尾・最小・最大の4点のみで塗りつぶし・線・マーカーを描画します。
+		 * 線は全ポイントで描画した場合と同じピクセルを通過します。
+		 * </p>
+		 * 
+		 * @param aAggregation 集約描画
+		 */
+		public void setM4Aggregation(final boolean aAggregation) {
+			m4Aggregation = aAggregation;
+			fireChanged();
+		}
+
+		/**
+		 * ピクセル列毎の集約描画（M4）を判断する。
+		 * 
+		 * @return 集約描画する場合、<code>true</code>を返す。
+		 */
+		public boolean isM4Aggregation() {
+			return m4Aggregation;
 		}
 
 		/**
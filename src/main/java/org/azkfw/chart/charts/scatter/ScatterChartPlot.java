@@ -21,23 +21,25 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
-import java.awt.GradientPaint;
-import java.awt.Polygon;
 import java.awt.Stroke;
 import java.awt.geom.AffineTransform;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.azkfw.chart.charts.scatter.ScatterAxis.ScatterXAxis;
 import org.azkfw.chart.charts.scatter.ScatterAxis.ScatterYAxis;
 import org.azkfw.chart.charts.scatter.ScatterChartDesign.ScatterChartStyle;
-import org.azkfw.chart.charts.scatter.ScatterSeries.ScatterSeriesPoint;
+import org.azkfw.chart.core.dataset.series.FunctionSeries;
+import org.azkfw.chart.core.dataset.series.SeriesPyramid;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
 import org.azkfw.chart.core.plot.AbstractSeriesChartPlot;
+import org.azkfw.chart.core.plot.FunctionSampler;
 import org.azkfw.chart.design.marker.Marker;
+import org.azkfw.chart.design.marker.MarkerOccupancy;
 import org.azkfw.chart.displayformat.DisplayFormat;
 import org.azkfw.graphics.Graphics;
 import org.azkfw.graphics.Margin;
 import org.azkfw.graphics.Rect;
-import org.azkfw.graphics.Size;
 import org.azkfw.util.ObjectUtility;
 import org.azkfw.util.StringUtility;
 
@@ -50,11 +52,20 @@ import org.azkfw.util.StringUtility;
  */
 public class ScatterChartPlot extends AbstractSeriesChartPlot<ScatterDataset, ScatterChartDesign> {
 
+	/** 密度表示のカラーテーブルサイズ */
+	private static final int DENSITY_COLOR_SIZE = 256;
+
 	/** X軸情報 */
 	private ScatterXAxis axisX;
 	/** Y軸情報 */
 	private ScatterYAxis axisY;
 
+	/** 並列数 */
+	private int parallelism;
+
+	/** 指定されたプール */
+	private ForkJoinPool pool;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -63,6 +74,7 @@ public class ScatterChartPlot extends AbstractSeriesChartPlot<ScatterDataset, Sc
 
 		axisX = new ScatterXAxis();
 		axisY = new ScatterYAxis();
+		parallelism = Runtime.getRuntime().availableProcessors();
 
 		setChartDesign(ScatterChartDesign.DefalutDesign);
 	}
@@ -77,6 +89,7 @@ public class ScatterChartPlot extends AbstractSeriesChartPlot<ScatterDataset, Sc
 
 		axisX = new ScatterXAxis();
 		axisY = new ScatterYAxis();
+		parallelism = Runtime.getRuntime().availableProcessors();
 
 		setChartDesign(ScatterChartDesign.DefalutDesign);
 	}
@@ -99,6 +112,47 @@ public class ScatterChartPlot extends AbstractSeriesChartPlot<ScatterDataset, Sc
 		return axisY;
 	}
 
+	/**
+	 * 密度表示の集計の並列数を設定する。
+	 * <p>
+	 * {@link #setPool(ForkJoinPool)}でプールを指定した場合は使用されません。1の場合は並列で処理しません。
+	 * </p>
+	 * 
+	 * @param aParallelism 並列数
+	 */
+	public synchronized void setParallelism(final int aParallelism) {
+		if (0 >= aParallelism) {
+			throw new IllegalArgumentException(String.format("Illegal parallelism: %d", aParallelism));
+		}
+		parallelism = aParallelism;
+	}
+
+	/**
+	 * 密度表示の集計の並列数を取得する。
+	 * 
+	 * @return 並列数
+	 */
+	public synchronized int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * 密度表示の集計に使用するフォークジョインプールを設定する。
+	 * <p>
+	 * <code>null</code>の場合、描画毎に並列数のプールを生成し、描画後に終了します。
+	 * 繰り返し描画する場合はプールを指定すると、描画毎のスレッド生成を省略できます。
+	 * </p>
+	 * 
+	 * @param aPool プール
+	 */
+	public synchronized void setPool(final ForkJoinPool aPool) {
+		pool = aPool;
+	}
+
+	private synchronized ForkJoinPool getPool() {
+		return pool;
+	}
+
 	@Override
 	protected boolean doDrawChart(final Graphics g, final Rect aRect) {
 		ScatterDataset dataset = getDataset();
@@ -402,82 +456,83 @@ public class ScatterChartPlot extends AbstractSeriesChartPlot<ScatterDataset, Sc
 			double pixXPerValue = (aRect.getWidth()) / xDifValue;
 			double pixYPerValue = (aRect.getHeight()) / yDifValue;
 
+			// 重なったマーカーの省略
+			MarkerOccupancy occupancy = (aStyle.isMarkerCulling()) ? new MarkerOccupancy(aRect) : null;
+
 			List<ScatterSeries> seriesList = aDataset.getSeriesList();
+
+			// ポイントが密集している場合は密度で描画する
+			boolean density = isDensityMode(seriesList, aXScaleValue, aStyle, aRect);
+			if (density) {
+				drawDensity(g, seriesList, aXScaleValue, aYScaleValue, aStyle, aRect);
+			}
+
 			for (int index = 0; index < seriesList.size(); index++) {
 				ScatterSeries series = seriesList.get(index);
-				List<ScatterSeriesPoint> points = series.getPoints();
-
-				if (!aStyle.isOverflow()) {
-					g.setClip(aRect.getX(), aRect.getY(), aRect.getWidth(), aRect.getHeight());
+				if (series instanceof FunctionSeries) {
+					drawFunctionSeries(g, index, series, (FunctionSeries) series, aXScaleValue, aYScaleValue, aStyle, aRect);
+					continue;
 				}
-
-				// Draw series fill
-				{
-					int xps[] = new int[points.size() + 2];
-					int yps[] = new int[points.size() + 2];
-					for (int j = 0; j < points.size(); j++) {
-						ScatterSeriesPoint point = points.get(j);
-						xps[j + 1] = (int) (aRect.getX() + ((point.getX() - aXScaleValue.getMin()) * pixXPerValue));
-						yps[j + 1] = (int) ((aRect.getY() + aRect.getHeight()) - ((point.getY() - aYScaleValue.getMin()) * pixYPerValue));
-					}
-					xps[0] = (int) (xps[1]);
-					yps[0] = (int) (aRect.getY() + aRect.getHeight());
-					xps[points.size() + 1] = (int) (xps[points.size()]);
-					yps[points.size() + 1] = (int) (aRect.getY() + aRect.getHeight());
-
-					Color fillColor = aStyle.getSeriesFillColor(index, series);
-					if (ObjectUtility.isNotNull(fillColor)) {
-						GradientPaint paint = new GradientPaint(0f, aRect.getY(), fillColor, 0f, aRect.getY() + aRect.getHeight(), new Color(
-								fillColor.getRed(), fillColor.getGreen(), fillColor.getBlue(), 0));
-						g.setPaint(paint);
-						g.fillPolygon(new Polygon(xps, yps, points.size() + 2));
+				if (density) {
+					continue;
+				}
+				// 描画範囲のポイント（x値が昇順の場合は前後1ポイントを含む範囲）
+				int from = 0;
+				int to = series.getSize();
+				if (!aStyle.isOverflow() && series.isXSorted()) {
+					int[] range = series.rangeIndexOf(aXScaleValue.getMin(), aXScaleValue.getMax());
+					from = Math.max(0, range[0] - 1);
+					to = Math.min(series.getSize(), range[1] + 1);
+				}
+				int pointSize = to - from;
+
+				if (series.isPyramidEnabled() && series.isXSorted() && 0 < aRect.getWidth()) {
+					// 1ピクセル列に複数ポイントが含まれる場合は集計値で描画する
+					SeriesPyramid.Level level = series.getPyramid().getLevel((int) (pointSize / aRect.getWidth()));
+					if (null != level) {
+						drawPyramidLevel(g, index, series, level, from, to, aXScaleValue, aYScaleValue, aStyle, aRect);
+						continue;
 					}
 				}
 
-				// Draw series line
-				{
-					Stroke stroke = aStyle.getSeriesStroke(index, series);
-					Color strokeColor = aStyle.getSeriesStrokeColor(index, series);
-					if (ObjectUtility.isAllNotNull(stroke, strokeColor)) {
-						float xps[] = new float[points.size()];
-						float yps[] = new float[points.size()];
-						for (int j = 0; j < points.size(); j++) {
-							ScatterSeriesPoint point = points.get(j);
-							xps[j] = (int) (aRect.getX() + ((point.getX() - aXScaleValue.getMin()) * pixXPerValue));
-							yps[j] = (int) ((aRect.getY() + aRect.getHeight()) - ((point.getY() - aYScaleValue.getMin()) * pixYPerValue));
-						}
-						g.setStroke(stroke, strokeColor);
-						g.drawPolyline(xps, yps, points.size());
-					}
+				if (aStyle.isM4Aggregation() && series.isXSorted() && pointSize > 4 * aRect.getWidth()) {
+					drawM4Reduced(g, index, series, from, to, aXScaleValue, aYScaleValue, aStyle, aRect, occupancy);
+					continue;
 				}
 
-				if (!aStyle.isOverflow()) {
-					g.clearClip();
+				// Draw series fill and line
+				{
+					float xps[] = new float[pointSize];
+					float yps[] = new float[pointSize];
+					for (int j = 0; j < pointSize; j++) {
+						xps[j] = (int) (aRect.getX() + ((series.getX(from + j) - aXScaleValue.getMin()) * pixXPerValue));
+						yps[j] = (int) ((aRect.getY() + aRect.getHeight()) - ((series.getY(from + j) - aYScaleValue.getMin()) * pixYPerValue));
+					}
+					drawPath(g, index, series, xps, yps, pointSize, aStyle, aStyle.isOverflow(), aRect);
 				}
 
 				// Draw series marker
 				{
 					Marker seriesMarker = aStyle.getSeriesMarker(index, series);
-					for (int j = 0; j < points.size(); j++) {
-						ScatterSeriesPoint point = points.get(j);
+					if (null != occupancy) {
+						occupancy.clear();
+					}
+					for (int j = from; j < to; j++) {
+						double x = series.getX(j);
+						double y = series.getY(j);
 
 						if (!aStyle.isOverflow()) {
-							if (point.getX() < aXScaleValue.getMin() || point.getX() > aXScaleValue.getMax() || point.getY() < aYScaleValue.getMin()
-									|| point.getY() > aYScaleValue.getMax()) {
+							if (x < aXScaleValue.getMin() || x > aXScaleValue.getMax() || y < aYScaleValue.getMin() || y > aYScaleValue.getMax()) {
 								continue;
 							}
 						}
 
-						Marker pointMarker = aStyle.getSeriesPointMarker(index, series, j, point);
+						Marker pointMarker = aStyle.getSeriesPointMarker(index, series, j, series.getPoint(j));
 						Marker marker = ObjectUtility.getNotNullObject(pointMarker, seriesMarker);
 						if (ObjectUtility.isNotNull(marker)) {
-							float xMarker = (float) (aRect.getX() + ((point.getX() - aXScaleValue.getMin()) * pixXPerValue));
-							float yMarker = (float) ((aRect.getY() + aRect.getHeight()) - ((point.getY() - aYScaleValue.getMin()) * pixYPerValue));
-							Size size = marker.getSize();
-
-							int mx = (0 == (int) size.getWidth() % 2) ? 0 : 1;
-							int my = (0 == (int) size.getHeight() % 2) ? 0 : 1;
-							marker.draw(g, xMarker - (size.getWidth() / 2) + mx, yMarker - (size.getHeight() / 2) + my);
+							float xMarker = (float) (aRect.getX() + ((x - aXScaleValue.getMin()) * pixXPerValue));
+							float yMarker = (float) ((aRect.getY() + aRect.getHeight()) - ((y - aYScaleValue.getMin()) * pixYPerValue));
+							drawMarker(g, marker, xMarker, yMarker, occupancy);
 						}
 
 					}
@@ -486,7 +541,169 @@ public class ScatterChartPlot extends AbstractSeriesChartPlot<ScatterDataset, Sc
 
 			}
 
+			setSkippedMarkerCount(occupancy);
+		}
+	}
+
+	private void drawFunctionSeries(final Graphics g, final int aIndex, final ScatterSeries aSeries, final FunctionSeries aFunction,
+			final ScaleValue aXScaleValue, final ScaleValue aYScaleValue, final ScatterChartStyle aStyle, final Rect aRect) {
+		double pixXPerValue = (aRect.getWidth()) / aXScaleValue.getDiff();
+		double pixYPerValue = (aRect.getHeight()) / aYScaleValue.getDiff();
+
+		// 描画領域の解像度で関数を評価する
+		FunctionSampler sampler = new FunctionSampler(aRect.getX(), aXScaleValue.getMin(), pixXPerValue, aRect.getY() + aRect.getHeight(),
+				aYScaleValue.getMin(), pixYPerValue);
+		List<FunctionSampler.Path> paths = sampler.sample(aFunction.getFunction(), aFunction.getDomainMinimum(), aFunction.getDomainMaximum(),
+				aRect.getX(), aRect.getX() + aRect.getWidth());
+
+		for (FunctionSampler.Path path : paths) {
+			drawPath(g, aIndex, aSeries, path.getXs(), path.getYs(), path.getSize(), aStyle, aStyle.isOverflow(), aRect);
+		}
+	}
+
+	private boolean isDensityMode(final List<ScatterSeries> aSeriesList, final ScaleValue aXScaleValue, final ScatterChartStyle aStyle,
+			final Rect aRect) {
+		double threshold = aStyle.getDensityThreshold();
+		if (!(0 < threshold) || 1 > aRect.getWidth() || 1 > aRect.getHeight()) {
+			return false;
+		}
+		long pointSize = 0;
+		for (ScatterSeries series : aSeriesList) {
+			if (!(series instanceof FunctionSeries)) {
+				int[] range = getDensityRange(series, aXScaleValue);
+				pointSize += range[1] - range[0];
+			}
+		}
+		return pointSize >= threshold * aRect.getWidth() * aRect.getHeight();
+	}
+
+	private void drawDensity(final Graphics g, final List<ScatterSeries> aSeriesList, final ScaleValue aXScaleValue, final ScaleValue aYScaleValue,
+			final ScatterChartStyle aStyle, final Rect aRect) {
+		double pixXPerValue = (aRect.getWidth()) / aXScaleValue.getDiff();
+		double pixYPerValue = (aRect.getHeight()) / aYScaleValue.getDiff();
+
+		ScatterDensityRaster raster = new ScatterDensityRaster(aRect.getWidth(), aRect.getHeight());
+		// プールは全シリーズで共有する（スレッドは初回の並列集計時に生成される）
+		ForkJoinPool given = getPool();
+		int threads = getParallelism();
+		ForkJoinPool fjp = (null != given) ? given : ((1 < threads) ? new ForkJoinPool(threads) : null);
+		try {
+			for (ScatterSeries series : aSeriesList) {
+				if (!(series instanceof FunctionSeries)) {
+					int[] range = getDensityRange(series, aXScaleValue);
+					raster.accumulate(series, range[0], range[1], aXScaleValue.getMin(), pixXPerValue, aYScaleValue.getMin(), pixYPerValue,
+							fjp);
+				}
+			}
+		} finally {
+			if (null != fjp && fjp != given) {
+				fjp.shutdown();
+			}
+		}
+
+		int[] colors = new int[DENSITY_COLOR_SIZE];
+		for (int i = 0; i < colors.length; i++) {
+			colors[i] = aStyle.getDensityColor((double) i / (colors.length - 1)).getRGB();
+		}
+		g.drawImage(raster.toImage(colors), aRect.getX(), aRect.getY());
+	}
+
+	private int[] getDensityRange(final ScatterSeries aSeries, final ScaleValue aXScaleValue) {
+		if (aSeries.isXSorted()) {
+			return aSeries.rangeIndexOf(aXScaleValue.getMin(), aXScaleValue.getMax());
+		}
+		return new int[] { 0, aSeries.getSize() };
+	}
+
+	private void drawM4Reduced(final Graphics g, final int aIndex, final ScatterSeries aSeries, final int aFrom, final int aTo,
+			final ScaleValue aXScaleValue, final ScaleValue aYScaleValue, final ScatterChartStyle aStyle, final Rect aRect,
+			final MarkerOccupancy aOccupancy) {
+		double pixXPerValue = (aRect.getWidth()) / aXScaleValue.getDiff();
+		double pixYPerValue = (aRect.getHeight()) / aYScaleValue.getDiff();
+		float bottom = aRect.getY() + aRect.getHeight();
+
+		ScatterM4Reducer reducer = new ScatterM4Reducer(aRect.getX(), aXScaleValue.getMin(), pixXPerValue, bottom, aYScaleValue.getMin(),
+				pixYPerValue);
+		reducer.reduce(aSeries, aFrom, aTo);
+		int pointSize = reducer.getSize();
+		if (0 == pointSize) {
+			return;
+		}
+		int[] indexes = reducer.getIndexes();
+		int[] rxps = reducer.getXs();
+		int[] ryps = reducer.getYs();
+
+		float xps[] = new float[pointSize];
+		float yps[] = new float[pointSize];
+		for (int j = 0; j < pointSize; j++) {
+			xps[j] = rxps[j];
+			yps[j] = ryps[j];
+		}
+		drawPath(g, aIndex, aSeries, xps, yps, pointSize, aStyle, aStyle.isOverflow(), aRect);
+
+		// Draw series marker
+		Marker seriesMarker = aStyle.getSeriesMarker(aIndex, aSeries);
+		if (null != aOccupancy) {
+			aOccupancy.clear();
+		}
+		for (int k = 0; k < pointSize; k++) {
+			int j = indexes[k];
+			double x = aSeries.getX(j);
+			double y = aSeries.getY(j);
+
+			if (!aStyle.isOverflow()) {
+				if (x < aXScaleValue.getMin() || x > aXScaleValue.getMax() || y < aYScaleValue.getMin() || y > aYScaleValue.getMax()) {
+					continue;
+				}
+			}
+
+			Marker pointMarker = aStyle.getSeriesPointMarker(aIndex, aSeries, j, aSeries.getPoint(j));
+			Marker marker = ObjectUtility.getNotNullObject(pointMarker, seriesMarker);
+			if (ObjectUtility.isNotNull(marker)) {
+				float xMarker = (float) (aRect.getX() + ((x - aXScaleValue.getMin()) * pixXPerValue));
+				float yMarker = (float) (bottom - ((y - aYScaleValue.getMin()) * pixYPerValue));
+				drawMarker(g, marker, xMarker, yMarker, aOccupancy);
+			}
+		}
+	}
+
+	private void drawPyramidLevel(final Graphics g, final int aIndex, final ScatterSeries aSeries, final SeriesPyramid.Level aLevel,
+			final int aFrom, final int aTo, final ScaleValue aXScaleValue, final ScaleValue aYScaleValue, final ScatterChartStyle aStyle,
+			final Rect aRect) {
+		double pixXPerValue = (aRect.getWidth()) / aXScaleValue.getDiff();
+		double pixYPerValue = (aRect.getHeight()) / aYScaleValue.getDiff();
+		float bottom = aRect.getY() + aRect.getHeight();
+
+		// 描画範囲のバケット毎に先頭値・最小値・最大値・末尾値の4点とする
+		int fromBucket = aFrom / aLevel.getBucketSize();
+		int toBucket = Math.min(aLevel.getBucketCount(), (aTo + aLevel.getBucketSize() - 1) / aLevel.getBucketSize());
+		int bucketCount = Math.max(0, toBucket - fromBucket);
+		float xps[] = new float[bucketCount * 4];
+		float yps[] = new float[bucketCount * 4];
+		int pointSize = 0;
+		for (int bucket = fromBucket; bucket < toBucket; bucket++) {
+			if (Double.isNaN(aLevel.getMin(bucket))) {
+				continue;
+			}
+			float x0 = (float) (aRect.getX() + ((aSeries.getX(aLevel.getStartIndex(bucket)) - aXScaleValue.getMin()) * pixXPerValue));
+			float x1 = (float) (aRect.getX() + ((aSeries.getX(aLevel.getEndIndex(bucket)) - aXScaleValue.getMin()) * pixXPerValue));
+			float xm = (x0 + x1) / 2;
+			double[] values = { aLevel.getFirst(bucket), aLevel.getMin(bucket), aLevel.getMax(bucket), aLevel.getLast(bucket) };
+			float[] xs = { x0, xm, xm, x1 };
+			for (int i = 0; i < 4; i++) {
+				if (!Double.isNaN(values[i])) {
+					xps[pointSize] = xs[i];
+					yps[pointSize] = (float) (bottom - ((values[i] - aYScaleValue.getMin()) * pixYPerValue));
+					pointSize++;
+				}
+			}
 		}
+		if (0 == pointSize) {
+			return;
+		}
+
+		// マーカーは1ピクセル列に複数重なる為、描画しない
+		drawPath(g, aIndex, aSeries, xps, yps, pointSize, aStyle, aStyle.isOverflow(), aRect);
 	}
 
 	private ScaleValue[] getXYScaleValue(final ScatterDataset aDataset) {
@@ -496,21 +713,30 @@ public class ScatterChartPlot extends AbstractSeriesChartPlot<ScatterDataset, Sc
 		Double yDataMinValue = null;
 		Double yDataMaxValue = null;
 		if (null != aDataset) {
-			for (ScatterSeries series : aDataset.getSeriesList()) {
-				for (ScatterSeriesPoint point : series.getPoints()) {
-					if (null == xDataMinValue) {
-						xDataMinValue = point.getX();
-						xDataMaxValue = point.getX();
-						yDataMinValue = point.getY();
-						yDataMaxValue = point.getY();
+			SeriesStatistics xStatistics = aDataset.getXStatistics();
+			if (!xStatistics.isEmpty()) {
+				xDataMinValue = xStatistics.getMin();
+				xDataMaxValue = xStatistics.getMax();
+			}
+			SeriesStatistics yStatistics;
+			if (axisX.isMinimumValueAutoFit() || axisX.isMaximumValueAutoFit()) {
+				yStatistics = aDataset.getYStatistics();
+			} else {
+				// x軸の範囲が固定の場合は範囲内のポイントのみを対象とする
+				// x値が昇順でないシリーズは全走査となる為、キャッシュ済みの統計情報を使用する
+				yStatistics = new SeriesStatistics();
+				for (ScatterSeries series : aDataset.getSeriesList()) {
+					if (series.isXSorted()) {
+						yStatistics.merge(series.getYStatistics(axisX.getMinimumValue(), axisX.getMaximumValue()));
 					} else {
-						xDataMinValue = Math.min(xDataMinValue, point.getX());
-						xDataMaxValue = Math.max(xDataMaxValue, point.getX());
-						yDataMinValue = Math.min(yDataMinValue, point.getY());
-						yDataMaxValue = Math.max(yDataMaxValue, point.getY());
+						yStatistics.merge(series.getYStatistics());
 					}
 				}
 			}
+			if (!yStatistics.isEmpty()) {
+				yDataMinValue = yStatistics.getMin();
+				yDataMaxValue = yStatistics.getMax();
+			}
 		}
 		debug(String.format("X data minimum value : %f", xDataMinValue));
 		debug(String.format("X data maximum value : %f", xDataMaxValue));
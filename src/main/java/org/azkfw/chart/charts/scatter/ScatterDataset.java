@@ -18,6 +18,7 @@
 package org.azkfw.chart.charts.scatter;
 
 import org.azkfw.chart.core.dataset.AbstractSeriesDataset;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
 
 /**
  * このクラスは、散布図のデータセット情報を保持するクラスです。
@@ -43,4 +44,46 @@ public class ScatterDataset extends AbstractSeriesDataset<ScatterSeries> {
 	public ScatterDataset(final String aTitle) {
 		super(aTitle);
 	}
+
+	/**
+	 * 全シリーズのx値の統計情報を取得する。
+	 * 
+	 * @return 統計情報
+	 */
+	public SeriesStatistics getXStatistics() {
+		SeriesStatistics statistics = new SeriesStatistics();
+		for (ScatterSeries series : getSeriesList()) {
+			statistics.merge(series.getXStatistics());
+		}
+		return statistics;
+	}
+
+	/**
+	 * 全シリーズのy値の統計情報を取得する。
+	 * 
+	 * @return 統計情報
+	 */
+	public SeriesStatistics getYStatistics() {
+		SeriesStatistics statistics = new SeriesStatistics();
+		for (ScatterSeries series : getSeriesList()) {
+			statistics.merge(series.getYStatistics());
+		}
+		return statistics;
+	}
+
+	/**
+	 * 全シリーズの範囲内のx値を持つポイントのy値の統計情報を取得する。
+	 * 
+	 * @param aXMin x値の最小値
+	 * @param aXMax x値の最大値
+	 * @return 統計情報
+	 * @see ScatterSeries#getYStatistics(double, double)
+	 */
+	public SeriesStatistics getYStatistics(final double aXMin, final double aXMax) {
+		SeriesStatistics statistics = new SeriesStatistics();
+		for (ScatterSeries series : getSeriesList()) {
+			statistics.merge(series.getYStatistics(aXMin, aXMax));
+		}
+		return statistics;
+	}
 }
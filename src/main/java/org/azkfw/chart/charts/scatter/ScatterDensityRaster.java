@@ -0,0 +1,276 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.scatter;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * このクラスは、散布図のポイント数をピクセル毎に集計し、画像へ変換するクラスです。
+ * <p>
+ * ポイント数が多いシリーズは並列数程度のチャンクに分割し、チャンク毎に集計した結果を行単位に分けて加算します。
+ * 集計用のバッファはチャンク数分のみ確保します。
+ * 描画領域外のポイントおよびx値・y値が<code>NaN</code>のポイントは集計されません。
+ * 描画領域の右端・上端上のポイントは、端のピクセルへ集計されます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class ScatterDensityRaster {
+
+	/** 並列で集計する最小ポイント数 */
+	private static final int PARALLEL_THRESHOLD = 1 << 18;
+	/** 1タスクあたりの最小加算行数 */
+	private static final int MIN_MERGE_ROWS = 16;
+
+	/** 描画領域の幅 */
+	private final double plotWidth;
+	/** 描画領域の高さ */
+	private final double plotHeight;
+	/** 幅（ピクセル） */
+	private final int width;
+	/** 高さ（ピクセル） */
+	private final int height;
+	/** ピクセル毎のポイント数（行優先） */
+	private final int[] counts;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aWidth 描画領域の幅
+	 * @param aHeight 描画領域の高さ
+	 */
+	public ScatterDensityRaster(final float aWidth, final float aHeight) {
+		if (!(0 < aWidth) || !(0 < aHeight)) {
+			throw new IllegalArgumentException(String.format("Width: %f, Height: %f", aWidth, aHeight));
+		}
+		plotWidth = aWidth;
+		plotHeight = aHeight;
+		width = (int) Math.ceil(aWidth);
+		height = (int) Math.ceil(aHeight);
+		counts = new int[width * height];
+	}
+
+	/**
+	 * シリーズの範囲のポイント数を集計する。
+	 * 
+	 * @param aSeries シリーズ
+	 * @param aFrom 開始インデックス
+	 * @param aTo 終了インデックス（このインデックスを含まない）
+	 * @param aXMin 左端のx値
+	 * @param aPixXPerValue x値1あたりのピクセル数
+	 * @param aYMin 下端のy値
+	 * @param aPixYPerValue y値1あたりのピクセル数
+	 * @param aPool プール（<code>null</code>の場合、並列で集計しない）
+	 */
+	public void accumulate(final ScatterSeries aSeries, final int aFrom, final int aTo, final double aXMin, final double aPixXPerValue,
+			final double aYMin, final double aPixYPerValue, final ForkJoinPool aPool) {
+		int size = aTo - aFrom;
+		if (null == aPool || 1 >= aPool.getParallelism() || size < PARALLEL_THRESHOLD * 2) {
+			accumulate(counts, aSeries, aFrom, aTo, aXMin, aPixXPerValue, aYMin, aPixYPerValue);
+			return;
+		}
+
+		ForkJoinPool fjp = aPool;
+		int chunkCount = Math.max(2, Math.min(fjp.getParallelism(), size / PARALLEL_THRESHOLD));
+		int chunkSize = (size + chunkCount - 1) / chunkCount;
+		// 先頭のチャンクは集計結果へ直接加算し、残りはチャンク毎のバッファへ集計する
+		int[][] buffers = new int[chunkCount][];
+		AccumulateTask[] tasks = new AccumulateTask[chunkCount];
+		for (int i = 0; i < chunkCount; i++) {
+			buffers[i] = (0 == i) ? counts : new int[counts.length];
+			int from = aFrom + i * chunkSize;
+			tasks[i] = new AccumulateTask(buffers[i], aSeries, from, Math.min(aTo, from + chunkSize), aXMin, aPixXPerValue, aYMin,
+					aPixYPerValue);
+		}
+		fjp.invoke(new AccumulateAllTask(tasks));
+		fjp.invoke(new MergeTask(buffers, 0, height));
+	}
+
+	/**
+	 * ピクセルのポイント数を取得する。
+	 * 
+	 * @param aX X座標（ピクセル）
+	 * @param aY Y座標（ピクセル）
+	 * @return ポイント数
+	 */
+	public int getCount(final int aX, final int aY) {
+		return counts[aY * width + aX];
+	}
+
+	/**
+	 * 最大ポイント数を取得する。
+	 * 
+	 * @return 最大ポイント数
+	 */
+	public int getMaxCount() {
+		int max = 0;
+		for (int count : counts) {
+			if (count > max) {
+				max = count;
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * 集計結果を画像へ変換する。
+	 * <p>
+	 * ポイント数を対数で正規化し、カラーテーブルの色を割り当てます。ポイントの無いピクセルは透明となります。
+	 * </p>
+	 * 
+	 * @param aColors カラーテーブル（ARGB、先頭が最小密度）
+	 * @return 画像
+	 */
+	public BufferedImage toImage(final int[] aColors) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		int max = getMaxCount();
+		if (0 < max) {
+			double scale = (aColors.length - 1) / Math.log1p(max);
+			int[] pixels = new int[counts.length];
+			for (int i = 0; i < counts.length; i++) {
+				int count = counts[i];
+				if (0 < count) {
+					pixels[i] = aColors[Math.min(aColors.length - 1, (int) (Math.log1p(count) * scale))];
+				}
+			}
+			image.setRGB(0, 0, width, height, pixels, 0, width);
+		}
+		return image;
+	}
+
+	private void accumulate(final int[] aBuffer, final ScatterSeries aSeries, final int aFrom, final int aTo, final double aXMin,
+			final double aPixXPerValue, final double aYMin, final double aPixYPerValue) {
+		for (int i = aFrom; i < aTo; i++) {
+			// NaN は比較が成立しない為、範囲外として除外される
+			double px = (aSeries.getX(i) - aXMin) * aPixXPerValue;
+			double py = plotHeight - (aSeries.getY(i) - aYMin) * aPixYPerValue;
+			if (0 <= px && px <= plotWidth && 0 <= py && py <= plotHeight) {
+				// 右端・上端（最大値）は端のピクセルへ含める
+				aBuffer[Math.min((int) py, height - 1) * width + Math.min((int) px, width - 1)]++;
+			}
+		}
+	}
+
+	/**
+	 * このクラスは、チャンクのポイント数の集計タスククラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private final class AccumulateTask extends RecursiveAction {
+
+		/** serialVersionUID */
+		private static final long serialVersionUID = 1L;
+
+		private final int[] buffer;
+		private final ScatterSeries series;
+		private final int from;
+		private final int to;
+		private final double xMin;
+		private final double pixXPerValue;
+		private final double yMin;
+		private final double pixYPerValue;
+
+		public AccumulateTask(final int[] aBuffer, final ScatterSeries aSeries, final int aFrom, final int aTo, final double aXMin,
+				final double aPixXPerValue, final double aYMin, final double aPixYPerValue) {
+			buffer = aBuffer;
+			series = aSeries;
+			from = aFrom;
+			to = aTo;
+			xMin = aXMin;
+			pixXPerValue = aPixXPerValue;
+			yMin = aYMin;
+			pixYPerValue = aPixYPerValue;
+		}
+
+		@Override
+		protected void compute() {
+			accumulate(buffer, series, from, to, xMin, pixXPerValue, yMin, pixYPerValue);
+		}
+	}
+
+	/**
+	 * このクラスは、全チャンクの集計タスクを実行するタスククラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class AccumulateAllTask extends RecursiveAction {
+
+		/** serialVersionUID */
+		private static final long serialVersionUID = 1L;
+
+		private final AccumulateTask[] tasks;
+
+		public AccumulateAllTask(final AccumulateTask[] aTasks) {
+			tasks = aTasks;
+		}
+
+		@Override
+		protected void compute() {
+			invokeAll(tasks);
+		}
+	}
+
+	/**
+	 * このクラスは、チャンク毎の集計結果を行単位に加算するタスククラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private final class MergeTask extends RecursiveAction {
+
+		/** serialVersionUID */
+		private static final long serialVersionUID = 1L;
+
+		private final int[][] buffers;
+		private final int fromRow;
+		private final int toRow;
+
+		public MergeTask(final int[][] aBuffers, final int aFromRow, final int aToRow) {
+			buffers = aBuffers;
+			fromRow = aFromRow;
+			toRow = aToRow;
+		}
+
+		@Override
+		protected void compute() {
+			if (toRow - fromRow > MIN_MERGE_ROWS) {
+				int middle = (fromRow + toRow) >>> 1;
+				invokeAll(new MergeTask(buffers, fromRow, middle), new MergeTask(buffers, middle, toRow));
+				return;
+			}
+			int start = fromRow * width;
+			int end = toRow * width;
+			// 先頭のバッファは集計結果そのもの
+			for (int b = 1; b < buffers.length; b++) {
+				int[] buffer = buffers[b];
+				for (int i = start; i < end; i++) {
+					counts[i] += buffer[i];
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,199 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.scatter;
+
+import java.util.Arrays;
+
+/**
+ * このクラスは、x値が昇順の散布図シリーズをピクセル列毎の先頭・末尾・最小・最大の4点に集約するクラスです。
+ * <p>
+ * 描画座標は通常の描画と同じ計算で整数化し、同じピクセル列に含まれるポイントのうち先頭・末尾・y座標が最小・最大のポイントのみを残します。
+ * 残したポイントは元の順序で並ぶ為、折れ線は通常の描画と同じピクセルを通過します。頂点数はピクセル列数の4倍以下となります。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class ScatterM4Reducer {
+
+	/** x値の最小値の描画位置 */
+	private final double xOrigin;
+	/** x値の最小値 */
+	private final double xMin;
+	/** x値1あたりのピクセル数 */
+	private final double pixXPerValue;
+	/** y値の最小値の描画位置 */
+	private final double yOrigin;
+	/** y値の最小値 */
+	private final double yMin;
+	/** y値1あたりのピクセル数 */
+	private final double pixYPerValue;
+
+	/** インデックス配列 */
+	private int[] indexes;
+	/** x座標配列 */
+	private int[] xps;
+	/** y座標配列 */
+	private int[] yps;
+	/** 頂点数 */
+	private int size;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aXOrigin x値の最小値の描画位置
+	 * @param aXMin x値の最小値
+	 * @param aPixXPerValue x値1あたりのピクセル数
+	 * @param aYOrigin y値の最小値の描画位置（y値が大きくなるほど上に描画）
+	 * @param aYMin y値の最小値
+	 * @param aPixYPerValue y値1あたりのピクセル数
+	 */
+	public ScatterM4Reducer(final double aXOrigin, final double aXMin, final double aPixXPerValue, final double aYOrigin, final double aYMin,
+			final double aPixYPerValue) {
+		xOrigin = aXOrigin;
+		xMin = aXMin;
+		pixXPerValue = aPixXPerValue;
+		yOrigin = aYOrigin;
+		yMin = aYMin;
+		pixYPerValue = aPixYPerValue;
+	}
+
+	/**
+	 * シリーズの範囲を集約する。
+	 * 
+	 * @param aSeries シリーズ（x値が昇順）
+	 * @param aFrom 開始インデックス
+	 * @param aTo 終了インデックス（このインデックスを含まない）
+	 */
+	public void reduce(final ScatterSeries aSeries, final int aFrom, final int aTo) {
+		int capacity = Math.max(16, Math.min(aTo - aFrom, 4096));
+		indexes = new int[capacity];
+		xps = new int[capacity];
+		yps = new int[capacity];
+		size = 0;
+
+		if (aFrom >= aTo) {
+			return;
+		}
+
+		int column = 0;
+		int first = -1;
+		int last = -1;
+		int min = -1;
+		int max = -1;
+		int minY = 0;
+		int maxY = 0;
+		int lastY = 0;
+		int firstY = 0;
+		for (int i = aFrom; i < aTo; i++) {
+			int x = (int) (xOrigin + ((aSeries.getX(i) - xMin) * pixXPerValue));
+			int y = (int) (yOrigin - ((aSeries.getY(i) - yMin) * pixYPerValue));
+			if (-1 == first || x != column) {
+				if (-1 != first) {
+					flush(column, first, firstY, min, minY, max, maxY, last, lastY);
+				}
+				column = x;
+				first = i;
+				firstY = y;
+				min = i;
+				minY = y;
+				max = i;
+				maxY = y;
+			} else {
+				if (y < minY) {
+					min = i;
+					minY = y;
+				}
+				if (y > maxY) {
+					max = i;
+					maxY = y;
+				}
+			}
+			last = i;
+			lastY = y;
+		}
+		flush(column, first, firstY, min, minY, max, maxY, last, lastY);
+	}
+
+	/**
+	 * 頂点数を取得する。
+	 * 
+	 * @return 頂点数
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * 頂点のインデックス配列を取得する。
+	 * 
+	 * @return インデックス配列（有効な要素数は{@link #getSize()}）
+	 */
+	public int[] getIndexes() {
+		return indexes;
+	}
+
+	/**
+	 * 頂点のx座標配列を取得する。
+	 * 
+	 * @return x座標配列（有効な要素数は{@link #getSize()}）
+	 */
+	public int[] getXs() {
+		return xps;
+	}
+
+	/**
+	 * 頂点のy座標配列を取得する。
+	 * 
+	 * @return y座標配列（有効な要素数は{@link #getSize()}）
+	 */
+	public int[] getYs() {
+		return yps;
+	}
+
+	private void flush(final int aColumn, final int aFirst, final int aFirstY, final int aMin, final int aMinY, final int aMax, final int aMaxY,
+			final int aLast, final int aLastY) {
+		if (size + 4 > indexes.length) {
+			int capacity = Math.max(size + 4, indexes.length + (indexes.length >> 1));
+			indexes = Arrays.copyOf(indexes, capacity);
+			xps = Arrays.copyOf(xps, capacity);
+			yps = Arrays.copyOf(yps, capacity);
+		}
+		append(aColumn, aFirst, aFirstY);
+		// 最小・最大は元の順序で追加する
+		if (aMin < aMax) {
+			append(aColumn, aMin, aMinY);
+			append(aColumn, aMax, aMaxY);
+		} else {
+			append(aColumn, aMax, aMaxY);
+			append(aColumn, aMin, aMinY);
+		}
+		append(aColumn, aLast, aLastY);
+	}
+
+	private void append(final int aX, final int aIndex, final int aY) {
+		if (0 < size && indexes[size - 1] >= aIndex) {
+			return;
+		}
+		indexes[size] = aIndex;
+		xps[size] = aX;
+		yps[size] = aY;
+		size++;
+	}
+}
@@ -17,14 +17,30 @@
  */
 package org.azkfw.chart.charts.scatter;
 
-import java.util.ArrayList;
+import java.nio.DoubleBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.RandomAccess;
 
 import org.azkfw.chart.core.dataset.series.AbstractSeries;
 import org.azkfw.chart.core.dataset.series.SeriesPoint;
+import org.azkfw.chart.core.dataset.series.SeriesPyramid;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
 
 /**
  * このクラスは、散布図のシリーズ情報を保持したクラスです。
+ * <p>
+ * x値とy値はそれぞれ<code>double</code>配列で保持します。
+ * </p>
+ * <p>
+ * x値・y値の統計情報はポイントの追加毎に更新されます。ポイントの変更・削除で最小値・最大値が求まらなくなった場合は、
+ * 次回参照時に再集計します。
+ * </p>
+ * <p>
+ * x値が昇順（<code>NaN</code>を含まない）に並んでいるかを追跡します。昇順の場合、{@link #rangeIndexOf(double, double)}は
+ * 二分探索でx値の範囲に含まれるポイントを求める為、描画やスケール計算は表示範囲のポイントのみを参照します。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2014/06/25
@@ -32,8 +48,54 @@ import org.azkfw.chart.core.dataset.series.SeriesPoint;
  */
 public class ScatterSeries extends AbstractSeries {
 
+	/** 初期確保サイズ */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** x値の並び順：未判定 */
+	private static final int ORDER_UNKNOWN = 0;
+	/** x値の並び順：昇順 */
+	private static final int ORDER_SORTED = 1;
+	/** x値の並び順：昇順でない */
+	private static final int ORDER_UNSORTED = 2;
+
+	/**
+	 * x値配列
+	 */
+	private double[] xs;
+	/**
+	 * y値配列
+	 */
+	private double[] ys;
+	/**
+	 * ポイント数
+	 */
+	private int size;
+
+	/**
+	 * x値統計情報
+	 */
+	private final SeriesStatistics xStatistics = new SeriesStatistics();
+	/**
+	 * y値統計情報
+	 */
+	private final SeriesStatistics yStatistics = new SeriesStatistics();
 	/**
-	 * ポイント
+	 * 統計情報有効フラグ
+	 */
+	private boolean statisticsValid = true;
+
+	/**
+	 * x値の並び順（{@link #ORDER_UNKNOWN}、{@link #ORDER_SORTED}、{@link #ORDER_UNSORTED}）
+	 */
+	private int xOrder = ORDER_SORTED;
+
+	/**
+	 * y値の多重解像度ピラミッド
+	 */
+	private SeriesPyramid pyramid;
+
+	/**
+	 * ポイント一覧（ビュー）
 	 */
 	private List<ScatterSeriesPoint> points;
 
@@ -42,7 +104,9 @@ public class ScatterSeries extends AbstractSeries {
 	 */
 	public ScatterSeries() {
 		super();
-		points = new ArrayList<ScatterSeriesPoint>();
+		xs = new double[DEFAULT_CAPACITY];
+		ys = new double[DEFAULT_CAPACITY];
+		size = 0;
 	}
 
 	/**
@@ -52,7 +116,9 @@ public class ScatterSeries extends AbstractSeries {
 	 */
 	public ScatterSeries(final String aTitle) {
 		super(aTitle);
-		points = new ArrayList<ScatterSeriesPoint>();
+		xs = new double[DEFAULT_CAPACITY];
+		ys = new double[DEFAULT_CAPACITY];
+		size = 0;
 	}
 
 	/**
@@ -63,7 +129,37 @@ public class ScatterSeries extends AbstractSeries {
 	 */
 	public ScatterSeries(final String aTitle, final List<ScatterSeriesPoint> aPoints) {
 		super(aTitle);
-		points = new ArrayList<>(aPoints);
+		xs = new double[Math.max(DEFAULT_CAPACITY, aPoints.size())];
+		ys = new double[Math.max(DEFAULT_CAPACITY, aPoints.size())];
+		size = 0;
+		for (ScatterSeriesPoint point : aPoints) {
+			add(point.getX(), point.getY());
+		}
+	}
+
+	/**
+	 * x値配列とy値配列をコピーせずに保持するシリーズを生成する。
+	 * <p>
+	 * 生成後に配列の要素を変更した場合、シリーズの値も変更されます。
+	 * 変更後は{@link #valuesChanged()}を呼び出してください。
+	 * </p>
+	 * 
+	 * @param aTitle タイトル
+	 * @param aXs x値配列
+	 * @param aYs y値配列
+	 * @return シリーズ
+	 */
+	public static ScatterSeries wrap(final String aTitle, final double[] aXs, final double[] aYs) {
+		if (aXs.length != aYs.length) {
+			throw new IllegalArgumentException(String.format("Length mismatch. x: %d, y: %d", aXs.length, aYs.length));
+		}
+		ScatterSeries series = new ScatterSeries(aTitle);
+		series.xs = aXs;
+		series.ys = aYs;
+		series.size = aXs.length;
+		series.statisticsValid = false;
+		series.xOrder = ORDER_UNKNOWN;
+		return series;
 	}
 
 	/**
@@ -72,7 +168,7 @@ public class ScatterSeries extends AbstractSeries {
 	 * @param aPoint ポイント
 	 */
 	public void add(final ScatterSeriesPoint aPoint) {
-		points.add(aPoint);
+		add(aPoint.getX(), aPoint.getY());
 	}
 
 	/**
@@ -82,19 +178,514 @@ public class ScatterSeries extends AbstractSeries {
 	 * @param aY y値
 	 */
 	public void add(final double aX, final double aY) {
-		ScatterSeriesPoint point = new ScatterSeriesPoint(aX, aY);
-		points.add(point);
+		ensureCapacity(size + 1);
+		xs[size] = aX;
+		ys[size] = aY;
+		size++;
+		updateOrder(size - 1, size);
+		addStatistics(aX, aY);
+		fireChanged();
+	}
+
+	/**
+	 * ポイントを一括で追加する。
+	 * 
+	 * @param aXs x値配列
+	 * @param aYs y値配列
+	 */
+	public void add(final double[] aXs, final double[] aYs) {
+		if (aXs.length != aYs.length) {
+			throw new IllegalArgumentException(String.format("Length mismatch. x: %d, y: %d", aXs.length, aYs.length));
+		}
+		add(aXs, aYs, 0, aXs.length);
+	}
+
+	/**
+	 * ポイントを一括で追加する。
+	 * 
+	 * @param aXs x値配列
+	 * @param aYs y値配列
+	 * @param aOffset 開始位置
+	 * @param aLength 追加数
+	 */
+	public void add(final double[] aXs, final double[] aYs, final int aOffset, final int aLength) {
+		if (aOffset < 0 || aLength < 0 || aOffset + aLength > aXs.length || aOffset + aLength > aYs.length) {
+			throw new IndexOutOfBoundsException(String.format("Offset: %d, Length: %d, Array length: %d/%d", aOffset, aLength, aXs.length,
+					aYs.length));
+		}
+		ensureCapacity(size + aLength);
+		System.arraycopy(aXs, aOffset, xs, size, aLength);
+		System.arraycopy(aYs, aOffset, ys, size, aLength);
+		size += aLength;
+		updateOrder(size - aLength, size);
+		for (int i = aOffset; i < aOffset + aLength; i++) {
+			addStatistics(aXs[i], aYs[i]);
+		}
+		fireChanged();
+	}
+
+	/**
+	 * バッファの残り要素をポイントとして一括で追加する。
+	 * <p>
+	 * 両バッファの位置は追加した要素数だけ進みます。
+	 * </p>
+	 * 
+	 * @param aXs x値バッファ
+	 * @param aYs y値バッファ
+	 */
+	public void add(final DoubleBuffer aXs, final DoubleBuffer aYs) {
+		if (aXs.remaining() != aYs.remaining()) {
+			throw new IllegalArgumentException(String.format("Length mismatch. x: %d, y: %d", aXs.remaining(), aYs.remaining()));
+		}
+		int length = aXs.remaining();
+		ensureCapacity(size + length);
+		aXs.get(xs, size, length);
+		aYs.get(ys, size, length);
+		for (int i = size; i < size + length; i++) {
+			addStatistics(xs[i], ys[i]);
+		}
+		size += length;
+		updateOrder(size - length, size);
+		fireChanged();
+	}
+
+	/**
+	 * ポイントを設定する。
+	 * 
+	 * @param aIndex インデックス
+	 * @param aX x値
+	 * @param aY y値
+	 */
+	public void set(final int aIndex, final double aX, final double aY) {
+		checkIndex(aIndex);
+		removeStatistics(xs[aIndex], ys[aIndex]);
+		xs[aIndex] = aX;
+		ys[aIndex] = aY;
+		updateOrder(aIndex, aIndex + 1);
+		addStatistics(aX, aY);
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * ポイントを挿入する。
+	 * 
+	 * @param aIndex インデックス
+	 * @param aX x値
+	 * @param aY y値
+	 */
+	public void insert(final int aIndex, final double aX, final double aY) {
+		if (aIndex < 0 || aIndex > size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", aIndex, size));
+		}
+		ensureCapacity(size + 1);
+		System.arraycopy(xs, aIndex, xs, aIndex + 1, size - aIndex);
+		System.arraycopy(ys, aIndex, ys, aIndex + 1, size - aIndex);
+		xs[aIndex] = aX;
+		ys[aIndex] = aY;
+		size++;
+		updateOrder(aIndex, aIndex + 1);
+		addStatistics(aX, aY);
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * ポイントを削除する。
+	 * 
+	 * @param aIndex インデックス
+	 */
+	public void remove(final int aIndex) {
+		checkIndex(aIndex);
+		removeStatistics(xs[aIndex], ys[aIndex]);
+		System.arraycopy(xs, aIndex + 1, xs, aIndex, size - aIndex - 1);
+		System.arraycopy(ys, aIndex + 1, ys, aIndex, size - aIndex - 1);
+		size--;
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * 全てのポイントを削除する。
+	 */
+	public void clear() {
+		size = 0;
+		xStatistics.clear();
+		yStatistics.clear();
+		statisticsValid = true;
+		xOrder = ORDER_SORTED;
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * ポイント数を取得する。
+	 * 
+	 * @return ポイント数
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * x値を取得する。
+	 * 
+	 * @param aIndex インデックス
+	 * @return x値
+	 */
+	public double getX(final int aIndex) {
+		checkIndex(aIndex);
+		return xs[aIndex];
+	}
+
+	/**
+	 * y値を取得する。
+	 * 
+	 * @param aIndex インデックス
+	 * @return y値
+	 */
+	public double getY(final int aIndex) {
+		checkIndex(aIndex);
+		return ys[aIndex];
+	}
+
+	/**
+	 * 保持しているx値配列・y値配列の要素を直接変更したことを通知する。
+	 * <p>
+	 * 配列をコピーせずに保持している場合に、配列の要素を変更した後に呼び出してください。統計情報と多重解像度ピラミッドを破棄し、x値の並び順を再判定します。
+	 * また、変更回数を更新し、変更を通知します。
+	 * </p>
+	 */
+	public void valuesChanged() {
+		statisticsValid = false;
+		xOrder = ORDER_UNKNOWN;
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * x値の統計情報を取得する。
+	 * 
+	 * @return 統計情報（コピー）
+	 */
+	public SeriesStatistics getXStatistics() {
+		validateStatistics();
+		return new SeriesStatistics(xStatistics);
+	}
+
+	/**
+	 * y値の統計情報を取得する。
+	 * 
+	 * @return 統計情報（コピー）
+	 */
+	public SeriesStatistics getYStatistics() {
+		validateStatistics();
+		return new SeriesStatistics(yStatistics);
+	}
+
+	/**
+	 * 範囲内のx値を持つポイントのy値の統計情報を取得する。
+	 * <p>
+	 * x値が昇順の場合は範囲内のポイントのみを参照します。
+	 * </p>
+	 * 
+	 * @param aXMin x値の最小値
+	 * @param aXMax x値の最大値
+	 * @return 統計情報
+	 */
+	public SeriesStatistics getYStatistics(final double aXMin, final double aXMax) {
+		SeriesStatistics statistics = new SeriesStatistics();
+		int[] range = rangeIndexOf(aXMin, aXMax);
+		boolean sorted = isXSorted();
+		for (int i = range[0]; i < range[1]; i++) {
+			if (sorted) {
+				statistics.add(getY(i));
+			} else {
+				double x = getX(i);
+				if (aXMin <= x && x <= aXMax) {
+					statistics.add(getY(i));
+				}
+			}
+		}
+		return statistics;
+	}
+
+	/**
+	 * x値が昇順に並んでいることを宣言する。
+	 * <p>
+	 * 判定の為の走査を省略します。<code>false</code>の場合、次回の{@link #isXSorted()}呼び出し時に判定します。
+	 * 昇順でないシリーズを昇順と宣言した場合、範囲検索の結果は不定です。
+	 * </p>
+	 * 
+	 * @param aSorted 昇順の場合、<code>true</code>
+	 */
+	public void setXSorted(final boolean aSorted) {
+		xOrder = (aSorted) ? ORDER_SORTED : ORDER_UNKNOWN;
+	}
+
+	/**
+	 * x値が昇順（<code>NaN</code>を含まない）に並んでいるか判断する。
+	 * <p>
+	 * ポイントの追加・変更時に更新される為、通常は走査を行いません。
+	 * </p>
+	 * 
+	 * @return 昇順の場合、<code>true</code>
+	 */
+	public boolean isXSorted() {
+		if (ORDER_UNKNOWN == xOrder) {
+			int pointSize = getSize();
+			int order = ORDER_SORTED;
+			double previous = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < pointSize; i++) {
+				double x = getX(i);
+				if (!(previous <= x)) {
+					order = ORDER_UNSORTED;
+					break;
+				}
+				previous = x;
+			}
+			xOrder = order;
+		}
+		return ORDER_SORTED == xOrder;
+	}
+
+	/**
+	 * x値が範囲内のポイントのインデックス範囲を取得する。
+	 * <p>
+	 * x値が昇順の場合は二分探索で求めます。昇順でない場合は全てのポイントを範囲とします。
+	 * </p>
+	 * 
+	 * @param aXMin x値の最小値
+	 * @param aXMax x値の最大値
+	 * @return インデックス範囲 { 開始インデックス, 終了インデックス（このインデックスを含まない） }
+	 */
+	public int[] rangeIndexOf(final double aXMin, final double aXMax) {
+		if (!isXSorted()) {
+			return new int[] { 0, getSize() };
+		}
+		int from = searchX(aXMin, false);
+		int to = Math.max(from, searchX(aXMax, true));
+		return new int[] { from, to };
+	}
+
+	/**
+	 * y値の多重解像度ピラミッドを使用するか設定する。
+	 * <p>
+	 * ピラミッドはインデックス順にy値を集計します。x値が昇順のシリーズでのみ描画に使用されます。
+	 * 1ピクセル列に複数ポイントが含まれる描画では集計値で線を描画し、マーカーは描画しません。
+	 * </p>
+	 * 
+	 * @param aEnabled 使用する場合、<code>true</code>
+	 */
+	public final void setPyramidEnabled(final boolean aEnabled) {
+		if (aEnabled && null == pyramid) {
+			pyramid = new SeriesPyramid(new SeriesPyramid.ValueSource() {
+				@Override
+				public int getSize() {
+					return ScatterSeries.this.getSize();
+				}
+
+				@Override
+				public double getValue(final int aIndex) {
+					return getY(aIndex);
+				}
+			});
+		} else if (!aEnabled) {
+			pyramid = null;
+		}
+	}
+
+	/**
+	 * y値の多重解像度ピラミッドを使用するか判断する。
+	 * 
+	 * @return 使用する場合、<code>true</code>
+	 */
+	public final boolean isPyramidEnabled() {
+		return null != pyramid;
+	}
+
+	/**
+	 * y値の多重解像度ピラミッドを取得する。
+	 * 
+	 * @return ピラミッド。使用しない場合、<code>null</code>
+	 */
+	public final SeriesPyramid getPyramid() {
+		return pyramid;
+	}
+
+	/**
+	 * 容量を確保する。
+	 * 
+	 * @param aCapacity 必要容量
+	 */
+	public void ensureCapacity(final int aCapacity) {
+		if (aCapacity > xs.length) {
+			int capacity = Math.max(aCapacity, Math.max(DEFAULT_CAPACITY, xs.length + (xs.length >> 1)));
+			xs = Arrays.copyOf(xs, capacity);
+			ys = Arrays.copyOf(ys, capacity);
+		}
+	}
+
+	/**
+	 * ポイントを取得する。
+	 * <p>
+	 * ポイントは呼び出し毎に生成されます。
+	 * </p>
+	 * 
+	 * @param aIndex インデックス
+	 * @return ポイント
+	 */
+	public ScatterSeriesPoint getPoint(final int aIndex) {
+		return new ScatterSeriesPoint(getX(aIndex), getY(aIndex));
 	}
 
 	/**
 	 * ポイント一覧を取得する。
+	 * <p>
+	 * 返却されるリストはx値配列とy値配列のビューです。リストへの変更はシリーズへ反映されます。
+	 * </p>
 	 * 
 	 * @return ポイント一覧
 	 */
 	public List<ScatterSeriesPoint> getPoints() {
+		if (null == points) {
+			points = new PointList();
+		}
 		return points;
 	}
 
+	private void addStatistics(final double aX, final double aY) {
+		if (statisticsValid) {
+			xStatistics.add(aX);
+			yStatistics.add(aY);
+		}
+	}
+
+	private void removeStatistics(final double aX, final double aY) {
+		if (statisticsValid) {
+			// 両方評価する
+			boolean xRemoved = xStatistics.remove(aX);
+			boolean yRemoved = yStatistics.remove(aY);
+			if (!xRemoved || !yRemoved) {
+				statisticsValid = false;
+			}
+		}
+	}
+
+	private void validateStatistics() {
+		if (!statisticsValid) {
+			xStatistics.clear();
+			yStatistics.clear();
+			for (int i = 0; i < size; i++) {
+				xStatistics.add(xs[i]);
+				yStatistics.add(ys[i]);
+			}
+			statisticsValid = true;
+		}
+	}
+
+	private void invalidatePyramid() {
+		if (null != pyramid) {
+			pyramid.invalidate();
+		}
+	}
+
+	/**
+	 * x値を二分探索する。
+	 * 
+	 * @param aX x値
+	 * @param aUpper <code>true</code>の場合、x値より大きい最初のインデックス。<code>false</code>の場合、x値以上の最初のインデックス
+	 * @return インデックス
+	 */
+	private int searchX(final double aX, final boolean aUpper) {
+		int low = 0;
+		int high = getSize();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			double x = getX(middle);
+			if ((aUpper) ? x <= aX : x < aX) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * 変更されたポイントの前後でx値の並び順を更新する。
+	 * 
+	 * @param aFrom 変更開始インデックス
+	 * @param aTo 変更終了インデックス（このインデックスを含まない）
+	 */
+	private void updateOrder(final int aFrom, final int aTo) {
+		if (ORDER_SORTED == xOrder) {
+			int last = Math.min(aTo, size - 1);
+			for (int i = Math.max(1, aFrom); i <= last; i++) {
+				if (!(xs[i - 1] <= xs[i])) {
+					xOrder = ORDER_UNSORTED;
+					return;
+				}
+			}
+			if (0 == aFrom && 0 < aTo && Double.isNaN(xs[0])) {
+				xOrder = ORDER_UNSORTED;
+			}
+		}
+	}
+
+	private void checkIndex(final int aIndex) {
+		if (aIndex < 0 || aIndex >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", aIndex, size));
+		}
+	}
+
+	/**
+	 * このクラスは、x値配列とy値配列をポイント一覧として参照するビュークラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private final class PointList extends AbstractList<ScatterSeriesPoint> implements RandomAccess {
+
+		@Override
+		public ScatterSeriesPoint get(final int aIndex) {
+			return getPoint(aIndex);
+		}
+
+		@Override
+		public ScatterSeriesPoint set(final int aIndex, final ScatterSeriesPoint aPoint) {
+			ScatterSeriesPoint old = getPoint(aIndex);
+			ScatterSeries.this.set(aIndex, aPoint.getX(), aPoint.getY());
+			return old;
+		}
+
+		@Override
+		public void add(final int aIndex, final ScatterSeriesPoint aPoint) {
+			insert(aIndex, aPoint.getX(), aPoint.getY());
+			modCount++;
+		}
+
+		@Override
+		public ScatterSeriesPoint remove(final int aIndex) {
+			ScatterSeriesPoint old = getPoint(aIndex);
+			ScatterSeries.this.remove(aIndex);
+			modCount++;
+			return old;
+		}
+
+		@Override
+		public void clear() {
+			ScatterSeries.this.clear();
+			modCount++;
+		}
+
+		@Override
+		public int size() {
+			return getSize();
+		}
+	}
+
 	/**
 	 * このクラスは、散布図のポイント情報を保持したクラスです。
 	 * 
@@ -0,0 +1,330 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import java.util.Arrays;
+
+/**
+ * このクラスは、値を行優先の単一<code>double</code>配列で保持するスペクトログラムのデータセットクラスです。
+ * <p>
+ * セル毎のオブジェクトを生成しない為、大きなマトリクスでも少ないメモリで保持できます。
+ * 行数・列数は必要に応じて拡張されます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class DenseSpectrumDataset extends SpectrumDataset {
+
+	/** 最大確保セル数 */
+	private static final long MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/** 値配列（行優先） */
+	private double[] values;
+	/** 行数 */
+	private int rowSize;
+	/** 列数 */
+	private int colSize;
+	/** 確保済み行数 */
+	private int rowCapacity;
+	/** 確保済み列数（1行あたりの配列上の間隔） */
+	private int colCapacity;
+
+	/**
+	 * コンストラクタ
+	 */
+	public DenseSpectrumDataset() {
+		super();
+		init(0, 0);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 */
+	public DenseSpectrumDataset(final String aTitle) {
+		super(aTitle);
+		init(0, 0);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aRow 行数
+	 * @param aCol 列数
+	 */
+	public DenseSpectrumDataset(final int aRow, final int aCol) {
+		super();
+		init(aRow, aCol);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aRow 行数
+	 * @param aCol 列数
+	 */
+	public DenseSpectrumDataset(final String aTitle, final int aRow, final int aCol) {
+		super(aTitle);
+		init(aRow, aCol);
+	}
+
+	/**
+	 * 行優先の値配列をコピーせずに保持するデータセットを生成する。
+	 * <p>
+	 * 生成後に配列の要素を変更した場合、データセットの値も変更されます。
+	 * </p>
+	 * 
+	 * @param aTitle タイトル
+	 * @param aValues 値配列（行優先、長さは行数×列数以上）
+	 * @param aRow 行数
+	 * @param aCol 列数
+	 * @return データセット
+	 */
+	public static DenseSpectrumDataset wrap(final String aTitle, final double[] aValues, final int aRow, final int aCol) {
+		if (aRow < 0 || aCol < 0 || (long) aRow * (long) aCol > aValues.length) {
+			throw new IllegalArgumentException(String.format("Row: %d, Col: %d, Array length: %d", aRow, aCol, aValues.length));
+		}
+		DenseSpectrumDataset dataset = new DenseSpectrumDataset(aTitle);
+		dataset.values = aValues;
+		dataset.rowSize = aRow;
+		dataset.colSize = aCol;
+		dataset.rowCapacity = aRow;
+		dataset.colCapacity = aCol;
+		return dataset;
+	}
+
+	private void init(final int aRow, final int aCol) {
+		if (aRow < 0 || aCol < 0) {
+			throw new IllegalArgumentException(String.format("Row: %d, Col: %d", aRow, aCol));
+		}
+		values = new double[capacityOf(aRow, aCol)];
+		rowSize = aRow;
+		colSize = aCol;
+		rowCapacity = aRow;
+		colCapacity = aCol;
+	}
+
+	@Override
+	public int getRowSize() {
+		return rowSize;
+	}
+
+	@Override
+	public int getColSize() {
+		return colSize;
+	}
+
+	/**
+	 * データを設定する。
+	 * <p>
+	 * データの値のみを保持します。<code>null</code>の場合は0.0を設定します。
+	 * </p>
+	 */
+	@Override
+	public void put(final int aRow, final int aCol, final SpectrumMatrixData aData) {
+		setValue(aRow, aCol, (null == aData) ? 0.0 : aData.getValue());
+	}
+
+	/**
+	 * データを取得する。
+	 * <p>
+	 * 値から新しいデータを生成して返却します。返却されたデータへの変更はデータセットへ反映されません。
+	 * </p>
+	 */
+	@Override
+	public SpectrumMatrixData get(final int aRow, final int aCol) {
+		return new SpectrumMatrixData(getValue(aRow, aCol));
+	}
+
+	@Override
+	public double getValue(final int aRow, final int aCol) {
+		checkIndex(aRow, aCol);
+		return values[aRow * colCapacity + aCol];
+	}
+
+	@Override
+	public void getRowValues(final int aRow, final double[] aValues) {
+		if (aRow < 0 || aRow >= rowSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Size: %d", aRow, rowSize));
+		}
+		System.arraycopy(values, aRow * colCapacity, aValues, 0, colSize);
+	}
+
+	/**
+	 * 値を設定する。
+	 * <p>
+	 * 行・列が範囲外の場合はマトリクスを拡張します。
+	 * </p>
+	 * 
+	 * @param aRow 行
+	 * @param aCol 列
+	 * @param aValue 値
+	 */
+	public void setValue(final int aRow, final int aCol, final double aValue) {
+		if (aRow < 0 || aCol < 0) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Col: %d", aRow, aCol));
+		}
+		if (aRow >= rowSize || aCol >= colSize) {
+			resizeInternal(Math.max(aRow + 1, rowSize), Math.max(aCol + 1, colSize));
+		}
+		values[aRow * colCapacity + aCol] = aValue;
+		fireChanged();
+	}
+
+	/**
+	 * 行の値を設定する。
+	 * <p>
+	 * 配列長が列数より大きい場合は列を拡張します。配列長が列数より小さい場合、残りの列は0.0とします。
+	 * </p>
+	 * 
+	 * @param aRow 行
+	 * @param aValues 値配列
+	 */
+	public void setRow(final int aRow, final double[] aValues) {
+		setRow(aRow, aValues, 0, aValues.length);
+	}
+
+	/**
+	 * 行の値を設定する。
+	 * <p>
+	 * 設定数が列数より大きい場合は列を拡張します。設定数が列数より小さい場合、残りの列は0.0とします。
+	 * </p>
+	 * 
+	 * @param aRow 行
+	 * @param aValues 値配列
+	 * @param aOffset 開始位置
+	 * @param aLength 設定数
+	 */
+	public void setRow(final int aRow, final double[] aValues, final int aOffset, final int aLength) {
+		if (aRow < 0) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d", aRow));
+		}
+		if (aOffset < 0 || aLength < 0 || aOffset + aLength > aValues.length) {
+			throw new IndexOutOfBoundsException(String.format("Offset: %d, Length: %d, Array length: %d", aOffset, aLength, aValues.length));
+		}
+		if (aRow >= rowSize || aLength > colSize) {
+			resizeInternal(Math.max(aRow + 1, rowSize), Math.max(aLength, colSize));
+		}
+		int offset = aRow * colCapacity;
+		System.arraycopy(aValues, aOffset, values, offset, aLength);
+		Arrays.fill(values, offset + aLength, offset + colSize, 0.0);
+		fireChanged();
+	}
+
+	/**
+	 * 最終行の次に行を追加する。
+	 * <p>
+	 * 配列長が列数より小さい場合、残りの列は0.0とします。
+	 * </p>
+	 * 
+	 * @param aValues 値配列
+	 */
+	public void addRow(final double[] aValues) {
+		setRow(rowSize, aValues, 0, aValues.length);
+	}
+
+	/**
+	 * 行数・列数を変更する。
+	 * <p>
+	 * 範囲内の値は保持され、拡張されたセルの値は0.0となります。
+	 * </p>
+	 * 
+	 * @param aRow 行数
+	 * @param aCol 列数
+	 */
+	public void resize(final int aRow, final int aCol) {
+		resizeInternal(aRow, aCol);
+		fireChanged();
+	}
+
+	private void resizeInternal(final int aRow, final int aCol) {
+		if (aRow < 0 || aCol < 0) {
+			throw new IllegalArgumentException(String.format("Row: %d, Col: %d", aRow, aCol));
+		}
+		int newRowCapacity = (aRow > rowCapacity) ? grow(rowCapacity, aRow) : rowCapacity;
+		int newColCapacity = (aCol > colCapacity) ? grow(colCapacity, aCol) : colCapacity;
+		if ((long) newRowCapacity * (long) newColCapacity > MAX_CAPACITY) {
+			// 余裕を持った確保ができない場合は必要最小限で確保する
+			newRowCapacity = Math.max(aRow, rowCapacity);
+			newColCapacity = Math.max(aCol, colCapacity);
+		}
+		if (newColCapacity != colCapacity) {
+			// 列の拡張は行の配置が変わる為、全体を再配置する
+			double[] newValues = new double[capacityOf(newRowCapacity, newColCapacity)];
+			for (int row = 0; row < rowSize; row++) {
+				System.arraycopy(values, row * colCapacity, newValues, row * newColCapacity, colSize);
+			}
+			values = newValues;
+			rowCapacity = newRowCapacity;
+			colCapacity = newColCapacity;
+		} else if (newRowCapacity != rowCapacity) {
+			values = Arrays.copyOf(values, capacityOf(newRowCapacity, colCapacity));
+			rowCapacity = newRowCapacity;
+		}
+
+		// 縮小後に再拡張した際に古い値が見えない様に初期化する
+		if (aCol < colSize) {
+			for (int row = 0; row < Math.min(aRow, rowSize); row++) {
+				int offset = row * colCapacity;
+				Arrays.fill(values, offset + aCol, offset + colSize, 0.0);
+			}
+		}
+		if (aRow < rowSize) {
+			Arrays.fill(values, aRow * colCapacity, rowSize * colCapacity, 0.0);
+		}
+
+		rowSize = aRow;
+		colSize = aCol;
+	}
+
+	/**
+	 * 値配列のコピーを取得する。
+	 * 
+	 * @return 値配列（行優先、長さは行数×列数）
+	 */
+	public double[] toArray() {
+		double[] result = new double[rowSize * colSize];
+		for (int row = 0; row < rowSize; row++) {
+			System.arraycopy(values, row * colCapacity, result, row * colSize, colSize);
+		}
+		return result;
+	}
+
+	private void checkIndex(final int aRow, final int aCol) {
+		if (aRow < 0 || aRow >= rowSize || aCol < 0 || aCol >= colSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Col: %d, Size: %dx%d", aRow, aCol, rowSize, colSize));
+		}
+	}
+
+	private static int grow(final int aCurrent, final int aRequired) {
+		long capacity = Math.max((long) aRequired, (long) aCurrent + (aCurrent >> 1));
+		return (int) Math.min(capacity, MAX_CAPACITY);
+	}
+
+	private static int capacityOf(final int aRow, final int aCol) {
+		long capacity = (long) aRow * (long) aCol;
+		if (capacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException(String.format("Matrix too large. Row: %d, Col: %d", aRow, aCol));
+		}
+		return (int) capacity;
+	}
+}
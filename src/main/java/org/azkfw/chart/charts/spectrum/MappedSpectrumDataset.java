@@ -0,0 +1,205 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+/**
+ * このクラスは、スペクトログラムファイルをメモリマップして参照するデータセットクラスです。
+ * <p>
+ * 値はヒープへ読み込まずにファイルから直接参照する為、ヒープより大きなスペクトログラムも扱えます。
+ * ファイル形式は{@link SpectrumFileWriter}を参照してください。このデータセットは読み込み専用です。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class MappedSpectrumDataset extends SpectrumDataset implements Closeable {
+
+	/** 1マップあたりの最大バイト数 */
+	private static final long MAX_SEGMENT_BYTES = Integer.MAX_VALUE;
+
+	/** ファイル */
+	private final File file;
+	/** チャネル */
+	private FileChannel channel;
+
+	/** 行数 */
+	private int rowSize;
+	/** 列数 */
+	private int colSize;
+	/** 1セグメントあたりの行数 */
+	private int segmentRowSize;
+	/** セグメント */
+	private FloatBuffer[] segments;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aFile ファイル
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	public MappedSpectrumDataset(final File aFile) throws IOException {
+		this(null, aFile);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aFile ファイル
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	@SuppressWarnings("resource")
+	public MappedSpectrumDataset(final String aTitle, final File aFile) throws IOException {
+		super(aTitle);
+		file = aFile;
+		channel = new RandomAccessFile(aFile, "r").getChannel();
+		try {
+			colSize = SpectrumFileFormat.readHeader(channel);
+			map();
+		} catch (IOException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * ファイルを取得する。
+	 * 
+	 * @return ファイル
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * ファイルを再マップする。
+	 * <p>
+	 * {@link SpectrumFileWriter}により追記された行を参照できる様になります。
+	 * </p>
+	 * 
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	public synchronized void refresh() throws IOException {
+		if (null == channel) {
+			throw new IOException("Dataset already closed.");
+		}
+		int oldRowSize = rowSize;
+		map();
+		if (oldRowSize != rowSize) {
+			fireChanged();
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (null != channel) {
+			channel.close();
+			channel = null;
+		}
+	}
+
+	@Override
+	public int getRowSize() {
+		return rowSize;
+	}
+
+	@Override
+	public int getColSize() {
+		return colSize;
+	}
+
+	/**
+	 * データを設定する。
+	 * <p>
+	 * このデータセットは読み込み専用の為、サポートしません。
+	 * </p>
+	 * 
+	 * @throws UnsupportedOperationException 常に
+	 */
+	@Override
+	public void put(final int aRow, final int aCol, final SpectrumMatrixData aData) {
+		throw new UnsupportedOperationException("Read-only dataset.");
+	}
+
+	/**
+	 * データを取得する。
+	 * <p>
+	 * 値から新しいデータを生成して返却します。
+	 * </p>
+	 */
+	@Override
+	public SpectrumMatrixData get(final int aRow, final int aCol) {
+		return new SpectrumMatrixData(getValue(aRow, aCol));
+	}
+
+	@Override
+	public double getValue(final int aRow, final int aCol) {
+		if (aRow < 0 || aRow >= rowSize || aCol < 0 || aCol >= colSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Col: %d, Size: %dx%d", aRow, aCol, rowSize, colSize));
+		}
+		FloatBuffer segment = segments[aRow / segmentRowSize];
+		return segment.get((aRow % segmentRowSize) * colSize + aCol);
+	}
+
+	@Override
+	public void getRowValues(final int aRow, final double[] aValues) {
+		if (aRow < 0 || aRow >= rowSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Size: %d", aRow, rowSize));
+		}
+		FloatBuffer segment = segments[aRow / segmentRowSize];
+		int offset = (aRow % segmentRowSize) * colSize;
+		for (int col = 0; col < colSize; col++) {
+			aValues[col] = segment.get(offset + col);
+		}
+	}
+
+	private void map() throws IOException {
+		long rows = SpectrumFileFormat.getRowSize(channel.size(), colSize);
+		if (rows > Integer.MAX_VALUE) {
+			throw new IOException(String.format("Too many rows: %d", rows));
+		}
+		long rowBytes = (long) colSize * SpectrumFileFormat.VALUE_SIZE;
+		if (rowBytes > MAX_SEGMENT_BYTES) {
+			throw new IOException(String.format("Too many columns: %d", colSize));
+		}
+
+		int segmentRows = (int) Math.max(1L, MAX_SEGMENT_BYTES / rowBytes);
+		int segmentSize = (int) ((rows + segmentRows - 1) / segmentRows);
+		FloatBuffer[] newSegments = new FloatBuffer[segmentSize];
+		for (int i = 0; i < segmentSize; i++) {
+			long firstRow = (long) i * segmentRows;
+			long rowCount = Math.min(segmentRows, rows - firstRow);
+			long position = SpectrumFileFormat.HEADER_SIZE + firstRow * rowBytes;
+			newSegments[i] = channel.map(MapMode.READ_ONLY, position, rowCount * rowBytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+		}
+
+		segments = newSegments;
+		segmentRowSize = segmentRows;
+		rowSize = (int) rows;
+	}
+}
@@ -0,0 +1,553 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import java.util.Arrays;
+
+/**
+ * このクラスは、値を<code>byte</code>/<code>short</code>のコードに量子化して保持するスペクトログラムのデータセットクラスです。
+ * <p>
+ * 値は最小値・最大値の範囲を均等に分割したコードで保持します。範囲はデータセット全体で固定するか、行毎に設定された値から求めます。
+ * {@link DenseSpectrumDataset}と比較して、8ビットでは1/8、16ビットでは1/4のメモリで保持できます。
+ * </p>
+ * <p>
+ * 復元した値の誤差はコードの間隔の1/2以内です。範囲の最小値・最大値、<code>NaN</code>は誤差無く復元されます。
+ * 範囲外の値は最小値・最大値に丸められます。列数は生成時に固定され、行数は必要に応じて拡張されます。
+ * </p>
+ * <p>
+ * 行毎に範囲を求める場合、{@link #setValue(int, int, double)}で設定中の行は値をそのまま保持し、
+ * 他の行へ設定した時点、または参照した時点で行全体を一度に量子化します。
+ * 量子化済みの行へ戻って範囲外の値を設定した場合は復元した値から量子化し直す為、既存の値の誤差が累積します。
+ * 行毎に範囲を求める場合は、{@link #setRow(int, double[])}・{@link #addRow(double[])}で行単位に設定してください。
+ * </p>
+ * <p>
+ * {@link SpectrumChartPlot}は値を復元せずに、コード毎に求めた色を参照して描画します。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class QuantizedSpectrumDataset extends SpectrumDataset {
+
+	/** 最大確保セル数 */
+	private static final long MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+	/** 精度 */
+	private final Precision precision;
+	/** 行毎に範囲を求める場合、<code>true</code> */
+	private final boolean rowScale;
+	/** 列数 */
+	private final int colSize;
+	/** 最大コード（<code>NaN</code>を除く） */
+	private final int maxCode;
+
+	/** コード配列（8ビット、行優先） */
+	private byte[] byteCodes;
+	/** コード配列（16ビット、行優先） */
+	private short[] shortCodes;
+	/** 行毎の最小値（データセット全体の場合は長さ1） */
+	private double[] minimumValues;
+	/** 行毎の最大値（データセット全体の場合は長さ1） */
+	private double[] maximumValues;
+	/** 行数 */
+	private int rowSize;
+	/** 確保済み行数 */
+	private int rowCapacity;
+
+	/** 値を設定中の行（行毎に範囲を求める場合のみ、無い場合は-1） */
+	private int pendingRow;
+	/** 値を設定中の行の値 */
+	private double[] pendingValues;
+	/** 値を設定中の行が量子化されていない場合、<code>true</code> */
+	private volatile boolean pendingDirty;
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 行毎に、設定された値の最小値・最大値を範囲とします。
+	 * </p>
+	 * 
+	 * @param aTitle タイトル
+	 * @param aCol 列数
+	 * @param aPrecision 精度
+	 */
+	public QuantizedSpectrumDataset(final String aTitle, final int aCol, final Precision aPrecision) {
+		super(aTitle);
+		precision = aPrecision;
+		rowScale = true;
+		colSize = aCol;
+		maxCode = aPrecision.getMaxCode();
+		init();
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * データセット全体で指定された範囲を使用します。
+	 * </p>
+	 * 
+	 * @param aTitle タイトル
+	 * @param aCol 列数
+	 * @param aPrecision 精度
+	 * @param aMinimumValue 最小値
+	 * @param aMaximumValue 最大値
+	 */
+	public QuantizedSpectrumDataset(final String aTitle, final int aCol, final Precision aPrecision, final double aMinimumValue,
+			final double aMaximumValue) {
+		super(aTitle);
+		if (!(aMinimumValue <= aMaximumValue) || Double.isInfinite(aMinimumValue) || Double.isInfinite(aMaximumValue)) {
+			throw new IllegalArgumentException(String.format("Minimum: %f, Maximum: %f", aMinimumValue, aMaximumValue));
+		}
+		precision = aPrecision;
+		rowScale = false;
+		colSize = aCol;
+		maxCode = aPrecision.getMaxCode();
+		init();
+		minimumValues[0] = aMinimumValue;
+		maximumValues[0] = aMaximumValue;
+	}
+
+	private void init() {
+		if (0 > colSize) {
+			throw new IllegalArgumentException(String.format("Col: %d", colSize));
+		}
+		if (Precision.Bits8 == precision) {
+			byteCodes = new byte[0];
+		} else {
+			shortCodes = new short[0];
+		}
+		minimumValues = new double[rowScale ? 0 : 1];
+		maximumValues = new double[rowScale ? 0 : 1];
+		rowSize = 0;
+		rowCapacity = 0;
+		pendingRow = -1;
+		pendingValues = null;
+		pendingDirty = false;
+	}
+
+	@Override
+	public int getRowSize() {
+		return rowSize;
+	}
+
+	@Override
+	public int getColSize() {
+		return colSize;
+	}
+
+	/**
+	 * 精度を取得する。
+	 * 
+	 * @return 精度
+	 */
+	public Precision getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * 行毎に範囲を求めるか判断する。
+	 * 
+	 * @return 行毎の場合、<code>true</code>
+	 */
+	public boolean isRowScale() {
+		return rowScale;
+	}
+
+	/**
+	 * コード数を取得する。
+	 * <p>
+	 * <code>NaN</code>を表すコードを含みます。コードは0からコード数-1の値となります。
+	 * </p>
+	 * 
+	 * @return コード数
+	 */
+	public int getCodeSize() {
+		return maxCode + 2;
+	}
+
+	/**
+	 * 行の範囲の最小値を取得する。
+	 * 
+	 * @param aRow 行
+	 * @return 最小値
+	 */
+	public double getMinimumValue(final int aRow) {
+		checkRow(aRow);
+		flush();
+		return minimumValues[rowScale ? aRow : 0];
+	}
+
+	/**
+	 * 行の範囲の最大値を取得する。
+	 * 
+	 * @param aRow 行
+	 * @return 最大値
+	 */
+	public double getMaximumValue(final int aRow) {
+		checkRow(aRow);
+		flush();
+		return maximumValues[rowScale ? aRow : 0];
+	}
+
+	/**
+	 * データを設定する。
+	 * <p>
+	 * データの値のみを保持します。<code>null</code>の場合は0.0を設定します。
+	 * </p>
+	 */
+	@Override
+	public void put(final int aRow, final int aCol, final SpectrumMatrixData aData) {
+		setValue(aRow, aCol, (null == aData) ? 0.0 : aData.getValue());
+	}
+
+	/**
+	 * データを取得する。
+	 * <p>
+	 * 値から新しいデータを生成して返却します。返却されたデータへの変更はデータセットへ反映されません。
+	 * </p>
+	 */
+	@Override
+	public SpectrumMatrixData get(final int aRow, final int aCol) {
+		return new SpectrumMatrixData(getValue(aRow, aCol));
+	}
+
+	@Override
+	public double getValue(final int aRow, final int aCol) {
+		checkIndex(aRow, aCol);
+		flush();
+		return decode(rowScale ? aRow : 0, getCode(aRow * colSize + aCol));
+	}
+
+	@Override
+	public void getRowValues(final int aRow, final double[] aValues) {
+		checkRow(aRow);
+		flush();
+		decodeRow(aRow, aValues);
+	}
+
+	/**
+	 * 行のコードを取得する。
+	 * 
+	 * @param aRow 行
+	 * @param aCodes コードを格納する配列（列数以上の長さ）
+	 */
+	public void getRowCodes(final int aRow, final int[] aCodes) {
+		checkRow(aRow);
+		flush();
+		int offset = aRow * colSize;
+		if (Precision.Bits8 == precision) {
+			for (int col = 0; col < colSize; col++) {
+				aCodes[col] = byteCodes[offset + col] & 0xff;
+			}
+		} else {
+			for (int col = 0; col < colSize; col++) {
+				aCodes[col] = shortCodes[offset + col] & 0xffff;
+			}
+		}
+	}
+
+	/**
+	 * コードを値に復元する。
+	 * 
+	 * @param aRow 行
+	 * @param aCode コード
+	 * @return 値
+	 */
+	public double decodeValue(final int aRow, final int aCode) {
+		checkRow(aRow);
+		if (0 > aCode || aCode > maxCode + 1) {
+			throw new IndexOutOfBoundsException(String.format("Code: %d", aCode));
+		}
+		flush();
+		return decode(rowScale ? aRow : 0, aCode);
+	}
+
+	/**
+	 * 値を設定する。
+	 * <p>
+	 * 行が範囲外の場合は行を拡張します。行毎に範囲を求める場合で値が範囲外の場合は、
+	 * 行の値を保持して他の行へ設定した時点、または参照した時点で量子化します。
+	 * </p>
+	 * 
+	 * @param aRow 行
+	 * @param aCol 列
+	 * @param aValue 値
+	 */
+	public void setValue(final int aRow, final int aCol, final double aValue) {
+		if (aRow < 0 || aCol < 0 || aCol >= colSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Col: %d", aRow, aCol));
+		}
+		if (aRow >= rowSize) {
+			resizeInternal(aRow + 1);
+		}
+		int scale = rowScale ? aRow : 0;
+		if (rowScale && (aRow == pendingRow || isOutOfRange(scale, aValue))) {
+			// 範囲が確定するまで値をそのまま保持し、量子化済みの値を丸め直さない
+			if (aRow != pendingRow) {
+				flush();
+				if (null == pendingValues) {
+					pendingValues = new double[colSize];
+				}
+				decodeRow(aRow, pendingValues);
+				pendingRow = aRow;
+			}
+			pendingValues[aCol] = aValue;
+			pendingDirty = true;
+		} else {
+			setCode(aRow * colSize + aCol, encode(scale, aValue));
+		}
+		fireChanged();
+	}
+
+	/**
+	 * 行の値を設定する。
+	 * <p>
+	 * 行が範囲外の場合は行を拡張します。配列長が列数より小さい場合、残りの列は0.0とします。
+	 * </p>
+	 * 
+	 * @param aRow 行
+	 * @param aValues 値配列
+	 */
+	public void setRow(final int aRow, final double[] aValues) {
+		setRow(aRow, aValues, 0, aValues.length);
+	}
+
+	/**
+	 * 行の値を設定する。
+	 * <p>
+	 * 行が範囲外の場合は行を拡張します。設定数が列数より小さい場合、残りの列は0.0とします。
+	 * </p>
+	 * 
+	 * @param aRow 行
+	 * @param aValues 値配列
+	 * @param aOffset 開始位置
+	 * @param aLength 設定数
+	 */
+	public void setRow(final int aRow, final double[] aValues, final int aOffset, final int aLength) {
+		if (aRow < 0) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d", aRow));
+		}
+		if (aOffset < 0 || aLength < 0 || aOffset + aLength > aValues.length || aLength > colSize) {
+			throw new IndexOutOfBoundsException(String.format("Offset: %d, Length: %d, Array length: %d, Col: %d", aOffset, aLength,
+					aValues.length, colSize));
+		}
+		if (aRow >= rowSize) {
+			resizeInternal(aRow + 1);
+		}
+		if (aRow == pendingRow) {
+			pendingRow = -1;
+			pendingDirty = false;
+		}
+		encodeRow(aRow, aValues, aOffset, aLength);
+		fireChanged();
+	}
+
+	/**
+	 * 最終行の次に行を追加する。
+	 * <p>
+	 * 配列長が列数より小さい場合、残りの列は0.0とします。
+	 * </p>
+	 * 
+	 * @param aValues 値配列
+	 */
+	public void addRow(final double[] aValues) {
+		setRow(rowSize, aValues, 0, aValues.length);
+	}
+
+	/**
+	 * 値配列を取得する。
+	 * <p>
+	 * 保持しているコードを復元した値です。
+	 * </p>
+	 * 
+	 * @return 値配列（行優先、長さは行数×列数）
+	 */
+	public double[] toArray() {
+		double[] result = new double[rowSize * colSize];
+		double[] values = new double[colSize];
+		for (int row = 0; row < rowSize; row++) {
+			getRowValues(row, values);
+			System.arraycopy(values, 0, result, row * colSize, colSize);
+		}
+		return result;
+	}
+
+	private boolean isOutOfRange(final int aScale, final double aValue) {
+		if (Double.isNaN(aValue) || Double.isInfinite(aValue)) {
+			return false;
+		}
+		return aValue < minimumValues[aScale] || aValue > maximumValues[aScale];
+	}
+
+	private void flush() {
+		if (pendingDirty) {
+			synchronized (this) {
+				if (pendingDirty) {
+					encodeRow(pendingRow, pendingValues, 0, colSize);
+					pendingDirty = false;
+				}
+			}
+		}
+	}
+
+	private void decodeRow(final int aRow, final double[] aValues) {
+		int offset = aRow * colSize;
+		int scale = rowScale ? aRow : 0;
+		for (int col = 0; col < colSize; col++) {
+			aValues[col] = decode(scale, getCode(offset + col));
+		}
+	}
+
+	private void encodeRow(final int aRow, final double[] aValues, final int aOffset, final int aLength) {
+		int scale = rowScale ? aRow : 0;
+		if (rowScale) {
+			// 有限な値の範囲を行の範囲とする（設定されない列の0.0を含む）
+			double min = (aLength < colSize) ? 0.0 : Double.POSITIVE_INFINITY;
+			double max = (aLength < colSize) ? 0.0 : Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < aLength; i++) {
+				double value = aValues[aOffset + i];
+				if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+					min = Math.min(min, value);
+					max = Math.max(max, value);
+				}
+			}
+			minimumValues[scale] = (min <= max) ? min : 0.0;
+			maximumValues[scale] = (min <= max) ? max : 0.0;
+		}
+		int offset = aRow * colSize;
+		for (int i = 0; i < aLength; i++) {
+			setCode(offset + i, encode(scale, aValues[aOffset + i]));
+		}
+		int zero = encode(scale, 0.0);
+		for (int col = aLength; col < colSize; col++) {
+			setCode(offset + col, zero);
+		}
+	}
+
+	private int encode(final int aScale, final double aValue) {
+		if (Double.isNaN(aValue)) {
+			return maxCode + 1;
+		}
+		double min = minimumValues[aScale];
+		double max = maximumValues[aScale];
+		if (aValue <= min) {
+			return 0;
+		} else if (aValue >= max) {
+			return maxCode;
+		}
+		int code = (int) Math.round((aValue - min) / (max - min) * maxCode);
+		return Math.max(0, Math.min(maxCode, code));
+	}
+
+	private double decode(final int aScale, final int aCode) {
+		if (aCode > maxCode) {
+			return Double.NaN;
+		} else if (aCode == maxCode) {
+			return maximumValues[aScale];
+		}
+		double min = minimumValues[aScale];
+		return min + (maximumValues[aScale] - min) * aCode / maxCode;
+	}
+
+	private int getCode(final int aIndex) {
+		return (Precision.Bits8 == precision) ? byteCodes[aIndex] & 0xff : shortCodes[aIndex] & 0xffff;
+	}
+
+	private void setCode(final int aIndex, final int aCode) {
+		if (Precision.Bits8 == precision) {
+			byteCodes[aIndex] = (byte) aCode;
+		} else {
+			shortCodes[aIndex] = (short) aCode;
+		}
+	}
+
+	private void resizeInternal(final int aRow) {
+		if (aRow > rowCapacity) {
+			long capacity = Math.max((long) aRow, (long) rowCapacity + (rowCapacity >> 1));
+			if (capacity * colSize > MAX_CAPACITY) {
+				capacity = aRow;
+			}
+			if (capacity * colSize > MAX_CAPACITY) {
+				throw new IllegalArgumentException(String.format("Matrix too large. Row: %d, Col: %d", aRow, colSize));
+			}
+			int newCapacity = (int) capacity;
+			if (Precision.Bits8 == precision) {
+				byteCodes = Arrays.copyOf(byteCodes, newCapacity * colSize);
+			} else {
+				shortCodes = Arrays.copyOf(shortCodes, newCapacity * colSize);
+			}
+			if (rowScale) {
+				minimumValues = Arrays.copyOf(minimumValues, newCapacity);
+				maximumValues = Arrays.copyOf(maximumValues, newCapacity);
+			}
+			rowCapacity = newCapacity;
+		}
+		// 追加された行は0.0とする
+		int zero = encode(0, 0.0);
+		for (int row = rowSize; row < aRow; row++) {
+			if (rowScale) {
+				minimumValues[row] = 0.0;
+				maximumValues[row] = 0.0;
+			} else {
+				int offset = row * colSize;
+				for (int col = 0; col < colSize; col++) {
+					setCode(offset + col, zero);
+				}
+			}
+		}
+		rowSize = aRow;
+	}
+
+	private void checkRow(final int aRow) {
+		if (aRow < 0 || aRow >= rowSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Size: %d", aRow, rowSize));
+		}
+	}
+
+	private void checkIndex(final int aRow, final int aCol) {
+		if (aRow < 0 || aRow >= rowSize || aCol < 0 || aCol >= colSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Col: %d, Size: %dx%d", aRow, aCol, rowSize, colSize));
+		}
+	}
+
+	/**
+	 * 量子化の精度を表す列挙型です。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public enum Precision {
+		/** 8ビット（255段階） */
+		Bits8(0xfe),
+		/** 16ビット（65535段階） */
+		Bits16(0xfffe);
+
+		/** 最大コード */
+		private final int maxCode;
+
+		private Precision(final int aMaxCode) {
+			maxCode = aMaxCode;
+		}
+
+		private int getMaxCode() {
+			return maxCode;
+		}
+	}
+}
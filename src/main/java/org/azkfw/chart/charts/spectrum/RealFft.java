@@ -0,0 +1,140 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+/**
+ * このクラスは、実数列の基数2高速フーリエ変換を行うクラスです。
+ * <p>
+ * N点の実数列を偶数番目・奇数番目を実部・虚部としたN/2点の複素数列として変換し、結果を分離して0からN/2までの係数を求めます。
+ * 回転因子・ビット反転の表は生成時に作成し、変換中は変更しない為、複数のスレッドから同時に使用できます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class RealFft {
+
+	/** 点数 */
+	private final int size;
+	/** 複素変換の点数（点数/2） */
+	private final int half;
+	/** ビット反転表 */
+	private final int[] reversed;
+	/** cos(2πk/N) */
+	private final double[] cos;
+	/** sin(2πk/N) */
+	private final double[] sin;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aSize 点数（2以上の2のべき乗）
+	 */
+	public RealFft(final int aSize) {
+		if (2 > aSize || 0 != (aSize & (aSize - 1))) {
+			throw new IllegalArgumentException(String.format("FFT size must be a power of two: %d", aSize));
+		}
+		size = aSize;
+		half = aSize / 2;
+
+		reversed = new int[half];
+		int bits = Integer.numberOfTrailingZeros(half);
+		for (int i = 0; i < half; i++) {
+			reversed[i] = (0 == bits) ? 0 : Integer.reverse(i) >>> (32 - bits);
+		}
+		cos = new double[half];
+		sin = new double[half];
+		for (int k = 0; k < half; k++) {
+			double angle = 2.0 * Math.PI * k / aSize;
+			cos[k] = Math.cos(angle);
+			sin[k] = Math.sin(angle);
+		}
+	}
+
+	/**
+	 * 点数を取得する。
+	 * 
+	 * @return 点数
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * 変換する。
+	 * 
+	 * @param aSamples 実数列
+	 * @param aOffset 開始位置
+	 * @param aRe 係数の実部を格納する配列（点数/2+1以上の長さ）
+	 * @param aIm 係数の虚部を格納する配列（点数/2+1以上の長さ）
+	 */
+	public void transform(final double[] aSamples, final int aOffset, final double[] aRe, final double[] aIm) {
+		// 偶数番目・奇数番目を実部・虚部とし、ビット反転順に並べる
+		for (int m = 0; m < half; m++) {
+			int index = reversed[m];
+			aRe[index] = aSamples[aOffset + 2 * m];
+			aIm[index] = aSamples[aOffset + 2 * m + 1];
+		}
+
+		// N/2点の複素変換
+		for (int length = 2; length <= half; length <<= 1) {
+			int middle = length >> 1;
+			int step = size / length;
+			for (int i = 0; i < half; i += length) {
+				for (int j = 0; j < middle; j++) {
+					double wr = cos[j * step];
+					double wi = -sin[j * step];
+					int a = i + j;
+					int b = a + middle;
+					double xr = aRe[b] * wr - aIm[b] * wi;
+					double xi = aRe[b] * wi + aIm[b] * wr;
+					aRe[b] = aRe[a] - xr;
+					aIm[b] = aIm[a] - xi;
+					aRe[a] += xr;
+					aIm[a] += xi;
+				}
+			}
+		}
+
+		// 偶数列・奇数列の係数に分離し、N点の係数を求める（kとN/2-kを同時に求める）
+		double r0 = aRe[0];
+		double i0 = aIm[0];
+		aRe[0] = r0 + i0;
+		aIm[0] = 0.0;
+		aRe[half] = r0 - i0;
+		aIm[half] = 0.0;
+		for (int k = 1; k <= half / 2; k++) {
+			int j = half - k;
+			double ar = aRe[k];
+			double ai = aIm[k];
+			double br = aRe[j];
+			double bi = aIm[j];
+			double er = (ar + br) * 0.5;
+			double ei = (ai - bi) * 0.5;
+			double or = (ai + bi) * 0.5;
+			double oi = (br - ar) * 0.5;
+			double tr = cos[k] * or + sin[k] * oi;
+			double ti = cos[k] * oi - sin[k] * or;
+			aRe[k] = er + tr;
+			aIm[k] = ei + ti;
+			aRe[j] = er - tr;
+			aIm[j] = ti - ei;
+		}
+	}
+}
@@ -0,0 +1,389 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import java.util.Arrays;
+
+/**
+ * このクラスは、背景値以外のセルのみを保持する疎なスペクトログラムのデータセットクラスです。
+ * <p>
+ * 行毎に、列インデックスの昇順に並んだ列配列と値配列で保持します。
+ * 大部分のセルが背景値（初期値は0.0）となるマトリクスを、背景値以外のセル数に比例したメモリで保持できます。
+ * </p>
+ * <p>
+ * 背景値を設定したセルは保持されません。{@link SpectrumChartPlot}は背景値で描画領域を一度塗りつぶした後、
+ * 保持しているセルのみを描画します。
+ * 保持していないセルは常に現在の背景値を返却する為、背景値を変更するとそれらのセルの値も変わります。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class SparseSpectrumDataset extends SpectrumDataset {
+
+	/** 行毎の初期確保セル数 */
+	private static final int DEFAULT_ROW_CAPACITY = 4;
+	/** 空配列 */
+	private static final int[] EMPTY_COLS = new int[0];
+	/** 空配列 */
+	private static final double[] EMPTY_VALUES = new double[0];
+
+	/** 背景値 */
+	private double backgroundValue;
+
+	/** 行数 */
+	private int rowSize;
+	/** 列数 */
+	private int colSize;
+
+	/** 行毎の列配列（昇順） */
+	private int[][] rowCols;
+	/** 行毎の値配列 */
+	private double[][] rowValues;
+	/** 行毎のセル数 */
+	private int[] rowEntrySizes;
+	/** セル数 */
+	private long entrySize;
+
+	/**
+	 * コンストラクタ
+	 */
+	public SparseSpectrumDataset() {
+		super();
+		init(0, 0);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 */
+	public SparseSpectrumDataset(final String aTitle) {
+		super(aTitle);
+		init(0, 0);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aRow 行数
+	 * @param aCol 列数
+	 */
+	public SparseSpectrumDataset(final int aRow, final int aCol) {
+		super();
+		init(aRow, aCol);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aRow 行数
+	 * @param aCol 列数
+	 */
+	public SparseSpectrumDataset(final String aTitle, final int aRow, final int aCol) {
+		super(aTitle);
+		init(aRow, aCol);
+	}
+
+	private void init(final int aRow, final int aCol) {
+		if (aRow < 0 || aCol < 0) {
+			throw new IllegalArgumentException(String.format("Row: %d, Col: %d", aRow, aCol));
+		}
+		backgroundValue = 0.0;
+		rowSize = aRow;
+		colSize = aCol;
+		rowCols = new int[aRow][];
+		rowValues = new double[aRow][];
+		rowEntrySizes = new int[aRow];
+		Arrays.fill(rowCols, EMPTY_COLS);
+		Arrays.fill(rowValues, EMPTY_VALUES);
+		entrySize = 0;
+	}
+
+	/**
+	 * 背景値を設定する。
+	 * <p>
+	 * 保持していないセル（未設定のセル、および変更前の背景値を設定したセル）は、新しい背景値を返却する様になります。
+	 * 変更前の背景値を残す必要がある場合は、背景値の変更後に{@link #setValue(int, int, double)}で設定し直してください。
+	 * 新しい背景値と等しい値のセルは破棄されます。
+	 * </p>
+	 * 
+	 * @param aValue 背景値
+	 */
+	public void setBackgroundValue(final double aValue) {
+		backgroundValue = aValue;
+		for (int row = 0; row < rowSize; row++) {
+			int[] cols = rowCols[row];
+			double[] values = rowValues[row];
+			int size = 0;
+			for (int i = 0; i < rowEntrySizes[row]; i++) {
+				if (!isBackground(values[i])) {
+					cols[size] = cols[i];
+					values[size] = values[i];
+					size++;
+				}
+			}
+			entrySize -= rowEntrySizes[row] - size;
+			rowEntrySizes[row] = size;
+		}
+		fireChanged();
+	}
+
+	/**
+	 * 背景値を取得する。
+	 * 
+	 * @return 背景値
+	 */
+	public double getBackgroundValue() {
+		return backgroundValue;
+	}
+
+	@Override
+	public int getRowSize() {
+		return rowSize;
+	}
+
+	@Override
+	public int getColSize() {
+		return colSize;
+	}
+
+	/**
+	 * データを設定する。
+	 * <p>
+	 * データの値のみを保持します。<code>null</code>の場合は背景値を設定します。
+	 * </p>
+	 */
+	@Override
+	public void put(final int aRow, final int aCol, final SpectrumMatrixData aData) {
+		setValue(aRow, aCol, (null == aData) ? backgroundValue : aData.getValue());
+	}
+
+	/**
+	 * データを取得する。
+	 * <p>
+	 * 値から新しいデータを生成して返却します。返却されたデータへの変更はデータセットへ反映されません。
+	 * </p>
+	 */
+	@Override
+	public SpectrumMatrixData get(final int aRow, final int aCol) {
+		return new SpectrumMatrixData(getValue(aRow, aCol));
+	}
+
+	@Override
+	public double getValue(final int aRow, final int aCol) {
+		checkIndex(aRow, aCol);
+		int index = Arrays.binarySearch(rowCols[aRow], 0, rowEntrySizes[aRow], aCol);
+		return (0 <= index) ? rowValues[aRow][index] : backgroundValue;
+	}
+
+	@Override
+	public void getRowValues(final int aRow, final double[] aValues) {
+		if (aRow < 0 || aRow >= rowSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Size: %d", aRow, rowSize));
+		}
+		Arrays.fill(aValues, 0, colSize, backgroundValue);
+		int[] cols = rowCols[aRow];
+		double[] values = rowValues[aRow];
+		for (int i = 0; i < rowEntrySizes[aRow]; i++) {
+			aValues[cols[i]] = values[i];
+		}
+	}
+
+	/**
+	 * 値を設定する。
+	 * <p>
+	 * 行・列が範囲外の場合はマトリクスを拡張します。背景値を設定した場合、セルは破棄されます。
+	 * </p>
+	 * 
+	 * @param aRow 行
+	 * @param aCol 列
+	 * @param aValue 値
+	 */
+	public void setValue(final int aRow, final int aCol, final double aValue) {
+		if (aRow < 0 || aCol < 0) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Col: %d", aRow, aCol));
+		}
+		if (aRow >= rowSize || aCol >= colSize) {
+			resizeInternal(Math.max(aRow + 1, rowSize), Math.max(aCol + 1, colSize));
+		}
+
+		int size = rowEntrySizes[aRow];
+		int[] cols = rowCols[aRow];
+		double[] values = rowValues[aRow];
+		int index = Arrays.binarySearch(cols, 0, size, aCol);
+		if (isBackground(aValue)) {
+			if (0 <= index) {
+				System.arraycopy(cols, index + 1, cols, index, size - index - 1);
+				System.arraycopy(values, index + 1, values, index, size - index - 1);
+				rowEntrySizes[aRow]--;
+				entrySize--;
+			}
+		} else if (0 <= index) {
+			values[index] = aValue;
+		} else {
+			int insert = -(index + 1);
+			if (size == cols.length) {
+				int capacity = Math.max(DEFAULT_ROW_CAPACITY, size + (size >> 1));
+				cols = Arrays.copyOf(cols, capacity);
+				values = Arrays.copyOf(values, capacity);
+				rowCols[aRow] = cols;
+				rowValues[aRow] = values;
+			}
+			System.arraycopy(cols, insert, cols, insert + 1, size - insert);
+			System.arraycopy(values, insert, values, insert + 1, size - insert);
+			cols[insert] = aCol;
+			values[insert] = aValue;
+			rowEntrySizes[aRow]++;
+			entrySize++;
+		}
+		fireChanged();
+	}
+
+	/**
+	 * 全てのセルを背景値にする。
+	 */
+	public void clear() {
+		for (int row = 0; row < rowSize; row++) {
+			rowCols[row] = EMPTY_COLS;
+			rowValues[row] = EMPTY_VALUES;
+			rowEntrySizes[row] = 0;
+		}
+		entrySize = 0;
+		fireChanged();
+	}
+
+	/**
+	 * 行数・列数を変更する。
+	 * <p>
+	 * 範囲外となったセルは破棄され、拡張されたセルは背景値となります。
+	 * </p>
+	 * 
+	 * @param aRow 行数
+	 * @param aCol 列数
+	 */
+	public void resize(final int aRow, final int aCol) {
+		resizeInternal(aRow, aCol);
+		fireChanged();
+	}
+
+	/**
+	 * 背景値以外のセル数を取得する。
+	 * 
+	 * @return セル数
+	 */
+	public long getEntrySize() {
+		return entrySize;
+	}
+
+	/**
+	 * 行の背景値以外のセル数を取得する。
+	 * 
+	 * @param aRow 行
+	 * @return セル数
+	 */
+	public int getEntrySize(final int aRow) {
+		checkRow(aRow);
+		return rowEntrySizes[aRow];
+	}
+
+	/**
+	 * 行の背景値以外のセルの列を取得する。
+	 * 
+	 * @param aRow 行
+	 * @param aIndex 行内のセルのインデックス（列の昇順）
+	 * @return 列
+	 */
+	public int getEntryCol(final int aRow, final int aIndex) {
+		checkEntry(aRow, aIndex);
+		return rowCols[aRow][aIndex];
+	}
+
+	/**
+	 * 行の背景値以外のセルの値を取得する。
+	 * 
+	 * @param aRow 行
+	 * @param aIndex 行内のセルのインデックス（列の昇順）
+	 * @return 値
+	 */
+	public double getEntryValue(final int aRow, final int aIndex) {
+		checkEntry(aRow, aIndex);
+		return rowValues[aRow][aIndex];
+	}
+
+	private void resizeInternal(final int aRow, final int aCol) {
+		if (aRow < 0 || aCol < 0) {
+			throw new IllegalArgumentException(String.format("Row: %d, Col: %d", aRow, aCol));
+		}
+		// 範囲外となるセルを破棄する
+		for (int row = aRow; row < rowSize; row++) {
+			entrySize -= rowEntrySizes[row];
+		}
+		if (aCol < colSize) {
+			for (int row = 0; row < Math.min(aRow, rowSize); row++) {
+				int index = Arrays.binarySearch(rowCols[row], 0, rowEntrySizes[row], aCol);
+				int size = (0 <= index) ? index : -(index + 1);
+				entrySize -= rowEntrySizes[row] - size;
+				rowEntrySizes[row] = size;
+			}
+		}
+
+		if (aRow > rowCols.length) {
+			int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) aRow, (long) rowCols.length + (rowCols.length >> 1)));
+			int oldCapacity = rowCols.length;
+			rowCols = Arrays.copyOf(rowCols, capacity);
+			rowValues = Arrays.copyOf(rowValues, capacity);
+			rowEntrySizes = Arrays.copyOf(rowEntrySizes, capacity);
+			Arrays.fill(rowCols, oldCapacity, capacity, EMPTY_COLS);
+			Arrays.fill(rowValues, oldCapacity, capacity, EMPTY_VALUES);
+		}
+		for (int row = aRow; row < rowSize; row++) {
+			rowCols[row] = EMPTY_COLS;
+			rowValues[row] = EMPTY_VALUES;
+			rowEntrySizes[row] = 0;
+		}
+
+		rowSize = aRow;
+		colSize = aCol;
+	}
+
+	private boolean isBackground(final double aValue) {
+		return 0 == Double.compare(aValue, backgroundValue);
+	}
+
+	private void checkIndex(final int aRow, final int aCol) {
+		if (aRow < 0 || aRow >= rowSize || aCol < 0 || aCol >= colSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Col: %d, Size: %dx%d", aRow, aCol, rowSize, colSize));
+		}
+	}
+
+	private void checkRow(final int aRow) {
+		if (aRow < 0 || aRow >= rowSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Size: %d", aRow, rowSize));
+		}
+	}
+
+	private void checkEntry(final int aRow, final int aIndex) {
+		checkRow(aRow);
+		if (aIndex < 0 || aIndex >= rowEntrySizes[aRow]) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Index: %d, Size: %d", aRow, aIndex, rowEntrySizes[aRow]));
+		}
+	}
+}
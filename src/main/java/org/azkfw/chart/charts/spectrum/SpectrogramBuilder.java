@@ -0,0 +1,570 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * このクラスは、信号を短時間フーリエ変換（STFT）してスペクトログラムのデータセットを生成するクラスです。
+ * <p>
+ * 信号をホップサイズ毎にずらしたFFTサイズのフレームに分割し、窓関数を掛けて実数FFTで変換します。
+ * 1フレームが1行、0からFFTサイズ/2までの周波数ビンが列となります。FFTサイズに満たない末尾のサンプルは変換しません。
+ * </p>
+ * <p>
+ * 振幅は窓関数の合計で正規化した片側スペクトルで、振幅Aの正弦波はおおよそAとなります。
+ * デシベルの場合は20log10(振幅)とし、{@value #MIN_DECIBEL}dBを下限とします。
+ * </p>
+ * <p>
+ * {@link #build(double[])}はフレームをフォークジョインプールで並列に変換し、データセットの値配列へ直接書き込みます。
+ * {@link #open(DenseSpectrumDataset)}は入力を順次受け取り、フレームが揃う毎に行を追加します。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class SpectrogramBuilder {
+
+	/** デシベルの下限 */
+	public static final double MIN_DECIBEL = -200.0;
+
+	/** 並列で処理する最小サンプル数 */
+	private static final long PARALLEL_THRESHOLD = 1L << 16;
+	/** 1タスクあたりの最小フレーム数 */
+	private static final int MIN_TASK_FRAMES = 16;
+	/** 1プロセッサあたりのタスク数 */
+	private static final int TASKS_PER_THREAD = 4;
+
+	/** FFTサイズ */
+	private int fftSize;
+	/** ホップサイズ */
+	private int hopSize;
+	/** 窓関数 */
+	private Window window;
+	/** 出力 */
+	private Output output;
+	/** 並列数 */
+	private int parallelism;
+	/** フォークジョインプール */
+	private ForkJoinPool pool;
+
+	/**
+	 * コンストラクタ
+	 */
+	public SpectrogramBuilder() {
+		fftSize = 1024;
+		hopSize = 256;
+		window = Window.Hann;
+		output = Output.Decibel;
+		parallelism = Runtime.getRuntime().availableProcessors();
+		pool = null;
+	}
+
+	/**
+	 * FFTサイズを設定する。
+	 * 
+	 * @param aSize FFTサイズ（2以上の2のべき乗）
+	 */
+	public void setFftSize(final int aSize) {
+		if (2 > aSize || 0 != (aSize & (aSize - 1))) {
+			throw new IllegalArgumentException(String.format("FFT size must be a power of two: %d", aSize));
+		}
+		fftSize = aSize;
+	}
+
+	/**
+	 * FFTサイズを取得する。
+	 * 
+	 * @return FFTサイズ
+	 */
+	public int getFftSize() {
+		return fftSize;
+	}
+
+	/**
+	 * ホップサイズを設定する。
+	 * 
+	 * @param aSize ホップサイズ（フレーム間のサンプル数）
+	 */
+	public void setHopSize(final int aSize) {
+		if (0 >= aSize) {
+			throw new IllegalArgumentException(String.format("Illegal hop size: %d", aSize));
+		}
+		hopSize = aSize;
+	}
+
+	/**
+	 * ホップサイズを取得する。
+	 * 
+	 * @return ホップサイズ
+	 */
+	public int getHopSize() {
+		return hopSize;
+	}
+
+	/**
+	 * 窓関数を設定する。
+	 * 
+	 * @param aWindow 窓関数
+	 */
+	public void setWindow(final Window aWindow) {
+		if (null == aWindow) {
+			throw new IllegalArgumentException("Window is null.");
+		}
+		window = aWindow;
+	}
+
+	/**
+	 * 窓関数を取得する。
+	 * 
+	 * @return 窓関数
+	 */
+	public Window getWindow() {
+		return window;
+	}
+
+	/**
+	 * 出力を設定する。
+	 * 
+	 * @param aOutput 出力
+	 */
+	public void setOutput(final Output aOutput) {
+		if (null == aOutput) {
+			throw new IllegalArgumentException("Output is null.");
+		}
+		output = aOutput;
+	}
+
+	/**
+	 * 出力を取得する。
+	 * 
+	 * @return 出力
+	 */
+	public Output getOutput() {
+		return output;
+	}
+
+	/**
+	 * 並列数を設定する。
+	 * <p>
+	 * {@link #setPool(ForkJoinPool)}でプールを指定した場合は使用されません。
+	 * </p>
+	 * 
+	 * @param aParallelism 並列数
+	 */
+	public void setParallelism(final int aParallelism) {
+		if (0 >= aParallelism) {
+			throw new IllegalArgumentException(String.format("Illegal parallelism: %d", aParallelism));
+		}
+		parallelism = aParallelism;
+	}
+
+	/**
+	 * 並列数を取得する。
+	 * 
+	 * @return 並列数
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * 変換に使用するフォークジョインプールを設定する。
+	 * <p>
+	 * <code>null</code>の場合、変換毎にプールを生成します。
+	 * </p>
+	 * 
+	 * @param aPool プール
+	 */
+	public void setPool(final ForkJoinPool aPool) {
+		pool = aPool;
+	}
+
+	/**
+	 * フレーム数を取得する。
+	 * 
+	 * @param aLength サンプル数
+	 * @return フレーム数
+	 */
+	public int getFrameSize(final int aLength) {
+		return (aLength < fftSize) ? 0 : 1 + (aLength - fftSize) / hopSize;
+	}
+
+	/**
+	 * 信号を変換する。
+	 * 
+	 * @param aSignal 信号
+	 * @return データセット
+	 */
+	public DenseSpectrumDataset build(final double[] aSignal) {
+		return build(aSignal, 0, aSignal.length);
+	}
+
+	/**
+	 * 信号を変換する。
+	 * 
+	 * @param aSignal 信号
+	 * @param aOffset 開始位置
+	 * @param aLength サンプル数
+	 * @return データセット
+	 */
+	public DenseSpectrumDataset build(final double[] aSignal, final int aOffset, final int aLength) {
+		if (aOffset < 0 || aLength < 0 || aOffset + aLength > aSignal.length) {
+			throw new IndexOutOfBoundsException(String.format("Offset: %d, Length: %d, Array length: %d", aOffset, aLength, aSignal.length));
+		}
+		Transform transform = new Transform(fftSize, window, output);
+		int frameSize = getFrameSize(aLength);
+		int binSize = transform.getBinSize();
+		if ((long) frameSize * binSize > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException(String.format("Too many frames: %d", frameSize));
+		}
+		double[] values = new double[frameSize * binSize];
+
+		if (1 < parallelism || null != pool) {
+			if ((long) frameSize * fftSize >= PARALLEL_THRESHOLD) {
+				ForkJoinPool fjp = (null != pool) ? pool : new ForkJoinPool(parallelism);
+				try {
+					int tasks = fjp.getParallelism() * TASKS_PER_THREAD;
+					int threshold = Math.max(MIN_TASK_FRAMES, (frameSize + tasks - 1) / tasks);
+					fjp.invoke(new FrameTask(transform, aSignal, aOffset, hopSize, values, 0, frameSize, threshold));
+				} finally {
+					if (fjp != pool) {
+						fjp.shutdown();
+					}
+				}
+				return DenseSpectrumDataset.wrap(null, values, frameSize, binSize);
+			}
+		}
+		transform.process(aSignal, aOffset, hopSize, values, 0, frameSize);
+		return DenseSpectrumDataset.wrap(null, values, frameSize, binSize);
+	}
+
+	/**
+	 * 入力を順次変換して、データセットへ行を追加するライターを生成する。
+	 * <p>
+	 * 生成時の設定を使用します。データセットの列数は0（空）か周波数ビン数である必要があります。
+	 * </p>
+	 * 
+	 * @param aDataset データセット
+	 * @return ライター
+	 */
+	public FrameWriter open(final DenseSpectrumDataset aDataset) {
+		Transform transform = new Transform(fftSize, window, output);
+		if (0 != aDataset.getColSize() && transform.getBinSize() != aDataset.getColSize()) {
+			throw new IllegalArgumentException(String.format("Column size mismatch. Dataset: %d, Bins: %d", aDataset.getColSize(),
+					transform.getBinSize()));
+		}
+		return new FrameWriter(transform, hopSize, aDataset);
+	}
+
+	/**
+	 * このクラスは、入力を順次受け取り、フレームが揃う毎に変換してデータセットへ行を追加するクラスです。
+	 * <p>
+	 * 入力はFFTサイズの作業領域に蓄積し、変換後にホップサイズ分だけ詰めて再利用します。
+	 * </p>
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public static final class FrameWriter {
+
+		/** 変換 */
+		private final Transform transform;
+		/** ホップサイズ */
+		private final int hopSize;
+		/** データセット */
+		private final DenseSpectrumDataset dataset;
+		/** 作業領域 */
+		private final Scratch scratch;
+		/** 入力バッファ */
+		private final double[] buffer;
+		/** 行の値 */
+		private final double[] row;
+
+		/** 入力バッファのサンプル数 */
+		private int bufferSize;
+		/** 読み飛ばすサンプル数（ホップサイズがFFTサイズより大きい場合） */
+		private int skipSize;
+
+		private FrameWriter(final Transform aTransform, final int aHopSize, final DenseSpectrumDataset aDataset) {
+			transform = aTransform;
+			hopSize = aHopSize;
+			dataset = aDataset;
+			scratch = new Scratch(aTransform.getFftSize());
+			buffer = new double[aTransform.getFftSize()];
+			row = new double[aTransform.getBinSize()];
+			bufferSize = 0;
+			skipSize = 0;
+		}
+
+		/**
+		 * 入力を書き込む。
+		 * 
+		 * @param aSamples サンプル
+		 * @return 追加した行数
+		 */
+		public int write(final double[] aSamples) {
+			return write(aSamples, 0, aSamples.length);
+		}
+
+		/**
+		 * 入力を書き込む。
+		 * 
+		 * @param aSamples サンプル
+		 * @param aOffset 開始位置
+		 * @param aLength サンプル数
+		 * @return 追加した行数
+		 */
+		public int write(final double[] aSamples, final int aOffset, final int aLength) {
+			if (aOffset < 0 || aLength < 0 || aOffset + aLength > aSamples.length) {
+				throw new IndexOutOfBoundsException(String.format("Offset: %d, Length: %d, Array length: %d", aOffset, aLength,
+						aSamples.length));
+			}
+			int rows = 0;
+			int pos = aOffset;
+			int end = aOffset + aLength;
+			while (pos < end) {
+				if (0 < skipSize) {
+					int skip = Math.min(skipSize, end - pos);
+					skipSize -= skip;
+					pos += skip;
+					continue;
+				}
+				int copy = Math.min(buffer.length - bufferSize, end - pos);
+				System.arraycopy(aSamples, pos, buffer, bufferSize, copy);
+				bufferSize += copy;
+				pos += copy;
+				if (bufferSize == buffer.length) {
+					transform.process(buffer, 0, scratch, row, 0);
+					dataset.addRow(row);
+					rows++;
+					if (hopSize < buffer.length) {
+						System.arraycopy(buffer, hopSize, buffer, 0, buffer.length - hopSize);
+						bufferSize = buffer.length - hopSize;
+					} else {
+						bufferSize = 0;
+						skipSize = hopSize - buffer.length;
+					}
+				}
+			}
+			return rows;
+		}
+	}
+
+	/**
+	 * このクラスは、フレームの変換設定と変換処理を保持するクラスです。
+	 * <p>
+	 * 変換中は状態を変更しない為、複数のスレッドから同時に使用できます。作業領域はスレッド毎に{@link Scratch}で確保します。
+	 * </p>
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class Transform {
+
+		/** FFT */
+		private final RealFft fft;
+		/** 窓関数の係数 */
+		private final double[] coefficients;
+		/** 出力 */
+		private final Output output;
+		/** 直流・ナイキスト以外の振幅の係数 */
+		private final double scale;
+		/** 直流・ナイキストの振幅の係数 */
+		private final double edgeScale;
+
+		private Transform(final int aFftSize, final Window aWindow, final Output aOutput) {
+			fft = new RealFft(aFftSize);
+			coefficients = createWindow(aWindow, aFftSize);
+			output = aOutput;
+			double sum = 0.0;
+			for (int i = 0; i < aFftSize; i++) {
+				sum += coefficients[i];
+			}
+			edgeScale = 1.0 / sum;
+			scale = 2.0 / sum;
+		}
+
+		private int getFftSize() {
+			return fft.getSize();
+		}
+
+		private int getBinSize() {
+			return fft.getSize() / 2 + 1;
+		}
+
+		private void process(final double[] aSignal, final int aOffset, final int aHopSize, final double[] aValues, final int aFrom,
+				final int aTo) {
+			Scratch scratch = new Scratch(fft.getSize());
+			int binSize = getBinSize();
+			for (int frame = aFrom; frame < aTo; frame++) {
+				process(aSignal, aOffset + frame * aHopSize, scratch, aValues, frame * binSize);
+			}
+		}
+
+		private void process(final double[] aSignal, final int aOffset, final Scratch aScratch, final double[] aValues, final int aValueOffset) {
+			double[] samples = aScratch.samples;
+			for (int i = 0; i < samples.length; i++) {
+				samples[i] = aSignal[aOffset + i] * coefficients[i];
+			}
+			fft.transform(samples, 0, aScratch.re, aScratch.im);
+
+			int last = samples.length / 2;
+			for (int k = 0; k <= last; k++) {
+				double magnitude = Math.hypot(aScratch.re[k], aScratch.im[k]) * ((0 == k || last == k) ? edgeScale : scale);
+				if (Output.Decibel == output) {
+					aValues[aValueOffset + k] = Math.max(MIN_DECIBEL, 20.0 * Math.log10(magnitude));
+				} else {
+					aValues[aValueOffset + k] = magnitude;
+				}
+			}
+		}
+	}
+
+	/**
+	 * このクラスは、フレームの変換に使用する作業領域を保持するクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class Scratch {
+
+		/** 窓関数を掛けたサンプル */
+		private final double[] samples;
+		/** 係数の実部 */
+		private final double[] re;
+		/** 係数の虚部 */
+		private final double[] im;
+
+		private Scratch(final int aFftSize) {
+			samples = new double[aFftSize];
+			re = new double[aFftSize / 2 + 1];
+			im = new double[aFftSize / 2 + 1];
+		}
+	}
+
+	/**
+	 * このクラスは、フレームの範囲を分割して変換するタスククラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class FrameTask extends RecursiveAction {
+
+		/** serialVersionUID */
+		private static final long serialVersionUID = 1L;
+
+		private final Transform transform;
+		private final double[] signal;
+		private final int offset;
+		private final int hopSize;
+		private final double[] values;
+		private final int from;
+		private final int to;
+		private final int threshold;
+
+		private FrameTask(final Transform aTransform, final double[] aSignal, final int aOffset, final int aHopSize, final double[] aValues,
+				final int aFrom, final int aTo, final int aThreshold) {
+			transform = aTransform;
+			signal = aSignal;
+			offset = aOffset;
+			hopSize = aHopSize;
+			values = aValues;
+			from = aFrom;
+			to = aTo;
+			threshold = aThreshold;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= threshold) {
+				transform.process(signal, offset, hopSize, values, from, to);
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new FrameTask(transform, signal, offset, hopSize, values, from, middle, threshold), new FrameTask(transform, signal,
+						offset, hopSize, values, middle, to, threshold));
+			}
+		}
+	}
+
+	private static double[] createWindow(final Window aWindow, final int aSize) {
+		// 周期的な窓（長さN+1の対称窓の先頭N点）とする
+		double[] coefficients = new double[aSize];
+		for (int i = 0; i < aSize; i++) {
+			double phase = 2.0 * Math.PI * i / aSize;
+			switch (aWindow) {
+			case Hann:
+				coefficients[i] = 0.5 - 0.5 * Math.cos(phase);
+				break;
+			case Hamming:
+				coefficients[i] = 0.54 - 0.46 * Math.cos(phase);
+				break;
+			case Blackman:
+				coefficients[i] = 0.42 - 0.5 * Math.cos(phase) + 0.08 * Math.cos(2.0 * phase);
+				break;
+			default:
+				coefficients[i] = 1.0;
+				break;
+			}
+		}
+		return coefficients;
+	}
+
+	/**
+	 * 窓関数を表す列挙型です。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public enum Window {
+		/** 矩形窓 */
+		Rectangular(),
+		/** ハン窓 */
+		Hann(),
+		/** ハミング窓 */
+		Hamming(),
+		/** ブラックマン窓 */
+		Blackman();
+
+		private Window() {
+		}
+	}
+
+	/**
+	 * 出力を表す列挙型です。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public enum Output {
+		/** 振幅 */
+		Magnitude(),
+		/** デシベル */
+		Decibel();
+
+		private Output() {
+		}
+	}
+}
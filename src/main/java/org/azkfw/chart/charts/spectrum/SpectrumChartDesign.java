@@ -20,6 +20,8 @@ package org.azkfw.chart.charts.spectrum;
 import org.azkfw.chart.charts.spectrum.SpectrumChartDesign.SpectrumChartStyle;
 import org.azkfw.chart.design.AbstractMatrixChartDesign;
 import org.azkfw.chart.design.chart.AbstractMatrixChartStyle;
+import org.azkfw.chart.design.color.ColorLookupTable;
+import org.azkfw.chart.design.color.ColorMap;
 import org.azkfw.chart.design.legend.CustomLegendStyle;
 import org.azkfw.chart.design.title.CustomTitleStyle;
 
@@ -87,8 +89,179 @@ public class SpectrumChartDesign extends AbstractMatrixChartDesign<SpectrumChart
 	 */
 	public static class SpectrumChartStyle extends AbstractMatrixChartStyle<SpectrumMatrixData> {
 
+		/** 補間方法 */
+		private Interpolation interpolation;
+
+		/** カラーマップ */
+		private ColorMap colorMap;
+
+		/** 値のカラーへの対応方法 */
+		private ColorLookupTable.Mapping colorMapping;
+
+		/** 集約方法 */
+		private Aggregation aggregation;
+
+		/** 集約のパーセンタイル */
+		private double aggregationPercentile;
+
 		public SpectrumChartStyle() {
+			interpolation = Interpolation.Nearest;
+			colorMap = ColorMap.Spectrum;
+			colorMapping = ColorLookupTable.Mapping.Linear;
+			aggregation = Aggregation.Max;
+			aggregationPercentile = 95.0;
+		}
+
+		/**
+		 * 集約方法を設定する。
+		 * <p>
+		 * 行数・列数が描画領域のピクセル数より多い場合、ピクセル毎に覆うセルの値を集約してから色を求めます。
+		 * ピクセルの端で一部のみ覆われるセルは、覆われる割合で重み付けされます。
+		 * </p>
+		 * 
+		 * @param aAggregation 集約方法
+		 */
+		public void setAggregation(final Aggregation aAggregation) {
+			if (null == aAggregation) {
+				throw new IllegalArgumentException("Aggregation is null.");
+			}
+			aggregation = aAggregation;
+			fireChanged();
+		}
+
+		/**
+		 * 集約方法を取得する。
+		 * 
+		 * @return 集約方法
+		 */
+		public Aggregation getAggregation() {
+			return aggregation;
+		}
+
+		/**
+		 * 集約方法が{@link Aggregation#Percentile}の場合のパーセンタイルを設定する。
+		 * 
+		 * @param aPercentile パーセンタイル（0～100）
+		 */
+		public void setAggregationPercentile(final double aPercentile) {
+			if (!(0.0 <= aPercentile && aPercentile <= 100.0)) {
+				throw new IllegalArgumentException(String.format("Percentile: %f", aPercentile));
+			}
+			aggregationPercentile = aPercentile;
+			fireChanged();
+		}
+
+		/**
+		 * 集約方法が{@link Aggregation#Percentile}の場合のパーセンタイルを取得する。
+		 * 
+		 * @return パーセンタイル（0～100）
+		 */
+		public double getAggregationPercentile() {
+			return aggregationPercentile;
+		}
+
+		/**
+		 * カラーマップを設定する。
+		 * 
+		 * @param aColorMap カラーマップ
+		 */
+		public void setColorMap(final ColorMap aColorMap) {
+			if (null == aColorMap) {
+				throw new IllegalArgumentException("Color map is null.");
+			}
+			colorMap = aColorMap;
+			fireChanged();
+		}
+
+		/**
+		 * カラーマップを取得する。
+		 * 
+		 * @return カラーマップ
+		 */
+		public ColorMap getColorMap() {
+			return colorMap;
+		}
+
+		/**
+		 * 値のカラーへの対応方法を設定する。
+		 * 
+		 * @param aMapping 対応方法
+		 */
+		public void setColorMapping(final ColorLookupTable.Mapping aMapping) {
+			if (null == aMapping) {
+				throw new IllegalArgumentException("Color mapping is null.");
+			}
+			colorMapping = aMapping;
+			fireChanged();
+		}
+
+		/**
+		 * 値のカラーへの対応方法を取得する。
+		 * 
+		 * @return 対応方法
+		 */
+		public ColorLookupTable.Mapping getColorMapping() {
+			return colorMapping;
+		}
+
+		/**
+		 * セル間の補間方法を設定する。
+		 * 
+		 * @param aInterpolation 補間方法
+		 */
+		public void setInterpolation(final Interpolation aInterpolation) {
+			if (null == aInterpolation) {
+				throw new IllegalArgumentException("Interpolation is null.");
+			}
+			interpolation = aInterpolation;
+			fireChanged();
 		}
 
+		/**
+		 * セル間の補間方法を取得する。
+		 * 
+		 * @return 補間方法
+		 */
+		public Interpolation getInterpolation() {
+			return interpolation;
+		}
+
+		/**
+		 * セル間の補間方法を定義
+		 * 
+		 * @since 1.5.1
+		 * @version 1.5.1 2026/10/17
+		 * @author Kawakicchi
+		 */
+		public enum Interpolation {
+			/** 最近傍（セルを矩形で描画） */
+			Nearest(),
+			/** 双線形（隣接する4セルの値を補間） */
+			Bilinear();
+
+			private Interpolation() {
+			}
+		}
+
+		/**
+		 * ピクセルが覆うセルの集約方法を定義
+		 * 
+		 * @since 1.5.1
+		 * @version 1.5.1 2026/10/17
+		 * @author Kawakicchi
+		 */
+		public enum Aggregation {
+			/** 集約しない（ピクセル毎に1セルを選択） */
+			None(),
+			/** 最大値 */
+			Max(),
+			/** 平均値 */
+			Mean(),
+			/** パーセンタイル */
+			Percentile();
+
+			private Aggregation() {
+			}
+		}
 	}
 }
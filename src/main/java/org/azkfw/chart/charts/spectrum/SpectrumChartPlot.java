@@ -19,9 +19,18 @@ package org.azkfw.chart.charts.spectrum;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
 import org.azkfw.chart.charts.spectrum.SpectrumChartDesign.SpectrumChartStyle;
+import org.azkfw.chart.charts.spectrum.SpectrumChartDesign.SpectrumChartStyle.Aggregation;
+import org.azkfw.chart.charts.spectrum.SpectrumChartDesign.SpectrumChartStyle.Interpolation;
 import org.azkfw.chart.core.plot.AbstractMatrixChartPlot;
+import org.azkfw.chart.design.color.ColorLookupTable;
 import org.azkfw.graphics.Graphics;
 import org.azkfw.graphics.Point;
 import org.azkfw.graphics.Rect;
@@ -36,9 +45,24 @@ import org.azkfw.util.ObjectUtility;
  */
 public class SpectrumChartPlot extends AbstractMatrixChartPlot<SpectrumDataset, SpectrumChartDesign> {
 
+	/** 並列で処理する最小セル数（ピクセル数） */
+	private static final long PARALLEL_THRESHOLD = 1 << 18;
+
+	/** 1タスクあたりの最小行数 */
+	private static final int MIN_BAND_SIZE = 8;
+
 	/** 軸情報 */
 	private SpectrumAxis axis;
 
+	/** 並列数 */
+	private int parallelism;
+
+	/** 指定されたプール */
+	private ForkJoinPool pool;
+
+	/** ウォーターフォール表示の画像 */
+	private WaterfallRaster waterfall;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -46,6 +70,7 @@ public class SpectrumChartPlot extends AbstractMatrixChartPlot<SpectrumDataset,
 		super(SpectrumChartPlot.class);
 
 		axis = new SpectrumAxis();
+		parallelism = Runtime.getRuntime().availableProcessors();
 
 		setChartDesign(SpectrumChartDesign.DefalutDesign);
 	}
@@ -59,6 +84,7 @@ public class SpectrumChartPlot extends AbstractMatrixChartPlot<SpectrumDataset,
 		super(SpectrumChartPlot.class, aDataset);
 
 		axis = new SpectrumAxis();
+		parallelism = Runtime.getRuntime().availableProcessors();
 
 		setChartDesign(SpectrumChartDesign.DefalutDesign);
 	}
@@ -72,14 +98,68 @@ public class SpectrumChartPlot extends AbstractMatrixChartPlot<SpectrumDataset,
 		return axis;
 	}
 
+	/**
+	 * 色付け・最小値最大値の走査の並列数を設定する。
+	 * <p>
+	 * {@link #setPool(ForkJoinPool)}でプールを指定した場合は使用されません。1の場合は並列で処理しません。
+	 * </p>
+	 * 
+	 * @param aParallelism 並列数
+	 */
+	public synchronized void setParallelism(final int aParallelism) {
+		if (0 >= aParallelism) {
+			throw new IllegalArgumentException(String.format("Illegal parallelism: %d", aParallelism));
+		}
+		parallelism = aParallelism;
+	}
+
+	/**
+	 * 色付け・最小値最大値の走査の並列数を取得する。
+	 * 
+	 * @return 並列数
+	 */
+	public synchronized int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * 色付け・最小値最大値の走査に使用するフォークジョインプールを設定する。
+	 * <p>
+	 * <code>null</code>の場合、描画毎に並列数のプールを生成し、描画後に終了します。
+	 * 繰り返し描画する場合はプールを指定すると、描画毎のスレッド生成を省略できます。
+	 * </p>
+	 * 
+	 * @param aPool プール
+	 */
+	public synchronized void setPool(final ForkJoinPool aPool) {
+		pool = aPool;
+	}
+
 	@Override
 	protected boolean doDrawChart(final Graphics g, final Rect aRect) {
 		SpectrumDataset dataset = getDataset();
 		SpectrumChartDesign design = getDesign();
 		SpectrumChartStyle style = design.getChartStyle();
 
+		// スケール計算と色付けで同じプールを使用する
+		ForkJoinPool given = getPool();
+		int threads = getParallelism();
+		ForkJoinPool fjp = (null != given) ? given : ((1 < threads) ? new ForkJoinPool(threads) : null);
+		try {
+			drawChart(g, dataset, style, fjp, aRect);
+		} finally {
+			if (null != fjp && fjp != given) {
+				fjp.shutdown();
+			}
+		}
+
+		return true;
+	}
+
+	private void drawChart(final Graphics g, final SpectrumDataset aDataset, final SpectrumChartStyle aStyle, final ForkJoinPool aPool,
+			final Rect aRect) {
 		// スケール調整
-		ScaleValue scaleValue = getScaleValue(getDataset());
+		ScaleValue scaleValue = getScaleValue(aDataset, aPool);
 
 		float pieSize = Math.min(aRect.getWidth(), aRect.getHeight());
 		Point ptChartMiddle = new Point(aRect.getX() + (aRect.getWidth() / 2.f), aRect.getY() + (aRect.getHeight() / 2.f));
@@ -91,65 +171,448 @@ public class SpectrumChartPlot extends AbstractMatrixChartPlot<SpectrumDataset,
 		rtChart.setHeight(pieSize);
 
 		// fill background
-		if (null != style.getBackgroundColor()) {
-			g.setColor(style.getBackgroundColor());
+		if (null != aStyle.getBackgroundColor()) {
+			g.setColor(aStyle.getBackgroundColor());
 			g.fillArc(rtChart.getX(), rtChart.getY(), rtChart.getWidth(), rtChart.getHeight(), 0, 360);
 		}
 
 		// Draw dataset
-		drawDataset(g, dataset, scaleValue, style, rtChart);
+		drawDataset(g, aDataset, scaleValue, aStyle, aPool, rtChart);
 
 		if (isDebugMode()) {
 			g.setStroke(new BasicStroke(1.f));
 			g.setColor(Color.blue);
 			g.drawRect(rtChart);
 		}
-
-		return true;
 	}
 
 	private void drawDataset(final Graphics g, final SpectrumDataset aDataset, final ScaleValue aScaleValue, final SpectrumChartStyle aStyle,
-			final Rect aRect) {
+			final ForkJoinPool aPool, final Rect aRect) {
 		if (ObjectUtility.isNotNull(aDataset)) {
+			int rowSize = aDataset.getRowSize();
+			int colSize = aDataset.getColSize();
+			final int width = (int) Math.ceil(aRect.getWidth());
+			final int height = (int) Math.ceil(aRect.getHeight());
+			if (0 == rowSize || 0 == colSize || 0 >= width || 0 >= height) {
+				return;
+			}
+			if (aDataset instanceof WaterfallSpectrumDataset) {
+				drawWaterfall(g, (WaterfallSpectrumDataset) aDataset, aScaleValue, aStyle, aRect, width, height);
+				return;
+			}
+
+			// 描画サイズの画像へ直接書き込み、一度に描画する
+			BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			final int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+			final ColorLookupTable colors = new ColorLookupTable(aStyle.getColorMap(), aStyle.getColorMapping(), aScaleValue.getMin(),
+					aScaleValue.getMax());
+
+			// ピクセル行の範囲毎に処理する（範囲毎に書き込み先の行が重ならない）
+			final Aggregation aggregation = aStyle.getAggregation();
+			final double percentile = aStyle.getAggregationPercentile();
+			BandJob job;
+			boolean decimation = rowSize > aRect.getHeight() || colSize > aRect.getWidth();
+			if (decimation && Aggregation.None != aggregation) {
+				job = new BandJob() {
+					@Override
+					public void run(final int aFrom, final int aTo) {
+						rasterizeAggregated(aDataset, colors, aggregation, percentile, aRect, pixels, width, height, aFrom, aTo);
+					}
+				};
+			} else if (Interpolation.Bilinear == aStyle.getInterpolation()) {
+				job = new BandJob() {
+					@Override
+					public void run(final int aFrom, final int aTo) {
+						rasterizeBilinear(aDataset, colors, aRect, pixels, width, aFrom, aTo);
+					}
+				};
+			} else {
+				job = new BandJob() {
+					@Override
+					public void run(final int aFrom, final int aTo) {
+						rasterizeNearest(aDataset, colors, aRect, pixels, width, aFrom, aTo);
+					}
+				};
+			}
+			invoke(job, height, (long) width * height, aPool);
 
-			double pixXPerValue = (aRect.getWidth()) / aDataset.getColSize();
-			double pixYPerValue = (aRect.getHeight()) / aDataset.getRowSize();
-			int width = (int) Math.ceil(pixXPerValue);
-			int height = (int) Math.ceil(pixYPerValue);
+			g.drawImage(image, aRect.getX(), aRect.getY());
+		}
+	}
+
+	private void drawWaterfall(final Graphics g, final WaterfallSpectrumDataset aDataset, final ScaleValue aScaleValue,
+			final SpectrumChartStyle aStyle, final Rect aRect, final int aWidth, final int aHeight) {
+		Aggregation aggregation = (aDataset.getColSize() > aRect.getWidth()) ? aStyle.getAggregation() : Aggregation.None;
+		if (null == waterfall
+				|| !waterfall.isCompatible(aDataset, aStyle.getColorMap(), aStyle.getColorMapping(), aScaleValue.getMin(), aScaleValue.getMax(),
+						aggregation, aWidth)) {
+			// 表示条件が変わった場合のみ全体を色付けし直す
+			waterfall = new WaterfallRaster(aDataset, aStyle.getColorMap(), aStyle.getColorMapping(), aScaleValue.getMin(),
+					aScaleValue.getMax(), aggregation, aDataset.getColSize() / (double) aRect.getWidth(), aWidth);
+		}
+		int lines = waterfall.update();
+		debug(String.format("Waterfall updated lines : %d", lines));
+
+		waterfall.draw(g, aRect.getX(), aRect.getY(), aHeight);
+	}
+
+	private static void invoke(final BandJob aJob, final int aSize, final long aCost, final ForkJoinPool aPool) {
+		if (!isParallel(aPool, aCost)) {
+			aJob.run(0, aSize);
+			return;
+		}
+		aPool.invoke(new BandTask(aJob, 0, aSize, getBandSize(aPool, aSize)));
+	}
+
+	private synchronized ForkJoinPool getPool() {
+		return pool;
+	}
+
+	private static boolean isParallel(final ForkJoinPool aPool, final long aCost) {
+		return null != aPool && aCost >= PARALLEL_THRESHOLD;
+	}
+
+	private static int getBandSize(final ForkJoinPool aPool, final int aSize) {
+		// 負荷の偏りを吸収できる様に並列数の4倍程度に分割する
+		int bands = aPool.getParallelism() * 4;
+		return Math.max(MIN_BAND_SIZE, (aSize + bands - 1) / bands);
+	}
+
+	private static double[] scanRange(final SpectrumDataset aDataset, final int aFrom, final int aTo) {
+		int colSize = aDataset.getColSize();
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		double[] values = new double[colSize];
+		for (int row = aFrom; row < aTo; row++) {
+			aDataset.getRowValues(row, values);
+			for (int col = 0; col < colSize; col++) {
+				min = Math.min(min, values[col]);
+				max = Math.max(max, values[col]);
+			}
+		}
+		return new double[] { min, max };
+	}
 
-			for (int row = 0; row < aDataset.getRowSize(); row++) {
-				for (int col = 0; col < aDataset.getColSize(); col++) {
+	private void rasterizeNearest(final SpectrumDataset aDataset, final ColorLookupTable aColors, final Rect aRect, final int[] aPixels,
+			final int aWidth, final int aFrom, final int aTo) {
+		int rowSize = aDataset.getRowSize();
+		int colSize = aDataset.getColSize();
+		double colPerPix = colSize / (double) aRect.getWidth();
+		double rowPerPix = rowSize / (double) aRect.getHeight();
 
-					float x = (float) (aRect.getX() + (col * pixXPerValue));
-					float y = (float) (aRect.getY() + (row * pixYPerValue));
+		int[] cols = new int[aWidth];
+		for (int x = 0; x < aWidth; x++) {
+			cols[x] = Math.min(colSize - 1, (int) (x * colPerPix));
+		}
 
-					SpectrumMatrixData data = aDataset.get(row, col);
+		// 量子化されたデータセットは、コード毎の色を参照する（行毎の範囲の場合は列数よりコード数が少ない場合のみ）
+		QuantizedSpectrumDataset quantized = null;
+		int[] codes = null;
+		int[] palette = null;
+		if (aDataset instanceof QuantizedSpectrumDataset) {
+			quantized = (QuantizedSpectrumDataset) aDataset;
+			if (quantized.isRowScale() && quantized.getCodeSize() > colSize) {
+				quantized = null;
+			} else {
+				codes = new int[colSize];
+				palette = new int[quantized.getCodeSize()];
+			}
+		}
 
-					g.setColor(getColor(data.getValue(), aScaleValue));
+		// 行毎にセルの色を求め、同じ行に対応するピクセル行で再利用する
+		double[] values = new double[colSize];
+		int[] colors = new int[colSize];
+		int lastRow = -1;
+		for (int y = aFrom; y < aTo; y++) {
+			int row = Math.min(rowSize - 1, (int) (y * rowPerPix));
+			if (row != lastRow) {
+				if (null != quantized) {
+					if (quantized.isRowScale() || -1 == lastRow) {
+						for (int code = 0; code < palette.length; code++) {
+							palette[code] = aColors.getRGB(quantized.decodeValue(row, code));
+						}
+					}
+					quantized.getRowCodes(row, codes);
+					for (int col = 0; col < colSize; col++) {
+						colors[col] = palette[codes[col]];
+					}
+				} else {
+					aDataset.getRowValues(row, values);
+					for (int col = 0; col < colSize; col++) {
+						colors[col] = aColors.getRGB(values[col]);
+					}
+				}
+				lastRow = row;
+			}
+			int offset = y * aWidth;
+			for (int x = 0; x < aWidth; x++) {
+				aPixels[offset + x] = colors[cols[x]];
+			}
+		}
+	}
 
-					g.fillRect(x, y, width, height);
+	private void rasterizeBilinear(final SpectrumDataset aDataset, final ColorLookupTable aColors, final Rect aRect, final int[] aPixels,
+			final int aWidth, final int aFrom, final int aTo) {
+		int rowSize = aDataset.getRowSize();
+		int colSize = aDataset.getColSize();
+		double colPerPix = colSize / (double) aRect.getWidth();
+		double rowPerPix = rowSize / (double) aRect.getHeight();
+
+		// ピクセル中心に対応するセル座標（セル中心を基準）
+		int[] cols = new int[aWidth];
+		double[] colWeights = new double[aWidth];
+		for (int x = 0; x < aWidth; x++) {
+			double u = Math.max(0.0, Math.min(colSize - 1, (x + 0.5) * colPerPix - 0.5));
+			cols[x] = Math.min(colSize - 2, (int) u);
+			colWeights[x] = u - cols[x];
+			if (cols[x] < 0) {
+				cols[x] = 0;
+				colWeights[x] = 0.0;
+			}
+		}
+		int nextCol = (1 < colSize) ? 1 : 0;
+
+		double[] values0 = new double[colSize];
+		double[] values1 = new double[colSize];
+		int row0 = -1;
+		int row1 = -1;
+		for (int y = aFrom; y < aTo; y++) {
+			double v = Math.max(0.0, Math.min(rowSize - 1, (y + 0.5) * rowPerPix - 0.5));
+			int row = (int) v;
+			int next = Math.min(rowSize - 1, row + 1);
+			double rowWeight = v - row;
+			if (row != row0) {
+				if (row == row1) {
+					double[] tmp = values0;
+					values0 = values1;
+					values1 = tmp;
+				} else {
+					aDataset.getRowValues(row, values0);
 				}
+				row0 = row;
+				row1 = -1;
+			}
+			if (next != row1) {
+				aDataset.getRowValues(next, values1);
+				row1 = next;
+			}
+
+			int offset = y * aWidth;
+			for (int x = 0; x < aWidth; x++) {
+				int col = cols[x];
+				double w = colWeights[x];
+				double top = values0[col] + (values0[col + nextCol] - values0[col]) * w;
+				double bottom = values1[col] + (values1[col + nextCol] - values1[col]) * w;
+				aPixels[offset + x] = aColors.getRGB(top + (bottom - top) * rowWeight);
 			}
 		}
 	}
 
-	private ScaleValue getScaleValue(final SpectrumDataset aDataset) {
+	private void rasterizeAggregated(final SpectrumDataset aDataset, final ColorLookupTable aColors, final Aggregation aAggregation,
+			final double aPercentile, final Rect aRect, final int[] aPixels, final int aWidth, final int aHeight, final int aFrom, final int aTo) {
+		int rowSize = aDataset.getRowSize();
+		int colSize = aDataset.getColSize();
+		CellBlocks cols = new CellBlocks(aWidth, colSize / (double) aRect.getWidth(), colSize);
+		CellBlocks rows = new CellBlocks(aHeight, rowSize / (double) aRect.getHeight(), rowSize);
+
+		// 隣接するピクセル行で共有する行を再取得しない様に、行番号毎に保持する
+		int slotSize = rows.getMaxBlockSize() + 1;
+		double[][] slots = new double[slotSize][colSize];
+		int[] slotRows = new int[slotSize];
+		Arrays.fill(slotRows, -1);
+
+		int capacity = (Aggregation.Percentile == aAggregation) ? rows.getMaxBlockSize() * cols.getMaxBlockSize() : 0;
+		double[] blockValues = new double[capacity];
+		double[] blockWeights = new double[capacity];
+
+		double[][] blockRows = new double[rows.getMaxBlockSize()][];
+		double[] rowWeights = new double[rows.getMaxBlockSize()];
+		for (int y = aFrom; y < aTo; y++) {
+			int rowStart = rows.getStart(y);
+			int rowCount = rows.getEnd(y) - rowStart;
+			for (int i = 0; i < rowCount; i++) {
+				int row = rowStart + i;
+				int slot = row % slotSize;
+				if (slotRows[slot] != row) {
+					aDataset.getRowValues(row, slots[slot]);
+					slotRows[slot] = row;
+				}
+				blockRows[i] = slots[slot];
+				rowWeights[i] = rows.getWeight(y, row);
+			}
+
+			int offset = y * aWidth;
+			for (int x = 0; x < aWidth; x++) {
+				int colStart = cols.getStart(x);
+				int colEnd = cols.getEnd(x);
+
+				double value;
+				if (Aggregation.Max == aAggregation) {
+					value = Double.NaN;
+					for (int i = 0; i < rowCount; i++) {
+						double[] values = blockRows[i];
+						for (int col = colStart; col < colEnd; col++) {
+							if (values[col] > value || Double.isNaN(value)) {
+								value = values[col];
+							}
+						}
+					}
+				} else if (Aggregation.Mean == aAggregation) {
+					double sum = 0.0;
+					double weight = 0.0;
+					for (int i = 0; i < rowCount; i++) {
+						double[] values = blockRows[i];
+						for (int col = colStart; col < colEnd; col++) {
+							if (!Double.isNaN(values[col])) {
+								double w = rowWeights[i] * cols.getWeight(x, col);
+								sum += values[col] * w;
+								weight += w;
+							}
+						}
+					}
+					value = (0 < weight) ? sum / weight : Double.NaN;
+				} else {
+					int size = 0;
+					double weight = 0.0;
+					for (int i = 0; i < rowCount; i++) {
+						double[] values = blockRows[i];
+						for (int col = colStart; col < colEnd; col++) {
+							if (!Double.isNaN(values[col])) {
+								double w = rowWeights[i] * cols.getWeight(x, col);
+								blockValues[size] = values[col];
+								blockWeights[size] = w;
+								weight += w;
+								size++;
+							}
+						}
+					}
+					value = percentile(blockValues, blockWeights, size, weight, aPercentile);
+				}
+				aPixels[offset + x] = aColors.getRGB(value);
+			}
+		}
+	}
+
+	private static double percentile(final double[] aValues, final double[] aWeights, final int aSize, final double aTotalWeight,
+			final double aPercentile) {
+		if (0 == aSize) {
+			return Double.NaN;
+		}
+		sort(aValues, aWeights, 0, aSize - 1);
+		// 重み付きで累積し、指定割合に達した値を採用する
+		double target = aTotalWeight * aPercentile / 100.0;
+		double cumulative = 0.0;
+		for (int i = 0; i < aSize; i++) {
+			cumulative += aWeights[i];
+			if (cumulative >= target) {
+				return aValues[i];
+			}
+		}
+		return aValues[aSize - 1];
+	}
+
+	/**
+	 * 値の昇順に値配列と重み配列を並び替える。
+	 */
+	private static void sort(final double[] aValues, final double[] aWeights, final int aLow, final int aHigh) {
+		int low = aLow;
+		int high = aHigh;
+		while (high - low > 16) {
+			double pivot = aValues[(low + high) >>> 1];
+			int i = low;
+			int j = high;
+			while (i <= j) {
+				while (aValues[i] < pivot) {
+					i++;
+				}
+				while (aValues[j] > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					swap(aValues, aWeights, i, j);
+					i++;
+					j--;
+				}
+			}
+			// 短い方を再帰し、長い方はループで処理する
+			if (j - low < high - i) {
+				sort(aValues, aWeights, low, j);
+				low = i;
+			} else {
+				sort(aValues, aWeights, i, high);
+				high = j;
+			}
+		}
+		for (int i = low + 1; i <= high; i++) {
+			for (int j = i; j > low && aValues[j - 1] > aValues[j]; j--) {
+				swap(aValues, aWeights, j - 1, j);
+			}
+		}
+	}
+
+	private static void swap(final double[] aValues, final double[] aWeights, final int aIndex1, final int aIndex2) {
+		double value = aValues[aIndex1];
+		aValues[aIndex1] = aValues[aIndex2];
+		aValues[aIndex2] = value;
+		double weight = aWeights[aIndex1];
+		aWeights[aIndex1] = aWeights[aIndex2];
+		aWeights[aIndex2] = weight;
+	}
+
+	private ScaleValue getScaleValue(final SpectrumDataset aDataset, final ForkJoinPool aPool) {
 		// データ最小値・最大値取得 //////////////////////////
 		Double dataMinValue = null;
 		Double dataMaxValue = null;
 		if (null != aDataset) {
-			for (int row = 0; row < aDataset.getRowSize(); row++) {
-				for (int col = 0; col < aDataset.getColSize(); col++) {
-					SpectrumMatrixData data = aDataset.get(row, col);
-					if (null == dataMinValue) {
-						dataMinValue = data.getValue();
-						dataMaxValue = data.getValue();
-					} else {
-						dataMinValue = Math.min(dataMinValue, data.getValue());
-						dataMaxValue = Math.max(dataMaxValue, data.getValue());
+			int rowSize = aDataset.getRowSize();
+			int colSize = aDataset.getColSize();
+			if (0 < rowSize && 0 < colSize && aDataset instanceof WaterfallSpectrumDataset) {
+				// 行の追加時に更新された値を使用し、全体を走査しない
+				WaterfallSpectrumDataset waterfall = (WaterfallSpectrumDataset) aDataset;
+				double min = waterfall.getMinimumValue();
+				double max = waterfall.getMaximumValue();
+				if (min <= max) {
+					dataMinValue = min;
+					dataMaxValue = max;
+				}
+			} else if (0 < rowSize && 0 < colSize && aDataset instanceof QuantizedSpectrumDataset) {
+				// 量子化の範囲を使用し、全体を走査しない
+				QuantizedSpectrumDataset quantized = (QuantizedSpectrumDataset) aDataset;
+				double min = Double.POSITIVE_INFINITY;
+				double max = Double.NEGATIVE_INFINITY;
+				for (int row = 0; row < (quantized.isRowScale() ? rowSize : 1); row++) {
+					min = Math.min(min, quantized.getMinimumValue(row));
+					max = Math.max(max, quantized.getMaximumValue(row));
+				}
+				dataMinValue = min;
+				dataMaxValue = max;
+			} else if (0 < rowSize && 0 < colSize && aDataset instanceof SparseSpectrumDataset) {
+				// 背景値以外のセルと背景値のみを走査する
+				SparseSpectrumDataset sparse = (SparseSpectrumDataset) aDataset;
+				double min = Double.POSITIVE_INFINITY;
+				double max = Double.NEGATIVE_INFINITY;
+				if (sparse.getEntrySize() < (long) rowSize * colSize) {
+					min = sparse.getBackgroundValue();
+					max = sparse.getBackgroundValue();
+				}
+				for (int row = 0; row < rowSize; row++) {
+					int entrySize = sparse.getEntrySize(row);
+					for (int i = 0; i < entrySize; i++) {
+						min = Math.min(min, sparse.getEntryValue(row, i));
+						max = Math.max(max, sparse.getEntryValue(row, i));
 					}
-
 				}
+				dataMinValue = min;
+				dataMaxValue = max;
+			} else if (0 < rowSize && 0 < colSize) {
+				double[] range;
+				if (!isParallel(aPool, (long) rowSize * colSize)) {
+					range = scanRange(aDataset, 0, rowSize);
+				} else {
+					range = aPool.invoke(new RangeTask(aDataset, 0, rowSize, getBandSize(aPool, rowSize)));
+				}
+				dataMinValue = range[0];
+				dataMaxValue = range[1];
 			}
 		}
 		debug(String.format("Data minimum value : %f", dataMinValue));
@@ -183,20 +646,167 @@ public class SpectrumChartPlot extends AbstractMatrixChartPlot<SpectrumDataset,
 		return scaleValue;
 	}
 
-	private Color getColor(final double aValue, final ScaleValue aScaleValue) {
-		double index = ((aValue - aScaleValue.getMin()) / aScaleValue.getDiff()) * 511.f;
-		if (index < 0)
-			index = 0;
-		if (index > 511)
-			index = 511;
-		index = 511 - index;
+	/**
+	 * このクラスは、ピクセル行の範囲毎の処理を表す基底クラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static abstract class BandJob {
+
+		/**
+		 * 範囲を処理する。
+		 * 
+		 * @param aFrom 開始行
+		 * @param aTo 終了行（この行を含まない）
+		 */
+		public abstract void run(final int aFrom, final int aTo);
+	}
+
+	/**
+	 * このクラスは、ピクセル行の範囲を分割して処理するタスククラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class BandTask extends RecursiveAction {
+
+		/** serialVersionUID */
+		private static final long serialVersionUID = 1L;
+
+		private final BandJob job;
+		private final int from;
+		private final int to;
+		private final int bandSize;
+
+		public BandTask(final BandJob aJob, final int aFrom, final int aTo, final int aBandSize) {
+			job = aJob;
+			from = aFrom;
+			to = aTo;
+			bandSize = aBandSize;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= bandSize) {
+				job.run(from, to);
+			} else {
+				int middle = (from + to) >>> 1;
+				invokeAll(new BandTask(job, from, middle, bandSize), new BandTask(job, middle, to, bandSize));
+			}
+		}
+	}
+
+	/**
+	 * このクラスは、行の範囲を分割して最小値・最大値を求めるタスククラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class RangeTask extends RecursiveTask<double[]> {
+
+		/** serialVersionUID */
+		private static final long serialVersionUID = 1L;
+
+		private final SpectrumDataset dataset;
+		private final int from;
+		private final int to;
+		private final int bandSize;
+
+		public RangeTask(final SpectrumDataset aDataset, final int aFrom, final int aTo, final int aBandSize) {
+			dataset = aDataset;
+			from = aFrom;
+			to = aTo;
+			bandSize = aBandSize;
+		}
+
+		@Override
+		protected double[] compute() {
+			if (to - from <= bandSize) {
+				return scanRange(dataset, from, to);
+			}
+			int middle = (from + to) >>> 1;
+			RangeTask left = new RangeTask(dataset, from, middle, bandSize);
+			RangeTask right = new RangeTask(dataset, middle, to, bandSize);
+			right.fork();
+			double[] result = left.compute();
+			double[] other = right.join();
+			return new double[] { Math.min(result[0], other[0]), Math.max(result[1], other[1]) };
+		}
+	}
+
+	/**
+	 * このクラスは、ピクセル毎に覆うセルの範囲と重みを保持するクラスです。
+	 * <p>
+	 * 1ピクセルあたりのセル数が1以下の場合は、ピクセル毎に1セルを重み1で選択します。
+	 * </p>
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	static final class CellBlocks {
+
+		/** 開始セル */
+		private final int[] starts;
+		/** 終了セル（このセルを含まない） */
+		private final int[] ends;
+		/** 開始セルの重み */
+		private final double[] startWeights;
+		/** 終了セルの重み */
+		private final double[] endWeights;
+		/** 最大セル数 */
+		private int maxBlockSize;
+
+		CellBlocks(final int aPixelSize, final double aCellsPerPixel, final int aCellSize) {
+			starts = new int[aPixelSize];
+			ends = new int[aPixelSize];
+			startWeights = new double[aPixelSize];
+			endWeights = new double[aPixelSize];
+			maxBlockSize = 1;
+			for (int i = 0; i < aPixelSize; i++) {
+				if (aCellsPerPixel <= 1.0) {
+					starts[i] = Math.min(aCellSize - 1, (int) (i * aCellsPerPixel));
+					ends[i] = starts[i] + 1;
+					startWeights[i] = 1.0;
+					endWeights[i] = 1.0;
+				} else {
+					double from = Math.min(aCellSize, i * aCellsPerPixel);
+					double to = Math.min(aCellSize, (i + 1) * aCellsPerPixel);
+					starts[i] = Math.min(aCellSize - 1, (int) from);
+					ends[i] = Math.max(starts[i] + 1, (int) Math.ceil(to));
+					startWeights[i] = Math.min(starts[i] + 1, to) - from;
+					endWeights[i] = to - (ends[i] - 1);
+					if (!(0 < startWeights[i])) {
+						startWeights[i] = 1.0;
+					}
+				}
+				maxBlockSize = Math.max(maxBlockSize, ends[i] - starts[i]);
+			}
+		}
+
+		int getStart(final int aPixel) {
+			return starts[aPixel];
+		}
+
+		int getEnd(final int aPixel) {
+			return ends[aPixel];
+		}
+
+		double getWeight(final int aPixel, final int aCell) {
+			if (aCell == starts[aPixel]) {
+				return startWeights[aPixel];
+			} else if (aCell == ends[aPixel] - 1) {
+				return endWeights[aPixel];
+			}
+			return 1.0;
+		}
 
-		Color color = null;
-		if (index <= 255) {
-			color = new Color((int) (255 - index), (int) index, 0);
-		} else {
-			color = new Color(0, (int) (255 - (index - 256)), (int) (index - 256));
+		int getMaxBlockSize() {
+			return maxBlockSize;
 		}
-		return color;
 	}
 }
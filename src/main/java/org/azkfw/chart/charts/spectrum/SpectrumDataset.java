@@ -64,4 +64,32 @@ public class SpectrumDataset extends AbstractMatrixDataset<SpectrumMatrixData> {
 	public SpectrumDataset(final String aTitle, final int aRow, final int aCol) {
 		super(aTitle, aRow, aCol);
 	}
+
+	/**
+	 * 値を取得する。
+	 * <p>
+	 * データが設定されていないセルの値は0.0とします。
+	 * </p>
+	 * 
+	 * @param aRow 行
+	 * @param aCol 列
+	 * @return 値
+	 */
+	public double getValue(final int aRow, final int aCol) {
+		SpectrumMatrixData data = get(aRow, aCol);
+		return (null == data) ? 0.0 : data.getValue();
+	}
+
+	/**
+	 * 行の値を取得する。
+	 * 
+	 * @param aRow 行
+	 * @param aValues 値を格納する配列（列数以上の長さ）
+	 */
+	public void getRowValues(final int aRow, final double[] aValues) {
+		int colSize = getColSize();
+		for (int col = 0; col < colSize; col++) {
+			aValues[col] = getValue(aRow, col);
+		}
+	}
 }
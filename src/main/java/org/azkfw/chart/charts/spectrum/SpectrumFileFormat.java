@@ -0,0 +1,134 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * このクラスは、スペクトログラムファイルの形式を定義するクラスです。
+ * <p>
+ * ファイルは16バイトのヘッダと、行優先のリトルエンディアン32bit浮動小数点数の値で構成されます。
+ * </p>
+ * 
+ * <pre>
+ * offset  size  内容
+ *      0     4  マジックナンバー "AZSM"
+ *      4     4  バージョン
+ *      8     4  列数
+ *     12     4  予約（0）
+ *     16     -  値（行数 × 列数 × 4バイト）
+ * </pre>
+ * <p>
+ * 行数はヘッダに持たず、ファイル長から求めます。その為、書き込み中のファイルも完全に書き込まれた行まで参照できます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class SpectrumFileFormat {
+
+	/** マジックナンバー */
+	public static final int MAGIC = 0x4D535A41; // "AZSM" (little endian)
+	/** バージョン */
+	public static final int VERSION = 1;
+	/** ヘッダサイズ */
+	public static final int HEADER_SIZE = 16;
+	/** 値1件のバイト数 */
+	public static final int VALUE_SIZE = 4;
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * インスタンス生成を禁止
+	 * </p>
+	 */
+	private SpectrumFileFormat() {
+
+	}
+
+	/**
+	 * ヘッダを書き込む。
+	 * 
+	 * @param aChannel チャネル
+	 * @param aColSize 列数
+	 * @throws IOException IO操作に失敗した場合
+	 */
+	public static void writeHeader(final FileChannel aChannel, final int aColSize) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(aColSize);
+		buffer.putInt(0);
+		buffer.flip();
+		long position = 0;
+		while (buffer.hasRemaining()) {
+			position += aChannel.write(buffer, position);
+		}
+	}
+
+	/**
+	 * ヘッダを読み込み列数を取得する。
+	 * 
+	 * @param aChannel チャネル
+	 * @return 列数
+	 * @throws IOException IO操作に失敗した場合、またはファイル形式が不正な場合
+	 */
+	public static int readHeader(final FileChannel aChannel) throws IOException {
+		if (aChannel.size() < HEADER_SIZE) {
+			throw new IOException("Not a spectrum file. File too short.");
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		long position = 0;
+		while (buffer.hasRemaining()) {
+			int read = aChannel.read(buffer, position);
+			if (read < 0) {
+				throw new IOException("Unexpected end of file.");
+			}
+			position += read;
+		}
+		buffer.flip();
+		int magic = buffer.getInt();
+		int version = buffer.getInt();
+		int colSize = buffer.getInt();
+		if (MAGIC != magic) {
+			throw new IOException(String.format("Not a spectrum file. Magic: 0x%08X", magic));
+		}
+		if (VERSION != version) {
+			throw new IOException(String.format("Unsupported spectrum file version: %d", version));
+		}
+		if (colSize <= 0) {
+			throw new IOException(String.format("Illegal column size: %d", colSize));
+		}
+		return colSize;
+	}
+
+	/**
+	 * ファイルサイズから完全に書き込まれた行数を取得する。
+	 * 
+	 * @param aFileSize ファイルサイズ
+	 * @param aColSize 列数
+	 * @return 行数
+	 */
+	public static long getRowSize(final long aFileSize, final int aColSize) {
+		return Math.max(0L, aFileSize - HEADER_SIZE) / ((long) aColSize * VALUE_SIZE);
+	}
+}
@@ -0,0 +1,189 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * このクラスは、スペクトログラムファイルへ行を追記するライタークラスです。
+ * <p>
+ * ファイルは16バイトのヘッダ（マジックナンバー"AZSM"、バージョン、列数、予約）と、
+ * 行優先のリトルエンディアン32bit浮動小数点数の値で構成されます。
+ * 行数はファイル長から求める為、書き込み中のファイルも{@link MappedSpectrumDataset}で参照できます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class SpectrumFileWriter implements Closeable, Flushable {
+
+	/** チャネル */
+	private FileChannel channel;
+	/** 列数 */
+	private final int colSize;
+	/** 行数 */
+	private long rowSize;
+	/** 書き込みバッファ */
+	private final ByteBuffer buffer;
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 既存のファイルは上書きされます。
+	 * </p>
+	 * 
+	 * @param aFile ファイル
+	 * @param aColSize 列数
+	 * @throws IOException ファイルの作成に失敗した場合
+	 */
+	public SpectrumFileWriter(final File aFile, final int aColSize) throws IOException {
+		this(aFile, aColSize, false);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aFile ファイル
+	 * @param aColSize 列数
+	 * @param aAppend 既存のファイルへ追記する場合、<code>true</code>
+	 * @throws IOException ファイルの作成に失敗した場合、または追記先ファイルの列数が異なる場合
+	 */
+	@SuppressWarnings("resource")
+	public SpectrumFileWriter(final File aFile, final int aColSize, final boolean aAppend) throws IOException {
+		if (0 >= aColSize || (long) aColSize * SpectrumFileFormat.VALUE_SIZE > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(String.format("Illegal column size: %d", aColSize));
+		}
+		colSize = aColSize;
+		buffer = ByteBuffer.allocateDirect(aColSize * SpectrumFileFormat.VALUE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+		channel = new RandomAccessFile(aFile, "rw").getChannel();
+		try {
+			if (aAppend && SpectrumFileFormat.HEADER_SIZE <= channel.size()) {
+				int fileColSize = SpectrumFileFormat.readHeader(channel);
+				if (fileColSize != aColSize) {
+					throw new IOException(String.format("Column size mismatch. File: %d, Writer: %d", fileColSize, aColSize));
+				}
+				rowSize = SpectrumFileFormat.getRowSize(channel.size(), colSize);
+				// 書きかけの行を切り捨てる
+				channel.truncate(SpectrumFileFormat.HEADER_SIZE + rowSize * colSize * SpectrumFileFormat.VALUE_SIZE);
+			} else {
+				channel.truncate(0);
+				SpectrumFileFormat.writeHeader(channel, aColSize);
+				rowSize = 0;
+			}
+		} catch (IOException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * 列数を取得する。
+	 * 
+	 * @return 列数
+	 */
+	public int getColSize() {
+		return colSize;
+	}
+
+	/**
+	 * 書き込み済みの行数を取得する。
+	 * 
+	 * @return 行数
+	 */
+	public long getRowSize() {
+		return rowSize;
+	}
+
+	/**
+	 * 行を追記する。
+	 * 
+	 * @param aValues 値配列（列数以上の長さ）
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public synchronized void appendRow(final double[] aValues) throws IOException {
+		checkRow(aValues.length);
+		buffer.clear();
+		for (int col = 0; col < colSize; col++) {
+			buffer.putFloat((float) aValues[col]);
+		}
+		writeBuffer();
+	}
+
+	/**
+	 * 行を追記する。
+	 * 
+	 * @param aValues 値配列（列数以上の長さ）
+	 * @throws IOException 書き込みに失敗した場合
+	 */
+	public synchronized void appendRow(final float[] aValues) throws IOException {
+		checkRow(aValues.length);
+		buffer.clear();
+		buffer.asFloatBuffer().put(aValues, 0, colSize);
+		buffer.position(colSize * SpectrumFileFormat.VALUE_SIZE);
+		writeBuffer();
+	}
+
+	@Override
+	public synchronized void flush() throws IOException {
+		checkOpen();
+		channel.force(false);
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (null != channel) {
+			try {
+				channel.force(false);
+			} finally {
+				channel.close();
+				channel = null;
+			}
+		}
+	}
+
+	private void checkRow(final int aLength) throws IOException {
+		checkOpen();
+		if (aLength < colSize) {
+			throw new IllegalArgumentException(String.format("Row too short. Length: %d, Column size: %d", aLength, colSize));
+		}
+	}
+
+	private void checkOpen() throws IOException {
+		if (null == channel) {
+			throw new IOException("Writer already closed.");
+		}
+	}
+
+	private void writeBuffer() throws IOException {
+		buffer.flip();
+		long position = SpectrumFileFormat.HEADER_SIZE + rowSize * colSize * SpectrumFileFormat.VALUE_SIZE;
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+		rowSize++;
+	}
+}
@@ -0,0 +1,238 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+import org.azkfw.chart.charts.spectrum.SpectrumChartDesign.SpectrumChartStyle.Aggregation;
+import org.azkfw.chart.charts.spectrum.SpectrumChartPlot.CellBlocks;
+import org.azkfw.chart.design.color.ColorLookupTable;
+import org.azkfw.chart.design.color.ColorMap;
+import org.azkfw.graphics.Graphics;
+
+/**
+ * このクラスは、ウォーターフォール表示の色付け済み画像を保持するクラスです。
+ * <p>
+ * データセットの保持行数分のピクセル行を持ち、追加された行のみを色付けしてデータセットの循環バッファと同じ位置のピクセル行へ書き込みます。
+ * 破棄された行のピクセル行は、破棄の原因となった行で上書きされます。
+ * 描画時は最も古い行が上になる様に2つの領域に分け、保持行数が描画領域の高さとなる様に縦方向に拡大・縮小します。
+ * 保持行数に満たない場合、上部は描画されません。
+ * </p>
+ * <p>
+ * 列の間引き時は{@link Aggregation#Max}、{@link Aggregation#Mean}で集約します。
+ * {@link Aggregation#Percentile}は{@link Aggregation#Max}として扱います。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class WaterfallRaster {
+
+	/** データセット */
+	private final WaterfallSpectrumDataset dataset;
+	/** カラーマップ */
+	private final ColorMap colorMap;
+	/** 値の対応方法 */
+	private final ColorLookupTable.Mapping mapping;
+	/** 最小値 */
+	private final double minimumValue;
+	/** 最大値 */
+	private final double maximumValue;
+	/** 集約方法 */
+	private final Aggregation aggregation;
+
+	/** 色テーブル */
+	private final ColorLookupTable colors;
+	/** 画像 */
+	private final BufferedImage image;
+	/** ピクセル配列 */
+	private final int[] pixels;
+	/** 幅 */
+	private final int width;
+	/** ピクセル行数（データセットの保持行数） */
+	private final int lines;
+	/** ピクセル列毎に覆う列 */
+	private final CellBlocks cols;
+	/** 行の値 */
+	private final double[] values;
+
+	/** 書き込み済みの追加済み行数 */
+	private long appendedCount;
+	/** 書き込み済みの変更回数 */
+	private long rewriteCount;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aDataset データセット
+	 * @param aColorMap カラーマップ
+	 * @param aMapping 値の対応方法
+	 * @param aMinimumValue 最小値
+	 * @param aMaximumValue 最大値
+	 * @param aAggregation 集約方法
+	 * @param aColPerPixel 1ピクセルあたりの列数
+	 * @param aWidth 幅
+	 */
+	public WaterfallRaster(final WaterfallSpectrumDataset aDataset, final ColorMap aColorMap, final ColorLookupTable.Mapping aMapping,
+			final double aMinimumValue, final double aMaximumValue, final Aggregation aAggregation, final double aColPerPixel,
+			final int aWidth) {
+		dataset = aDataset;
+		colorMap = aColorMap;
+		mapping = aMapping;
+		minimumValue = aMinimumValue;
+		maximumValue = aMaximumValue;
+		aggregation = aAggregation;
+
+		colors = new ColorLookupTable(aColorMap, aMapping, aMinimumValue, aMaximumValue);
+		image = new BufferedImage(aWidth, aDataset.getRowCapacity(), BufferedImage.TYPE_INT_ARGB);
+		pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		width = aWidth;
+		lines = aDataset.getRowCapacity();
+
+		cols = new CellBlocks(aWidth, aColPerPixel, aDataset.getColSize());
+		values = new double[aDataset.getColSize()];
+
+		appendedCount = 0;
+		rewriteCount = -1;
+	}
+
+	/**
+	 * 指定された条件で生成された画像か判断する。
+	 * 
+	 * @param aDataset データセット
+	 * @param aColorMap カラーマップ
+	 * @param aMapping 値の対応方法
+	 * @param aMinimumValue 最小値
+	 * @param aMaximumValue 最大値
+	 * @param aAggregation 集約方法
+	 * @param aWidth 幅
+	 * @return 同じ条件の場合、<code>true</code>
+	 */
+	public boolean isCompatible(final WaterfallSpectrumDataset aDataset, final ColorMap aColorMap, final ColorLookupTable.Mapping aMapping,
+			final double aMinimumValue, final double aMaximumValue, final Aggregation aAggregation, final int aWidth) {
+		return dataset == aDataset && colorMap == aColorMap && mapping == aMapping && 0 == Double.compare(minimumValue, aMinimumValue)
+				&& 0 == Double.compare(maximumValue, aMaximumValue) && aggregation == aAggregation && width == aWidth;
+	}
+
+	/**
+	 * 前回の更新以降に追加された行を書き込む。
+	 * <p>
+	 * 行の追加以外の変更があった場合は全体を書き直します。保持行数を超えて追加された場合は、保持している全ての行を書き込みます。
+	 * </p>
+	 * 
+	 * @return 書き込んだ行数
+	 */
+	public int update() {
+		synchronized (dataset) {
+			long appended = dataset.getAppendedCount();
+			long rewrite = dataset.getRewriteCount();
+			int rowSize = dataset.getRowSize();
+			long added = appended - appendedCount;
+
+			int from;
+			if (rewrite != rewriteCount || added < 0) {
+				Arrays.fill(pixels, 0);
+				from = 0;
+			} else {
+				// 書き込み前に破棄された行の位置は、保持している行で上書きされる
+				from = rowSize - (int) Math.min(added, rowSize);
+			}
+			for (int row = from; row < rowSize; row++) {
+				dataset.getRowValues(row, values);
+				long sequence = appended - rowSize + row;
+				writeLine((int) (sequence % lines));
+			}
+
+			appendedCount = appended;
+			rewriteCount = rewrite;
+			return rowSize - from;
+		}
+	}
+
+	/**
+	 * 画像を描画する。
+	 * 
+	 * @param g グラフィクス
+	 * @param aX X座標
+	 * @param aY Y座標
+	 * @param aHeight 高さ
+	 */
+	public void draw(final Graphics g, final float aX, final float aY, final int aHeight) {
+		AffineTransform save = null;
+		float x = aX;
+		float y = aY;
+		if (lines != aHeight) {
+			save = g.getTransform();
+			AffineTransform at = new AffineTransform(save);
+			at.translate(aX, aY);
+			at.scale(1.0, aHeight / (double) lines);
+			g.setTransform(at);
+			x = 0.f;
+			y = 0.f;
+		}
+
+		// 次に書き込むピクセル行が最も古い行となる
+		int split = (int) (appendedCount % lines);
+		if (0 == split) {
+			g.drawImage(image, x, y);
+		} else {
+			g.drawImage(image.getSubimage(0, split, width, lines - split), x, y);
+			g.drawImage(image.getSubimage(0, 0, width, split), x, y + (lines - split));
+		}
+
+		if (null != save) {
+			g.setTransform(save);
+		}
+	}
+
+	private void writeLine(final int aLine) {
+		int offset = aLine * width;
+		if (Aggregation.None == aggregation) {
+			for (int x = 0; x < width; x++) {
+				pixels[offset + x] = colors.getRGB(values[cols.getStart(x)]);
+			}
+		} else if (Aggregation.Mean == aggregation) {
+			for (int x = 0; x < width; x++) {
+				double sum = 0.0;
+				double weight = 0.0;
+				for (int col = cols.getStart(x); col < cols.getEnd(x); col++) {
+					if (!Double.isNaN(values[col])) {
+						double w = cols.getWeight(x, col);
+						sum += values[col] * w;
+						weight += w;
+					}
+				}
+				pixels[offset + x] = colors.getRGB((0 < weight) ? sum / weight : Double.NaN);
+			}
+		} else {
+			for (int x = 0; x < width; x++) {
+				double value = Double.NaN;
+				for (int col = cols.getStart(x); col < cols.getEnd(x); col++) {
+					if (values[col] > value || Double.isNaN(value)) {
+						value = values[col];
+					}
+				}
+				pixels[offset + x] = colors.getRGB(value);
+			}
+		}
+	}
+}
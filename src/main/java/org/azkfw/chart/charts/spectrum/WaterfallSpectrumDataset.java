@@ -0,0 +1,362 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import java.util.Arrays;
+
+/**
+ * このクラスは、一定行数の循環バッファで行を保持するウォーターフォール表示用のデータセットクラスです。
+ * <p>
+ * 行は末尾へ追加され、行数が保持行数を超えた場合は最も古い行が破棄されます。
+ * 行0が最も古い行、最終行が最も新しい行となります。
+ * </p>
+ * <p>
+ * {@link SpectrumChartPlot}は追加された行のみを色付けして描画します。
+ * 行の追加と描画が別スレッドで行われる事を想定し、各メソッドは同期化されています。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class WaterfallSpectrumDataset extends SpectrumDataset {
+
+	/** 値配列（物理行優先） */
+	private final double[] values;
+	/** 保持行数 */
+	private final int rowCapacity;
+	/** 列数 */
+	private final int colSize;
+
+	/** 行数 */
+	private int rowSize;
+	/** 最も古い行の物理行 */
+	private int head;
+	/** 追加済み行数（破棄された行を含む） */
+	private long appendedCount;
+	/** 追加以外の変更回数 */
+	private long rewriteCount;
+
+	/** 物理行毎の最小値 */
+	private final double[] rowMinimumValues;
+	/** 物理行毎の最大値 */
+	private final double[] rowMaximumValues;
+	/** 物理行毎の最小値・最大値の再計算要否 */
+	private final boolean[] rowRangeStales;
+
+	/** 最小値 */
+	private double minimumValue;
+	/** 最大値 */
+	private double maximumValue;
+	/** 最小値・最大値の再計算要否 */
+	private boolean rangeStale;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aRowCapacity 保持行数
+	 * @param aCol 列数
+	 */
+	public WaterfallSpectrumDataset(final int aRowCapacity, final int aCol) {
+		this(null, aRowCapacity, aCol);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aRowCapacity 保持行数
+	 * @param aCol 列数
+	 */
+	public WaterfallSpectrumDataset(final String aTitle, final int aRowCapacity, final int aCol) {
+		super(aTitle);
+		if (0 >= aRowCapacity || 0 > aCol || (long) aRowCapacity * (long) aCol > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException(String.format("Row capacity: %d, Col: %d", aRowCapacity, aCol));
+		}
+		values = new double[aRowCapacity * aCol];
+		rowCapacity = aRowCapacity;
+		colSize = aCol;
+		rowSize = 0;
+		head = 0;
+		appendedCount = 0;
+		rewriteCount = 0;
+		rowMinimumValues = new double[aRowCapacity];
+		rowMaximumValues = new double[aRowCapacity];
+		rowRangeStales = new boolean[aRowCapacity];
+		minimumValue = Double.POSITIVE_INFINITY;
+		maximumValue = Double.NEGATIVE_INFINITY;
+		rangeStale = false;
+	}
+
+	@Override
+	public synchronized int getRowSize() {
+		return rowSize;
+	}
+
+	@Override
+	public int getColSize() {
+		return colSize;
+	}
+
+	/**
+	 * 保持行数を取得する。
+	 * 
+	 * @return 保持行数
+	 */
+	public int getRowCapacity() {
+		return rowCapacity;
+	}
+
+	/**
+	 * 追加済み行数を取得する。
+	 * <p>
+	 * 破棄された行を含む、生成（クリア）後に追加された行数です。
+	 * </p>
+	 * 
+	 * @return 追加済み行数
+	 */
+	public synchronized long getAppendedCount() {
+		return appendedCount;
+	}
+
+	/**
+	 * 行の追加以外の変更回数を取得する。
+	 * 
+	 * @return 変更回数
+	 */
+	public synchronized long getRewriteCount() {
+		return rewriteCount;
+	}
+
+	/**
+	 * 最小値を取得する。
+	 * <p>
+	 * 保持している行の値の最小値です。行毎の最小値から求める為、全セルの走査は行いません。
+	 * </p>
+	 * 
+	 * @return 最小値。値が無い場合、{@link Double#POSITIVE_INFINITY}
+	 */
+	public synchronized double getMinimumValue() {
+		if (rangeStale) {
+			computeRange();
+		}
+		return minimumValue;
+	}
+
+	/**
+	 * 最大値を取得する。
+	 * <p>
+	 * 保持している行の値の最大値です。行毎の最大値から求める為、全セルの走査は行いません。
+	 * </p>
+	 * 
+	 * @return 最大値。値が無い場合、{@link Double#NEGATIVE_INFINITY}
+	 */
+	public synchronized double getMaximumValue() {
+		if (rangeStale) {
+			computeRange();
+		}
+		return maximumValue;
+	}
+
+	/**
+	 * データを設定する。
+	 * <p>
+	 * データの値のみを保持します。<code>null</code>の場合は0.0を設定します。
+	 * </p>
+	 */
+	@Override
+	public void put(final int aRow, final int aCol, final SpectrumMatrixData aData) {
+		setValue(aRow, aCol, (null == aData) ? 0.0 : aData.getValue());
+	}
+
+	/**
+	 * データを取得する。
+	 * <p>
+	 * 値から新しいデータを生成して返却します。返却されたデータへの変更はデータセットへ反映されません。
+	 * </p>
+	 */
+	@Override
+	public SpectrumMatrixData get(final int aRow, final int aCol) {
+		return new SpectrumMatrixData(getValue(aRow, aCol));
+	}
+
+	@Override
+	public synchronized double getValue(final int aRow, final int aCol) {
+		checkIndex(aRow, aCol);
+		return values[offsetOf(aRow) + aCol];
+	}
+
+	@Override
+	public synchronized void getRowValues(final int aRow, final double[] aValues) {
+		if (aRow < 0 || aRow >= rowSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Size: %d", aRow, rowSize));
+		}
+		System.arraycopy(values, offsetOf(aRow), aValues, 0, colSize);
+	}
+
+	/**
+	 * 値を設定する。
+	 * <p>
+	 * 保持している行のみ設定できます。
+	 * </p>
+	 * 
+	 * @param aRow 行
+	 * @param aCol 列
+	 * @param aValue 値
+	 */
+	public void setValue(final int aRow, final int aCol, final double aValue) {
+		synchronized (this) {
+			checkIndex(aRow, aCol);
+			int row = (head + aRow) % rowCapacity;
+			int index = row * colSize + aCol;
+			double oldValue = values[index];
+			values[index] = aValue;
+			if (oldValue == rowMinimumValues[row] || oldValue == rowMaximumValues[row]) {
+				// 行の最小値・最大値が上書きされた場合は再計算する
+				rowRangeStales[row] = true;
+				rangeStale = true;
+			}
+			if (aValue < rowMinimumValues[row]) {
+				rowMinimumValues[row] = aValue;
+			}
+			if (aValue > rowMaximumValues[row]) {
+				rowMaximumValues[row] = aValue;
+			}
+			update(rowMinimumValues[row], rowMaximumValues[row]);
+			rewriteCount++;
+		}
+		fireChanged();
+	}
+
+	/**
+	 * 最終行の次に行を追加する。
+	 * <p>
+	 * 配列長が列数より小さい場合、残りの列は0.0とします。
+	 * </p>
+	 * 
+	 * @param aValues 値配列
+	 */
+	public void appendRow(final double[] aValues) {
+		appendRow(aValues, 0, aValues.length);
+	}
+
+	/**
+	 * 最終行の次に行を追加する。
+	 * <p>
+	 * 設定数が列数より小さい場合、残りの列は0.0とします。
+	 * </p>
+	 * 
+	 * @param aValues 値配列
+	 * @param aOffset 開始位置
+	 * @param aLength 設定数
+	 */
+	public void appendRow(final double[] aValues, final int aOffset, final int aLength) {
+		if (aOffset < 0 || aLength < 0 || aOffset + aLength > aValues.length || aLength > colSize) {
+			throw new IndexOutOfBoundsException(String.format("Offset: %d, Length: %d, Array length: %d, Col: %d", aOffset, aLength,
+					aValues.length, colSize));
+		}
+		synchronized (this) {
+			int row;
+			if (rowSize < rowCapacity) {
+				row = (head + rowSize) % rowCapacity;
+				rowSize++;
+			} else {
+				// 最も古い行を上書きする
+				row = head;
+				head = (head + 1) % rowCapacity;
+				if (rowMinimumValues[row] <= minimumValue || rowMaximumValues[row] >= maximumValue) {
+					// 破棄した行が最小値・最大値を含む場合は再計算する
+					rangeStale = true;
+				}
+			}
+			int offset = row * colSize;
+			System.arraycopy(aValues, aOffset, values, offset, aLength);
+			Arrays.fill(values, offset + aLength, offset + colSize, 0.0);
+			computeRowRange(row);
+			update(rowMinimumValues[row], rowMaximumValues[row]);
+			appendedCount++;
+		}
+		fireChanged();
+	}
+
+	/**
+	 * 全ての行を破棄する。
+	 */
+	public void clear() {
+		synchronized (this) {
+			rowSize = 0;
+			head = 0;
+			appendedCount = 0;
+			rewriteCount++;
+			minimumValue = Double.POSITIVE_INFINITY;
+			maximumValue = Double.NEGATIVE_INFINITY;
+			rangeStale = false;
+		}
+		fireChanged();
+	}
+
+	private void update(final double aMinimum, final double aMaximum) {
+		if (aMinimum < minimumValue) {
+			minimumValue = aMinimum;
+		}
+		if (aMaximum > maximumValue) {
+			maximumValue = aMaximum;
+		}
+	}
+
+	private void computeRange() {
+		minimumValue = Double.POSITIVE_INFINITY;
+		maximumValue = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < rowSize; i++) {
+			int row = (head + i) % rowCapacity;
+			if (rowRangeStales[row]) {
+				computeRowRange(row);
+			}
+			update(rowMinimumValues[row], rowMaximumValues[row]);
+		}
+		rangeStale = false;
+	}
+
+	private void computeRowRange(final int aRow) {
+		double min = Double.POSITIVE_INFINITY;
+		double max = Double.NEGATIVE_INFINITY;
+		int offset = aRow * colSize;
+		for (int col = 0; col < colSize; col++) {
+			double value = values[offset + col];
+			if (value < min) {
+				min = value;
+			}
+			if (value > max) {
+				max = value;
+			}
+		}
+		rowMinimumValues[aRow] = min;
+		rowMaximumValues[aRow] = max;
+		rowRangeStales[aRow] = false;
+	}
+
+	private int offsetOf(final int aRow) {
+		return ((head + aRow) % rowCapacity) * colSize;
+	}
+
+	private void checkIndex(final int aRow, final int aCol) {
+		if (aRow < 0 || aRow >= rowSize || aCol < 0 || aCol >= colSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Col: %d, Size: %dx%d", aRow, aCol, rowSize, colSize));
+		}
+	}
+}
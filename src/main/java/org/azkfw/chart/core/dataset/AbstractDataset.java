@@ -17,15 +17,24 @@
  */
 package org.azkfw.chart.core.dataset;
 
+import org.azkfw.chart.core.event.ChartChangeListener;
+import org.azkfw.chart.core.event.ChartChangeSource;
+import org.azkfw.chart.core.event.ChartChangeSupport;
 
 /**
  * このクラスは、データセット機能の実装を行うための基底クラスです。
+ * <p>
+ * 変更通知（{@link ChartChangeSource}）は本クラスで提供します。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2014/06/19
  * @author Kawakicchi
  */
-public abstract class AbstractDataset implements Dataset {
+public abstract class AbstractDataset implements Dataset, ChartChangeSource {
+
+	/** 変更通知 */
+	private final ChartChangeSupport changeSupport = new ChartChangeSupport(this);
 
 	/** タイトル */
 	private String title;
@@ -49,10 +58,81 @@ public abstract class AbstractDataset implements Dataset {
 	@Override
 	public final void setTitle(final String aTitle) {
 		title = aTitle;
+		fireChanged();
 	}
 
 	@Override
 	public final String getTitle() {
 		return title;
 	}
+
+	@Override
+	public final long getModificationCount() {
+		return changeSupport.getModificationCount();
+	}
+
+	@Override
+	public final void addChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.addListener(aListener);
+	}
+
+	@Override
+	public final void removeChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.removeListener(aListener);
+	}
+
+	@Override
+	public final void beginUpdate() {
+		changeSupport.beginUpdate();
+		if (1 == changeSupport.getUpdateDepth()) {
+			doBeginUpdate();
+		}
+	}
+
+	@Override
+	public final void endUpdate() {
+		if (1 == changeSupport.getUpdateDepth()) {
+			doEndUpdate();
+		}
+		changeSupport.endUpdate();
+	}
+
+	/**
+	 * 最も外側の一括更新の開始時に呼び出される。
+	 * <p>
+	 * データセットが保持する要素へ一括更新を伝播する場合にオーバーライドしてください。
+	 * </p>
+	 */
+	protected void doBeginUpdate() {
+
+	}
+
+	/**
+	 * 最も外側の一括更新の終了直前に呼び出される。
+	 * <p>
+	 * この時点ではまだ一括更新中の為、ここで発生した変更はデータセットの変更として1回だけ通知されます。
+	 * </p>
+	 */
+	protected void doEndUpdate() {
+
+	}
+
+	/**
+	 * 変更をこのデータセットの変更として通知するリスナーを取得する。
+	 * <p>
+	 * 通知イベントを生成せずに変更回数を加算する為、子要素の変更の伝播に使用します。
+	 * </p>
+	 * 
+	 * @return リスナー
+	 */
+	protected final ChartChangeListener getChangeForwarder() {
+		return changeSupport.getForwarder();
+	}
+
+	/**
+	 * 変更回数を加算し、変更を通知する。
+	 */
+	protected final void fireChanged() {
+		changeSupport.fireChanged();
+	}
 }
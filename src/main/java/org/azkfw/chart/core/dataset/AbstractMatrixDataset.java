@@ -84,25 +84,26 @@ public abstract class AbstractMatrixDataset<DATA extends MatrixData> extends Abs
 	}
 
 	@Override
-	public final int getRowSize() {
+	public int getRowSize() {
 		return maxRow;
 	}
 
 	@Override
-	public final int getColSize() {
+	public int getColSize() {
 		return maxCol;
 	}
 
 	@Override
-	public final void put(final int aRow, final int aCol, final DATA aData) {
+	public void put(final int aRow, final int aCol, final DATA aData) {
 		if (aRow >= maxRow || aCol >= maxCol) {
 			addsize(aRow, aCol);
 		}
 		datas.get(aRow).set(aCol, aData);
+		fireChanged();
 	}
 
 	@Override
-	public final DATA get(final int aRow, final int aCol) {
+	public DATA get(final int aRow, final int aCol) {
 		return datas.get(aRow).get(aCol);
 	}
 
@@ -21,6 +21,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.azkfw.chart.core.dataset.series.Series;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
+import org.azkfw.chart.core.dataset.series.StatisticalSeries;
+import org.azkfw.chart.core.event.ChartChangeSource;
 
 /**
  * このクラスは、シリーズデータセット機能の実装を行うための基底クラスです。
@@ -34,6 +37,9 @@ public abstract class AbstractSeriesDataset<T extends Series> extends AbstractDa
 	/** シリーズ一覧 */
 	private List<T> seriesList;
 
+	/** 一括更新中のシリーズ一覧 */
+	private List<ChartChangeSource> updatingSeriesList;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -52,13 +58,80 @@ public abstract class AbstractSeriesDataset<T extends Series> extends AbstractDa
 		seriesList = new ArrayList<T>();
 	}
 
+	/**
+	 * シリーズを追加する。
+	 * <p>
+	 * {@link ChartChangeSource}を実装したシリーズの変更は、データセットの変更として通知されます。
+	 * データセットの一括更新中に追加したシリーズも、一括更新の対象となります。
+	 * </p>
+	 * 
+	 * @param aSeries シリーズ
+	 */
 	@Override
 	public void addSeries(final T aSeries) {
 		seriesList.add(aSeries);
+		if (aSeries instanceof ChartChangeSource) {
+			ChartChangeSource source = (ChartChangeSource) aSeries;
+			source.addChartChangeListener(getChangeForwarder());
+			if (null != updatingSeriesList) {
+				source.beginUpdate();
+				updatingSeriesList.add(source);
+			}
+		}
+		fireChanged();
+	}
+
+	/**
+	 * 各シリーズの一括更新を開始する。
+	 * <p>
+	 * データセットの一括更新中は、シリーズ自身のリスナーへの通知も保留されます。
+	 * </p>
+	 */
+	@Override
+	protected void doBeginUpdate() {
+		updatingSeriesList = new ArrayList<ChartChangeSource>();
+		for (T series : seriesList) {
+			if (series instanceof ChartChangeSource) {
+				ChartChangeSource source = (ChartChangeSource) series;
+				source.beginUpdate();
+				updatingSeriesList.add(source);
+			}
+		}
+	}
+
+	/**
+	 * 各シリーズの一括更新を終了する。
+	 */
+	@Override
+	protected void doEndUpdate() {
+		List<ChartChangeSource> list = updatingSeriesList;
+		updatingSeriesList = null;
+		for (ChartChangeSource source : list) {
+			source.endUpdate();
+		}
 	}
 
 	@Override
 	public List<T> getSeriesList() {
 		return seriesList;
 	}
+
+	/**
+	 * 全シリーズの統計情報を取得する。
+	 * <p>
+	 * 各シリーズが保持する統計情報を合算する為、ポイントの走査は行いません。
+	 * {@link StatisticalSeries}を実装していないシリーズは対象外です。
+	 * </p>
+	 * 
+	 * @return 統計情報
+	 */
+	public SeriesStatistics getStatistics() {
+		SeriesStatistics statistics = new SeriesStatistics();
+		for (T series : seriesList) {
+			if (series instanceof StatisticalSeries) {
+				statistics.merge(((StatisticalSeries) series).getStatistics());
+			}
+		}
+		return statistics;
+	}
 }
@@ -0,0 +1,234 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.dataset.series;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * このクラスは、ポイントオブジェクトの一覧を持つシリーズデータを実装する為の基底クラスです。
+ * <p>
+ * ポイントの軸毎に統計情報を保持し、ポイントの追加毎に更新します。
+ * ポイントの変更・削除で最小値・最大値が求まらなくなった場合は、次回参照時に再集計します。
+ * {@link #getPoints()}へ行った変更も統計情報へ反映されます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ * @param <POINT> ポイント
+ */
+public abstract class AbstractPointSeries<POINT extends SeriesPoint> extends AbstractSeries implements StatisticalSeries {
+
+	/** ポイント一覧 */
+	private final List<POINT> points;
+
+	/** 軸毎の統計情報 */
+	private final SeriesStatistics[] statistics;
+	/** 統計情報有効フラグ */
+	private boolean statisticsValid;
+
+	/** ポイント一覧（ビュー） */
+	private List<POINT> view;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aAxisSize 統計情報を保持する軸数
+	 */
+	public AbstractPointSeries(final int aAxisSize) {
+		this(null, aAxisSize);
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aAxisSize 統計情報を保持する軸数
+	 */
+	public AbstractPointSeries(final String aTitle, final int aAxisSize) {
+		super(aTitle);
+		points = new ArrayList<POINT>();
+		statistics = new SeriesStatistics[aAxisSize];
+		for (int i = 0; i < aAxisSize; i++) {
+			statistics[i] = new SeriesStatistics();
+		}
+		statisticsValid = true;
+	}
+
+	/**
+	 * ポイントから軸の値を取得する。
+	 * 
+	 * @param aPoint ポイント
+	 * @param aAxis 軸インデックス
+	 * @return 値
+	 */
+	protected abstract double getPointValue(final POINT aPoint, final int aAxis);
+
+	/**
+	 * ポイントを追加する。
+	 * 
+	 * @param aPoint ポイント
+	 */
+	public void add(final POINT aPoint) {
+		points.add(aPoint);
+		addStatistics(aPoint);
+		fireChanged();
+	}
+
+	/**
+	 * ポイント数を取得する。
+	 * 
+	 * @return ポイント数
+	 */
+	public int getSize() {
+		return points.size();
+	}
+
+	/**
+	 * ポイントを取得する。
+	 * 
+	 * @param aIndex インデックス
+	 * @return ポイント
+	 */
+	public POINT getPoint(final int aIndex) {
+		return points.get(aIndex);
+	}
+
+	/**
+	 * ポイント一覧を取得する。
+	 * <p>
+	 * リストへの変更はシリーズへ反映されます。
+	 * </p>
+	 * 
+	 * @return ポイント一覧
+	 */
+	public List<POINT> getPoints() {
+		if (null == view) {
+			view = new PointList();
+		}
+		return view;
+	}
+
+	/**
+	 * 先頭軸の統計情報を取得する。
+	 */
+	@Override
+	public SeriesStatistics getStatistics() {
+		return getStatistics(0);
+	}
+
+	/**
+	 * 軸の統計情報を取得する。
+	 * 
+	 * @param aAxis 軸インデックス
+	 * @return 統計情報（コピー）
+	 */
+	protected final SeriesStatistics getStatistics(final int aAxis) {
+		if (!statisticsValid) {
+			for (SeriesStatistics s : statistics) {
+				s.clear();
+			}
+			for (POINT point : points) {
+				for (int axis = 0; axis < statistics.length; axis++) {
+					statistics[axis].add(getPointValue(point, axis));
+				}
+			}
+			statisticsValid = true;
+		}
+		return new SeriesStatistics(statistics[aAxis]);
+	}
+
+	private void addStatistics(final POINT aPoint) {
+		if (statisticsValid) {
+			for (int axis = 0; axis < statistics.length; axis++) {
+				statistics[axis].add(getPointValue(aPoint, axis));
+			}
+		}
+	}
+
+	private void removeStatistics(final POINT aPoint) {
+		if (statisticsValid) {
+			for (int axis = 0; axis < statistics.length; axis++) {
+				if (!statistics[axis].remove(getPointValue(aPoint, axis))) {
+					statisticsValid = false;
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * このクラスは、ポイント一覧の変更を統計情報へ反映するビュークラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private final class PointList extends AbstractList<POINT> implements RandomAccess {
+
+		@Override
+		public POINT get(final int aIndex) {
+			return points.get(aIndex);
+		}
+
+		@Override
+		public POINT set(final int aIndex, final POINT aPoint) {
+			POINT old = points.set(aIndex, aPoint);
+			removeStatistics(old);
+			addStatistics(aPoint);
+			fireChanged();
+			return old;
+		}
+
+		@Override
+		public void add(final int aIndex, final POINT aPoint) {
+			points.add(aIndex, aPoint);
+			addStatistics(aPoint);
+			modCount++;
+			fireChanged();
+		}
+
+		@Override
+		public POINT remove(final int aIndex) {
+			POINT old = points.remove(aIndex);
+			removeStatistics(old);
+			modCount++;
+			fireChanged();
+			return old;
+		}
+
+		@Override
+		public void clear() {
+			points.clear();
+			for (SeriesStatistics s : statistics) {
+				s.clear();
+			}
+			statisticsValid = true;
+			modCount++;
+			fireChanged();
+		}
+
+		@Override
+		public int size() {
+			return points.size();
+		}
+	}
+}
@@ -17,14 +17,24 @@
  */
 package org.azkfw.chart.core.dataset.series;
 
+import org.azkfw.chart.core.event.ChartChangeListener;
+import org.azkfw.chart.core.event.ChartChangeSource;
+import org.azkfw.chart.core.event.ChartChangeSupport;
+
 /**
  * このクラスは、シリーズデータを実装する為の基底クラスです。
+ * <p>
+ * 変更通知（{@link ChartChangeSource}）は本クラスで提供します。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2014/06/28
  * @author Kawakicchi
  */
-public class AbstractSeries implements Series {
+public class AbstractSeries implements Series, ChartChangeSource {
+
+	/** 変更通知 */
+	private final ChartChangeSupport changeSupport = new ChartChangeSupport(this);
 
 	/** タイトル */
 	private String title;
@@ -48,10 +58,43 @@ public class AbstractSeries implements Series {
 	@Override
 	public final void setTitle(final String aTitle) {
 		title = aTitle;
+		fireChanged();
 	}
 
 	@Override
 	public final String getTitle() {
 		return title;
 	}
+
+	@Override
+	public final long getModificationCount() {
+		return changeSupport.getModificationCount();
+	}
+
+	@Override
+	public final void addChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.addListener(aListener);
+	}
+
+	@Override
+	public final void removeChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.removeListener(aListener);
+	}
+
+	@Override
+	public final void beginUpdate() {
+		changeSupport.beginUpdate();
+	}
+
+	@Override
+	public final void endUpdate() {
+		changeSupport.endUpdate();
+	}
+
+	/**
+	 * 変更回数を加算し、変更を通知する。
+	 */
+	protected final void fireChanged() {
+		changeSupport.fireChanged();
+	}
 }
@@ -0,0 +1,477 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.dataset.series;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * このクラスは、単一値のポイントを持つシリーズデータを実装する為の基底クラスです。
+ * <p>
+ * 値はポイントオブジェクトではなく<code>double</code>配列で保持します。
+ * {@link #getPoints()}は互換性の為のビューであり、ポイントオブジェクトは参照時に生成されます。
+ * </p>
+ * <p>
+ * 値の統計情報は値の追加毎に更新されます。値の変更・削除で最小値・最大値が求まらなくなった場合は、
+ * 次回の{@link #getStatistics()}呼び出し時に再集計します。
+ * </p>
+ * <p>
+ * {@link #setPyramidEnabled(boolean)}で多重解像度ピラミッドを有効にすると、描画時に1ピクセル列毎の集計値を参照できます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ * @param <POINT> ポイント
+ */
+public abstract class AbstractValueSeries<POINT extends SeriesPoint> extends AbstractSeries implements StatisticalSeries {
+
+	/** 初期確保サイズ */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** 値配列 */
+	private double[] values;
+	/** 値数 */
+	private int size;
+
+	/** 統計情報 */
+	private final SeriesStatistics statistics = new SeriesStatistics();
+	/** 統計情報有効フラグ */
+	private boolean statisticsValid = true;
+
+	/** ポイント一覧（ビュー） */
+	private List<POINT> points;
+
+	/** 多重解像度ピラミッド */
+	private SeriesPyramid pyramid;
+
+	/**
+	 * コンストラクタ
+	 */
+	public AbstractValueSeries() {
+		super();
+		values = new double[DEFAULT_CAPACITY];
+		size = 0;
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 */
+	public AbstractValueSeries(final String aTitle) {
+		super(aTitle);
+		values = new double[DEFAULT_CAPACITY];
+		size = 0;
+	}
+
+	/**
+	 * 値配列をコピーせずにそのまま保持する。
+	 * <p>
+	 * 以降の値の追加で容量が不足した場合は新しい配列へ移行します。
+	 * </p>
+	 * 
+	 * @param aValues 値配列
+	 */
+	protected final void wrapValues(final double[] aValues) {
+		values = aValues;
+		size = aValues.length;
+		invalidateStatistics();
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * 保持している値配列の要素を直接変更したことを通知する。
+	 * <p>
+	 * 配列をコピーせずに保持している場合に、配列の要素を変更した後に呼び出してください。統計情報と多重解像度ピラミッドを破棄します。
+	 * また、変更回数を更新し、変更を通知します。
+	 * </p>
+	 */
+	public void valuesChanged() {
+		invalidateStatistics();
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * 多重解像度ピラミッドを破棄する。
+	 * <p>
+	 * 値の追加以外で値の並びが変わった場合に呼び出してください。
+	 * </p>
+	 */
+	protected final void invalidatePyramid() {
+		if (null != pyramid) {
+			pyramid.invalidate();
+		}
+	}
+
+	/**
+	 * 多重解像度ピラミッドから先頭の値を取り除く。
+	 * <p>
+	 * 先頭から値を破棄した後に呼び出してください。
+	 * </p>
+	 * 
+	 * @param aCount 破棄した値数
+	 */
+	protected final void evictPyramid(final int aCount) {
+		if (null != pyramid) {
+			pyramid.evict(aCount);
+		}
+	}
+
+	/**
+	 * 統計情報へ値を追加する。
+	 * 
+	 * @param aValue 値
+	 */
+	protected final void addStatistics(final double aValue) {
+		if (statisticsValid) {
+			statistics.add(aValue);
+		}
+	}
+
+	/**
+	 * 統計情報から値を除外する。
+	 * 
+	 * @param aValue 値
+	 */
+	protected final void removeStatistics(final double aValue) {
+		if (statisticsValid && !statistics.remove(aValue)) {
+			statisticsValid = false;
+		}
+	}
+
+	/**
+	 * 統計情報を無効にする。
+	 * <p>
+	 * 次回の{@link #getStatistics()}呼び出し時に再集計されます。
+	 * </p>
+	 */
+	protected final void invalidateStatistics() {
+		statisticsValid = false;
+	}
+
+	/**
+	 * 統計情報をクリアする。
+	 */
+	protected final void resetStatistics() {
+		statistics.clear();
+		statisticsValid = true;
+	}
+
+	@Override
+	public SeriesStatistics getStatistics() {
+		if (!statisticsValid) {
+			statistics.clear();
+			int valueSize = getSize();
+			for (int i = 0; i < valueSize; i++) {
+				statistics.add(getValue(i));
+			}
+			statisticsValid = true;
+		}
+		return new SeriesStatistics(statistics);
+	}
+
+	/**
+	 * 多重解像度ピラミッドを使用するか設定する。
+	 * <p>
+	 * 1ピクセル列に複数ポイントが含まれる描画では集計値で線を描画し、マーカーは描画しません。
+	 * </p>
+	 * 
+	 * @param aEnabled 使用する場合、<code>true</code>
+	 */
+	public final void setPyramidEnabled(final boolean aEnabled) {
+		if (aEnabled && null == pyramid) {
+			pyramid = new SeriesPyramid(new SeriesPyramid.ValueSource() {
+				@Override
+				public int getSize() {
+					return AbstractValueSeries.this.getSize();
+				}
+
+				@Override
+				public double getValue(final int aIndex) {
+					return AbstractValueSeries.this.getValue(aIndex);
+				}
+			});
+		} else if (!aEnabled) {
+			pyramid = null;
+		}
+	}
+
+	/**
+	 * 多重解像度ピラミッドを使用するか判断する。
+	 * 
+	 * @return 使用する場合、<code>true</code>
+	 */
+	public final boolean isPyramidEnabled() {
+		return null != pyramid;
+	}
+
+	/**
+	 * 多重解像度ピラミッドを取得する。
+	 * 
+	 * @return ピラミッド。使用しない場合、<code>null</code>
+	 */
+	public final SeriesPyramid getPyramid() {
+		return pyramid;
+	}
+
+	/**
+	 * 値からポイントを生成する。
+	 * 
+	 * @param aValue 値
+	 * @return ポイント
+	 */
+	protected abstract POINT createPoint(final double aValue);
+
+	/**
+	 * ポイントから値を取得する。
+	 * 
+	 * @param aPoint ポイント
+	 * @return 値
+	 */
+	protected abstract double getPointValue(final POINT aPoint);
+
+	/**
+	 * 値を追加する。
+	 * 
+	 * @param aValue 値
+	 */
+	public void add(final double aValue) {
+		ensureCapacity(size + 1);
+		values[size++] = aValue;
+		addStatistics(aValue);
+		fireChanged();
+	}
+
+	/**
+	 * 値を一括で追加する。
+	 * 
+	 * @param aValues 値配列
+	 */
+	public void addAll(final double[] aValues) {
+		addAll(aValues, 0, aValues.length);
+	}
+
+	/**
+	 * 値を一括で追加する。
+	 * 
+	 * @param aValues 値配列
+	 * @param aOffset 開始位置
+	 * @param aLength 追加数
+	 */
+	public void addAll(final double[] aValues, final int aOffset, final int aLength) {
+		if (aOffset < 0 || aLength < 0 || aOffset + aLength > aValues.length) {
+			throw new IndexOutOfBoundsException(String.format("Offset: %d, Length: %d, Array length: %d", aOffset, aLength, aValues.length));
+		}
+		ensureCapacity(size + aLength);
+		System.arraycopy(aValues, aOffset, values, size, aLength);
+		size += aLength;
+		for (int i = aOffset; i < aOffset + aLength; i++) {
+			addStatistics(aValues[i]);
+		}
+		fireChanged();
+	}
+
+	/**
+	 * 値を挿入する。
+	 * 
+	 * @param aIndex インデックス
+	 * @param aValue 値
+	 */
+	public void insert(final int aIndex, final double aValue) {
+		if (aIndex < 0 || aIndex > size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", aIndex, size));
+		}
+		ensureCapacity(size + 1);
+		System.arraycopy(values, aIndex, values, aIndex + 1, size - aIndex);
+		values[aIndex] = aValue;
+		size++;
+		addStatistics(aValue);
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * 値を設定する。
+	 * 
+	 * @param aIndex インデックス
+	 * @param aValue 値
+	 */
+	public void setValue(final int aIndex, final double aValue) {
+		checkIndex(aIndex);
+		removeStatistics(values[aIndex]);
+		values[aIndex] = aValue;
+		addStatistics(aValue);
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * 値を削除する。
+	 * 
+	 * @param aIndex インデックス
+	 */
+	public void remove(final int aIndex) {
+		checkIndex(aIndex);
+		removeStatistics(values[aIndex]);
+		System.arraycopy(values, aIndex + 1, values, aIndex, size - aIndex - 1);
+		size--;
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * 全ての値を削除する。
+	 */
+	public void clear() {
+		size = 0;
+		resetStatistics();
+		invalidatePyramid();
+		fireChanged();
+	}
+
+	/**
+	 * 値数を取得する。
+	 * 
+	 * @return 値数
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * 値を取得する。
+	 * 
+	 * @param aIndex インデックス
+	 * @return 値
+	 */
+	public double getValue(final int aIndex) {
+		checkIndex(aIndex);
+		return values[aIndex];
+	}
+
+	/**
+	 * 値配列のコピーを取得する。
+	 * 
+	 * @return 値配列
+	 */
+	public double[] toArray() {
+		double[] result = new double[getSize()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = getValue(i);
+		}
+		return result;
+	}
+
+	/**
+	 * 容量を確保する。
+	 * 
+	 * @param aCapacity 必要容量
+	 */
+	public void ensureCapacity(final int aCapacity) {
+		if (aCapacity > values.length) {
+			int capacity = Math.max(aCapacity, Math.max(DEFAULT_CAPACITY, values.length + (values.length >> 1)));
+			values = Arrays.copyOf(values, capacity);
+		}
+	}
+
+	/**
+	 * ポイントを取得する。
+	 * <p>
+	 * ポイントは呼び出し毎に生成されます。
+	 * </p>
+	 * 
+	 * @param aIndex インデックス
+	 * @return ポイント
+	 */
+	public POINT getPoint(final int aIndex) {
+		return createPoint(getValue(aIndex));
+	}
+
+	/**
+	 * ポイント一覧を取得する。
+	 * <p>
+	 * 返却されるリストは値配列のビューです。リストへの変更はシリーズへ反映されます。
+	 * </p>
+	 * 
+	 * @return ポイント一覧
+	 */
+	public List<POINT> getPoints() {
+		if (null == points) {
+			points = new PointList();
+		}
+		return points;
+	}
+
+	private void checkIndex(final int aIndex) {
+		if (aIndex < 0 || aIndex >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", aIndex, size));
+		}
+	}
+
+	/**
+	 * このクラスは、値配列をポイント一覧として参照するビュークラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private final class PointList extends AbstractList<POINT> implements RandomAccess {
+
+		@Override
+		public POINT get(final int aIndex) {
+			return getPoint(aIndex);
+		}
+
+		@Override
+		public POINT set(final int aIndex, final POINT aPoint) {
+			POINT old = getPoint(aIndex);
+			setValue(aIndex, getPointValue(aPoint));
+			return old;
+		}
+
+		@Override
+		public void add(final int aIndex, final POINT aPoint) {
+			insert(aIndex, getPointValue(aPoint));
+			modCount++;
+		}
+
+		@Override
+		public POINT remove(final int aIndex) {
+			POINT old = getPoint(aIndex);
+			AbstractValueSeries.this.remove(aIndex);
+			modCount++;
+			return old;
+		}
+
+		@Override
+		public void clear() {
+			AbstractValueSeries.this.clear();
+			modCount++;
+		}
+
+		@Override
+		public int size() {
+			return getSize();
+		}
+	}
+}
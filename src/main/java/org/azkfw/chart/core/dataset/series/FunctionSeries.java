@@ -0,0 +1,52 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.dataset.series;
+
+/**
+ * このインターフェースは、ポイントを保持せず関数で値を定義するシリーズを定義したインターフェースです。
+ * <p>
+ * 関数は描画時に描画領域の解像度で評価されます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public interface FunctionSeries extends Series {
+
+	/**
+	 * 関数を取得する。
+	 * 
+	 * @return 関数
+	 */
+	public SeriesFunction getFunction();
+
+	/**
+	 * 定義域の最小値を取得する。
+	 * 
+	 * @return 最小値
+	 */
+	public double getDomainMinimum();
+
+	/**
+	 * 定義域の最大値を取得する。
+	 * 
+	 * @return 最大値
+	 */
+	public double getDomainMaximum();
+}
@@ -0,0 +1,39 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.dataset.series;
+
+/**
+ * このインターフェースは、関数で値を定義するシリーズの関数を定義したインターフェースです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public interface SeriesFunction {
+
+	/**
+	 * 値を求める。
+	 * <p>
+	 * 定義されない点では<code>NaN</code>を返却してください。
+	 * </p>
+	 * 
+	 * @param aX x値
+	 * @return y値
+	 */
+	public double evaluate(final double aX);
+}
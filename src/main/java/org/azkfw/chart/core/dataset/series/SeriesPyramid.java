@@ -0,0 +1,469 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.dataset.series;
+
+import java.util.Arrays;
+
+/**
+ * このクラスは、シリーズ値の多重解像度ピラミッドを保持するクラスです。
+ * <p>
+ * インデックス順に2の累乗個ずつまとめたバケット毎に、最小値・最大値・先頭値・末尾値を保持します。
+ * 描画時に1ピクセル列より小さい最も粗いバケットを選ぶことで、描画コストをポイント数ではなく描画幅に比例させます。
+ * </p>
+ * <p>
+ * ピラミッドは初回参照時に呼び出し元のスレッドで構築されます。
+ * 構築後の値の追加は参照時に差分のみ反映します。先頭の値の破棄は{@link #evict(int)}により破棄されたバケットのみ取り除きます。
+ * それ以外の変更では{@link #invalidate()}により破棄され、次回参照時に再構築されます。
+ * </p>
+ * <p>
+ * シリーズは同期化されていない為、値の参照はシリーズの変更と同じスレッドで行います。
+ * {@link #getLevel(int)}と値の変更は同じスレッドから行ってください。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public final class SeriesPyramid {
+
+	/** 最小バケットサイズ（2の累乗） */
+	private static final int MIN_SHIFT = 4;
+	/** 最大バケットサイズ（2の累乗） */
+	private static final int MAX_SHIFT = 30;
+	/** ピラミッドを構築する最小ポイント数 */
+	private static final int MIN_POINT_SIZE = 1 << (MIN_SHIFT + 2);
+
+	/** 値 */
+	private final ValueSource source;
+
+	/** 構築済みのレベル */
+	private Levels levels;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aSource 値
+	 */
+	public SeriesPyramid(final ValueSource aSource) {
+		source = aSource;
+		levels = null;
+	}
+
+	/**
+	 * ピラミッドを破棄する。
+	 * <p>
+	 * 値の追加以外の変更時に呼び出してください。次回参照時に再構築されます。
+	 * </p>
+	 */
+	public void invalidate() {
+		levels = null;
+	}
+
+	/**
+	 * 先頭の値が破棄されたことを通知する。
+	 * <p>
+	 * 値の破棄後に呼び出してください。完全に破棄されたバケットを取り除き、先頭のバケットのみ再集計します。
+	 * </p>
+	 * 
+	 * @param aCount 破棄された値数
+	 */
+	public void evict(final int aCount) {
+		if (0 >= aCount) {
+			return;
+		}
+		if (null != levels) {
+			if (!levels.evict(source, aCount)) {
+				invalidate();
+			}
+		}
+	}
+
+	/**
+	 * ピラミッドが構築済みか判断する。
+	 * 
+	 * @return 構築済みの場合、<code>true</code>
+	 */
+	public boolean isReady() {
+		return null != levels;
+	}
+
+	/**
+	 * バケットサイズが指定サイズ以下で最も粗いレベルを取得する。
+	 * <p>
+	 * 未構築の場合は構築します。返却されたレベルは次の値の変更まで有効です。
+	 * </p>
+	 * 
+	 * @param aMaxBucketSize 最大バケットサイズ（1ピクセル列あたりのポイント数）
+	 * @return レベル。該当するレベルがない場合、<code>null</code>
+	 */
+	public Level getLevel(final int aMaxBucketSize) {
+		if (aMaxBucketSize < (1 << MIN_SHIFT)) {
+			return null;
+		}
+		int size = source.getSize();
+		if (size < MIN_POINT_SIZE) {
+			return null;
+		}
+		if (null != levels && size < levels.covered) {
+			// 追加以外の変更が通知されなかった場合
+			invalidate();
+		}
+		if (null == levels) {
+			levels = new Levels();
+		}
+		levels.extend(source, size);
+
+		int shift = 31 - Integer.numberOfLeadingZeros(aMaxBucketSize);
+		int index = Math.min(levels.levelSize - 1, shift - MIN_SHIFT);
+		return new Level(levels, index);
+	}
+
+	private static double min(final double aValue1, final double aValue2) {
+		if (Double.isNaN(aValue1)) {
+			return aValue2;
+		}
+		return (Double.isNaN(aValue2)) ? aValue1 : Math.min(aValue1, aValue2);
+	}
+
+	private static double max(final double aValue1, final double aValue2) {
+		if (Double.isNaN(aValue1)) {
+			return aValue2;
+		}
+		return (Double.isNaN(aValue2)) ? aValue1 : Math.max(aValue1, aValue2);
+	}
+
+	/**
+	 * このインターフェースは、ピラミッドの元となる値を参照する為のインターフェースです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public interface ValueSource {
+
+		/**
+		 * 値数を取得する。
+		 * 
+		 * @return 値数
+		 */
+		public int getSize();
+
+		/**
+		 * 値を取得する。
+		 * 
+		 * @param aIndex インデックス
+		 * @return 値
+		 */
+		public double getValue(final int aIndex);
+	}
+
+	/**
+	 * このクラスは、ピラミッドの1レベルを参照するクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public static final class Level {
+
+		/** バケットサイズ */
+		private final int bucketSize;
+		/** バケット数 */
+		private final int bucketCount;
+		/** ポイント数 */
+		private final int pointSize;
+		/** 先頭バケットの配列位置 */
+		private final int bucketOffset;
+		/** 先頭バケット内で破棄済みの値数 */
+		private final int startOffset;
+		/** 最小値 */
+		private final double[] mins;
+		/** 最大値 */
+		private final double[] maxs;
+		/** 先頭値 */
+		private final double[] firsts;
+		/** 末尾値 */
+		private final double[] lasts;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aLevels レベル一覧
+		 * @param aIndex レベル
+		 */
+		private Level(final Levels aLevels, final int aIndex) {
+			int shift = MIN_SHIFT + aIndex;
+			long first = aLevels.offset >> shift;
+			bucketSize = 1 << shift;
+			bucketOffset = (int) (first - aLevels.bases[aIndex]);
+			bucketCount = aLevels.counts[aIndex] - bucketOffset;
+			pointSize = aLevels.covered;
+			startOffset = (int) (aLevels.offset - (first << shift));
+			mins = aLevels.mins[aIndex];
+			maxs = aLevels.maxs[aIndex];
+			firsts = aLevels.firsts[aIndex];
+			lasts = aLevels.lasts[aIndex];
+		}
+
+		/**
+		 * バケットサイズを取得する。
+		 * 
+		 * @return バケットサイズ
+		 */
+		public int getBucketSize() {
+			return bucketSize;
+		}
+
+		/**
+		 * バケット数を取得する。
+		 * 
+		 * @return バケット数
+		 */
+		public int getBucketCount() {
+			return bucketCount;
+		}
+
+		/**
+		 * バケットの開始インデックスを取得する。
+		 * 
+		 * @param aBucket バケット
+		 * @return 開始インデックス
+		 */
+		public int getStartIndex(final int aBucket) {
+			return Math.max(0, aBucket * bucketSize - startOffset);
+		}
+
+		/**
+		 * バケットの終了インデックス（このインデックスを含む）を取得する。
+		 * 
+		 * @param aBucket バケット
+		 * @return 終了インデックス
+		 */
+		public int getEndIndex(final int aBucket) {
+			return (int) Math.min((long) (aBucket + 1) * bucketSize - startOffset, pointSize) - 1;
+		}
+
+		/**
+		 * インデックスを含むバケットを取得する。
+		 * 
+		 * @param aIndex インデックス
+		 * @return バケット
+		 */
+		public int getBucket(final int aIndex) {
+			return (aIndex + startOffset) / bucketSize;
+		}
+
+		/**
+		 * バケット内の最小値（<code>NaN</code>を除く）を取得する。
+		 * 
+		 * @param aBucket バケット
+		 * @return 最小値。全て<code>NaN</code>の場合、<code>NaN</code>
+		 */
+		public double getMin(final int aBucket) {
+			return mins[bucketOffset + aBucket];
+		}
+
+		/**
+		 * バケット内の最大値（<code>NaN</code>を除く）を取得する。
+		 * 
+		 * @param aBucket バケット
+		 * @return 最大値。全て<code>NaN</code>の場合、<code>NaN</code>
+		 */
+		public double getMax(final int aBucket) {
+			return maxs[bucketOffset + aBucket];
+		}
+
+		/**
+		 * バケットの先頭値を取得する。
+		 * 
+		 * @param aBucket バケット
+		 * @return 先頭値
+		 */
+		public double getFirst(final int aBucket) {
+			return firsts[bucketOffset + aBucket];
+		}
+
+		/**
+		 * バケットの末尾値を取得する。
+		 * 
+		 * @param aBucket バケット
+		 * @return 末尾値
+		 */
+		public double getLast(final int aBucket) {
+			return lasts[bucketOffset + aBucket];
+		}
+	}
+
+	/**
+	 * このクラスは、全レベルの集計値を保持するクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class Levels {
+
+		/** 破棄済みの値数（インデックス0の通算位置） */
+		private long offset;
+		/** 集計済みのポイント数 */
+		private int covered;
+		/** レベル数 */
+		private int levelSize;
+		/** レベル毎の配列位置0のバケット通算位置 */
+		private long[] bases = new long[MAX_SHIFT - MIN_SHIFT + 1];
+		/** レベル毎の配列上のバケット数 */
+		private int[] counts = new int[MAX_SHIFT - MIN_SHIFT + 1];
+		/** レベル毎の最小値 */
+		private double[][] mins = new double[MAX_SHIFT - MIN_SHIFT + 1][];
+		/** レベル毎の最大値 */
+		private double[][] maxs = new double[MAX_SHIFT - MIN_SHIFT + 1][];
+		/** レベル毎の先頭値 */
+		private double[][] firsts = new double[MAX_SHIFT - MIN_SHIFT + 1][];
+		/** レベル毎の末尾値 */
+		private double[][] lasts = new double[MAX_SHIFT - MIN_SHIFT + 1][];
+
+		/**
+		 * 追加されたポイントを集計する。
+		 * 
+		 * @param aSource 値
+		 * @param aSize ポイント数
+		 */
+		public void extend(final ValueSource aSource, final int aSize) {
+			if (aSize == covered) {
+				return;
+			}
+			// バケット数が2以上となるレベルまで保持する
+			int newLevelSize = 1;
+			while (newLevelSize <= MAX_SHIFT - MIN_SHIFT && ((aSize - 1) >> (MIN_SHIFT + newLevelSize)) >= 1) {
+				newLevelSize++;
+			}
+
+			for (int level = 0; level < newLevelSize; level++) {
+				int shift = MIN_SHIFT + level;
+				long first = offset >> shift;
+				if (level >= levelSize) {
+					bases[level] = first;
+					counts[level] = 0;
+				}
+				int newCount = (int) (((offset + aSize + (1L << shift) - 1) >> shift) - bases[level]);
+				ensureCapacity(level, newCount);
+				// 末尾のバケットは集計途中の可能性がある為、再集計する
+				int from = Math.max((int) (first - bases[level]), counts[level] - 1);
+				for (int bucket = from; bucket < newCount; bucket++) {
+					if (0 == level) {
+						aggregate(aSource, aSize, bucket);
+					} else {
+						merge(level, bucket);
+					}
+				}
+				counts[level] = newCount;
+			}
+			levelSize = newLevelSize;
+			covered = aSize;
+		}
+
+		/**
+		 * 先頭から破棄されたポイントを取り除く。
+		 * 
+		 * @param aSource 値
+		 * @param aCount 破棄されたポイント数
+		 * @return 集計済みのポイントが残っている場合、<code>true</code>
+		 */
+		public boolean evict(final ValueSource aSource, final int aCount) {
+			if (aCount >= covered) {
+				return false;
+			}
+			offset += aCount;
+			covered -= aCount;
+			for (int level = 0; level < levelSize; level++) {
+				int shift = MIN_SHIFT + level;
+				int first = (int) ((offset >> shift) - bases[level]);
+				if (0 < first && first >= (mins[level].length >> 1)) {
+					compact(level, first);
+					first = 0;
+				}
+				// 先頭のバケットは一部が破棄されている可能性がある為、再集計する
+				if (0 == level) {
+					aggregate(aSource, covered, first);
+				} else {
+					merge(level, first);
+				}
+			}
+			return true;
+		}
+
+		private void aggregate(final ValueSource aSource, final int aSize, final int aBucket) {
+			long position = (bases[0] + aBucket) << MIN_SHIFT;
+			int start = (int) Math.max(0, position - offset);
+			int end = (int) Math.min(position + (1 << MIN_SHIFT) - offset, aSize);
+			double min = Double.NaN;
+			double max = Double.NaN;
+			for (int i = start; i < end; i++) {
+				double value = aSource.getValue(i);
+				min = min(min, value);
+				max = max(max, value);
+			}
+			mins[0][aBucket] = min;
+			maxs[0][aBucket] = max;
+			firsts[0][aBucket] = aSource.getValue(start);
+			lasts[0][aBucket] = aSource.getValue(end - 1);
+		}
+
+		private void merge(final int aLevel, final int aBucket) {
+			int level = aLevel - 1;
+			int child = (int) ((bases[aLevel] + aBucket) * 2 - bases[level]);
+			if (child < (offset >> (MIN_SHIFT + level)) - bases[level]) {
+				// 前半の子バケットが破棄済みの場合
+				child++;
+				mins[aLevel][aBucket] = mins[level][child];
+				maxs[aLevel][aBucket] = maxs[level][child];
+				lasts[aLevel][aBucket] = lasts[level][child];
+			} else if (child + 1 < counts[level]) {
+				mins[aLevel][aBucket] = min(mins[level][child], mins[level][child + 1]);
+				maxs[aLevel][aBucket] = max(maxs[level][child], maxs[level][child + 1]);
+				lasts[aLevel][aBucket] = lasts[level][child + 1];
+			} else {
+				mins[aLevel][aBucket] = mins[level][child];
+				maxs[aLevel][aBucket] = maxs[level][child];
+				lasts[aLevel][aBucket] = lasts[level][child];
+			}
+			firsts[aLevel][aBucket] = firsts[level][child];
+		}
+
+		private void compact(final int aLevel, final int aFrom) {
+			int length = counts[aLevel] - aFrom;
+			System.arraycopy(mins[aLevel], aFrom, mins[aLevel], 0, length);
+			System.arraycopy(maxs[aLevel], aFrom, maxs[aLevel], 0, length);
+			System.arraycopy(firsts[aLevel], aFrom, firsts[aLevel], 0, length);
+			System.arraycopy(lasts[aLevel], aFrom, lasts[aLevel], 0, length);
+			bases[aLevel] += aFrom;
+			counts[aLevel] = length;
+		}
+
+		private void ensureCapacity(final int aLevel, final int aCount) {
+			int capacity = (null == mins[aLevel]) ? 0 : mins[aLevel].length;
+			if (aCount > capacity) {
+				int newCapacity = Math.max(aCount, capacity + (capacity >> 1));
+				mins[aLevel] = (null == mins[aLevel]) ? new double[newCapacity] : Arrays.copyOf(mins[aLevel], newCapacity);
+				maxs[aLevel] = (null == maxs[aLevel]) ? new double[newCapacity] : Arrays.copyOf(maxs[aLevel], newCapacity);
+				firsts[aLevel] = (null == firsts[aLevel]) ? new double[newCapacity] : Arrays.copyOf(firsts[aLevel], newCapacity);
+				lasts[aLevel] = (null == lasts[aLevel]) ? new double[newCapacity] : Arrays.copyOf(lasts[aLevel], newCapacity);
+			}
+		}
+	}
+}
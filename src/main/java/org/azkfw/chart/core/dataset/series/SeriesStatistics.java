@@ -0,0 +1,204 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.dataset.series;
+
+/**
+ * このクラスは、シリーズ値の件数・最小値・最大値を保持する統計情報クラスです。
+ * <p>
+ * 値の追加毎に更新される為、自動スケールの為に全ポイントを走査する必要がありません。
+ * <code>NaN</code>は集計の対象外です。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public final class SeriesStatistics {
+
+	/** 件数 */
+	private int count;
+	/** 最小値 */
+	private double min;
+	/** 最大値 */
+	private double max;
+
+	/**
+	 * コンストラクタ
+	 */
+	public SeriesStatistics() {
+		clear();
+	}
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aStatistics 統計情報
+	 */
+	public SeriesStatistics(final SeriesStatistics aStatistics) {
+		count = aStatistics.count;
+		min = aStatistics.min;
+		max = aStatistics.max;
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 集計済みの値から統計情報を生成します。
+	 * </p>
+	 * 
+	 * @param aCount 件数
+	 * @param aMin 最小値
+	 * @param aMax 最大値
+	 */
+	public SeriesStatistics(final int aCount, final double aMin, final double aMax) {
+		if (0 > aCount) {
+			throw new IllegalArgumentException(String.format("Illegal count: %d", aCount));
+		}
+		if (0 == aCount) {
+			clear();
+		} else {
+			count = aCount;
+			min = aMin;
+			max = aMax;
+		}
+	}
+
+	/**
+	 * 関数を定義域で等間隔に評価した統計情報を生成する。
+	 * 
+	 * @param aFunction 関数
+	 * @param aMin 定義域の最小値
+	 * @param aMax 定義域の最大値
+	 * @param aSampleSize 評価数（2以上）
+	 * @return 統計情報
+	 */
+	public static SeriesStatistics sample(final SeriesFunction aFunction, final double aMin, final double aMax, final int aSampleSize) {
+		SeriesStatistics statistics = new SeriesStatistics();
+		if (aMin <= aMax) {
+			int intervals = Math.max(1, aSampleSize - 1);
+			double step = (aMax - aMin) / intervals;
+			for (int i = 0; i <= intervals; i++) {
+				double value = aFunction.evaluate((i == intervals) ? aMax : aMin + i * step);
+				if (!Double.isInfinite(value)) {
+					statistics.add(value);
+				}
+			}
+		}
+		return statistics;
+	}
+
+	/**
+	 * 統計情報をクリアする。
+	 */
+	public void clear() {
+		count = 0;
+		min = Double.POSITIVE_INFINITY;
+		max = Double.NEGATIVE_INFINITY;
+	}
+
+	/**
+	 * 値を集計する。
+	 * 
+	 * @param aValue 値
+	 */
+	public void add(final double aValue) {
+		if (Double.isNaN(aValue)) {
+			return;
+		}
+		count++;
+		if (aValue < min) {
+			min = aValue;
+		}
+		if (aValue > max) {
+			max = aValue;
+		}
+	}
+
+	/**
+	 * 値を集計から除外する。
+	 * <p>
+	 * 値が最小値または最大値と一致する場合、除外後の最小値・最大値は再集計しないと求まらない為、
+	 * 何もせずに<code>false</code>を返却します。
+	 * </p>
+	 * 
+	 * @param aValue 値
+	 * @return 除外できた場合、<code>true</code>
+	 */
+	public boolean remove(final double aValue) {
+		if (Double.isNaN(aValue)) {
+			return true;
+		}
+		if (aValue > min && aValue < max) {
+			count--;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 統計情報を合算する。
+	 * 
+	 * @param aStatistics 統計情報
+	 */
+	public void merge(final SeriesStatistics aStatistics) {
+		count += aStatistics.count;
+		min = Math.min(min, aStatistics.min);
+		max = Math.max(max, aStatistics.max);
+	}
+
+	/**
+	 * 統計情報が空か判断する。
+	 * 
+	 * @return 集計された値が無い場合、<code>true</code>
+	 */
+	public boolean isEmpty() {
+		return 0 == count;
+	}
+
+	/**
+	 * 件数を取得する。
+	 * 
+	 * @return 件数
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * 最小値を取得する。
+	 * 
+	 * @return 最小値（空の場合、<code>Double.POSITIVE_INFINITY</code>）
+	 */
+	public double getMin() {
+		return min;
+	}
+
+	/**
+	 * 最大値を取得する。
+	 * 
+	 * @return 最大値（空の場合、<code>Double.NEGATIVE_INFINITY</code>）
+	 */
+	public double getMax() {
+		return max;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("count=%d, min=%f, max=%f", count, min, max);
+	}
+}
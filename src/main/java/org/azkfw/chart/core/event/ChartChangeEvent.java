@@ -0,0 +1,56 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.event;
+
+import java.util.EventObject;
+
+/**
+ * このクラスは、データセット・シリーズ・デザインの変更を通知するイベントクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class ChartChangeEvent extends EventObject {
+
+	/** serialVersionUID */
+	private static final long serialVersionUID = 1L;
+
+	/** 変更回数 */
+	private final long modificationCount;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aSource 変更元
+	 * @param aModificationCount 変更後の変更回数
+	 */
+	public ChartChangeEvent(final Object aSource, final long aModificationCount) {
+		super(aSource);
+		modificationCount = aModificationCount;
+	}
+
+	/**
+	 * 変更後の変更回数を取得する。
+	 * 
+	 * @return 変更回数
+	 */
+	public long getModificationCount() {
+		return modificationCount;
+	}
+}
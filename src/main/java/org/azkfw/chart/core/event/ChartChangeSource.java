@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.event;
+
+/**
+ * このインターフェースは、変更を通知するオブジェクトを表現するインターフェースです。
+ * <p>
+ * 変更回数は変更毎に単調増加する為、前回の描画時の値と比較することでキャッシュの有効性を判断できます。
+ * </p>
+ * <p>
+ * 既存の実装クラスとの互換性の為、{@link org.azkfw.chart.core.dataset.Dataset}・{@link org.azkfw.chart.core.dataset.series.Series}・
+ * {@link org.azkfw.chart.design.ChartDesign}は本インターフェースを継承しません。
+ * 変更通知が必要な場合は、本インターフェースを実装した基底クラス（{@link org.azkfw.chart.core.dataset.AbstractDataset}等）を継承するか、
+ * 本インターフェースを個別に実装してください。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public interface ChartChangeSource {
+
+	/**
+	 * 変更回数を取得する。
+	 * 
+	 * @return 変更回数
+	 */
+	public long getModificationCount();
+
+	/**
+	 * 変更リスナーを追加する。
+	 * 
+	 * @param aListener リスナー
+	 */
+	public void addChartChangeListener(final ChartChangeListener aListener);
+
+	/**
+	 * 変更リスナーを削除する。
+	 * 
+	 * @param aListener リスナー
+	 */
+	public void removeChartChangeListener(final ChartChangeListener aListener);
+
+	/**
+	 * 一括更新を開始する。
+	 * <p>
+	 * {@link #endUpdate()}までの変更は、終了時に1回だけ通知されます。入れ子で呼び出すことができます。
+	 * </p>
+	 */
+	public void beginUpdate();
+
+	/**
+	 * 一括更新を終了する。
+	 * 
+	 * @throws IllegalStateException {@link #beginUpdate()}が呼び出されていない場合
+	 */
+	public void endUpdate();
+}
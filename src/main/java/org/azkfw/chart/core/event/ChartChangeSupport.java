@@ -0,0 +1,195 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * このクラスは、{@link ChartChangeSource}の実装を補助するクラスです。
+ * <p>
+ * 変更回数の参照以外はスレッドセーフではありません。変更は単一のスレッドから行ってください。
+ * </p>
+ * <p>
+ * 通知イベントは、{@link #getForwarder()}以外のリスナーが登録されている場合のみ生成します。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public final class ChartChangeSupport {
+
+	/** 変更元 */
+	private final Object source;
+	/** リスナー一覧 */
+	private final List<ChartChangeListener> listeners;
+	/** 転送リスナー */
+	private final Forwarder forwarder;
+
+	/** 変更回数 */
+	private volatile long modificationCount;
+
+	/** 一括更新の深さ */
+	private int updateDepth;
+	/** 未通知の変更有無 */
+	private boolean pending;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aSource 変更元
+	 */
+	public ChartChangeSupport(final Object aSource) {
+		source = aSource;
+		listeners = new CopyOnWriteArrayList<ChartChangeListener>();
+		forwarder = new Forwarder(this);
+		modificationCount = 0;
+		updateDepth = 0;
+		pending = false;
+	}
+
+	/**
+	 * 変更回数を取得する。
+	 * 
+	 * @return 変更回数
+	 */
+	public long getModificationCount() {
+		return modificationCount;
+	}
+
+	/**
+	 * 変更リスナーを追加する。
+	 * 
+	 * @param aListener リスナー
+	 */
+	public void addListener(final ChartChangeListener aListener) {
+		listeners.add(aListener);
+	}
+
+	/**
+	 * 変更リスナーを削除する。
+	 * 
+	 * @param aListener リスナー
+	 */
+	public void removeListener(final ChartChangeListener aListener) {
+		listeners.remove(aListener);
+	}
+
+	/**
+	 * 変更をこのオブジェクトへ転送するリスナーを取得する。
+	 * <p>
+	 * 取得したリスナーを他の{@link ChartChangeSupport}へ登録すると、通知イベントを生成せずに{@link #fireChanged()}を呼び出します。
+	 * </p>
+	 * 
+	 * @return リスナー
+	 */
+	public ChartChangeListener getForwarder() {
+		return forwarder;
+	}
+
+	/**
+	 * 一括更新の深さを取得する。
+	 * 
+	 * @return 一括更新の深さ（一括更新中でない場合、0）
+	 */
+	public int getUpdateDepth() {
+		return updateDepth;
+	}
+
+	/**
+	 * 一括更新を開始する。
+	 */
+	public void beginUpdate() {
+		updateDepth++;
+	}
+
+	/**
+	 * 一括更新を終了する。
+	 * <p>
+	 * 最も外側の一括更新の終了時に、期間中の変更があれば1回だけ通知します。
+	 * </p>
+	 * 
+	 * @throws IllegalStateException {@link #beginUpdate()}が呼び出されていない場合
+	 */
+	public void endUpdate() {
+		if (0 >= updateDepth) {
+			throw new IllegalStateException("endUpdate() without beginUpdate().");
+		}
+		updateDepth--;
+		if (0 == updateDepth && pending) {
+			pending = false;
+			notifyListeners();
+		}
+	}
+
+	/**
+	 * 変更回数を加算し、変更を通知する。
+	 * <p>
+	 * 一括更新中の場合、通知は一括更新の終了まで保留されます。
+	 * </p>
+	 */
+	public void fireChanged() {
+		modificationCount++;
+		if (0 < updateDepth) {
+			pending = true;
+		} else {
+			notifyListeners();
+		}
+	}
+
+	private void notifyListeners() {
+		if (listeners.isEmpty()) {
+			return;
+		}
+		ChartChangeEvent event = null;
+		for (ChartChangeListener listener : listeners) {
+			if (listener instanceof Forwarder) {
+				((Forwarder) listener).target.fireChanged();
+			} else {
+				if (null == event) {
+					event = new ChartChangeEvent(source, modificationCount);
+				}
+				listener.chartChanged(event);
+			}
+		}
+	}
+
+	/**
+	 * このクラスは、変更を他の{@link ChartChangeSupport}へ転送するリスナークラスです。
+	 */
+	private static final class Forwarder implements ChartChangeListener {
+
+		/** 転送先 */
+		private final ChartChangeSupport target;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aTarget 転送先
+		 */
+		private Forwarder(final ChartChangeSupport aTarget) {
+			target = aTarget;
+		}
+
+		@Override
+		public void chartChanged(final ChartChangeEvent aEvent) {
+			target.fireChanged();
+		}
+	}
+}
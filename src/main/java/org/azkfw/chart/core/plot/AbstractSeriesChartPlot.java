@@ -17,6 +17,11 @@
  */
 package org.azkfw.chart.core.plot;
 
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Polygon;
+import java.awt.Stroke;
+
 import org.azkfw.chart.core.dataset.SeriesDataset;
 import org.azkfw.chart.core.dataset.series.Series;
 import org.azkfw.chart.core.dataset.series.SeriesPoint;
@@ -24,6 +29,12 @@ import org.azkfw.chart.core.element.LegendElement;
 import org.azkfw.chart.core.element.SeriesLegendElement;
 import org.azkfw.chart.design.SeriesChartDesign;
 import org.azkfw.chart.design.chart.SeriesChartStyle;
+import org.azkfw.chart.design.marker.Marker;
+import org.azkfw.chart.design.marker.MarkerOccupancy;
+import org.azkfw.chart.design.marker.MarkerSpriteCache;
+import org.azkfw.graphics.Graphics;
+import org.azkfw.graphics.Rect;
+import org.azkfw.util.ObjectUtility;
 
 /**
  * このクラスは、シリーズデータのグラフプロット機能を実装するための基底クラスです。
@@ -35,6 +46,12 @@ import org.azkfw.chart.design.chart.SeriesChartStyle;
 public abstract class AbstractSeriesChartPlot<DATASET extends SeriesDataset<? extends Series>, DESIGN extends SeriesChartDesign<? extends SeriesChartStyle<? extends Series, ? extends SeriesPoint>, ? extends Series, ? extends SeriesPoint>>
 		extends AbstractChartPlot<DATASET, DESIGN> {
 
+	/** マーカー画像キャッシュ */
+	private final MarkerSpriteCache markerSpriteCache = new MarkerSpriteCache();
+
+	/** 前回描画時に省略したマーカー数 */
+	private long skippedMarkerCount;
+
 	/**
 	 * コンストラクタ
 	 */
@@ -89,6 +106,114 @@ public abstract class AbstractSeriesChartPlot<DATASET extends SeriesDataset<? ex
 		super(aDataset);
 	}
 
+	/**
+	 * マーカーを描画する。
+	 * <p>
+	 * マーカーは一度だけ画像へ描画され、以降は画像の転写で描画されます。
+	 * </p>
+	 * 
+	 * @param g Graphics
+	 * @param aMarker マーカー
+	 * @param aX 中心X座標
+	 * @param aY 中心Y座標
+	 */
+	protected final void drawMarker(final Graphics g, final Marker aMarker, final float aX, final float aY) {
+		markerSpriteCache.draw(g, aMarker, aX, aY);
+	}
+
+	/**
+	 * マーカーを描画する。
+	 * <p>
+	 * 同じマーカーが同じ位置に描画済みの場合は描画を省略します。
+	 * </p>
+	 * 
+	 * @param g Graphics
+	 * @param aMarker マーカー
+	 * @param aX 中心X座標
+	 * @param aY 中心Y座標
+	 * @param aOccupancy 描画済み位置（<code>null</code>の場合は省略しない）
+	 */
+	protected final void drawMarker(final Graphics g, final Marker aMarker, final float aX, final float aY, final MarkerOccupancy aOccupancy) {
+		markerSpriteCache.draw(g, aMarker, aX, aY, aOccupancy);
+	}
+
+	/**
+	 * シリーズの塗りつぶしと線を描画する。
+	 * <p>
+	 * 塗りつぶしは頂点から描画領域の下端までをグラデーションで描画します。マーカーは描画しません。
+	 * </p>
+	 * 
+	 * @param g Graphics
+	 * @param aIndex シリーズインデックス
+	 * @param aSeries シリーズ
+	 * @param aXs 頂点のX座標
+	 * @param aYs 頂点のY座標
+	 * @param aSize 頂点数
+	 * @param aStyle スタイル
+	 * @param aOverflow 描画領域外へ描画する場合、<code>true</code>
+	 * @param aRect 描画領域
+	 */
+	protected final <SERIES extends Series> void drawPath(final Graphics g, final int aIndex, final SERIES aSeries, final float[] aXs,
+			final float[] aYs, final int aSize, final SeriesChartStyle<SERIES, ? extends SeriesPoint> aStyle, final boolean aOverflow,
+			final Rect aRect) {
+		float bottom = aRect.getY() + aRect.getHeight();
+
+		if (!aOverflow) {
+			g.setClip(aRect.getX(), aRect.getY(), aRect.getWidth(), aRect.getHeight());
+		}
+
+		// Draw series fill
+		Color fillColor = aStyle.getSeriesFillColor(aIndex, aSeries);
+		if (ObjectUtility.isNotNull(fillColor)) {
+			int xps[] = new int[aSize + 2];
+			int yps[] = new int[aSize + 2];
+			for (int j = 0; j < aSize; j++) {
+				xps[j + 1] = (int) aXs[j];
+				yps[j + 1] = (int) aYs[j];
+			}
+			xps[0] = xps[1];
+			yps[0] = (int) bottom;
+			xps[aSize + 1] = xps[aSize];
+			yps[aSize + 1] = (int) bottom;
+
+			GradientPaint paint = new GradientPaint(0f, aRect.getY(), fillColor, 0f, bottom, new Color(fillColor.getRed(), fillColor.getGreen(),
+					fillColor.getBlue(), 0));
+			g.setPaint(paint);
+			g.fillPolygon(new Polygon(xps, yps, aSize + 2));
+		}
+
+		// Draw series line
+		Stroke stroke = aStyle.getSeriesStroke(aIndex, aSeries);
+		Color strokeColor = aStyle.getSeriesStrokeColor(aIndex, aSeries);
+		if (ObjectUtility.isAllNotNull(stroke, strokeColor)) {
+			g.setStroke(stroke, strokeColor);
+			g.drawPolyline(aXs, aYs, aSize);
+		}
+
+		if (!aOverflow) {
+			g.clearClip();
+		}
+	}
+
+	/**
+	 * 前回描画時に省略したマーカー数を取得する。
+	 * 
+	 * @return マーカー数
+	 */
+	public final long getSkippedMarkerCount() {
+		return skippedMarkerCount;
+	}
+
+	/**
+	 * 省略したマーカー数を設定する。
+	 * 
+	 * @param aOccupancy 描画済み位置（<code>null</code>の場合は0）
+	 */
+	protected final void setSkippedMarkerCount(final MarkerOccupancy aOccupancy) {
+		skippedMarkerCount = (null != aOccupancy) ? aOccupancy.getSkippedCount() : 0;
+		debug(String.format("Skipped marker count : %d", skippedMarkerCount));
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	protected LegendElement createLegendElement() {
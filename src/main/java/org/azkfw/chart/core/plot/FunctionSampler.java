@@ -0,0 +1,253 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.plot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.azkfw.chart.core.dataset.series.SeriesFunction;
+
+/**
+ * このクラスは、関数を描画領域の解像度で評価して折れ線に変換するクラスです。
+ * <p>
+ * 1ピクセル列につき1回関数を評価し、隣接する評価点の中点が直線から外れる箇所（曲率の大きい箇所）のみ再帰的に分割します。
+ * 値が<code>NaN</code>または無限大となる箇所で折れ線を分割します。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public final class FunctionSampler {
+
+	/** 分割を行う中点のずれ（ピクセル） */
+	private static final double TOLERANCE = 0.5;
+	/** 最大分割深さ */
+	private static final int MAX_DEPTH = 8;
+
+	/** x値の最小値の描画位置 */
+	private final double xOrigin;
+	/** x値の最小値 */
+	private final double xMin;
+	/** x値1あたりのピクセル数 */
+	private final double pixXPerValue;
+	/** y値の最小値の描画位置 */
+	private final double yOrigin;
+	/** y値の最小値 */
+	private final double yMin;
+	/** y値1あたりのピクセル数 */
+	private final double pixYPerValue;
+
+	/** 関数 */
+	private SeriesFunction function;
+	/** 折れ線一覧 */
+	private List<Path> paths;
+	/** 作成中の折れ線 */
+	private Path path;
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 描画位置は x = aXOrigin + (x値 - aXMin) * aPixXPerValue、y = aYOrigin - (y値 - aYMin) * aPixYPerValue とします。
+	 * </p>
+	 * 
+	 * @param aXOrigin x値の最小値の描画位置
+	 * @param aXMin x値の最小値
+	 * @param aPixXPerValue x値1あたりのピクセル数（正の値）
+	 * @param aYOrigin y値の最小値の描画位置
+	 * @param aYMin y値の最小値
+	 * @param aPixYPerValue y値1あたりのピクセル数
+	 */
+	public FunctionSampler(final double aXOrigin, final double aXMin, final double aPixXPerValue, final double aYOrigin, final double aYMin,
+			final double aPixYPerValue) {
+		xOrigin = aXOrigin;
+		xMin = aXMin;
+		pixXPerValue = aPixXPerValue;
+		yOrigin = aYOrigin;
+		yMin = aYMin;
+		pixYPerValue = aPixYPerValue;
+	}
+
+	/**
+	 * 関数を評価して折れ線を作成する。
+	 * <p>
+	 * 定義域のうち、描画範囲に含まれる部分のみを評価します。
+	 * </p>
+	 * 
+	 * @param aFunction 関数
+	 * @param aDomainMin 定義域の最小値
+	 * @param aDomainMax 定義域の最大値
+	 * @param aLeft 描画範囲の左端
+	 * @param aRight 描画範囲の右端
+	 * @return 折れ線一覧
+	 */
+	public List<Path> sample(final SeriesFunction aFunction, final double aDomainMin, final double aDomainMax, final float aLeft, final float aRight) {
+		function = aFunction;
+		paths = new ArrayList<Path>();
+		path = null;
+
+		double min = Math.max(aDomainMin, toValueX(aLeft));
+		double max = Math.min(aDomainMax, toValueX(aRight));
+		if (min <= max && 0 < pixXPerValue) {
+			int columns = Math.max(1, (int) Math.ceil((max - min) * pixXPerValue));
+			double step = (max - min) / columns;
+
+			double x0 = min;
+			double y0 = function.evaluate(x0);
+			add(x0, y0);
+			for (int i = 1; i <= columns; i++) {
+				double x1 = (i == columns) ? max : min + i * step;
+				double y1 = function.evaluate(x1);
+				refine(x0, y0, x1, y1, 0);
+				add(x1, y1);
+				x0 = x1;
+				y0 = y1;
+			}
+		}
+		closePath();
+
+		List<Path> result = paths;
+		function = null;
+		paths = null;
+		return result;
+	}
+
+	private void refine(final double aX0, final double aY0, final double aX1, final double aY1, final int aDepth) {
+		if (MAX_DEPTH <= aDepth) {
+			return;
+		}
+		double xm = (aX0 + aX1) / 2;
+		double ym = function.evaluate(xm);
+
+		boolean finite0 = isFinite(aY0);
+		boolean finite1 = isFinite(aY1);
+		boolean finiteM = isFinite(ym);
+		boolean split;
+		if (finite0 && finite1 && finiteM) {
+			// 中点と両端を結ぶ直線とのずれ
+			double deviation = ((aY0 + aY1) / 2 - ym) * pixYPerValue;
+			split = TOLERANCE < Math.abs(deviation);
+		} else {
+			// 定義されない区間の境界を詰める
+			split = finite0 || finite1 || finiteM;
+		}
+		if (split) {
+			refine(aX0, aY0, xm, ym, aDepth + 1);
+			add(xm, ym);
+			refine(xm, ym, aX1, aY1, aDepth + 1);
+		}
+	}
+
+	private void add(final double aX, final double aY) {
+		if (isFinite(aY)) {
+			if (null == path) {
+				path = new Path();
+			}
+			path.add((float) (xOrigin + (aX - xMin) * pixXPerValue), (float) (yOrigin - (aY - yMin) * pixYPerValue));
+		} else {
+			closePath();
+		}
+	}
+
+	private void closePath() {
+		if (null != path) {
+			if (2 <= path.getSize()) {
+				paths.add(path);
+			}
+			path = null;
+		}
+	}
+
+	private double toValueX(final double aPixel) {
+		return xMin + (aPixel - xOrigin) / pixXPerValue;
+	}
+
+	private static boolean isFinite(final double aValue) {
+		return !Double.isNaN(aValue) && !Double.isInfinite(aValue);
+	}
+
+	/**
+	 * このクラスは、関数を評価した折れ線を保持するクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public static final class Path {
+
+		/** x座標配列 */
+		private float[] xs;
+		/** y座標配列 */
+		private float[] ys;
+		/** 点数 */
+		private int size;
+
+		/**
+		 * コンストラクタ
+		 */
+		private Path() {
+			xs = new float[64];
+			ys = new float[64];
+			size = 0;
+		}
+
+		/**
+		 * x座標配列を取得する。
+		 * <p>
+		 * 配列長は点数より大きい場合があります。
+		 * </p>
+		 * 
+		 * @return x座標配列
+		 */
+		public float[] getXs() {
+			return xs;
+		}
+
+		/**
+		 * y座標配列を取得する。
+		 * <p>
+		 * 配列長は点数より大きい場合があります。
+		 * </p>
+		 * 
+		 * @return y座標配列
+		 */
+		public float[] getYs() {
+			return ys;
+		}
+
+		/**
+		 * 点数を取得する。
+		 * 
+		 * @return 点数
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		private void add(final float aX, final float aY) {
+			if (size == xs.length) {
+				xs = Arrays.copyOf(xs, size * 2);
+				ys = Arrays.copyOf(ys, size * 2);
+			}
+			xs[size] = aX;
+			ys[size] = aY;
+			size++;
+		}
+	}
+}
@@ -22,6 +22,9 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Stroke;
 
+import org.azkfw.chart.core.event.ChartChangeListener;
+import org.azkfw.chart.core.event.ChartChangeSource;
+import org.azkfw.chart.core.event.ChartChangeSupport;
 import org.azkfw.chart.design.chart.ChartStyle;
 import org.azkfw.chart.design.legend.LegendStyle;
 import org.azkfw.chart.design.title.TitleStyle;
@@ -30,12 +33,16 @@ import org.azkfw.graphics.Padding;
 
 /**
  * このクラスは、グラフデザインを定義する為の基底クラスです。
+ * <p>
+ * 変更通知（{@link ChartChangeSource}）は本クラスで提供します。
+ * {@link ChartChangeSource}を実装したスタイルの変更は、デザインの変更として通知されます。
+ * </p>
  * 
  * @since 1.0.0
  * @version 1.0.0 2014/06/19
  * @author Kawakicchi
  */
-public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements ChartDesign<STYLE> {
+public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements ChartDesign<STYLE>, ChartChangeSource {
 
 	/** デフォルト 軸線ストローク */
 	private final static Stroke DEFAULT_STROKE_AXIS = new BasicStroke(1.0f);
@@ -75,10 +82,18 @@ public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements C
 	/** パディング情報 */
 	private Padding padding;
 
+	/** 変更通知 */
+	private final ChartChangeSupport changeSupport;
+	/** スタイル変更リスナー */
+	private final ChartChangeListener styleListener;
+
 	/**
 	 * コンストラクタ
 	 */
 	public AbstractChartDesign() {
+		changeSupport = new ChartChangeSupport(this);
+		styleListener = changeSupport.getForwarder();
+
 		chart = null;
 		title = null;
 		legend = null;
@@ -165,7 +180,10 @@ public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements C
 
 	@Override
 	public final void setChartStyle(final STYLE aStyle) {
+		unwatchStyle(chart);
 		chart = aStyle;
+		watchStyle(chart);
+		fireChanged();
 	}
 
 	@Override
@@ -175,7 +193,10 @@ public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements C
 
 	@Override
 	public final void setTitleStyle(final TitleStyle aStyle) {
+		unwatchStyle(title);
 		title = aStyle;
+		watchStyle(title);
+		fireChanged();
 	}
 
 	@Override
@@ -185,7 +206,10 @@ public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements C
 
 	@Override
 	public final void setLegendStyle(final LegendStyle aStyle) {
+		unwatchStyle(legend);
 		legend = aStyle;
+		watchStyle(legend);
+		fireChanged();
 	}
 
 	@Override
@@ -196,6 +220,7 @@ public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements C
 	@Override
 	public final void setBackgroundColor(final Color aColor) {
 		backgroundColor = aColor;
+		fireChanged();
 	}
 
 	@Override
@@ -206,6 +231,7 @@ public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements C
 	@Override
 	public void setFrameStroke(final Stroke aStroke) {
 		frameStroke = aStroke;
+		fireChanged();
 	}
 
 	@Override
@@ -216,6 +242,7 @@ public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements C
 	@Override
 	public void setFrameStrokeColor(final Color aColor) {
 		frameStrokeColor = aColor;
+		fireChanged();
 	}
 
 	@Override
@@ -226,6 +253,7 @@ public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements C
 	@Override
 	public void setMargin(final Margin aMargin) {
 		margin = aMargin;
+		fireChanged();
 	}
 
 	@Override
@@ -236,10 +264,55 @@ public abstract class AbstractChartDesign<STYLE extends ChartStyle> implements C
 	@Override
 	public void setPadding(final Padding aPadding) {
 		padding = aPadding;
+		fireChanged();
 	}
 
 	@Override
 	public Padding getPadding() {
 		return padding;
 	}
+
+	@Override
+	public final long getModificationCount() {
+		return changeSupport.getModificationCount();
+	}
+
+	@Override
+	public final void addChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.addListener(aListener);
+	}
+
+	@Override
+	public final void removeChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.removeListener(aListener);
+	}
+
+	@Override
+	public final void beginUpdate() {
+		changeSupport.beginUpdate();
+	}
+
+	@Override
+	public final void endUpdate() {
+		changeSupport.endUpdate();
+	}
+
+	/**
+	 * 変更回数を加算し、変更を通知する。
+	 */
+	protected final void fireChanged() {
+		changeSupport.fireChanged();
+	}
+
+	private void watchStyle(final Object aStyle) {
+		if (aStyle instanceof ChartChangeSource) {
+			((ChartChangeSource) aStyle).addChartChangeListener(styleListener);
+		}
+	}
+
+	private void unwatchStyle(final Object aStyle) {
+		if (aStyle instanceof ChartChangeSource) {
+			((ChartChangeSource) aStyle).removeChartChangeListener(styleListener);
+		}
+	}
 }
@@ -19,6 +19,9 @@ package org.azkfw.chart.design.chart;
 
 import java.awt.Color;
 
+import org.azkfw.chart.core.event.ChartChangeListener;
+import org.azkfw.chart.core.event.ChartChangeSource;
+import org.azkfw.chart.core.event.ChartChangeSupport;
 import org.azkfw.chart.design.color.ColorIndex;
 
 /**
@@ -28,7 +31,10 @@ import org.azkfw.chart.design.color.ColorIndex;
  * @version 1.0.0 2014/06/26
  * @author Kawakicchi
  */
-public abstract class AbstractChartStyle implements ChartStyle {
+public abstract class AbstractChartStyle implements ChartStyle, ChartChangeSource {
+
+	/** 変更通知 */
+	private final ChartChangeSupport changeSupport = new ChartChangeSupport(this);
 
 	private Color backgroundColor;
 
@@ -52,6 +58,7 @@ public abstract class AbstractChartStyle implements ChartStyle {
 	@Override
 	public void setBackgroundColor(final Color aColor) {
 		backgroundColor = aColor;
+		fireChanged();
 	}
 
 	@Override
@@ -62,6 +69,7 @@ public abstract class AbstractChartStyle implements ChartStyle {
 	@Override
 	public void setOverflow(final boolean aOverflow) {
 		overflow = aOverflow;
+		fireChanged();
 	}
 
 	@Override
@@ -69,4 +77,35 @@ public abstract class AbstractChartStyle implements ChartStyle {
 		return overflow;
 	}
 
+	@Override
+	public final long getModificationCount() {
+		return changeSupport.getModificationCount();
+	}
+
+	@Override
+	public final void addChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.addListener(aListener);
+	}
+
+	@Override
+	public final void removeChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.removeListener(aListener);
+	}
+
+	@Override
+	public final void beginUpdate() {
+		changeSupport.beginUpdate();
+	}
+
+	@Override
+	public final void endUpdate() {
+		changeSupport.endUpdate();
+	}
+
+	/**
+	 * 変更回数を加算し、変更を通知する。
+	 */
+	protected final void fireChanged() {
+		changeSupport.fireChanged();
+	}
 }
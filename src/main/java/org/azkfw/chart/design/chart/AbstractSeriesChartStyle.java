@@ -39,10 +39,36 @@ import org.azkfw.chart.design.marker.TriangleMarker;
 public abstract class AbstractSeriesChartStyle<SERIES extends Series, POINT extends SeriesPoint> extends AbstractChartStyle implements
 		SeriesChartStyle<SERIES, POINT> {
 
+	/** 重なったマーカーの省略 */
+	private boolean markerCulling;
+
 	/**
 	 * コンストラクタ
 	 */
 	public AbstractSeriesChartStyle() {
+		markerCulling = false;
+	}
+
+	/**
+	 * 重なったマーカーの省略を設定する。
+	 * <p>
+	 * 有効にした場合、シリーズ内で同じマーカーが同じ位置に描画済みのポイントはマーカーの描画を省略します。
+	 * </p>
+	 * 
+	 * @param aCulling 省略する場合、<code>true</code>
+	 */
+	public void setMarkerCulling(final boolean aCulling) {
+		markerCulling = aCulling;
+		fireChanged();
+	}
+
+	/**
+	 * 重なったマーカーの省略を判断する。
+	 * 
+	 * @return 省略する場合、<code>true</code>を返す。
+	 */
+	public boolean isMarkerCulling() {
+		return markerCulling;
 	}
 
 	/**
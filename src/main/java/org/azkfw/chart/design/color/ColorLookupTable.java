@@ -0,0 +1,140 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.design.color;
+
+/**
+ * このクラスは、カラーマップを値の範囲に対応付けたカラーテーブルクラスです。
+ * <p>
+ * カラーマップを生成時に一度だけ評価し、ARGB値の配列として保持します。
+ * 値からカラーへの変換は範囲の丸めと配列の参照のみで行い、オブジェクトを生成しません。
+ * 範囲外の値は両端のカラー、<code>NaN</code>は最小値のカラーとなります。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public final class ColorLookupTable {
+
+	/** 標準のテーブルサイズ */
+	public static final int DEFAULT_SIZE = 1024;
+
+	/** 対数表示で最小値が0以下の場合に使用する最大値からの範囲（dB） */
+	private static final double DEFAULT_DECIBEL_RANGE = 100.0;
+
+	/** カラーテーブル（ARGB） */
+	private final int[] table;
+	/** 値の対応方法 */
+	private final Mapping mapping;
+	/** 最小値（対数表示の場合はdB） */
+	private final double minimum;
+	/** 値1（対数表示の場合は1dB）あたりのインデックス数 */
+	private final double scale;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aColorMap カラーマップ
+	 * @param aMapping 値の対応方法
+	 * @param aMinimum 最小値
+	 * @param aMaximum 最大値
+	 */
+	public ColorLookupTable(final ColorMap aColorMap, final Mapping aMapping, final double aMinimum, final double aMaximum) {
+		this(aColorMap, aMapping, aMinimum, aMaximum, DEFAULT_SIZE);
+	}
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * 対数表示の場合、値をdB（10×log10）に変換して対応付けます。最小値が0以下の場合は最大値から100dBの範囲とします。
+	 * </p>
+	 * 
+	 * @param aColorMap カラーマップ
+	 * @param aMapping 値の対応方法
+	 * @param aMinimum 最小値
+	 * @param aMaximum 最大値
+	 * @param aSize テーブルサイズ
+	 */
+	public ColorLookupTable(final ColorMap aColorMap, final Mapping aMapping, final double aMinimum, final double aMaximum, final int aSize) {
+		if (2 > aSize) {
+			throw new IllegalArgumentException(String.format("Table size: %d", aSize));
+		}
+		table = new int[aSize];
+		for (int i = 0; i < aSize; i++) {
+			table[i] = aColorMap.getRGB((double) i / (aSize - 1));
+		}
+		mapping = aMapping;
+
+		double min = aMinimum;
+		double max = aMaximum;
+		if (Mapping.Logarithmic == aMapping) {
+			max = toDecibel(aMaximum);
+			min = (0 < aMinimum) ? toDecibel(aMinimum) : max - DEFAULT_DECIBEL_RANGE;
+		}
+		minimum = min;
+		scale = (max > min) ? (aSize - 1) / (max - min) : 0.0;
+	}
+
+	/**
+	 * 値のカラーを取得する。
+	 * 
+	 * @param aValue 値
+	 * @return カラー（ARGB）
+	 */
+	public int getRGB(final double aValue) {
+		double value = (Mapping.Logarithmic == mapping) ? toDecibel(aValue) : aValue;
+		double index = (value - minimum) * scale;
+		if (!(index > 0)) {
+			return table[0];
+		}
+		if (index >= table.length - 1) {
+			return table[table.length - 1];
+		}
+		return table[(int) index];
+	}
+
+	/**
+	 * テーブルサイズを取得する。
+	 * 
+	 * @return テーブルサイズ
+	 */
+	public int size() {
+		return table.length;
+	}
+
+	private static double toDecibel(final double aValue) {
+		return 10.0 * Math.log10(aValue);
+	}
+
+	/**
+	 * 値の対応方法を定義
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public enum Mapping {
+		/** 線形 */
+		Linear(),
+		/** 対数（dB） */
+		Logarithmic();
+
+		private Mapping() {
+		}
+	}
+}
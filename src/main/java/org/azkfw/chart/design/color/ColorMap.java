@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.design.color;
+
+import java.awt.Color;
+
+/**
+ * このインターフェースは、値の位置（0.0～1.0）をカラーへ対応付けるカラーマップを定義するためのインターフェースです。
+ * <p>
+ * 描画時は{@link ColorLookupTable}でカラーテーブルへ変換して使用します。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public interface ColorMap {
+
+	/** 青 → 緑 → 赤 */
+	public static ColorMap Spectrum = new GradientColorMap(
+			new float[] { 0.f, 0.5f, 1.f },
+			new Color(0, 0, 255, 255),
+			new Color(0, 255, 0, 255),
+			new Color(255, 0, 0, 255));
+
+	/** Viridis */
+	public static ColorMap Viridis = new GradientColorMap(
+			new float[] { 0.f, 1.f / 7, 2.f / 7, 3.f / 7, 4.f / 7, 5.f / 7, 6.f / 7, 1.f },
+			new Color(68, 1, 84, 255),
+			new Color(70, 50, 126, 255),
+			new Color(54, 92, 141, 255),
+			new Color(39, 127, 142, 255),
+			new Color(31, 161, 135, 255),
+			new Color(74, 193, 109, 255),
+			new Color(160, 218, 57, 255),
+			new Color(253, 231, 37, 255));
+
+	/** 黒 → 白 */
+	public static ColorMap Grayscale = new GradientColorMap(
+			new float[] { 0.f, 1.f },
+			new Color(0, 0, 0, 255),
+			new Color(255, 255, 255, 255));
+
+	/**
+	 * 位置のカラーを取得する。
+	 * 
+	 * @param aRatio 位置（0.0～1.0）
+	 * @return カラー（ARGB）
+	 */
+	public int getRGB(final double aRatio);
+
+	/**
+	 * このクラスは、指定した位置のカラー間を線形補間するカラーマップクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public static class GradientColorMap implements ColorMap {
+
+		/** 位置 */
+		private final float[] positions;
+		/** カラー */
+		private final Color[] colors;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aPositions 位置（0.0～1.0の昇順）
+		 * @param aColors 位置毎のカラー
+		 */
+		public GradientColorMap(final float[] aPositions, final Color... aColors) {
+			if (0 == aPositions.length || aPositions.length != aColors.length) {
+				throw new IllegalArgumentException(String.format("Positions: %d, Colors: %d", aPositions.length, aColors.length));
+			}
+			for (int i = 1; i < aPositions.length; i++) {
+				if (!(aPositions[i - 1] <= aPositions[i])) {
+					throw new IllegalArgumentException(String.format("Positions must be ascending. Index: %d", i));
+				}
+			}
+			positions = aPositions.clone();
+			colors = aColors.clone();
+		}
+
+		@Override
+		public int getRGB(final double aRatio) {
+			if (!(aRatio > positions[0])) {
+				return colors[0].getRGB();
+			}
+			for (int i = 1; i < positions.length; i++) {
+				if (aRatio <= positions[i]) {
+					float range = positions[i] - positions[i - 1];
+					double ratio = (0 < range) ? (aRatio - positions[i - 1]) / range : 1.0;
+					return interpolate(colors[i - 1], colors[i], ratio);
+				}
+			}
+			return colors[colors.length - 1].getRGB();
+		}
+
+		private static int interpolate(final Color aColor1, final Color aColor2, final double aRatio) {
+			int alpha = (int) Math.round(aColor1.getAlpha() + (aColor2.getAlpha() - aColor1.getAlpha()) * aRatio);
+			int red = (int) Math.round(aColor1.getRed() + (aColor2.getRed() - aColor1.getRed()) * aRatio);
+			int green = (int) Math.round(aColor1.getGreen() + (aColor2.getGreen() - aColor1.getGreen()) * aRatio);
+			int blue = (int) Math.round(aColor1.getBlue() + (aColor2.getBlue() - aColor1.getBlue()) * aRatio);
+			return (alpha << 24) | (red << 16) | (green << 8) | blue;
+		}
+	}
+}
@@ -21,6 +21,9 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Stroke;
 
+import org.azkfw.chart.core.event.ChartChangeListener;
+import org.azkfw.chart.core.event.ChartChangeSource;
+import org.azkfw.chart.core.event.ChartChangeSupport;
 import org.azkfw.graphics.Margin;
 import org.azkfw.graphics.Padding;
 
@@ -31,7 +34,10 @@ import org.azkfw.graphics.Padding;
  * @version 1.0.0 2014/06/26
  * @author Kawakicchi
  */
-public class CustomLegendStyle implements LegendStyle {
+public class CustomLegendStyle implements LegendStyle, ChartChangeSource {
+
+	/** 変更通知 */
+	private final ChartChangeSupport changeSupport = new ChartChangeSupport(this);
 
 	private boolean display;
 
@@ -81,6 +87,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setDisplay(final boolean aDisplay) {
 		display = aDisplay;
+		fireChanged();
 	}
 
 	/**
@@ -90,6 +97,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setPosition(final LegendDisplayPosition aPosition) {
 		position = aPosition;
+		fireChanged();
 	}
 
 	/**
@@ -99,6 +107,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setMargin(final Margin aMargin) {
 		margin = aMargin;
+		fireChanged();
 	}
 
 	/**
@@ -108,6 +117,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setPadding(final Padding aPadding) {
 		padding = aPadding;
+		fireChanged();
 	}
 
 	/**
@@ -117,6 +127,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setFont(final Font aFont) {
 		font = aFont;
+		fireChanged();
 	}
 
 	/**
@@ -126,6 +137,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setFontColor(final Color aColor) {
 		fontColor = aColor;
+		fireChanged();
 	}
 
 	/**
@@ -137,6 +149,7 @@ public class CustomLegendStyle implements LegendStyle {
 	public void setFont(final Font aFont, final Color aColor) {
 		font = aFont;
 		fontColor = aColor;
+		fireChanged();
 	}
 
 	/**
@@ -146,6 +159,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setFrameStroke(final Stroke aStroke) {
 		stroke = aStroke;
+		fireChanged();
 	}
 
 	/**
@@ -155,6 +169,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setFrameStrokeColor(final Color aColor) {
 		strokeColor = aColor;
+		fireChanged();
 	}
 
 	/**
@@ -166,6 +181,7 @@ public class CustomLegendStyle implements LegendStyle {
 	public void setFrameStroke(final Stroke aStroke, final Color aColor) {
 		stroke = aStroke;
 		strokeColor = aColor;
+		fireChanged();
 	}
 
 	/**
@@ -175,6 +191,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setBackgroundColor(final Color aColor) {
 		backgroundColor = aColor;
+		fireChanged();
 	}
 
 	/**
@@ -184,6 +201,7 @@ public class CustomLegendStyle implements LegendStyle {
 	 */
 	public void setSpace(final float aSpace) {
 		space = aSpace;
+		fireChanged();
 	}
 
 	@Override
@@ -236,4 +254,35 @@ public class CustomLegendStyle implements LegendStyle {
 		return space;
 	}
 
+	@Override
+	public final long getModificationCount() {
+		return changeSupport.getModificationCount();
+	}
+
+	@Override
+	public final void addChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.addListener(aListener);
+	}
+
+	@Override
+	public final void removeChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.removeListener(aListener);
+	}
+
+	@Override
+	public final void beginUpdate() {
+		changeSupport.beginUpdate();
+	}
+
+	@Override
+	public final void endUpdate() {
+		changeSupport.endUpdate();
+	}
+
+	/**
+	 * 変更回数を加算し、変更を通知する。
+	 */
+	protected final void fireChanged() {
+		changeSupport.fireChanged();
+	}
 }
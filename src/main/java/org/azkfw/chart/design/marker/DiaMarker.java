@@ -20,6 +20,7 @@ package org.azkfw.chart.design.marker;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Stroke;
+import java.util.Objects;
 
 import org.azkfw.graphics.Graphics;
 import org.azkfw.graphics.Size;
@@ -83,4 +84,22 @@ public class DiaMarker extends AbstractMarker {
 		}
 	}
 
+	@Override
+	public boolean equals(final Object aObject) {
+		if (this == aObject) {
+			return true;
+		}
+		if (null == aObject || getClass() != aObject.getClass()) {
+			return false;
+		}
+		DiaMarker marker = (DiaMarker) aObject;
+		return 0 == Float.compare(size, marker.size) && Objects.equals(strokeColor, marker.strokeColor) && Objects.equals(stroke, marker.stroke)
+				&& Objects.equals(fillColor, marker.fillColor);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(size, strokeColor, stroke, fillColor);
+	}
+
 }
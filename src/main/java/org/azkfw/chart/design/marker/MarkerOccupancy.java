@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.design.marker;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.azkfw.graphics.Rect;
+
+/**
+ * このクラスは、マーカーを描画済みの位置を記録するクラスです。
+ * <p>
+ * 同じマーカー（{@link Object#equals(Object)}で等しいマーカー）が同じ描画位置（整数座標）に描画済みの場合、
+ * 後から描画するマーカーは描画済みのマーカーに完全に覆われる為、描画を省略できます。
+ * 記録範囲外の位置は常に未描画として扱います。
+ * </p>
+ * <p>
+ * 描画位置毎に最後に描画したマーカーのみを記録する為、マーカーの種類数に関わらず記録範囲1つ分のメモリで動作します。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public final class MarkerOccupancy {
+
+	/** 記録範囲の余白（マーカーの描画位置は左上の為） */
+	private static final int MARGIN = 32;
+
+	/** 記録範囲左端 */
+	private final int left;
+	/** 記録範囲上端 */
+	private final int top;
+	/** 記録範囲幅 */
+	private final int width;
+	/** 記録範囲高さ */
+	private final int height;
+
+	/** マーカー毎の識別子（1以上） */
+	private final Map<Marker, Integer> ids;
+	/** 描画位置毎に最後に描画したマーカーの識別子（0は未描画）。初回記録時に生成する */
+	private int[] cells;
+
+	/** 直前に使用したマーカー */
+	private Marker lastMarker;
+	/** 直前に使用したマーカーの識別子 */
+	private int lastId;
+
+	/** 省略したマーカー数 */
+	private long skippedCount;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aRect 記録範囲
+	 */
+	public MarkerOccupancy(final Rect aRect) {
+		left = (int) Math.floor(aRect.getX()) - MARGIN;
+		top = (int) Math.floor(aRect.getY()) - MARGIN;
+		width = (int) Math.ceil(aRect.getWidth()) + MARGIN * 2;
+		height = (int) Math.ceil(aRect.getHeight()) + MARGIN * 2;
+		ids = new HashMap<Marker, Integer>();
+		cells = null;
+		skippedCount = 0;
+	}
+
+	/**
+	 * 描画位置を記録する。
+	 * 
+	 * @param aMarker マーカー
+	 * @param aX 描画位置X座標
+	 * @param aY 描画位置Y座標
+	 * @return 未描画の位置の場合、<code>true</code>を返す。同じマーカーが描画済みの場合、<code>false</code>を返す。
+	 */
+	public boolean occupy(final Marker aMarker, final int aX, final int aY) {
+		int x = aX - left;
+		int y = aY - top;
+		if (x < 0 || x >= width || y < 0 || y >= height) {
+			return true;
+		}
+
+		int id = getId(aMarker);
+		if (null == cells) {
+			cells = new int[width * height];
+		}
+		int index = y * width + x;
+		if (id == cells[index]) {
+			skippedCount++;
+			return false;
+		}
+		cells[index] = id;
+		return true;
+	}
+
+	/**
+	 * 描画済み位置をクリアする。
+	 * <p>
+	 * 省略したマーカー数はクリアされません。
+	 * </p>
+	 */
+	public void clear() {
+		if (!ids.isEmpty()) {
+			Arrays.fill(cells, 0);
+			ids.clear();
+		}
+		lastMarker = null;
+		lastId = 0;
+	}
+
+	/**
+	 * 省略したマーカー数を取得する。
+	 * 
+	 * @return マーカー数
+	 */
+	public long getSkippedCount() {
+		return skippedCount;
+	}
+
+	private int getId(final Marker aMarker) {
+		if (aMarker == lastMarker) {
+			return lastId;
+		}
+		Integer id = ids.get(aMarker);
+		if (null == id) {
+			id = Integer.valueOf(ids.size() + 1);
+			ids.put(aMarker, id);
+		}
+		lastMarker = aMarker;
+		lastId = id.intValue();
+		return lastId;
+	}
+}
@@ -0,0 +1,185 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.design.marker;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.azkfw.graphics.AzukiGraphics2D;
+import org.azkfw.graphics.Graphics;
+import org.azkfw.graphics.Size;
+
+/**
+ * このクラスは、マーカーを画像に描画して再利用するキャッシュクラスです。
+ * <p>
+ * マーカー毎（{@link Object#equals(Object)}で等しいマーカーは同一）に一度だけアンチエイリアス付きで画像へ描画し、
+ * 以降は画像を転写して描画します。描画先の座標変換に拡大・回転が含まれる場合は、マーカーを直接描画します。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public final class MarkerSpriteCache {
+
+	/** 最大保持数 */
+	private static final int MAX_ENTRY_SIZE = 256;
+
+	/** 画像の余白（線の太さ分） */
+	private static final int PADDING = 2;
+
+	/** マーカー毎の画像 */
+	private final Map<Marker, Sprite> sprites;
+
+	/** 直前に使用したマーカー */
+	private Marker lastMarker;
+	/** 直前に使用した画像 */
+	private Sprite lastSprite;
+
+	/**
+	 * コンストラクタ
+	 */
+	public MarkerSpriteCache() {
+		sprites = new LinkedHashMap<Marker, Sprite>(16, 0.75f, true) {
+			/** serialVersionUID */
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Marker, Sprite> aEldest) {
+				return size() > MAX_ENTRY_SIZE;
+			}
+		};
+	}
+
+	/**
+	 * マーカーを描画する。
+	 * <p>
+	 * マーカーの中心が指定位置となる様に描画します。
+	 * </p>
+	 * 
+	 * @param g Graphics
+	 * @param aMarker マーカー
+	 * @param aX 中心X座標
+	 * @param aY 中心Y座標
+	 */
+	public void draw(final Graphics g, final Marker aMarker, final float aX, final float aY) {
+		draw(g, aMarker, aX, aY, null);
+	}
+
+	/**
+	 * マーカーを描画する。
+	 * <p>
+	 * マーカーの中心が指定位置となる様に描画します。同じマーカーが同じ位置に描画済みの場合は描画を省略します。
+	 * </p>
+	 * 
+	 * @param g Graphics
+	 * @param aMarker マーカー
+	 * @param aX 中心X座標
+	 * @param aY 中心Y座標
+	 * @param aOccupancy 描画済み位置（<code>null</code>の場合は省略しない）
+	 * @return 描画した場合、<code>true</code>を返す。
+	 */
+	public boolean draw(final Graphics g, final Marker aMarker, final float aX, final float aY, final MarkerOccupancy aOccupancy) {
+		Sprite sprite = getSprite(aMarker);
+		float x = aX - (sprite.width / 2) + sprite.mx;
+		float y = aY - (sprite.height / 2) + sprite.my;
+		if (null != aOccupancy && !aOccupancy.occupy(aMarker, (int) (x), (int) (y))) {
+			return false;
+		}
+
+		AffineTransform transform = g.getTransform();
+		if (null != transform && 0 != (transform.getType() & ~AffineTransform.TYPE_TRANSLATION)) {
+			aMarker.draw(g, x, y);
+		} else {
+			g.drawImage(sprite.image, (int) (x) - PADDING, (int) (y) - PADDING);
+		}
+		return true;
+	}
+
+	/**
+	 * キャッシュをクリアする。
+	 */
+	public void clear() {
+		sprites.clear();
+		lastMarker = null;
+		lastSprite = null;
+	}
+
+	private Sprite getSprite(final Marker aMarker) {
+		if (aMarker == lastMarker) {
+			return lastSprite;
+		}
+		Sprite sprite = sprites.get(aMarker);
+		if (null == sprite) {
+			sprite = createSprite(aMarker);
+			sprites.put(aMarker, sprite);
+		}
+		lastMarker = aMarker;
+		lastSprite = sprite;
+		return sprite;
+	}
+
+	private static Sprite createSprite(final Marker aMarker) {
+		Size size = aMarker.getSize();
+		int width = (int) Math.ceil(size.getWidth()) + PADDING * 2 + 1;
+		int height = (int) Math.ceil(size.getHeight()) + PADDING * 2 + 1;
+
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g2d = image.createGraphics();
+		try {
+			g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+			aMarker.draw(new AzukiGraphics2D(g2d), PADDING, PADDING);
+		} finally {
+			g2d.dispose();
+		}
+		return new Sprite(image, size.getWidth(), size.getHeight());
+	}
+
+	/**
+	 * このクラスは、マーカーを描画した画像を保持するクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class Sprite {
+
+		/** 画像 */
+		private final BufferedImage image;
+		/** マーカー幅 */
+		private final float width;
+		/** マーカー高さ */
+		private final float height;
+		/** 幅が奇数の場合の補正 */
+		private final int mx;
+		/** 高さが奇数の場合の補正 */
+		private final int my;
+
+		private Sprite(final BufferedImage aImage, final float aWidth, final float aHeight) {
+			image = aImage;
+			width = aWidth;
+			height = aHeight;
+			mx = (0 == (int) aWidth % 2) ? 0 : 1;
+			my = (0 == (int) aHeight % 2) ? 0 : 1;
+		}
+	}
+}
@@ -20,6 +20,7 @@ package org.azkfw.chart.design.marker;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Stroke;
+import java.util.Objects;
 
 import org.azkfw.graphics.Graphics;
 import org.azkfw.graphics.Size;
@@ -62,4 +63,21 @@ public class MinusMarker extends AbstractMarker {
 		}
 	}
 
+	@Override
+	public boolean equals(final Object aObject) {
+		if (this == aObject) {
+			return true;
+		}
+		if (null == aObject || getClass() != aObject.getClass()) {
+			return false;
+		}
+		MinusMarker marker = (MinusMarker) aObject;
+		return 0 == Float.compare(size, marker.size) && Objects.equals(strokeColor, marker.strokeColor) && Objects.equals(stroke, marker.stroke);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(size, strokeColor, stroke);
+	}
+
 }
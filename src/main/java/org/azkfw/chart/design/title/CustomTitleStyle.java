@@ -21,6 +21,9 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Stroke;
 
+import org.azkfw.chart.core.event.ChartChangeListener;
+import org.azkfw.chart.core.event.ChartChangeSource;
+import org.azkfw.chart.core.event.ChartChangeSupport;
 import org.azkfw.graphics.Margin;
 import org.azkfw.graphics.Padding;
 
@@ -31,7 +34,10 @@ import org.azkfw.graphics.Padding;
  * @version 1.0.0 2014/06/26
  * @author Kawakicchi
  */
-public class CustomTitleStyle implements TitleStyle {
+public class CustomTitleStyle implements TitleStyle, ChartChangeSource {
+
+	/** 変更通知 */
+	private final ChartChangeSupport changeSupport = new ChartChangeSupport(this);
 
 	private boolean display;
 
@@ -80,6 +86,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setDisplay(final boolean aDisplay) {
 		display = aDisplay;
+		fireChanged();
 	}
 
 	/**
@@ -89,6 +96,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setPosition(final TitleDisplayPosition aPosition) {
 		position = aPosition;
+		fireChanged();
 	}
 
 	/**
@@ -98,6 +106,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setMargin(final Margin aMargin) {
 		margin = aMargin;
+		fireChanged();
 	}
 
 	/**
@@ -107,6 +116,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setPadding(final Padding aPadding) {
 		padding = aPadding;
+		fireChanged();
 	}
 
 	/**
@@ -116,6 +126,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setFont(final Font aFont) {
 		font = aFont;
+		fireChanged();
 	}
 
 	/**
@@ -125,6 +136,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setFontColor(final Color aColor) {
 		fontColor = aColor;
+		fireChanged();
 	}
 
 	/**
@@ -136,6 +148,7 @@ public class CustomTitleStyle implements TitleStyle {
 	public void setFont(final Font aFont, final Color aColor) {
 		font = aFont;
 		fontColor = aColor;
+		fireChanged();
 	}
 
 	/**
@@ -145,6 +158,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setFontShadow(final boolean aShadow) {
 		fontShadow = aShadow;
+		fireChanged();
 	}
 
 	/**
@@ -154,6 +168,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setFrameStroke(final Stroke aStroke) {
 		stroke = aStroke;
+		fireChanged();
 	}
 
 	/**
@@ -163,6 +178,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setFrameStrokeColor(final Color aColor) {
 		strokeColor = aColor;
+		fireChanged();
 	}
 
 	/**
@@ -174,6 +190,7 @@ public class CustomTitleStyle implements TitleStyle {
 	public void setFrameStroke(final Stroke aStroke, final Color aColor) {
 		stroke = aStroke;
 		strokeColor = aColor;
+		fireChanged();
 	}
 
 	/**
@@ -183,6 +200,7 @@ public class CustomTitleStyle implements TitleStyle {
 	 */
 	public void setFrameBackgroundColor(final Color aColor) {
 		backgroundColor = aColor;
+		fireChanged();
 	}
 
 	@Override
@@ -234,4 +252,36 @@ public class CustomTitleStyle implements TitleStyle {
 	public Color getFrameBackgroundColor() {
 		return backgroundColor;
 	}
+
+	@Override
+	public final long getModificationCount() {
+		return changeSupport.getModificationCount();
+	}
+
+	@Override
+	public final void addChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.addListener(aListener);
+	}
+
+	@Override
+	public final void removeChartChangeListener(final ChartChangeListener aListener) {
+		changeSupport.removeListener(aListener);
+	}
+
+	@Override
+	public final void beginUpdate() {
+		changeSupport.beginUpdate();
+	}
+
+	@Override
+	public final void endUpdate() {
+		changeSupport.endUpdate();
+	}
+
+	/**
+	 * 変更回数を加算し、変更を通知する。
+	 */
+	protected final void fireChanged() {
+		changeSupport.fireChanged();
+	}
 }
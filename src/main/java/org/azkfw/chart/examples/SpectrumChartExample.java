@@ -21,10 +21,10 @@ import java.awt.Color;
 
 import org.azkfw.chart.AzukiChart;
 import org.azkfw.chart.AzukiChartFactory;
+import org.azkfw.chart.charts.spectrum.DenseSpectrumDataset;
 import org.azkfw.chart.charts.spectrum.SpectrumAxis;
 import org.azkfw.chart.charts.spectrum.SpectrumChartPlot;
 import org.azkfw.chart.charts.spectrum.SpectrumDataset;
-import org.azkfw.chart.charts.spectrum.SpectrumMatrixData;
 import org.azkfw.chart.displayformat.NumericDisplayFormat;
 import org.azkfw.chart.util.AzukiChartUtility;
 
@@ -42,10 +42,10 @@ public class SpectrumChartExample {
 	}
 
 	public static SpectrumDataset createDataset() {
-		SpectrumDataset dataset = new SpectrumDataset("Spectrum Chart", 200, 200);
+		DenseSpectrumDataset dataset = new DenseSpectrumDataset("Spectrum Chart", 200, 200);
 		for (int row = 0; row < 200; row++) {
 			for (int col = 0; col < 200; col++) {
-				dataset.put(row, col, new SpectrumMatrixData(Math.random()));
+				dataset.setValue(row, col, Math.random());
 			}
 		}
 		return dataset;
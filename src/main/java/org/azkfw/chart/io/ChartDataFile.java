@@ -0,0 +1,307 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import org.azkfw.chart.charts.bar.BarDataset;
+import org.azkfw.chart.charts.line.LineDataset;
+import org.azkfw.chart.charts.scatter.ScatterDataset;
+import org.azkfw.chart.charts.spectrum.SpectrumDataset;
+import org.azkfw.chart.core.dataset.Dataset;
+import org.azkfw.chart.io.ChartDataFormat.ColumnHeader;
+
+/**
+ * このクラスは、グラフデータファイルをメモリマップして参照するクラスです。
+ * <p>
+ * 値はヒープへ読み込まずにファイルから直接参照する為、ファイルサイズに関わらずヘッダ部の読み込みのみで開くことができます。
+ * 統計情報もヘッダ部に保持している為、自動スケールの為に値を走査することもありません。
+ * 生成されるデータセットおよびシリーズは読み込み専用です。
+ * </p>
+ * <p>
+ * {@link #close()}後もマップ済みの値は参照できます。マップはデータセットがガベージコレクトされた時点で解放されます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class ChartDataFile implements Closeable {
+
+	/**
+	 * データ種別
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public enum DataType {
+		/** 折れ線グラフ */
+		Line,
+		/** 棒グラフ */
+		Bar,
+		/** 散布図 */
+		Scatter,
+		/** スペクトログラム */
+		Spectrum
+	}
+
+	/** ファイル */
+	private final File file;
+	/** チャネル */
+	private FileChannel channel;
+
+	/** データ種別 */
+	private final DataType dataType;
+	/** データセット */
+	private final Dataset dataset;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aFile ファイル
+	 * @throws IOException ファイルの読み込みに失敗した場合、またはファイル形式が不正な場合
+	 */
+	@SuppressWarnings("resource")
+	public ChartDataFile(final File aFile) throws IOException {
+		file = aFile;
+		channel = new RandomAccessFile(aFile, "r").getChannel();
+		try {
+			ByteBuffer buffer = read(0, ChartDataFormat.FILE_HEADER_SIZE);
+			int magic = buffer.getInt();
+			int version = buffer.getShort();
+			int type = buffer.getShort();
+			int entrySize = buffer.getInt();
+			int headerSize = buffer.getInt();
+			if (ChartDataFormat.MAGIC != magic) {
+				throw new IOException(String.format("Not a chart data file. Magic: 0x%08X", magic));
+			}
+			if (ChartDataFormat.VERSION != version) {
+				throw new IOException(String.format("Unsupported chart data file version: %d", version));
+			}
+			if (0 > entrySize || ChartDataFormat.FILE_HEADER_SIZE > headerSize) {
+				throw new IOException(String.format("Illegal header. entries: %d, size: %d", entrySize, headerSize));
+			}
+
+			buffer = read(ChartDataFormat.FILE_HEADER_SIZE, headerSize - ChartDataFormat.FILE_HEADER_SIZE);
+			String title = ChartDataFormat.getString(buffer);
+			switch (type) {
+			case ChartDataFormat.TYPE_LINE:
+				dataType = DataType.Line;
+				dataset = readLineDataset(buffer, title, entrySize);
+				break;
+			case ChartDataFormat.TYPE_BAR:
+				dataType = DataType.Bar;
+				dataset = readBarDataset(buffer, title, entrySize);
+				break;
+			case ChartDataFormat.TYPE_SCATTER:
+				dataType = DataType.Scatter;
+				dataset = readScatterDataset(buffer, title, entrySize);
+				break;
+			case ChartDataFormat.TYPE_SPECTRUM:
+				dataType = DataType.Spectrum;
+				dataset = readSpectrumDataset(buffer, title, entrySize);
+				break;
+			default:
+				throw new IOException(String.format("Unsupported data type: %d", type));
+			}
+		} catch (IOException | RuntimeException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * ファイルを取得する。
+	 * 
+	 * @return ファイル
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * データ種別を取得する。
+	 * 
+	 * @return データ種別
+	 */
+	public DataType getDataType() {
+		return dataType;
+	}
+
+	/**
+	 * データセットを取得する。
+	 * 
+	 * @return データセット
+	 */
+	public Dataset getDataset() {
+		return dataset;
+	}
+
+	/**
+	 * 折れ線グラフのデータセットを取得する。
+	 * 
+	 * @return データセット
+	 * @throws IllegalStateException データ種別が異なる場合
+	 */
+	public LineDataset getLineDataset() {
+		checkDataType(DataType.Line);
+		return (LineDataset) dataset;
+	}
+
+	/**
+	 * 棒グラフのデータセットを取得する。
+	 * 
+	 * @return データセット
+	 * @throws IllegalStateException データ種別が異なる場合
+	 */
+	public BarDataset getBarDataset() {
+		checkDataType(DataType.Bar);
+		return (BarDataset) dataset;
+	}
+
+	/**
+	 * 散布図のデータセットを取得する。
+	 * 
+	 * @return データセット
+	 * @throws IllegalStateException データ種別が異なる場合
+	 */
+	public ScatterDataset getScatterDataset() {
+		checkDataType(DataType.Scatter);
+		return (ScatterDataset) dataset;
+	}
+
+	/**
+	 * スペクトログラムのデータセットを取得する。
+	 * 
+	 * @return データセット
+	 * @throws IllegalStateException データ種別が異なる場合
+	 */
+	public SpectrumDataset getSpectrumDataset() {
+		checkDataType(DataType.Spectrum);
+		return (SpectrumDataset) dataset;
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (null != channel) {
+			channel.close();
+			channel = null;
+		}
+	}
+
+	private LineDataset readLineDataset(final ByteBuffer aBuffer, final String aTitle, final int aEntrySize) throws IOException {
+		LineDataset result = new LineDataset(aTitle);
+		for (int i = 0; i < aEntrySize; i++) {
+			String title = ChartDataFormat.getString(aBuffer);
+			MappedColumn[] columns = readEntry(aBuffer, 1);
+			result.addSeries(new MappedLineSeries(title, columns[0]));
+		}
+		return result;
+	}
+
+	private BarDataset readBarDataset(final ByteBuffer aBuffer, final String aTitle, final int aEntrySize) throws IOException {
+		BarDataset result = new BarDataset(aTitle);
+		for (int i = 0; i < aEntrySize; i++) {
+			String title = ChartDataFormat.getString(aBuffer);
+			MappedColumn[] columns = readEntry(aBuffer, 1);
+			result.addSeries(new MappedBarSeries(title, columns[0]));
+		}
+		return result;
+	}
+
+	private ScatterDataset readScatterDataset(final ByteBuffer aBuffer, final String aTitle, final int aEntrySize) throws IOException {
+		ScatterDataset result = new ScatterDataset(aTitle);
+		for (int i = 0; i < aEntrySize; i++) {
+			String title = ChartDataFormat.getString(aBuffer);
+			MappedColumn[] columns = readEntry(aBuffer, 2);
+			result.addSeries(new MappedScatterSeries(title, columns[0], columns[1]));
+		}
+		return result;
+	}
+
+	private SpectrumDataset readSpectrumDataset(final ByteBuffer aBuffer, final String aTitle, final int aEntrySize) throws IOException {
+		if (1 != aEntrySize) {
+			throw new IOException(String.format("Illegal entry size: %d", aEntrySize));
+		}
+		ChartDataFormat.getString(aBuffer);
+		int rowSize = aBuffer.getInt();
+		int colSize = aBuffer.getInt();
+		MappedColumn column = readColumns(aBuffer, 1)[0];
+		if (0 > rowSize || 0 > colSize || (long) rowSize * colSize != column.getSize()) {
+			throw new IOException(String.format("Illegal matrix size: %dx%d", rowSize, colSize));
+		}
+		return new MappedColumnSpectrumDataset(aTitle, column, rowSize, colSize);
+	}
+
+	private MappedColumn[] readEntry(final ByteBuffer aBuffer, final int aColumnSize) throws IOException {
+		int length = aBuffer.getInt();
+		int width = aBuffer.getInt();
+		MappedColumn[] columns = readColumns(aBuffer, aColumnSize);
+		if (0 > length || 1 != width) {
+			throw new IOException(String.format("Illegal series size: %d, width: %d", length, width));
+		}
+		for (MappedColumn column : columns) {
+			if (length != column.getSize()) {
+				throw new IOException(String.format("Column size mismatch. series: %d, column: %d", length, column.getSize()));
+			}
+		}
+		return columns;
+	}
+
+	private MappedColumn[] readColumns(final ByteBuffer aBuffer, final int aColumnSize) throws IOException {
+		int columnSize = aBuffer.getInt();
+		if (aColumnSize != columnSize) {
+			throw new IOException(String.format("Illegal column size: %d", columnSize));
+		}
+		MappedColumn[] columns = new MappedColumn[columnSize];
+		for (int i = 0; i < columnSize; i++) {
+			columns[i] = MappedColumn.map(channel, ColumnHeader.read(aBuffer));
+		}
+		return columns;
+	}
+
+	private ByteBuffer read(final long aPosition, final int aSize) throws IOException {
+		if (aPosition + aSize > channel.size()) {
+			throw new IOException("Not a chart data file. File too short.");
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(aSize).order(ByteOrder.LITTLE_ENDIAN);
+		long position = aPosition;
+		while (buffer.hasRemaining()) {
+			int read = channel.read(buffer, position);
+			if (read < 0) {
+				throw new IOException("Unexpected end of file.");
+			}
+			position += read;
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	private void checkDataType(final DataType aDataType) {
+		if (aDataType != dataType) {
+			throw new IllegalStateException(String.format("Data type mismatch. expected: %s, actual: %s", aDataType, dataType));
+		}
+	}
+}
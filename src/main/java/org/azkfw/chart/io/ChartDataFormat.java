@@ -0,0 +1,255 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * このクラスは、グラフデータファイルの形式を定義するクラスです。
+ * <p>
+ * ファイルはヘッダ部とデータ部で構成されます。数値は全てリトルエンディアンです。
+ * 各列のデータは8バイト境界に配置され、メモリマップでそのまま参照できます。
+ * </p>
+ * 
+ * <pre>
+ * ファイルヘッダ
+ *   int     マジックナンバー "AZCD"
+ *   short   バージョン
+ *   short   データ種別（1:折れ線 2:棒 3:散布図 4:スペクトログラム）
+ *   int     エントリ数
+ *   int     ヘッダ部のバイト数
+ *   string  データセットのタイトル
+ * エントリヘッダ（エントリ数分）
+ *   string  タイトル
+ *   int     長さ（ポイント数、または行数）
+ *   int     幅（1、または列数）
+ *   int     列数
+ *   column  列ヘッダ（列数分）
+ * 列ヘッダ
+ *   byte    エンコード（0:double 1:float 2:差分 3:等間隔）
+ *   byte[3] 予約（0）
+ *   int     件数（NaN以外）
+ *   double  最小値
+ *   double  最大値
+ *   double  基準値（差分・等間隔の場合の先頭値）
+ *   double  間隔（等間隔の場合）
+ *   long    データ部の位置
+ *   long    要素数
+ * string
+ *   int     バイト数（nullの場合、-1）
+ *   byte[]  UTF-8
+ * </pre>
+ * <p>
+ * 差分エンコードは単調増加のx値を、前の値との差分の32bit浮動小数点数で保持します。
+ * 差分から元の値を完全に復元でき、かつ{@link ChartDataWriter#setDeltaEncoding(boolean)}で有効にした場合にのみ使用されます。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class ChartDataFormat {
+
+	/** マジックナンバー */
+	public static final int MAGIC = 0x44435A41; // "AZCD" (little endian)
+	/** バージョン */
+	public static final int VERSION = 1;
+	/** ファイルヘッダの固定長部分のバイト数 */
+	public static final int FILE_HEADER_SIZE = 16;
+	/** エントリヘッダの固定長部分のバイト数（タイトルを除く） */
+	public static final int ENTRY_HEADER_SIZE = 12;
+	/** 列ヘッダのバイト数 */
+	public static final int COLUMN_HEADER_SIZE = 56;
+
+	/** データ種別：折れ線グラフ */
+	public static final int TYPE_LINE = 1;
+	/** データ種別：棒グラフ */
+	public static final int TYPE_BAR = 2;
+	/** データ種別：散布図 */
+	public static final int TYPE_SCATTER = 3;
+	/** データ種別：スペクトログラム */
+	public static final int TYPE_SPECTRUM = 4;
+
+	/** エンコード：64bit浮動小数点数 */
+	public static final int ENCODING_DOUBLE = 0;
+	/** エンコード：32bit浮動小数点数 */
+	public static final int ENCODING_FLOAT = 1;
+	/** エンコード：32bit浮動小数点数の差分 */
+	public static final int ENCODING_DELTA = 2;
+	/** エンコード：等間隔（データ部なし） */
+	public static final int ENCODING_LINEAR = 3;
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * インスタンス生成を禁止
+	 * </p>
+	 */
+	private ChartDataFormat() {
+
+	}
+
+	/**
+	 * エンコード毎の要素のバイト数を取得する。
+	 * 
+	 * @param aEncoding エンコード
+	 * @return バイト数
+	 */
+	public static int getElementSize(final int aEncoding) {
+		switch (aEncoding) {
+		case ENCODING_DOUBLE:
+			return 8;
+		case ENCODING_FLOAT:
+		case ENCODING_DELTA:
+			return 4;
+		default:
+			return 0;
+		}
+	}
+
+	/**
+	 * 8バイト境界へ切り上げる。
+	 * 
+	 * @param aPosition 位置
+	 * @return 切り上げた位置
+	 */
+	public static long align(final long aPosition) {
+		return (aPosition + 7) & ~7L;
+	}
+
+	/**
+	 * 文字列のバイト数を取得する。
+	 * 
+	 * @param aString 文字列
+	 * @return バイト数
+	 */
+	public static int getStringSize(final String aString) {
+		return 4 + ((null == aString) ? 0 : aString.getBytes(StandardCharsets.UTF_8).length);
+	}
+
+	/**
+	 * 文字列を書き込む。
+	 * 
+	 * @param aBuffer バッファ
+	 * @param aString 文字列
+	 */
+	public static void putString(final ByteBuffer aBuffer, final String aString) {
+		if (null == aString) {
+			aBuffer.putInt(-1);
+		} else {
+			byte[] bytes = aString.getBytes(StandardCharsets.UTF_8);
+			aBuffer.putInt(bytes.length);
+			aBuffer.put(bytes);
+		}
+	}
+
+	/**
+	 * 文字列を読み込む。
+	 * 
+	 * @param aBuffer バッファ
+	 * @return 文字列
+	 * @throws IOException ファイル形式が不正な場合
+	 */
+	public static String getString(final ByteBuffer aBuffer) throws IOException {
+		int length = aBuffer.getInt();
+		if (-1 == length) {
+			return null;
+		}
+		if (0 > length || length > aBuffer.remaining()) {
+			throw new IOException(String.format("Illegal string length: %d", length));
+		}
+		byte[] bytes = new byte[length];
+		aBuffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * このクラスは、列ヘッダを保持するクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	public static final class ColumnHeader {
+
+		/** エンコード */
+		int encoding;
+		/** 件数（NaN以外） */
+		int count;
+		/** 最小値 */
+		double min;
+		/** 最大値 */
+		double max;
+		/** 基準値 */
+		double base;
+		/** 間隔 */
+		double step;
+		/** データ部の位置 */
+		long offset;
+		/** 要素数 */
+		long size;
+
+		/**
+		 * 列ヘッダを書き込む。
+		 * 
+		 * @param aBuffer バッファ
+		 */
+		public void write(final ByteBuffer aBuffer) {
+			aBuffer.put((byte) encoding);
+			aBuffer.put((byte) 0);
+			aBuffer.putShort((short) 0);
+			aBuffer.putInt(count);
+			aBuffer.putDouble(min);
+			aBuffer.putDouble(max);
+			aBuffer.putDouble(base);
+			aBuffer.putDouble(step);
+			aBuffer.putLong(offset);
+			aBuffer.putLong(size);
+		}
+
+		/**
+		 * 列ヘッダを読み込む。
+		 * 
+		 * @param aBuffer バッファ
+		 * @return 列ヘッダ
+		 * @throws IOException ファイル形式が不正な場合
+		 */
+		public static ColumnHeader read(final ByteBuffer aBuffer) throws IOException {
+			ColumnHeader header = new ColumnHeader();
+			header.encoding = aBuffer.get();
+			aBuffer.get();
+			aBuffer.getShort();
+			header.count = aBuffer.getInt();
+			header.min = aBuffer.getDouble();
+			header.max = aBuffer.getDouble();
+			header.base = aBuffer.getDouble();
+			header.step = aBuffer.getDouble();
+			header.offset = aBuffer.getLong();
+			header.size = aBuffer.getLong();
+			if (ENCODING_DOUBLE > header.encoding || ENCODING_LINEAR < header.encoding) {
+				throw new IOException(String.format("Unsupported encoding: %d", header.encoding));
+			}
+			if (0 > header.size || 0 > header.count || 0 > header.offset || 0 != (header.offset & 7)) {
+				throw new IOException(String.format("Illegal column. offset: %d, size: %d", header.offset, header.size));
+			}
+			return header;
+		}
+	}
+}
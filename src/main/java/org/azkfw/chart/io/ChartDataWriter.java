@@ -0,0 +1,449 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.azkfw.chart.charts.bar.BarDataset;
+import org.azkfw.chart.charts.bar.BarSeries;
+import org.azkfw.chart.charts.line.LineDataset;
+import org.azkfw.chart.charts.line.LineSeries;
+import org.azkfw.chart.charts.scatter.ScatterDataset;
+import org.azkfw.chart.charts.scatter.ScatterSeries;
+import org.azkfw.chart.charts.spectrum.SpectrumDataset;
+import org.azkfw.chart.core.dataset.series.AbstractValueSeries;
+import org.azkfw.chart.io.ChartDataFormat.ColumnHeader;
+
+/**
+ * このクラスは、データセットをグラフデータファイルへ書き込むクラスです。
+ * <p>
+ * 書き込んだファイルは{@link ChartDataFile}でメモリマップして参照できます。
+ * ファイル形式は{@link ChartDataFormat}を参照してください。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class ChartDataWriter {
+
+	/** 書き込みバッファサイズ */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/** 32bit浮動小数点数で保持するか */
+	private boolean floatPrecision;
+	/** 単調増加のx値を差分エンコードするか */
+	private boolean deltaEncoding;
+
+	/**
+	 * コンストラクタ
+	 */
+	public ChartDataWriter() {
+		floatPrecision = false;
+		deltaEncoding = false;
+	}
+
+	/**
+	 * 値を32bit浮動小数点数で保持するか設定する。
+	 * <p>
+	 * ファイルサイズは半分になりますが、値の精度は落ちます。
+	 * </p>
+	 * 
+	 * @param aFloatPrecision 32bit浮動小数点数で保持する場合、<code>true</code>
+	 */
+	public void setFloatPrecision(final boolean aFloatPrecision) {
+		floatPrecision = aFloatPrecision;
+	}
+
+	/**
+	 * 値を32bit浮動小数点数で保持するか判断する。
+	 * 
+	 * @return 32bit浮動小数点数で保持する場合、<code>true</code>
+	 */
+	public boolean isFloatPrecision() {
+		return floatPrecision;
+	}
+
+	/**
+	 * 散布図の単調増加のx値を差分エンコードするか設定する。
+	 * <p>
+	 * 差分から元の値を完全に復元できない場合は使用しません。
+	 * 差分エンコードした列は参照時に全ての値をヒープ上へ復元する為、メモリマップの利点が失われます。既定では使用しません。
+	 * </p>
+	 * <p>
+	 * 等間隔のx値は本設定に関わらず、先頭値と間隔のみを保持します。
+	 * </p>
+	 * 
+	 * @param aDeltaEncoding 差分エンコードする場合、<code>true</code>
+	 */
+	public void setDeltaEncoding(final boolean aDeltaEncoding) {
+		deltaEncoding = aDeltaEncoding;
+	}
+
+	/**
+	 * 散布図の単調増加のx値を差分エンコードするか判断する。
+	 * 
+	 * @return 差分エンコードする場合、<code>true</code>
+	 */
+	public boolean isDeltaEncoding() {
+		return deltaEncoding;
+	}
+
+	/**
+	 * 折れ線グラフのデータセットを書き込む。
+	 * 
+	 * @param aFile ファイル
+	 * @param aDataset データセット
+	 * @throws IOException ファイルの書き込みに失敗した場合
+	 */
+	public void write(final File aFile, final LineDataset aDataset) throws IOException {
+		List<Entry> entries = new ArrayList<Entry>();
+		for (LineSeries series : aDataset.getSeriesList()) {
+			entries.add(new Entry(series.getTitle(), series.getSize(), 1, valueSource(series)));
+		}
+		write(aFile, ChartDataFormat.TYPE_LINE, aDataset.getTitle(), entries);
+	}
+
+	/**
+	 * 棒グラフのデータセットを書き込む。
+	 * 
+	 * @param aFile ファイル
+	 * @param aDataset データセット
+	 * @throws IOException ファイルの書き込みに失敗した場合
+	 */
+	public void write(final File aFile, final BarDataset aDataset) throws IOException {
+		List<Entry> entries = new ArrayList<Entry>();
+		for (BarSeries series : aDataset.getSeriesList()) {
+			entries.add(new Entry(series.getTitle(), series.getSize(), 1, valueSource(series)));
+		}
+		write(aFile, ChartDataFormat.TYPE_BAR, aDataset.getTitle(), entries);
+	}
+
+	/**
+	 * 散布図のデータセットを書き込む。
+	 * 
+	 * @param aFile ファイル
+	 * @param aDataset データセット
+	 * @throws IOException ファイルの書き込みに失敗した場合
+	 */
+	public void write(final File aFile, final ScatterDataset aDataset) throws IOException {
+		List<Entry> entries = new ArrayList<Entry>();
+		for (final ScatterSeries series : aDataset.getSeriesList()) {
+			Source xs = new Source(series.getSize(), true) {
+				@Override
+				public double get(final long aIndex) {
+					return series.getX((int) aIndex);
+				}
+			};
+			Source ys = new Source(series.getSize(), false) {
+				@Override
+				public double get(final long aIndex) {
+					return series.getY((int) aIndex);
+				}
+			};
+			entries.add(new Entry(series.getTitle(), series.getSize(), 1, xs, ys));
+		}
+		write(aFile, ChartDataFormat.TYPE_SCATTER, aDataset.getTitle(), entries);
+	}
+
+	/**
+	 * スペクトログラムのデータセットを書き込む。
+	 * 
+	 * @param aFile ファイル
+	 * @param aDataset データセット
+	 * @throws IOException ファイルの書き込みに失敗した場合
+	 */
+	public void write(final File aFile, final SpectrumDataset aDataset) throws IOException {
+		final int rowSize = aDataset.getRowSize();
+		final int colSize = aDataset.getColSize();
+		Source values = new Source((long) rowSize * colSize, false) {
+			/** 行バッファ */
+			private final double[] rowValues = new double[colSize];
+			/** 行バッファの行 */
+			private int bufferedRow = -1;
+
+			@Override
+			public double get(final long aIndex) {
+				int row = (int) (aIndex / colSize);
+				if (row != bufferedRow) {
+					aDataset.getRowValues(row, rowValues);
+					bufferedRow = row;
+				}
+				return rowValues[(int) (aIndex % colSize)];
+			}
+		};
+		List<Entry> entries = new ArrayList<Entry>();
+		entries.add(new Entry(null, rowSize, colSize, values));
+		write(aFile, ChartDataFormat.TYPE_SPECTRUM, aDataset.getTitle(), entries);
+	}
+
+	private void write(final File aFile, final int aType, final String aTitle, final List<Entry> aEntries) throws IOException {
+		// ヘッダ部のサイズを求める
+		long headerSize = ChartDataFormat.FILE_HEADER_SIZE + ChartDataFormat.getStringSize(aTitle);
+		for (Entry entry : aEntries) {
+			headerSize += ChartDataFormat.getStringSize(entry.title) + ChartDataFormat.ENTRY_HEADER_SIZE;
+			headerSize += (long) entry.sources.length * ChartDataFormat.COLUMN_HEADER_SIZE;
+		}
+		if (Integer.MAX_VALUE < headerSize) {
+			throw new IOException(String.format("Header too large: %d", headerSize));
+		}
+
+		// 列毎にエンコードを決定し、データ部の位置を割り当てる
+		long position = ChartDataFormat.align(headerSize);
+		for (Entry entry : aEntries) {
+			for (int i = 0; i < entry.sources.length; i++) {
+				ColumnHeader column = analyze(entry.sources[i]);
+				column.offset = position;
+				position = ChartDataFormat.align(position + column.size * ChartDataFormat.getElementSize(column.encoding));
+				entry.columns[i] = column;
+			}
+		}
+
+		ByteBuffer header = ByteBuffer.allocate((int) headerSize).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(ChartDataFormat.MAGIC);
+		header.putShort((short) ChartDataFormat.VERSION);
+		header.putShort((short) aType);
+		header.putInt(aEntries.size());
+		header.putInt((int) headerSize);
+		ChartDataFormat.putString(header, aTitle);
+		for (Entry entry : aEntries) {
+			ChartDataFormat.putString(header, entry.title);
+			header.putInt(entry.length);
+			header.putInt(entry.width);
+			header.putInt(entry.sources.length);
+			for (ColumnHeader column : entry.columns) {
+				column.write(header);
+			}
+		}
+		header.flip();
+
+		try (RandomAccessFile raf = new RandomAccessFile(aFile, "rw"); FileChannel channel = raf.getChannel()) {
+			channel.truncate(0);
+			ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			long written = write(channel, header, 0);
+			for (Entry entry : aEntries) {
+				for (int i = 0; i < entry.sources.length; i++) {
+					written = writeColumn(channel, buffer, written, entry.sources[i], entry.columns[i]);
+				}
+			}
+		}
+	}
+
+	private ColumnHeader analyze(final Source aSource) {
+		ColumnHeader column = new ColumnHeader();
+		column.size = aSource.size;
+		column.min = Double.POSITIVE_INFINITY;
+		column.max = Double.NEGATIVE_INFINITY;
+
+		long count = 0;
+		boolean monotonic = aSource.x && 2 <= aSource.size;
+		double previous = Double.NEGATIVE_INFINITY;
+		for (long i = 0; i < aSource.size; i++) {
+			double value = aSource.get(i);
+			if (Double.isNaN(value)) {
+				monotonic = false;
+				continue;
+			}
+			count++;
+			column.min = Math.min(column.min, value);
+			column.max = Math.max(column.max, value);
+			if (monotonic && (value < previous || Double.isInfinite(value))) {
+				monotonic = false;
+			}
+			previous = value;
+		}
+		column.count = (int) Math.min(Integer.MAX_VALUE, count);
+
+		if (monotonic && isLinear(aSource, column)) {
+			column.encoding = ChartDataFormat.ENCODING_LINEAR;
+		} else if (monotonic && deltaEncoding && isDeltaExact(aSource, column)) {
+			column.encoding = ChartDataFormat.ENCODING_DELTA;
+		} else if (floatPrecision) {
+			column.encoding = ChartDataFormat.ENCODING_FLOAT;
+			if (0 < count) {
+				column.min = (float) column.min;
+				column.max = (float) column.max;
+			}
+		} else {
+			column.encoding = ChartDataFormat.ENCODING_DOUBLE;
+		}
+		return column;
+	}
+
+	private boolean isLinear(final Source aSource, final ColumnHeader aColumn) {
+		double base = aSource.get(0);
+		double step = aSource.get(1) - base;
+		for (long i = 2; i < aSource.size; i++) {
+			if (base + i * step != aSource.get(i)) {
+				return false;
+			}
+		}
+		aColumn.base = base;
+		aColumn.step = step;
+		return true;
+	}
+
+	private boolean isDeltaExact(final Source aSource, final ColumnHeader aColumn) {
+		double base = aSource.get(0);
+		double value = base;
+		for (long i = 1; i < aSource.size; i++) {
+			double expected = aSource.get(i);
+			value += (float) (expected - value);
+			if (value != expected) {
+				return false;
+			}
+		}
+		aColumn.base = base;
+		return true;
+	}
+
+	private long writeColumn(final FileChannel aChannel, final ByteBuffer aBuffer, final long aPosition, final Source aSource,
+			final ColumnHeader aColumn) throws IOException {
+		if (ChartDataFormat.ENCODING_LINEAR == aColumn.encoding) {
+			return aPosition;
+		}
+
+		long position = aPosition;
+		aBuffer.clear();
+		// 8バイト境界までの詰め物
+		while (position + aBuffer.position() < aColumn.offset) {
+			aBuffer.put((byte) 0);
+		}
+
+		double previous = aColumn.base;
+		for (long i = 0; i < aColumn.size; i++) {
+			if (aBuffer.remaining() < 8) {
+				aBuffer.flip();
+				position = write(aChannel, aBuffer, position);
+				aBuffer.clear();
+			}
+			switch (aColumn.encoding) {
+			case ChartDataFormat.ENCODING_DOUBLE:
+				aBuffer.putDouble(aSource.get(i));
+				break;
+			case ChartDataFormat.ENCODING_FLOAT:
+				aBuffer.putFloat((float) aSource.get(i));
+				break;
+			case ChartDataFormat.ENCODING_DELTA:
+				double value = aSource.get(i);
+				aBuffer.putFloat((float) (value - previous));
+				previous = value;
+				break;
+			default:
+				break;
+			}
+		}
+		aBuffer.flip();
+		return write(aChannel, aBuffer, position);
+	}
+
+	private static long write(final FileChannel aChannel, final ByteBuffer aBuffer, final long aPosition) throws IOException {
+		long position = aPosition;
+		while (aBuffer.hasRemaining()) {
+			position += aChannel.write(aBuffer, position);
+		}
+		return position;
+	}
+
+	private static Source valueSource(final AbstractValueSeries<?> aSeries) {
+		return new Source(aSeries.getSize(), false) {
+			@Override
+			public double get(final long aIndex) {
+				return aSeries.getValue((int) aIndex);
+			}
+		};
+	}
+
+	/**
+	 * このクラスは、書き込む列の値を参照する為の基底クラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private abstract static class Source {
+
+		/** 要素数 */
+		private final long size;
+		/** x値の列か */
+		private final boolean x;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aSize 要素数
+		 * @param aX x値の列の場合、<code>true</code>
+		 */
+		public Source(final long aSize, final boolean aX) {
+			size = aSize;
+			x = aX;
+		}
+
+		/**
+		 * 値を取得する。
+		 * 
+		 * @param aIndex インデックス
+		 * @return 値
+		 */
+		public abstract double get(final long aIndex);
+	}
+
+	/**
+	 * このクラスは、書き込むエントリを保持するクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class Entry {
+
+		/** タイトル */
+		private final String title;
+		/** 長さ */
+		private final int length;
+		/** 幅 */
+		private final int width;
+		/** 列 */
+		private final Source[] sources;
+		/** 列ヘッダ */
+		private final ColumnHeader[] columns;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aTitle タイトル
+		 * @param aLength 長さ
+		 * @param aWidth 幅
+		 * @param aSources 列
+		 */
+		public Entry(final String aTitle, final int aLength, final int aWidth, final Source... aSources) {
+			title = aTitle;
+			length = aLength;
+			width = aWidth;
+			sources = aSources;
+			columns = new ColumnHeader[aSources.length];
+		}
+	}
+}
@@ -0,0 +1,795 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.azkfw.chart.charts.line.LineDataset;
+import org.azkfw.chart.charts.line.LineSeries;
+import org.azkfw.chart.charts.scatter.ScatterDataset;
+import org.azkfw.chart.charts.scatter.ScatterSeries;
+import org.azkfw.chart.charts.spectrum.DenseSpectrumDataset;
+
+/**
+ * このクラスは、数値のCSVファイルを読み込むローダークラスです。
+ * <p>
+ * ファイルをメモリマップし、改行位置で分割したチャンクをフォークジョインプールで並列に解析します。
+ * 値は<code>double</code>配列へ直接格納され、生成されるデータセットは配列をコピーせずに保持します。
+ * </p>
+ * <p>
+ * 空行は読み飛ばします。数値として解釈できない値、および列が不足している行の値は<code>NaN</code>となります。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class CsvLoader {
+
+	/** 最小チャンクサイズ */
+	private static final long MIN_CHUNK_SIZE = 1L << 20;
+	/** 最大チャンクサイズ */
+	private static final long MAX_CHUNK_SIZE = 1L << 26;
+	/** 1プロセッサあたりのチャンク数 */
+	private static final int CHUNKS_PER_THREAD = 4;
+	/** 最大配列長 */
+	private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+	/** 読み込みバッファサイズ */
+	private static final int SCAN_BUFFER_SIZE = 8192;
+
+	/** 区切り文字 */
+	private byte delimiter;
+	/** ヘッダ有無 */
+	private boolean header;
+	/** 並列数 */
+	private int parallelism;
+	/** フォークジョインプール */
+	private ForkJoinPool pool;
+
+	/**
+	 * コンストラクタ
+	 */
+	public CsvLoader() {
+		delimiter = ',';
+		header = false;
+		parallelism = Runtime.getRuntime().availableProcessors();
+		pool = null;
+	}
+
+	/**
+	 * 区切り文字を設定する。
+	 * 
+	 * @param aDelimiter 区切り文字（ASCII文字）
+	 */
+	public void setDelimiter(final char aDelimiter) {
+		if (aDelimiter > 0x7F || '\n' == aDelimiter || '\r' == aDelimiter) {
+			throw new IllegalArgumentException(String.format("Illegal delimiter: 0x%02X", (int) aDelimiter));
+		}
+		delimiter = (byte) aDelimiter;
+	}
+
+	/**
+	 * 区切り文字を取得する。
+	 * 
+	 * @return 区切り文字
+	 */
+	public char getDelimiter() {
+		return (char) delimiter;
+	}
+
+	/**
+	 * 1行目をヘッダとして扱うか設定する。
+	 * 
+	 * @param aHeader ヘッダ有無
+	 */
+	public void setHeader(final boolean aHeader) {
+		header = aHeader;
+	}
+
+	/**
+	 * 1行目をヘッダとして扱うか判断する。
+	 * 
+	 * @return ヘッダ有無
+	 */
+	public boolean isHeader() {
+		return header;
+	}
+
+	/**
+	 * 並列数を設定する。
+	 * <p>
+	 * {@link #setPool(ForkJoinPool)}でプールを指定した場合は使用されません。
+	 * </p>
+	 * 
+	 * @param aParallelism 並列数
+	 */
+	public void setParallelism(final int aParallelism) {
+		if (0 >= aParallelism) {
+			throw new IllegalArgumentException(String.format("Illegal parallelism: %d", aParallelism));
+		}
+		parallelism = aParallelism;
+	}
+
+	/**
+	 * 並列数を取得する。
+	 * 
+	 * @return 並列数
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * 解析に使用するフォークジョインプールを設定する。
+	 * <p>
+	 * <code>null</code>の場合、読み込み毎にプールを生成します。
+	 * </p>
+	 * 
+	 * @param aPool プール
+	 */
+	public void setPool(final ForkJoinPool aPool) {
+		pool = aPool;
+	}
+
+	/**
+	 * 1行目を列名として取得する。
+	 * 
+	 * @param aFile ファイル
+	 * @return 列名配列
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	public String[] readHeader(final File aFile) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(aFile, "r"); FileChannel channel = raf.getChannel()) {
+			long size = channel.size();
+			long start = getBomSize(channel);
+			long end = findLineEnd(channel, start, size);
+			if (MAX_ARRAY_SIZE < end - start) {
+				throw new IOException("Header line too long.");
+			}
+			ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+			readFully(channel, buffer, start);
+			String line = new String(buffer.array(), StandardCharsets.UTF_8);
+
+			List<String> names = new ArrayList<String>();
+			int fieldStart = 0;
+			for (int i = 0; i <= line.length(); i++) {
+				if (i == line.length() || delimiter == line.charAt(i)) {
+					names.add(trimName(line.substring(fieldStart, i)));
+					fieldStart = i + 1;
+				}
+			}
+			return names.toArray(new String[names.size()]);
+		}
+	}
+
+	/**
+	 * 列名から列インデックスを取得する。
+	 * 
+	 * @param aFile ファイル
+	 * @param aNames 列名
+	 * @return 列インデックス配列
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 * @throws IllegalArgumentException 列名が存在しない場合
+	 */
+	public int[] getColumnIndexes(final File aFile, final String... aNames) throws IOException {
+		List<String> names = Arrays.asList(readHeader(aFile));
+		int[] indexes = new int[aNames.length];
+		for (int i = 0; i < aNames.length; i++) {
+			indexes[i] = names.indexOf(aNames[i]);
+			if (0 > indexes[i]) {
+				throw new IllegalArgumentException(String.format("Column not found: %s", aNames[i]));
+			}
+		}
+		return indexes;
+	}
+
+	/**
+	 * 列の値を読み込む。
+	 * 
+	 * @param aFile ファイル
+	 * @param aColumns 列インデックス（0始まり）
+	 * @return 列毎の値配列（引数の列順）
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	public double[][] load(final File aFile, final int... aColumns) throws IOException {
+		return read(aFile, aColumns, false);
+	}
+
+	/**
+	 * 散布図のデータセットを読み込む。
+	 * <p>
+	 * y列毎にシリーズを生成します。x値配列はシリーズ毎に保持する為、シリーズの変更は他のシリーズに影響しません。
+	 * ヘッダがある場合、y列の列名をシリーズのタイトルとします。
+	 * </p>
+	 * 
+	 * @param aFile ファイル
+	 * @param aXColumn x値の列インデックス（0始まり）
+	 * @param aYColumns y値の列インデックス（0始まり）
+	 * @return データセット
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	public ScatterDataset loadScatterDataset(final File aFile, final int aXColumn, final int... aYColumns) throws IOException {
+		int[] columns = new int[aYColumns.length + 1];
+		columns[0] = aXColumn;
+		System.arraycopy(aYColumns, 0, columns, 1, aYColumns.length);
+
+		String[] names = (header) ? readHeader(aFile) : null;
+		double[][] values = read(aFile, columns, false);
+		ScatterDataset dataset = new ScatterDataset(aFile.getName());
+		for (int i = 0; i < aYColumns.length; i++) {
+			// 先頭のシリーズ以外はx値配列を複製する
+			double[] xs = (0 == i) ? values[0] : values[0].clone();
+			dataset.addSeries(ScatterSeries.wrap(getName(names, aYColumns[i]), xs, values[i + 1]));
+		}
+		return dataset;
+	}
+
+	/**
+	 * 散布図のデータセットを読み込む。
+	 * 
+	 * @param aFile ファイル
+	 * @param aXColumn x値の列名
+	 * @param aYColumns y値の列名
+	 * @return データセット
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 * @see #loadScatterDataset(File, int, int...)
+	 */
+	public ScatterDataset loadScatterDataset(final File aFile, final String aXColumn, final String... aYColumns) throws IOException {
+		int[] xColumn = getColumnIndexes(aFile, aXColumn);
+		return loadScatterDataset(aFile, xColumn[0], getColumnIndexes(aFile, aYColumns));
+	}
+
+	/**
+	 * 折れ線グラフのデータセットを読み込む。
+	 * <p>
+	 * 列毎にシリーズを生成します。ヘッダがある場合、列名をシリーズのタイトルとします。
+	 * </p>
+	 * 
+	 * @param aFile ファイル
+	 * @param aColumns 列インデックス（0始まり）
+	 * @return データセット
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	public LineDataset loadLineDataset(final File aFile, final int... aColumns) throws IOException {
+		String[] names = (header) ? readHeader(aFile) : null;
+		double[][] values = read(aFile, aColumns, false);
+		LineDataset dataset = new LineDataset(aFile.getName());
+		for (int i = 0; i < aColumns.length; i++) {
+			dataset.addSeries(LineSeries.wrap(getName(names, aColumns[i]), values[i]));
+		}
+		return dataset;
+	}
+
+	/**
+	 * 折れ線グラフのデータセットを読み込む。
+	 * 
+	 * @param aFile ファイル
+	 * @param aColumns 列名
+	 * @return データセット
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 * @see #loadLineDataset(File, int...)
+	 */
+	public LineDataset loadLineDataset(final File aFile, final String... aColumns) throws IOException {
+		return loadLineDataset(aFile, getColumnIndexes(aFile, aColumns));
+	}
+
+	/**
+	 * スペクトログラムのデータセットを読み込む。
+	 * <p>
+	 * 全ての列を読み込みます。列数は最初のデータ行から求めます。
+	 * </p>
+	 * 
+	 * @param aFile ファイル
+	 * @return データセット
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	public DenseSpectrumDataset loadSpectrumDataset(final File aFile) throws IOException {
+		int colSize = countColumns(aFile);
+		int[] columns = new int[colSize];
+		for (int i = 0; i < colSize; i++) {
+			columns[i] = i;
+		}
+		return loadSpectrumDataset(aFile, columns);
+	}
+
+	/**
+	 * スペクトログラムのデータセットを読み込む。
+	 * <p>
+	 * CSVの1行をマトリクスの1行とし、指定した列をマトリクスの列とします。
+	 * </p>
+	 * 
+	 * @param aFile ファイル
+	 * @param aColumns 列インデックス（0始まり）
+	 * @return データセット
+	 * @throws IOException ファイルの読み込みに失敗した場合
+	 */
+	public DenseSpectrumDataset loadSpectrumDataset(final File aFile, final int... aColumns) throws IOException {
+		double[] values = read(aFile, aColumns, true)[0];
+		return DenseSpectrumDataset.wrap(aFile.getName(), values, values.length / aColumns.length, aColumns.length);
+	}
+
+	private double[][] read(final File aFile, final int[] aColumns, final boolean aRowMajor) throws IOException {
+		int[] slots = createSlots(aColumns);
+		try (RandomAccessFile raf = new RandomAccessFile(aFile, "r"); FileChannel channel = raf.getChannel()) {
+			long fileSize = channel.size();
+			long dataStart = getBomSize(channel);
+			if (header) {
+				dataStart = findLineEnd(channel, dataStart, fileSize);
+			}
+			long[] bounds = split(channel, dataStart, fileSize);
+			int chunkSize = bounds.length - 1;
+
+			ForkJoinPool fjp = (null != pool) ? pool : new ForkJoinPool(parallelism);
+			try {
+				// 1パス目：チャンク毎の行数を数える
+				int[] rowCounts = new int[chunkSize];
+				invoke(fjp, new ChunkTask(channel, bounds, 0, chunkSize, new CountJob(rowCounts)));
+
+				int[] rowOffsets = new int[chunkSize];
+				long rowSize = 0;
+				for (int i = 0; i < chunkSize; i++) {
+					rowOffsets[i] = (int) rowSize;
+					rowSize += rowCounts[i];
+					if (MAX_ARRAY_SIZE < rowSize * ((aRowMajor) ? aColumns.length : 1)) {
+						throw new IOException(String.format("Too many rows: %d", rowSize));
+					}
+				}
+
+				// 2パス目：値を配列へ直接格納する
+				double[][] result;
+				double[][] targets = new double[aColumns.length][];
+				int[] shifts = new int[aColumns.length];
+				int stride;
+				if (aRowMajor) {
+					result = new double[][] { new double[(int) rowSize * aColumns.length] };
+					for (int i = 0; i < aColumns.length; i++) {
+						targets[i] = result[0];
+						shifts[i] = i;
+					}
+					stride = aColumns.length;
+				} else {
+					result = new double[aColumns.length][];
+					for (int i = 0; i < aColumns.length; i++) {
+						result[i] = new double[(int) rowSize];
+						targets[i] = result[i];
+					}
+					stride = 1;
+				}
+				invoke(fjp, new ChunkTask(channel, bounds, 0, chunkSize, new ParseJob(rowOffsets, slots, targets, shifts, stride)));
+				return result;
+			} finally {
+				if (fjp != pool) {
+					fjp.shutdown();
+				}
+			}
+		}
+	}
+
+	private int countColumns(final File aFile) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(aFile, "r"); FileChannel channel = raf.getChannel()) {
+			long fileSize = channel.size();
+			long pos = getBomSize(channel);
+			if (header) {
+				pos = findLineEnd(channel, pos, fileSize);
+			}
+			// 最初の空行でない行の列数を数える
+			ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+			int columns = 1;
+			boolean blank = true;
+			while (pos < fileSize) {
+				buffer.clear();
+				int read = channel.read(buffer, pos);
+				if (0 >= read) {
+					break;
+				}
+				for (int i = 0; i < read; i++) {
+					byte b = buffer.get(i);
+					if ('\n' == b) {
+						if (!blank) {
+							return columns;
+						}
+						columns = 1;
+					} else if (delimiter == b) {
+						columns++;
+						blank = false;
+					} else if (' ' < b) {
+						blank = false;
+					}
+				}
+				pos += read;
+			}
+			if (blank) {
+				throw new IOException("No data row.");
+			}
+			return columns;
+		}
+	}
+
+	private int[] createSlots(final int[] aColumns) {
+		if (0 == aColumns.length) {
+			throw new IllegalArgumentException("No column specified.");
+		}
+		int max = -1;
+		for (int column : aColumns) {
+			if (0 > column) {
+				throw new IllegalArgumentException(String.format("Illegal column: %d", column));
+			}
+			max = Math.max(max, column);
+		}
+		int[] slots = new int[max + 1];
+		Arrays.fill(slots, -1);
+		for (int i = 0; i < aColumns.length; i++) {
+			if (0 <= slots[aColumns[i]]) {
+				throw new IllegalArgumentException(String.format("Duplicate column: %d", aColumns[i]));
+			}
+			slots[aColumns[i]] = i;
+		}
+		return slots;
+	}
+
+	private long[] split(final FileChannel aChannel, final long aStart, final long aEnd) throws IOException {
+		long chunk = (aEnd - aStart) / ((long) parallelism * CHUNKS_PER_THREAD);
+		chunk = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, chunk));
+
+		List<Long> bounds = new ArrayList<Long>();
+		bounds.add(aStart);
+		long pos = aStart;
+		while (aEnd - pos > chunk) {
+			pos = findLineEnd(aChannel, pos + chunk, aEnd);
+			if (pos >= aEnd) {
+				break;
+			}
+			bounds.add(pos);
+		}
+		bounds.add(aEnd);
+
+		long[] result = new long[bounds.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = bounds.get(i);
+		}
+		return result;
+	}
+
+	private String getName(final String[] aNames, final int aColumn) {
+		if (null != aNames && aColumn < aNames.length) {
+			return aNames[aColumn];
+		}
+		return null;
+	}
+
+	private static String trimName(final String aName) {
+		String name = aName.trim();
+		if (2 <= name.length() && name.startsWith("\"") && name.endsWith("\"")) {
+			name = name.substring(1, name.length() - 1);
+		}
+		return name;
+	}
+
+	private static long getBomSize(final FileChannel aChannel) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(3);
+		int read = aChannel.read(buffer, 0);
+		if (3 == read && (byte) 0xEF == buffer.get(0) && (byte) 0xBB == buffer.get(1) && (byte) 0xBF == buffer.get(2)) {
+			return 3;
+		}
+		return 0;
+	}
+
+	private static long findLineEnd(final FileChannel aChannel, final long aStart, final long aEnd) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+		long pos = aStart;
+		while (pos < aEnd) {
+			buffer.clear();
+			int read = aChannel.read(buffer, pos);
+			if (0 >= read) {
+				break;
+			}
+			for (int i = 0; i < read; i++) {
+				if ('\n' == buffer.get(i)) {
+					return pos + i + 1;
+				}
+			}
+			pos += read;
+		}
+		return aEnd;
+	}
+
+	private static void readFully(final FileChannel aChannel, final ByteBuffer aBuffer, final long aPosition) throws IOException {
+		long pos = aPosition;
+		while (aBuffer.hasRemaining()) {
+			int read = aChannel.read(aBuffer, pos);
+			if (0 > read) {
+				throw new IOException("Unexpected end of file.");
+			}
+			pos += read;
+		}
+	}
+
+	private static void invoke(final ForkJoinPool aPool, final ChunkTask aTask) throws IOException {
+		try {
+			aPool.invoke(aTask);
+		} catch (RuntimeException ex) {
+			for (Throwable cause = ex; null != cause; cause = cause.getCause()) {
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+			}
+			throw ex;
+		}
+	}
+
+	/**
+	 * このクラスは、チャンク毎の処理を表す基底クラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private abstract class LineJob {
+
+		/**
+		 * チャンクを処理する。
+		 * 
+		 * @param aChunk チャンクインデックス
+		 * @param aBuffer チャンクのバッファ
+		 */
+		public final void process(final int aChunk, final ByteBuffer aBuffer) {
+			int limit = aBuffer.limit();
+			int row = 0;
+			int pos = 0;
+			while (pos < limit) {
+				int end = pos;
+				while (end < limit && '\n' != aBuffer.get(end)) {
+					end++;
+				}
+				int lineEnd = end;
+				if (lineEnd > pos && '\r' == aBuffer.get(lineEnd - 1)) {
+					lineEnd--;
+				}
+				if (!isBlank(aBuffer, pos, lineEnd)) {
+					line(aChunk, row, aBuffer, pos, lineEnd);
+					row++;
+				}
+				pos = end + 1;
+			}
+			done(aChunk, row);
+		}
+
+		/**
+		 * 空行以外の行毎に呼び出される。
+		 * 
+		 * @param aChunk チャンクインデックス
+		 * @param aRow チャンク内の行インデックス
+		 * @param aBuffer チャンクのバッファ
+		 * @param aStart 行の開始位置
+		 * @param aEnd 行の終了位置（改行を含まない）
+		 */
+		protected abstract void line(final int aChunk, final int aRow, final ByteBuffer aBuffer, final int aStart, final int aEnd);
+
+		/**
+		 * チャンクの処理終了時に呼び出される。
+		 * 
+		 * @param aChunk チャンクインデックス
+		 * @param aRowSize チャンク内の行数
+		 */
+		protected abstract void done(final int aChunk, final int aRowSize);
+
+		private boolean isBlank(final ByteBuffer aBuffer, final int aStart, final int aEnd) {
+			for (int i = aStart; i < aEnd; i++) {
+				if (' ' < aBuffer.get(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * このクラスは、チャンク毎の行数を数えるクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private final class CountJob extends LineJob {
+
+		/** チャンク毎の行数 */
+		private final int[] rowCounts;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aRowCounts チャンク毎の行数の格納先
+		 */
+		public CountJob(final int[] aRowCounts) {
+			rowCounts = aRowCounts;
+		}
+
+		@Override
+		protected void line(final int aChunk, final int aRow, final ByteBuffer aBuffer, final int aStart, final int aEnd) {
+		}
+
+		@Override
+		protected void done(final int aChunk, final int aRowSize) {
+			rowCounts[aChunk] = aRowSize;
+		}
+	}
+
+	/**
+	 * このクラスは、行を解析して値を配列へ格納するクラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private final class ParseJob extends LineJob {
+
+		/** チャンク毎の開始行 */
+		private final int[] rowOffsets;
+		/** 列インデックス毎の格納先（対象外の場合、-1） */
+		private final int[] slots;
+		/** 格納先毎の配列 */
+		private final double[][] targets;
+		/** 格納先毎の配列上の開始位置 */
+		private final int[] shifts;
+		/** 1行あたりの配列上の間隔 */
+		private final int stride;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aRowOffsets チャンク毎の開始行
+		 * @param aSlots 列インデックス毎の格納先
+		 * @param aTargets 格納先毎の配列
+		 * @param aShifts 格納先毎の配列上の開始位置
+		 * @param aStride 1行あたりの配列上の間隔
+		 */
+		public ParseJob(final int[] aRowOffsets, final int[] aSlots, final double[][] aTargets, final int[] aShifts, final int aStride) {
+			rowOffsets = aRowOffsets;
+			slots = aSlots;
+			targets = aTargets;
+			shifts = aShifts;
+			stride = aStride;
+		}
+
+		@Override
+		protected void line(final int aChunk, final int aRow, final ByteBuffer aBuffer, final int aStart, final int aEnd) {
+			int base = (rowOffsets[aChunk] + aRow) * stride;
+			int maxField = slots.length - 1;
+			int field = 0;
+			int fieldStart = aStart;
+			for (int i = aStart;; i++) {
+				if (i == aEnd || delimiter == aBuffer.get(i)) {
+					int slot = slots[field];
+					if (0 <= slot) {
+						targets[slot][base + shifts[slot]] = NumberParser.parse(aBuffer, fieldStart, i);
+					}
+					field++;
+					if (i == aEnd || field > maxField) {
+						break;
+					}
+					fieldStart = i + 1;
+				}
+			}
+			// 不足している列
+			for (; field <= maxField; field++) {
+				int slot = slots[field];
+				if (0 <= slot) {
+					targets[slot][base + shifts[slot]] = Double.NaN;
+				}
+			}
+		}
+
+		@Override
+		protected void done(final int aChunk, final int aRowSize) {
+		}
+	}
+
+	/**
+	 * このクラスは、チャンクを分割して並列に処理するタスククラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class ChunkTask extends RecursiveAction {
+
+		/** serialVersionUID */
+		private static final long serialVersionUID = 1L;
+
+		/** チャネル */
+		private final FileChannel channel;
+		/** チャンク境界 */
+		private final long[] bounds;
+		/** 開始チャンク */
+		private final int low;
+		/** 終了チャンク（このチャンクを含まない） */
+		private final int high;
+		/** 処理 */
+		private final LineJob job;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aChannel チャネル
+		 * @param aBounds チャンク境界
+		 * @param aLow 開始チャンク
+		 * @param aHigh 終了チャンク（このチャンクを含まない）
+		 * @param aJob 処理
+		 */
+		public ChunkTask(final FileChannel aChannel, final long[] aBounds, final int aLow, final int aHigh, final LineJob aJob) {
+			channel = aChannel;
+			bounds = aBounds;
+			low = aLow;
+			high = aHigh;
+			job = aJob;
+		}
+
+		@Override
+		protected void compute() {
+			if (1 == high - low) {
+				long start = bounds[low];
+				long size = bounds[high] - start;
+				if (Integer.MAX_VALUE < size) {
+					throw new ChunkException(new IOException(String.format("Line too long at %d.", start)));
+				}
+				try {
+					ByteBuffer buffer = channel.map(MapMode.READ_ONLY, start, size);
+					job.process(low, buffer);
+				} catch (IOException ex) {
+					throw new ChunkException(ex);
+				}
+			} else if (1 < high - low) {
+				int middle = (low + high) >>> 1;
+				invokeAll(new ChunkTask(channel, bounds, low, middle, job), new ChunkTask(channel, bounds, middle, high, job));
+			}
+		}
+	}
+
+	/**
+	 * このクラスは、チャンクの処理中に発生した入出力例外を伝搬する為の例外クラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class ChunkException extends RuntimeException {
+
+		/** serialVersionUID */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aCause 原因
+		 */
+		public ChunkException(final IOException aCause) {
+			super(aCause);
+		}
+	}
+}
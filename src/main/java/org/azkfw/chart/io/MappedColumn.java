@@ -0,0 +1,314 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
+import org.azkfw.chart.io.ChartDataFormat.ColumnHeader;
+
+/**
+ * このクラスは、グラフデータファイルの列をメモリマップして参照する為の基底クラスです。
+ * <p>
+ * 2GBを超える列は複数のセグメントに分けてマップします。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+abstract class MappedColumn {
+
+	/** 1セグメントのバイト数（2の累乗） */
+	private static final int SEGMENT_BYTES_SHIFT = 30;
+
+	/** 要素数 */
+	private final long size;
+	/** 統計情報 */
+	private final SeriesStatistics statistics;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aHeader 列ヘッダ
+	 */
+	protected MappedColumn(final ColumnHeader aHeader) {
+		size = aHeader.size;
+		statistics = new SeriesStatistics(aHeader.count, aHeader.min, aHeader.max);
+	}
+
+	/**
+	 * 列をマップする。
+	 * 
+	 * @param aChannel チャネル
+	 * @param aHeader 列ヘッダ
+	 * @return 列
+	 * @throws IOException マップに失敗した場合、またはファイル形式が不正な場合
+	 */
+	public static MappedColumn map(final FileChannel aChannel, final ColumnHeader aHeader) throws IOException {
+		int elementSize = ChartDataFormat.getElementSize(aHeader.encoding);
+		// 要素数×要素サイズ、開始位置＋バイト数の桁あふれを考慮してファイル長と比較する
+		if (0 < elementSize && aHeader.size > Long.MAX_VALUE / elementSize) {
+			throw new IOException(String.format("Illegal column. size: %d, element size: %d (byte length overflows)", aHeader.size,
+					elementSize));
+		}
+		long bytes = aHeader.size * elementSize;
+		long fileSize = aChannel.size();
+		if (aHeader.offset > fileSize || bytes > fileSize - aHeader.offset) {
+			throw new IOException(String.format("Truncated file. offset: %d, size: %d, element size: %d, file length: %d", aHeader.offset,
+					aHeader.size, elementSize, fileSize));
+		}
+		switch (aHeader.encoding) {
+		case ChartDataFormat.ENCODING_DOUBLE:
+			return new DoubleColumn(aHeader, mapSegments(aChannel, aHeader));
+		case ChartDataFormat.ENCODING_FLOAT:
+			return new FloatColumn(aHeader, mapSegments(aChannel, aHeader));
+		case ChartDataFormat.ENCODING_DELTA:
+			return new DeltaColumn(aHeader, mapSegments(aChannel, aHeader));
+		default:
+			return new LinearColumn(aHeader);
+		}
+	}
+
+	/**
+	 * 要素数を取得する。
+	 * 
+	 * @return 要素数
+	 */
+	public final long getSize() {
+		return size;
+	}
+
+	/**
+	 * 統計情報を取得する。
+	 * 
+	 * @return 統計情報（コピー）
+	 */
+	public final SeriesStatistics getStatistics() {
+		return new SeriesStatistics(statistics);
+	}
+
+	/**
+	 * 値を取得する。
+	 * 
+	 * @param aIndex インデックス
+	 * @return 値
+	 */
+	public abstract double get(final long aIndex);
+
+	/**
+	 * 値が昇順に並んでいることがエンコードから分かるか判断する。
+	 * 
+	 * @return 昇順であることが分かる場合、<code>true</code>
+	 */
+	public boolean isMonotonic() {
+		return false;
+	}
+
+	private static ByteBuffer[] mapSegments(final FileChannel aChannel, final ColumnHeader aHeader) throws IOException {
+		long bytes = aHeader.size * ChartDataFormat.getElementSize(aHeader.encoding);
+		long segmentBytes = 1L << SEGMENT_BYTES_SHIFT;
+		int segmentSize = (int) ((bytes + segmentBytes - 1) >>> SEGMENT_BYTES_SHIFT);
+		ByteBuffer[] segments = new ByteBuffer[segmentSize];
+		for (int i = 0; i < segmentSize; i++) {
+			long position = (long) i << SEGMENT_BYTES_SHIFT;
+			long length = Math.min(segmentBytes, bytes - position);
+			segments[i] = aChannel.map(MapMode.READ_ONLY, aHeader.offset + position, length).order(ByteOrder.LITTLE_ENDIAN);
+		}
+		return segments;
+	}
+
+	/**
+	 * このクラスは、64bit浮動小数点数の列クラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class DoubleColumn extends MappedColumn {
+
+		/** 1セグメントの要素数（2の累乗） */
+		private static final int SHIFT = SEGMENT_BYTES_SHIFT - 3;
+		/** セグメント内インデックスのマスク */
+		private static final long MASK = (1L << SHIFT) - 1;
+
+		/** セグメント */
+		private final DoubleBuffer[] segments;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aHeader 列ヘッダ
+		 * @param aSegments セグメント
+		 */
+		public DoubleColumn(final ColumnHeader aHeader, final ByteBuffer[] aSegments) {
+			super(aHeader);
+			segments = new DoubleBuffer[aSegments.length];
+			for (int i = 0; i < aSegments.length; i++) {
+				segments[i] = aSegments[i].asDoubleBuffer();
+			}
+		}
+
+		@Override
+		public double get(final long aIndex) {
+			return segments[(int) (aIndex >>> SHIFT)].get((int) (aIndex & MASK));
+		}
+	}
+
+	/**
+	 * このクラスは、32bit浮動小数点数の列クラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class FloatColumn extends MappedColumn {
+
+		/** 1セグメントの要素数（2の累乗） */
+		private static final int SHIFT = SEGMENT_BYTES_SHIFT - 2;
+		/** セグメント内インデックスのマスク */
+		private static final long MASK = (1L << SHIFT) - 1;
+
+		/** セグメント */
+		private final FloatBuffer[] segments;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aHeader 列ヘッダ
+		 * @param aSegments セグメント
+		 */
+		public FloatColumn(final ColumnHeader aHeader, final ByteBuffer[] aSegments) {
+			super(aHeader);
+			segments = new FloatBuffer[aSegments.length];
+			for (int i = 0; i < aSegments.length; i++) {
+				segments[i] = aSegments[i].asFloatBuffer();
+			}
+		}
+
+		@Override
+		public double get(final long aIndex) {
+			return segments[(int) (aIndex >>> SHIFT)].get((int) (aIndex & MASK));
+		}
+	}
+
+	/**
+	 * このクラスは、差分エンコードされた列クラスです。
+	 * <p>
+	 * 差分は初回参照時に復元し、以降はヒープ上の配列を参照します。
+	 * </p>
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class DeltaColumn extends MappedColumn {
+
+		/** 差分 */
+		private final FloatColumn deltas;
+		/** 先頭値 */
+		private final double base;
+		/** 復元した値 */
+		private volatile double[] values;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aHeader 列ヘッダ
+		 * @param aSegments セグメント
+		 * @throws IOException 要素数が多すぎる場合
+		 */
+		public DeltaColumn(final ColumnHeader aHeader, final ByteBuffer[] aSegments) throws IOException {
+			super(aHeader);
+			if (Integer.MAX_VALUE - 8 < aHeader.size) {
+				throw new IOException(String.format("Too many delta encoded values: %d", aHeader.size));
+			}
+			deltas = new FloatColumn(aHeader, aSegments);
+			base = aHeader.base;
+		}
+
+		@Override
+		public double get(final long aIndex) {
+			double[] result = values;
+			if (null == result) {
+				result = decode();
+			}
+			return result[(int) aIndex];
+		}
+
+		@Override
+		public boolean isMonotonic() {
+			return true;
+		}
+
+		private synchronized double[] decode() {
+			if (null == values) {
+				double[] result = new double[(int) getSize()];
+				double value = base;
+				for (int i = 0; i < result.length; i++) {
+					value += deltas.get(i);
+					result[i] = value;
+				}
+				values = result;
+			}
+			return values;
+		}
+	}
+
+	/**
+	 * このクラスは、等間隔の値の列クラスです。
+	 * 
+	 * @since 1.5.1
+	 * @version 1.5.1 2026/10/17
+	 * @author Kawakicchi
+	 */
+	private static final class LinearColumn extends MappedColumn {
+
+		/** 先頭値 */
+		private final double base;
+		/** 間隔 */
+		private final double step;
+
+		/**
+		 * コンストラクタ
+		 * 
+		 * @param aHeader 列ヘッダ
+		 */
+		public LinearColumn(final ColumnHeader aHeader) {
+			super(aHeader);
+			base = aHeader.base;
+			step = aHeader.step;
+		}
+
+		@Override
+		public double get(final long aIndex) {
+			return base + aIndex * step;
+		}
+
+		@Override
+		public boolean isMonotonic() {
+			return true;
+		}
+	}
+}
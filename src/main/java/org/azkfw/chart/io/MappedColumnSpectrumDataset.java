@@ -0,0 +1,109 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import org.azkfw.chart.charts.spectrum.SpectrumDataset;
+import org.azkfw.chart.charts.spectrum.SpectrumMatrixData;
+
+/**
+ * このクラスは、グラフデータファイルの列をメモリマップして参照するスペクトログラムのデータセットクラスです。
+ * <p>
+ * このデータセットは読み込み専用です。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class MappedColumnSpectrumDataset extends SpectrumDataset {
+
+	/** 値列（行優先） */
+	private final MappedColumn values;
+	/** 行数 */
+	private final int rowSize;
+	/** 列数 */
+	private final int colSize;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aValues 値列（行優先）
+	 * @param aRowSize 行数
+	 * @param aColSize 列数
+	 */
+	public MappedColumnSpectrumDataset(final String aTitle, final MappedColumn aValues, final int aRowSize, final int aColSize) {
+		super(aTitle);
+		values = aValues;
+		rowSize = aRowSize;
+		colSize = aColSize;
+	}
+
+	@Override
+	public int getRowSize() {
+		return rowSize;
+	}
+
+	@Override
+	public int getColSize() {
+		return colSize;
+	}
+
+	/**
+	 * データを設定する。
+	 * <p>
+	 * このデータセットは読み込み専用の為、サポートしません。
+	 * </p>
+	 * 
+	 * @throws UnsupportedOperationException 常に
+	 */
+	@Override
+	public void put(final int aRow, final int aCol, final SpectrumMatrixData aData) {
+		throw new UnsupportedOperationException("Read-only dataset.");
+	}
+
+	/**
+	 * データを取得する。
+	 * <p>
+	 * 値から新しいデータを生成して返却します。
+	 * </p>
+	 */
+	@Override
+	public SpectrumMatrixData get(final int aRow, final int aCol) {
+		return new SpectrumMatrixData(getValue(aRow, aCol));
+	}
+
+	@Override
+	public double getValue(final int aRow, final int aCol) {
+		if (aRow < 0 || aRow >= rowSize || aCol < 0 || aCol >= colSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Col: %d, Size: %dx%d", aRow, aCol, rowSize, colSize));
+		}
+		return values.get((long) aRow * colSize + aCol);
+	}
+
+	@Override
+	public void getRowValues(final int aRow, final double[] aValues) {
+		if (aRow < 0 || aRow >= rowSize) {
+			throw new IndexOutOfBoundsException(String.format("Row: %d, Size: %d", aRow, rowSize));
+		}
+		long offset = (long) aRow * colSize;
+		for (int col = 0; col < colSize; col++) {
+			aValues[col] = values.get(offset + col);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import org.azkfw.chart.charts.line.LineSeries;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
+
+/**
+ * このクラスは、グラフデータファイルの列をメモリマップして参照する折れ線グラフのシリーズクラスです。
+ * <p>
+ * このシリーズは読み込み専用です。値を変更するメソッドは{@link UnsupportedOperationException}をスローします。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class MappedLineSeries extends LineSeries {
+
+	/** 値列 */
+	private final MappedColumn values;
+	/** 値数 */
+	private final int size;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aValues 値列
+	 */
+	public MappedLineSeries(final String aTitle, final MappedColumn aValues) {
+		super(aTitle);
+		values = aValues;
+		size = (int) aValues.getSize();
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public double getValue(final int aIndex) {
+		if (aIndex < 0 || aIndex >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", aIndex, size));
+		}
+		return values.get(aIndex);
+	}
+
+	@Override
+	public SeriesStatistics getStatistics() {
+		return values.getStatistics();
+	}
+
+	@Override
+	public void add(final double aValue) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void addAll(final double[] aValues, final int aOffset, final int aLength) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void insert(final int aIndex, final double aValue) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void setValue(final int aIndex, final double aValue) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void remove(final int aIndex) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void ensureCapacity(final int aCapacity) {
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import java.nio.DoubleBuffer;
+
+import org.azkfw.chart.charts.scatter.ScatterSeries;
+import org.azkfw.chart.core.dataset.series.SeriesStatistics;
+
+/**
+ * このクラスは、グラフデータファイルの列をメモリマップして参照する散布図のシリーズクラスです。
+ * <p>
+ * このシリーズは読み込み専用です。値を変更するメソッドは{@link UnsupportedOperationException}をスローします。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class MappedScatterSeries extends ScatterSeries {
+
+	/** x値列 */
+	private final MappedColumn xs;
+	/** y値列 */
+	private final MappedColumn ys;
+	/** ポイント数 */
+	private final int size;
+
+	/**
+	 * コンストラクタ
+	 * 
+	 * @param aTitle タイトル
+	 * @param aXs x値列
+	 * @param aYs y値列
+	 */
+	public MappedScatterSeries(final String aTitle, final MappedColumn aXs, final MappedColumn aYs) {
+		super(aTitle);
+		xs = aXs;
+		ys = aYs;
+		size = (int) aXs.getSize();
+		// 差分・等間隔エンコードのx値は昇順である為、判定の走査を省略する
+		setXSorted(aXs.isMonotonic());
+	}
+
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	@Override
+	public double getX(final int aIndex) {
+		checkIndex(aIndex);
+		return xs.get(aIndex);
+	}
+
+	@Override
+	public double getY(final int aIndex) {
+		checkIndex(aIndex);
+		return ys.get(aIndex);
+	}
+
+	@Override
+	public SeriesStatistics getXStatistics() {
+		return xs.getStatistics();
+	}
+
+	@Override
+	public SeriesStatistics getYStatistics() {
+		return ys.getStatistics();
+	}
+
+	@Override
+	public void add(final double aX, final double aY) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void add(final double[] aXs, final double[] aYs, final int aOffset, final int aLength) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void add(final DoubleBuffer aXs, final DoubleBuffer aYs) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void set(final int aIndex, final double aX, final double aY) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void insert(final int aIndex, final double aX, final double aY) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void remove(final int aIndex) {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void clear() {
+		throw new UnsupportedOperationException("Read-only series.");
+	}
+
+	@Override
+	public void ensureCapacity(final int aCapacity) {
+	}
+
+	private void checkIndex(final int aIndex) {
+		if (aIndex < 0 || aIndex >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index: %d, Size: %d", aIndex, size));
+		}
+	}
+}
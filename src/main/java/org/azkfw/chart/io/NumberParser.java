@@ -0,0 +1,189 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * このクラスは、バイト列から数値を解析するクラスです。
+ * <p>
+ * 有効桁数15桁以内かつ指数が±22以内の値は、文字列を生成せずに正確に変換します。
+ * それ以外の値は{@link Double#parseDouble(String)}で変換します。
+ * </p>
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+final class NumberParser {
+
+	/** 正確に表現できる10の累乗 */
+	private static final double[] POWERS = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+			1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/** 仮数部の最大桁数 */
+	private static final int MAX_DIGITS = 18;
+
+	/** 正確に表現できる最大の仮数 */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+	/**
+	 * コンストラクタ
+	 * <p>
+	 * インスタンス生成を禁止
+	 * </p>
+	 */
+	private NumberParser() {
+
+	}
+
+	/**
+	 * バイト列から数値を解析する。
+	 * <p>
+	 * 前後の空白とダブルクォートは無視します。
+	 * </p>
+	 * 
+	 * @param aBuffer バッファ
+	 * @param aStart 開始位置
+	 * @param aEnd 終了位置（この位置を含まない）
+	 * @return 数値（解析できない場合、<code>NaN</code>）
+	 */
+	public static double parse(final ByteBuffer aBuffer, final int aStart, final int aEnd) {
+		int start = aStart;
+		int end = aEnd;
+		while (start < end && aBuffer.get(start) <= ' ') {
+			start++;
+		}
+		while (end > start && aBuffer.get(end - 1) <= ' ') {
+			end--;
+		}
+		if (2 <= end - start && '"' == aBuffer.get(start) && '"' == aBuffer.get(end - 1)) {
+			start++;
+			end--;
+		}
+		if (start == end) {
+			return Double.NaN;
+		}
+
+		int i = start;
+		boolean negative = false;
+		byte c = aBuffer.get(i);
+		if ('-' == c || '+' == c) {
+			negative = ('-' == c);
+			i++;
+		}
+
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean truncated = false;
+		boolean any = false;
+		// 整数部
+		for (; i < end; i++) {
+			c = aBuffer.get(i);
+			if (c < '0' || c > '9') {
+				break;
+			}
+			any = true;
+			if (digits < MAX_DIGITS) {
+				mantissa = mantissa * 10 + (c - '0');
+				if (0 != mantissa) {
+					digits++;
+				}
+			} else {
+				exponent++;
+				truncated = true;
+			}
+		}
+		// 小数部
+		if (i < end && '.' == aBuffer.get(i)) {
+			for (i++; i < end; i++) {
+				c = aBuffer.get(i);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				any = true;
+				if (digits < MAX_DIGITS) {
+					mantissa = mantissa * 10 + (c - '0');
+					if (0 != mantissa) {
+						digits++;
+					}
+					exponent--;
+				} else {
+					truncated = true;
+				}
+			}
+		}
+		if (!any) {
+			return parseSlow(aBuffer, start, end);
+		}
+		// 指数部
+		if (i < end && ('e' == aBuffer.get(i) || 'E' == aBuffer.get(i))) {
+			i++;
+			boolean expNegative = false;
+			if (i < end && ('-' == aBuffer.get(i) || '+' == aBuffer.get(i))) {
+				expNegative = ('-' == aBuffer.get(i));
+				i++;
+			}
+			int exp = 0;
+			boolean expAny = false;
+			for (; i < end; i++) {
+				c = aBuffer.get(i);
+				if (c < '0' || c > '9') {
+					break;
+				}
+				expAny = true;
+				if (exp < 100000) {
+					exp = exp * 10 + (c - '0');
+				}
+			}
+			if (!expAny) {
+				return parseSlow(aBuffer, start, end);
+			}
+			exponent += (expNegative) ? -exp : exp;
+		}
+		if (i != end) {
+			return parseSlow(aBuffer, start, end);
+		}
+
+		if (!truncated) {
+			if (0 == mantissa) {
+				return (negative) ? -0.0 : 0.0;
+			}
+			if (mantissa <= MAX_EXACT_MANTISSA && -22 <= exponent && exponent <= 22) {
+				double value = mantissa;
+				value = (0 > exponent) ? value / POWERS[-exponent] : value * POWERS[exponent];
+				return (negative) ? -value : value;
+			}
+		}
+		return parseSlow(aBuffer, start, end);
+	}
+
+	private static double parseSlow(final ByteBuffer aBuffer, final int aStart, final int aEnd) {
+		byte[] bytes = new byte[aEnd - aStart];
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = aBuffer.get(aStart + i);
+		}
+		try {
+			return Double.parseDouble(new String(bytes, StandardCharsets.ISO_8859_1));
+		} catch (NumberFormatException ex) {
+			return Double.NaN;
+		}
+	}
+}
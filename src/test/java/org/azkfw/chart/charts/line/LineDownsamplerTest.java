@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.line;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link LineDownsampler}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class LineDownsamplerTest {
+
+	@Test
+	public void testNoReduction() {
+		LineSeries series = LineSeries.wrap(sine(100));
+		assertNull(LineDownsampler.select(series, 100));
+		assertNull(LineDownsampler.select(series, 200));
+		assertNull(LineDownsampler.select(series, 2));
+	}
+
+	@Test
+	public void testEndpoints() {
+		LineSeries series = LineSeries.wrap(sine(10000));
+		for (int threshold : new int[] { 3, 4, 10, 100, 1000 }) {
+			int[] indexes = LineDownsampler.select(series, threshold);
+			assertEquals(threshold, indexes.length);
+			assertEquals(0, indexes[0]);
+			assertEquals(9999, indexes[threshold - 1]);
+			for (int i = 1; i < indexes.length; i++) {
+				assertTrue(indexes[i - 1] < indexes[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testSpikeIsSelected() {
+		double[] values = new double[1000];
+		values[437] = 100.0;
+		values[812] = -100.0;
+		int[] indexes = LineDownsampler.select(LineSeries.wrap(values), 20);
+		assertTrue(contains(indexes, 437));
+		assertTrue(contains(indexes, 812));
+	}
+
+	@Test
+	public void testNaNBucket() {
+		double[] values = sine(100);
+		for (int i = 10; i < 60; i++) {
+			values[i] = Double.NaN;
+		}
+		int[] indexes = LineDownsampler.select(LineSeries.wrap(values), 10);
+		assertEquals(10, indexes.length);
+		assertEquals(0, indexes[0]);
+		assertEquals(99, indexes[9]);
+		for (int i = 1; i < indexes.length; i++) {
+			assertTrue(indexes[i - 1] < indexes[i]);
+		}
+	}
+
+	@Test
+	public void testThreeBuckets() {
+		// 中間のバケットは全体で1つとなり、端点から最も離れた点が選ばれる
+		double[] values = { 0.0, 1.0, 5.0, 2.0, 0.0 };
+		assertArrayEquals(new int[] { 0, 2, 4 }, LineDownsampler.select(LineSeries.wrap(values), 3));
+	}
+
+	private static double[] sine(final int aSize) {
+		double[] values = new double[aSize];
+		for (int i = 0; i < aSize; i++) {
+			values[i] = Math.sin(i / 25.0);
+		}
+		return values;
+	}
+
+	private static boolean contains(final int[] aIndexes, final int aIndex) {
+		for (int index : aIndexes) {
+			if (index == aIndex) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
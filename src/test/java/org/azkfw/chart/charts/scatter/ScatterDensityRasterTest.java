@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.scatter;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link ScatterDensityRaster}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class ScatterDensityRasterTest {
+
+	@Test
+	public void testBoundaryPoints() {
+		ScatterSeries series = new ScatterSeries();
+		// 四隅・各辺上のポイントは端のピクセルへ集計される
+		series.add(0.0, 0.0);
+		series.add(100.0, 0.0);
+		series.add(0.0, 50.0);
+		series.add(100.0, 50.0);
+		series.add(50.0, 0.0);
+		series.add(100.0, 25.0);
+		// 描画領域外・NaNのポイントは集計されない
+		series.add(-0.001, 10.0);
+		series.add(100.001, 10.0);
+		series.add(10.0, -0.001);
+		series.add(10.0, 50.001);
+		series.add(Double.NaN, 10.0);
+		series.add(10.0, Double.NaN);
+
+		ScatterDensityRaster raster = new ScatterDensityRaster(100.0f, 50.0f);
+		raster.accumulate(series, 0, series.getSize(), 0.0, 1.0, 0.0, 1.0, null);
+		assertEquals(1, raster.getCount(0, 49));
+		assertEquals(1, raster.getCount(99, 49));
+		assertEquals(1, raster.getCount(0, 0));
+		assertEquals(1, raster.getCount(99, 0));
+		assertEquals(1, raster.getCount(50, 49));
+		assertEquals(1, raster.getCount(99, 25));
+		assertEquals(6, sum(raster, 100, 50));
+		assertEquals(1, raster.getMaxCount());
+	}
+
+	@Test
+	public void testFractionalSize() {
+		ScatterSeries series = new ScatterSeries();
+		series.add(10.5, 0.0);
+		series.add(10.5, 2.5);
+		series.add(10.0, 1.0);
+
+		ScatterDensityRaster raster = new ScatterDensityRaster(10.5f, 2.5f);
+		raster.accumulate(series, 0, series.getSize(), 0.0, 1.0, 0.0, 1.0, null);
+		assertEquals(1, raster.getCount(10, 2));
+		assertEquals(1, raster.getCount(10, 0));
+		assertEquals(1, raster.getCount(10, 1));
+		assertEquals(3, sum(raster, 11, 3));
+	}
+
+	@Test
+	public void testRange() {
+		ScatterSeries series = new ScatterSeries();
+		for (int i = 0; i < 10; i++) {
+			series.add(i + 0.5, 0.5);
+		}
+		ScatterDensityRaster raster = new ScatterDensityRaster(10.0f, 1.0f);
+		raster.accumulate(series, 2, 5, 0.0, 1.0, 0.0, 1.0, null);
+		raster.accumulate(series, 4, 6, 0.0, 1.0, 0.0, 1.0, null);
+		assertEquals(0, raster.getCount(1, 0));
+		assertEquals(1, raster.getCount(2, 0));
+		assertEquals(2, raster.getCount(4, 0));
+		assertEquals(1, raster.getCount(5, 0));
+		assertEquals(0, raster.getCount(6, 0));
+		assertEquals(2, raster.getMaxCount());
+	}
+
+	@Test
+	public void testParallelMatchesSerial() {
+		int size = (1 << 18) * 3 + 17;
+		Random random = new Random(1);
+		double[] xs = new double[size];
+		double[] ys = new double[size];
+		for (int i = 0; i < size; i++) {
+			xs[i] = random.nextGaussian() * 30.0;
+			ys[i] = random.nextGaussian() * 20.0;
+		}
+		ScatterSeries series = ScatterSeries.wrap("density", xs, ys);
+
+		ScatterDensityRaster serial = new ScatterDensityRaster(120.0f, 80.0f);
+		serial.accumulate(series, 0, size, -50.0, 1.2, -40.0, 1.0, null);
+		ScatterDensityRaster parallel = new ScatterDensityRaster(120.0f, 80.0f);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			parallel.accumulate(series, 0, size, -50.0, 1.2, -40.0, 1.0, pool);
+		} finally {
+			pool.shutdown();
+		}
+
+		for (int y = 0; y < 80; y++) {
+			for (int x = 0; x < 120; x++) {
+				assertEquals(serial.getCount(x, y), parallel.getCount(x, y));
+			}
+		}
+		assertEquals(serial.getMaxCount(), parallel.getMaxCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalSize() {
+		new ScatterDensityRaster(0.0f, 10.0f);
+	}
+
+	private static long sum(final ScatterDensityRaster aRaster, final int aWidth, final int aHeight) {
+		long sum = 0;
+		for (int y = 0; y < aHeight; y++) {
+			for (int x = 0; x < aWidth; x++) {
+				sum += aRaster.getCount(x, y);
+			}
+		}
+		return sum;
+	}
+}
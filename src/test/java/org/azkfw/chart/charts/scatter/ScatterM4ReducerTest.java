@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.scatter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link ScatterM4Reducer}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class ScatterM4ReducerTest {
+
+	@Test
+	public void testEmptyRange() {
+		ScatterM4Reducer reducer = new ScatterM4Reducer(0.0, 0.0, 1.0, 100.0, 0.0, 1.0);
+		reducer.reduce(series(10, 1), 5, 5);
+		assertEquals(0, reducer.getSize());
+	}
+
+	@Test
+	public void testOnePointPerColumn() {
+		// 全ポイントが別のピクセル列の場合は全て残る
+		ScatterSeries series = ScatterSeries.wrap(null, new double[] { 0.0, 1.0, 2.0, 3.0 }, new double[] { 5.0, 1.0, 7.0, 3.0 });
+		ScatterM4Reducer reducer = new ScatterM4Reducer(0.0, 0.0, 1.0, 100.0, 0.0, 1.0);
+		reducer.reduce(series, 0, 4);
+		assertEquals(4, reducer.getSize());
+		assertArrayEquals(new int[] { 0, 1, 2, 3 }, Arrays.copyOf(reducer.getIndexes(), 4));
+		assertArrayEquals(new int[] { 95, 99, 93, 97 }, Arrays.copyOf(reducer.getYs(), 4));
+	}
+
+	@Test
+	public void testColumnExtremes() {
+		int size = 20000;
+		int columns = 100;
+		ScatterSeries series = series(size, columns);
+		ScatterM4Reducer reducer = new ScatterM4Reducer(10.0, 0.0, 1.0, 500.0, -2.0, 100.0);
+		reducer.reduce(series, 0, size);
+
+		int count = reducer.getSize();
+		int[] indexes = reducer.getIndexes();
+		int[] xs = reducer.getXs();
+		int[] ys = reducer.getYs();
+		assertTrue(count <= 4 * columns);
+		for (int i = 1; i < count; i++) {
+			assertTrue(indexes[i - 1] < indexes[i]);
+		}
+
+		// ピクセル列毎に、先頭・末尾と最小・最大のy座標が全ポイントと一致する
+		for (int column = 0; column < columns; column++) {
+			int x = 10 + column;
+			int first = -1;
+			int last = -1;
+			int minY = Integer.MAX_VALUE;
+			int maxY = Integer.MIN_VALUE;
+			for (int i = 0; i < size; i++) {
+				if (x == (int) (10.0 + series.getX(i))) {
+					int y = (int) (500.0 - (series.getY(i) + 2.0) * 100.0);
+					first = (-1 == first) ? i : first;
+					last = i;
+					minY = Math.min(minY, y);
+					maxY = Math.max(maxY, y);
+				}
+			}
+			int reducedFirst = -1;
+			int reducedLast = -1;
+			int reducedMinY = Integer.MAX_VALUE;
+			int reducedMaxY = Integer.MIN_VALUE;
+			for (int i = 0; i < count; i++) {
+				if (x == xs[i]) {
+					reducedFirst = (-1 == reducedFirst) ? indexes[i] : reducedFirst;
+					reducedLast = indexes[i];
+					reducedMinY = Math.min(reducedMinY, ys[i]);
+					reducedMaxY = Math.max(reducedMaxY, ys[i]);
+				}
+			}
+			assertEquals(first, reducedFirst);
+			assertEquals(last, reducedLast);
+			assertEquals(minY, reducedMinY);
+			assertEquals(maxY, reducedMaxY);
+		}
+	}
+
+	private static ScatterSeries series(final int aSize, final int aColumns) {
+		Random random = new Random(15);
+		double[] xs = new double[aSize];
+		double[] ys = new double[aSize];
+		for (int i = 0; i < aSize; i++) {
+			xs[i] = (double) i * aColumns / aSize;
+			ys[i] = random.nextGaussian();
+		}
+		return ScatterSeries.wrap(null, xs, ys);
+	}
+}
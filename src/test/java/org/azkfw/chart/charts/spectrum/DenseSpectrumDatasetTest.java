@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link DenseSpectrumDataset}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class DenseSpectrumDatasetTest {
+
+	@Test
+	public void testSetValue() {
+		DenseSpectrumDataset dataset = new DenseSpectrumDataset();
+		double[][] expected = new double[12][9];
+		Random random = new Random(1);
+		// 行・列を拡張しながら設定する
+		for (int row = 0; row < 12; row++) {
+			for (int col = 0; col < 9; col++) {
+				expected[row][col] = random.nextDouble();
+				dataset.setValue(row, col, expected[row][col]);
+			}
+		}
+		assertEquals(12, dataset.getRowSize());
+		assertEquals(9, dataset.getColSize());
+		double[] values = new double[9];
+		for (int row = 0; row < 12; row++) {
+			dataset.getRowValues(row, values);
+			assertArrayEquals(expected[row], values, 0.0);
+		}
+	}
+
+	@Test
+	public void testSetRowTail() {
+		DenseSpectrumDataset dataset = new DenseSpectrumDataset(2, 4);
+		dataset.setRow(0, new double[] { 1.0, 2.0, 3.0, 4.0 });
+		dataset.setRow(0, new double[] { 9.0, 5.0, 6.0 }, 1, 2);
+		assertArrayEquals(new double[] { 5.0, 6.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0 }, dataset.toArray(), 0.0);
+
+		// 列数より長い行は列を拡張する
+		dataset.addRow(new double[] { 1.0, 2.0, 3.0, 4.0, 5.0 });
+		assertEquals(3, dataset.getRowSize());
+		assertEquals(5, dataset.getColSize());
+		assertEquals(6.0, dataset.getValue(0, 1), 0.0);
+		assertEquals(0.0, dataset.getValue(0, 4), 0.0);
+		assertEquals(5.0, dataset.getValue(2, 4), 0.0);
+	}
+
+	@Test
+	public void testResize() {
+		DenseSpectrumDataset dataset = new DenseSpectrumDataset(3, 3);
+		for (int row = 0; row < 3; row++) {
+			for (int col = 0; col < 3; col++) {
+				dataset.setValue(row, col, row * 3 + col + 1);
+			}
+		}
+		dataset.resize(2, 2);
+		assertArrayEquals(new double[] { 1.0, 2.0, 4.0, 5.0 }, dataset.toArray(), 0.0);
+
+		// 縮小後に再拡張したセルは0.0となる
+		dataset.resize(3, 3);
+		assertArrayEquals(new double[] { 1.0, 2.0, 0.0, 4.0, 5.0, 0.0, 0.0, 0.0, 0.0 }, dataset.toArray(), 0.0);
+	}
+
+	@Test
+	public void testWrap() {
+		double[] values = new double[] { 1.0, 2.0, 3.0, 4.0, 5.0, 6.0 };
+		DenseSpectrumDataset dataset = DenseSpectrumDataset.wrap("wrap", values, 2, 3);
+		assertEquals(6.0, dataset.getValue(1, 2), 0.0);
+		values[5] = 7.0;
+		assertEquals(7.0, dataset.getValue(1, 2), 0.0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testWrapTooShort() {
+		DenseSpectrumDataset.wrap("wrap", new double[5], 2, 3);
+	}
+}
@@ -0,0 +1,159 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.azkfw.chart.charts.spectrum.QuantizedSpectrumDataset.Precision;
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link QuantizedSpectrumDataset}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class QuantizedSpectrumDatasetTest {
+
+	@Test
+	public void testFixedRange() {
+		for (Precision precision : Precision.values()) {
+			QuantizedSpectrumDataset dataset = new QuantizedSpectrumDataset("fixed", 50, precision, -10.0, 30.0);
+			double[][] expected = createValues(20, 50, -10.0, 30.0);
+			for (double[] values : expected) {
+				dataset.addRow(values);
+			}
+			assertEquals(20, dataset.getRowSize());
+			assertQuantized(dataset, expected);
+		}
+	}
+
+	@Test
+	public void testFixedRangeBoundary() {
+		QuantizedSpectrumDataset dataset = new QuantizedSpectrumDataset("fixed", 5, Precision.Bits8, -10.0, 30.0);
+		dataset.addRow(new double[] { -10.0, 30.0, Double.NaN, -100.0, 100.0 });
+		assertEquals(-10.0, dataset.getValue(0, 0), 0.0);
+		assertEquals(30.0, dataset.getValue(0, 1), 0.0);
+		assertTrue(Double.isNaN(dataset.getValue(0, 2)));
+		// 範囲外の値は最小値・最大値に丸められる
+		assertEquals(-10.0, dataset.getValue(0, 3), 0.0);
+		assertEquals(30.0, dataset.getValue(0, 4), 0.0);
+
+		int[] codes = new int[5];
+		dataset.getRowCodes(0, codes);
+		assertEquals(0, codes[0]);
+		assertEquals(dataset.getCodeSize() - 2, codes[1]);
+		assertEquals(dataset.getCodeSize() - 1, codes[2]);
+		assertEquals(dataset.getValue(0, 1), dataset.decodeValue(0, codes[1]), 0.0);
+	}
+
+	@Test
+	public void testRowScale() {
+		for (Precision precision : Precision.values()) {
+			QuantizedSpectrumDataset dataset = new QuantizedSpectrumDataset("row", 40, precision);
+			double[][] expected = new double[10][];
+			for (int row = 0; row < expected.length; row++) {
+				expected[row] = createValues(1, 40, -row, Math.pow(10.0, row))[0];
+				expected[row][row] = Double.NaN;
+				dataset.addRow(expected[row]);
+			}
+			assertQuantized(dataset, expected);
+			for (int row = 0; row < expected.length; row++) {
+				double min = Double.POSITIVE_INFINITY;
+				double max = Double.NEGATIVE_INFINITY;
+				for (double value : expected[row]) {
+					if (!Double.isNaN(value)) {
+						min = Math.min(min, value);
+						max = Math.max(max, value);
+					}
+				}
+				assertEquals(min, dataset.getMinimumValue(row), 0.0);
+				assertEquals(max, dataset.getMaximumValue(row), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testRowScaleSetValue() {
+		QuantizedSpectrumDataset dataset = new QuantizedSpectrumDataset("row", 30, Precision.Bits8);
+		double[][] expected = createValues(3, 30, 0.0, 1000.0);
+		for (int row = 0; row < expected.length; row++) {
+			for (int col = 0; col < 30; col++) {
+				dataset.setValue(row, col, expected[row][col]);
+			}
+		}
+		assertQuantized(dataset, expected);
+	}
+
+	@Test
+	public void testSetRowTail() {
+		QuantizedSpectrumDataset fixed = new QuantizedSpectrumDataset("fixed", 4, Precision.Bits16, 0.0, 10.0);
+		fixed.setRow(0, new double[] { 10.0, 10.0, 10.0, 10.0 });
+		fixed.setRow(0, new double[] { 10.0, 10.0 });
+		assertEquals(10.0, fixed.getValue(0, 1), 0.0);
+		assertEquals(0.0, fixed.getValue(0, 2), 0.0);
+		assertEquals(0.0, fixed.getValue(0, 3), 0.0);
+
+		QuantizedSpectrumDataset row = new QuantizedSpectrumDataset("row", 4, Precision.Bits8);
+		row.addRow(new double[] { 5.0, 8.0 });
+		assertEquals(8.0, row.getValue(0, 1), 0.0);
+		assertEquals(0.0, row.getValue(0, 3), 0.0);
+		assertEquals(0.0, row.getMinimumValue(0), 0.0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalRange() {
+		new QuantizedSpectrumDataset("fixed", 4, Precision.Bits8, 1.0, 0.0);
+	}
+
+	private static double[][] createValues(final int aRow, final int aCol, final double aMinimum, final double aMaximum) {
+		Random random = new Random(aRow * 31 + aCol);
+		double[][] values = new double[aRow][aCol];
+		for (int row = 0; row < aRow; row++) {
+			for (int col = 0; col < aCol; col++) {
+				values[row][col] = aMinimum + (aMaximum - aMinimum) * random.nextDouble();
+			}
+		}
+		return values;
+	}
+
+	private static void assertQuantized(final QuantizedSpectrumDataset aDataset, final double[][] aExpected) {
+		int maxCode = aDataset.getCodeSize() - 2;
+		double[] values = new double[aDataset.getColSize()];
+		for (int row = 0; row < aExpected.length; row++) {
+			double min = aDataset.getMinimumValue(row);
+			double max = aDataset.getMaximumValue(row);
+			double error = (max - min) / maxCode / 2.0 * (1.0 + 1e-9);
+			aDataset.getRowValues(row, values);
+			for (int col = 0; col < aExpected[row].length; col++) {
+				double expected = aExpected[row][col];
+				if (Double.isNaN(expected)) {
+					assertTrue(Double.isNaN(aDataset.getValue(row, col)));
+					assertTrue(Double.isNaN(values[col]));
+				} else {
+					assertEquals(expected, aDataset.getValue(row, col), error);
+					assertEquals(aDataset.getValue(row, col), values[col], 0.0);
+				}
+			}
+		}
+	}
+}
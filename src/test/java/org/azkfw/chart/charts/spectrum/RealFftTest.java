@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link RealFft}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class RealFftTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNotPowerOfTwo() {
+		new RealFft(12);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testTooSmall() {
+		new RealFft(1);
+	}
+
+	@Test
+	public void testPureTone() {
+		int size = 256;
+		int bin = 17;
+		double[] samples = new double[size];
+		for (int i = 0; i < size; i++) {
+			samples[i] = Math.cos(2.0 * Math.PI * bin * i / size);
+		}
+		double[] re = new double[size / 2 + 1];
+		double[] im = new double[size / 2 + 1];
+		new RealFft(size).transform(samples, 0, re, im);
+
+		for (int k = 0; k <= size / 2; k++) {
+			double expected = (bin == k) ? size / 2.0 : 0.0;
+			assertEquals(expected, re[k], 1e-9);
+			assertEquals(0.0, im[k], 1e-9);
+		}
+	}
+
+	@Test
+	public void testDcAndNyquist() {
+		int size = 8;
+		double[] samples = new double[size];
+		for (int i = 0; i < size; i++) {
+			samples[i] = 1.0 + ((0 == i % 2) ? 2.0 : -2.0);
+		}
+		double[] re = new double[size / 2 + 1];
+		double[] im = new double[size / 2 + 1];
+		new RealFft(size).transform(samples, 0, re, im);
+
+		assertEquals(size, re[0], 1e-12);
+		assertEquals(2.0 * size, re[size / 2], 1e-12);
+		assertEquals(0.0, im[0], 1e-12);
+		assertEquals(0.0, im[size / 2], 1e-12);
+	}
+
+	@Test
+	public void testNaiveDft() {
+		Random random = new Random(1);
+		for (int size = 2; size <= 1024; size <<= 1) {
+			int offset = 3;
+			double[] samples = new double[offset + size];
+			for (int i = 0; i < samples.length; i++) {
+				samples[i] = random.nextGaussian();
+			}
+			double[] re = new double[size / 2 + 1];
+			double[] im = new double[size / 2 + 1];
+			new RealFft(size).transform(samples, offset, re, im);
+
+			for (int k = 0; k <= size / 2; k++) {
+				double expectedRe = 0.0;
+				double expectedIm = 0.0;
+				for (int n = 0; n < size; n++) {
+					double angle = 2.0 * Math.PI * k * n / size;
+					expectedRe += samples[offset + n] * Math.cos(angle);
+					expectedIm -= samples[offset + n] * Math.sin(angle);
+				}
+				assertEquals(expectedRe, re[k], 1e-9 * size);
+				assertEquals(expectedIm, im[k], 1e-9 * size);
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link SparseSpectrumDataset}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class SparseSpectrumDatasetTest {
+
+	@Test
+	public void testSetValue() {
+		int rowSize = 20;
+		int colSize = 30;
+		SparseSpectrumDataset dataset = new SparseSpectrumDataset(rowSize, colSize);
+		double[][] expected = new double[rowSize][colSize];
+
+		Random random = new Random(1);
+		for (int i = 0; i < 5000; i++) {
+			int row = random.nextInt(rowSize);
+			int col = random.nextInt(colSize);
+			double value = (0 == random.nextInt(3)) ? 0.0 : random.nextInt(100);
+			dataset.setValue(row, col, value);
+			expected[row][col] = value;
+		}
+
+		long entrySize = 0;
+		double[] values = new double[colSize];
+		for (int row = 0; row < rowSize; row++) {
+			int rowEntrySize = 0;
+			for (int col = 0; col < colSize; col++) {
+				assertEquals(expected[row][col], dataset.getValue(row, col), 0.0);
+				if (0.0 != expected[row][col]) {
+					rowEntrySize++;
+				}
+			}
+			assertEquals(rowEntrySize, dataset.getEntrySize(row));
+			for (int i = 1; i < dataset.getEntrySize(row); i++) {
+				assertTrue(dataset.getEntryCol(row, i - 1) < dataset.getEntryCol(row, i));
+			}
+			dataset.getRowValues(row, values);
+			assertArrayEquals(expected[row], values, 0.0);
+			entrySize += rowEntrySize;
+		}
+		assertEquals(entrySize, dataset.getEntrySize());
+	}
+
+	@Test
+	public void testBackgroundValue() {
+		SparseSpectrumDataset dataset = new SparseSpectrumDataset(2, 3);
+		dataset.setValue(0, 0, 5.0);
+		dataset.setValue(0, 1, 7.0);
+		dataset.setValue(1, 2, 0.0);
+		assertEquals(2, dataset.getEntrySize());
+
+		// 保持していないセルは新しい背景値を返却し、背景値と等しいセルは破棄される
+		dataset.setBackgroundValue(5.0);
+		assertEquals(1, dataset.getEntrySize());
+		assertEquals(5.0, dataset.getValue(0, 0), 0.0);
+		assertEquals(7.0, dataset.getValue(0, 1), 0.0);
+		assertEquals(5.0, dataset.getValue(1, 2), 0.0);
+
+		double[] values = new double[3];
+		dataset.getRowValues(1, values);
+		assertArrayEquals(new double[] { 5.0, 5.0, 5.0 }, values, 0.0);
+
+		dataset.put(0, 1, null);
+		assertEquals(0, dataset.getEntrySize());
+	}
+
+	@Test
+	public void testResize() {
+		SparseSpectrumDataset dataset = new SparseSpectrumDataset(2, 2);
+		dataset.setValue(0, 0, 1.0);
+		dataset.setValue(1, 1, 2.0);
+
+		// 範囲外の設定で拡張される
+		dataset.setValue(3, 4, 3.0);
+		assertEquals(4, dataset.getRowSize());
+		assertEquals(5, dataset.getColSize());
+		assertEquals(2.0, dataset.getValue(1, 1), 0.0);
+		assertEquals(0.0, dataset.getValue(2, 3), 0.0);
+
+		// 範囲外となったセルは破棄される
+		dataset.resize(2, 1);
+		assertEquals(1, dataset.getEntrySize());
+		assertEquals(1.0, dataset.getValue(0, 0), 0.0);
+
+		dataset.resize(2, 2);
+		assertEquals(0.0, dataset.getValue(1, 1), 0.0);
+	}
+
+	@Test
+	public void testClear() {
+		SparseSpectrumDataset dataset = new SparseSpectrumDataset(2, 2);
+		dataset.setValue(0, 0, 1.0);
+		dataset.setValue(1, 1, 2.0);
+		dataset.clear();
+		assertEquals(0, dataset.getEntrySize());
+		assertEquals(2, dataset.getRowSize());
+		assertEquals(0.0, dataset.getValue(1, 1), 0.0);
+		dataset.setValue(1, 1, 3.0);
+		assertEquals(3.0, dataset.getValue(1, 1), 0.0);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testIndexOutOfBounds() {
+		new SparseSpectrumDataset(2, 2).getValue(2, 0);
+	}
+}
@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link SpectrogramBuilder}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class SpectrogramBuilderTest {
+
+	@Test
+	public void testFrameSize() {
+		SpectrogramBuilder builder = new SpectrogramBuilder();
+		builder.setFftSize(64);
+		builder.setHopSize(16);
+		assertEquals(0, builder.getFrameSize(63));
+		assertEquals(1, builder.getFrameSize(64));
+		assertEquals(1, builder.getFrameSize(79));
+		assertEquals(2, builder.getFrameSize(80));
+
+		DenseSpectrumDataset dataset = builder.build(new double[200]);
+		assertEquals(9, dataset.getRowSize());
+		assertEquals(33, dataset.getColSize());
+	}
+
+	@Test
+	public void testPureTone() {
+		int fftSize = 128;
+		int bin = 10;
+		double amplitude = 3.0;
+		double[] signal = createTone(fftSize * 4, fftSize, bin, amplitude);
+
+		for (SpectrogramBuilder.Window window : SpectrogramBuilder.Window.values()) {
+			SpectrogramBuilder builder = new SpectrogramBuilder();
+			builder.setFftSize(fftSize);
+			builder.setHopSize(fftSize / 2);
+			builder.setWindow(window);
+			builder.setOutput(SpectrogramBuilder.Output.Magnitude);
+			DenseSpectrumDataset dataset = builder.build(signal);
+			for (int row = 0; row < dataset.getRowSize(); row++) {
+				assertEquals(window.name(), amplitude, dataset.getValue(row, bin), 1e-9);
+				for (int col = 0; col < dataset.getColSize(); col++) {
+					assertTrue(dataset.getValue(row, col) <= dataset.getValue(row, bin) + 1e-9);
+				}
+			}
+		}
+
+		SpectrogramBuilder builder = new SpectrogramBuilder();
+		builder.setFftSize(fftSize);
+		builder.setWindow(SpectrogramBuilder.Window.Rectangular);
+		builder.setOutput(SpectrogramBuilder.Output.Decibel);
+		DenseSpectrumDataset dataset = builder.build(signal);
+		assertEquals(20.0 * Math.log10(amplitude), dataset.getValue(0, bin), 1e-9);
+		assertEquals(SpectrogramBuilder.MIN_DECIBEL, dataset.getValue(0, 0), 1e-9);
+	}
+
+	@Test
+	public void testParallelMatchesSerial() {
+		double[] signal = createNoise(1 << 18);
+		SpectrogramBuilder serial = new SpectrogramBuilder();
+		serial.setFftSize(256);
+		serial.setHopSize(100);
+		serial.setParallelism(1);
+		SpectrogramBuilder parallel = new SpectrogramBuilder();
+		parallel.setFftSize(256);
+		parallel.setHopSize(100);
+		parallel.setParallelism(4);
+
+		assertDataset(serial.build(signal, 7, signal.length - 7), parallel.build(signal, 7, signal.length - 7));
+	}
+
+	@Test
+	public void testFrameWriter() {
+		double[] signal = createNoise(5000);
+		for (int hopSize : new int[] { 32, 64, 100 }) {
+			SpectrogramBuilder builder = new SpectrogramBuilder();
+			builder.setFftSize(64);
+			builder.setHopSize(hopSize);
+			DenseSpectrumDataset expected = builder.build(signal);
+
+			DenseSpectrumDataset actual = new DenseSpectrumDataset();
+			SpectrogramBuilder.FrameWriter writer = builder.open(actual);
+			int rows = 0;
+			Random random = new Random(hopSize);
+			for (int pos = 0; pos < signal.length;) {
+				int length = Math.min(signal.length - pos, random.nextInt(150));
+				rows += writer.write(signal, pos, length);
+				pos += length;
+			}
+			assertEquals(expected.getRowSize(), rows);
+			assertDataset(expected, actual);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testFrameWriterColumnMismatch() {
+		SpectrogramBuilder builder = new SpectrogramBuilder();
+		builder.setFftSize(64);
+		builder.open(new DenseSpectrumDataset(1, 10));
+	}
+
+	private static double[] createTone(final int aLength, final int aFftSize, final int aBin, final double aAmplitude) {
+		double[] signal = new double[aLength];
+		for (int i = 0; i < aLength; i++) {
+			signal[i] = aAmplitude * Math.sin(2.0 * Math.PI * aBin * i / aFftSize);
+		}
+		return signal;
+	}
+
+	private static double[] createNoise(final int aLength) {
+		Random random = new Random(1);
+		double[] signal = new double[aLength];
+		for (int i = 0; i < aLength; i++) {
+			signal[i] = random.nextGaussian();
+		}
+		return signal;
+	}
+
+	private static void assertDataset(final DenseSpectrumDataset aExpected, final DenseSpectrumDataset aActual) {
+		assertEquals(aExpected.getRowSize(), aActual.getRowSize());
+		assertEquals(aExpected.getColSize(), aActual.getColSize());
+		for (int row = 0; row < aExpected.getRowSize(); row++) {
+			for (int col = 0; col < aExpected.getColSize(); col++) {
+				assertEquals(aExpected.getValue(row, col), aActual.getValue(row, col), 0.0);
+			}
+		}
+	}
+}
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.charts.spectrum;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link WaterfallSpectrumDataset}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class WaterfallSpectrumDatasetTest {
+
+	@Test
+	public void testAppendRow() {
+		WaterfallSpectrumDataset dataset = new WaterfallSpectrumDataset(3, 2);
+		assertEquals(0, dataset.getRowSize());
+		assertEquals(3, dataset.getRowCapacity());
+		for (int i = 0; i < 5; i++) {
+			dataset.appendRow(new double[] { i, -i });
+		}
+		// 最も古い行が破棄され、行0が最も古い行となる
+		assertEquals(3, dataset.getRowSize());
+		assertEquals(5, dataset.getAppendedCount());
+		double[] values = new double[2];
+		for (int row = 0; row < 3; row++) {
+			dataset.getRowValues(row, values);
+			assertArrayEquals(new double[] { row + 2, -(row + 2) }, values, 0.0);
+		}
+	}
+
+	@Test
+	public void testAppendRowTail() {
+		WaterfallSpectrumDataset dataset = new WaterfallSpectrumDataset(1, 3);
+		dataset.appendRow(new double[] { 1.0, 2.0, 3.0 });
+		dataset.appendRow(new double[] { 9.0, 4.0, 5.0 }, 1, 1);
+		assertEquals(4.0, dataset.getValue(0, 0), 0.0);
+		assertEquals(0.0, dataset.getValue(0, 1), 0.0);
+		assertEquals(0.0, dataset.getValue(0, 2), 0.0);
+	}
+
+	@Test
+	public void testRange() {
+		int rowCapacity = 8;
+		int colSize = 5;
+		WaterfallSpectrumDataset dataset = new WaterfallSpectrumDataset(rowCapacity, colSize);
+		List<double[]> expected = new ArrayList<double[]>();
+
+		Random random = new Random(1);
+		for (int i = 0; i < 2000; i++) {
+			if (0 == random.nextInt(4) && 0 < expected.size()) {
+				int row = random.nextInt(expected.size());
+				int col = random.nextInt(colSize);
+				double value = (0 == random.nextInt(20)) ? Double.NaN : random.nextGaussian() * 100.0;
+				dataset.setValue(row, col, value);
+				expected.get(row)[col] = value;
+			} else {
+				double[] values = new double[colSize];
+				for (int col = 0; col < colSize; col++) {
+					values[col] = random.nextGaussian() * (1 + random.nextInt(100));
+				}
+				dataset.appendRow(values);
+				expected.add(Arrays.copyOf(values, colSize));
+				if (expected.size() > rowCapacity) {
+					expected.remove(0);
+				}
+			}
+
+			double min = Double.POSITIVE_INFINITY;
+			double max = Double.NEGATIVE_INFINITY;
+			for (double[] values : expected) {
+				for (double value : values) {
+					if (!Double.isNaN(value)) {
+						min = Math.min(min, value);
+						max = Math.max(max, value);
+					}
+				}
+			}
+			assertEquals(expected.size(), dataset.getRowSize());
+			assertEquals(min, dataset.getMinimumValue(), 0.0);
+			assertEquals(max, dataset.getMaximumValue(), 0.0);
+		}
+
+		for (int row = 0; row < expected.size(); row++) {
+			for (int col = 0; col < colSize; col++) {
+				assertEquals(expected.get(row)[col], dataset.getValue(row, col), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void testClear() {
+		WaterfallSpectrumDataset dataset = new WaterfallSpectrumDataset(2, 2);
+		dataset.appendRow(new double[] { 1.0, 2.0 });
+		dataset.clear();
+		assertEquals(0, dataset.getRowSize());
+		assertEquals(0, dataset.getAppendedCount());
+		assertEquals(Double.POSITIVE_INFINITY, dataset.getMinimumValue(), 0.0);
+		assertEquals(Double.NEGATIVE_INFINITY, dataset.getMaximumValue(), 0.0);
+
+		dataset.appendRow(new double[] { 3.0, 4.0 });
+		assertEquals(3.0, dataset.getValue(0, 0), 0.0);
+		assertEquals(3.0, dataset.getMinimumValue(), 0.0);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testIndexOutOfBounds() {
+		WaterfallSpectrumDataset dataset = new WaterfallSpectrumDataset(2, 2);
+		dataset.appendRow(new double[] { 1.0, 2.0 });
+		dataset.getValue(1, 0);
+	}
+}
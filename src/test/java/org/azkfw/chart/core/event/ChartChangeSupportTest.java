@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.core.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.azkfw.chart.charts.line.LineDataset;
+import org.azkfw.chart.charts.line.LineSeries;
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link ChartChangeSupport}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class ChartChangeSupportTest {
+
+	@Test
+	public void testFireChanged() {
+		Object source = new Object();
+		ChartChangeSupport support = new ChartChangeSupport(source);
+		CountListener listener = new CountListener();
+		support.addListener(listener);
+
+		support.fireChanged();
+		support.fireChanged();
+		assertEquals(2, support.getModificationCount());
+		assertEquals(2, listener.count);
+		assertSame(source, listener.event.getSource());
+		assertEquals(2, listener.event.getModificationCount());
+
+		support.removeListener(listener);
+		support.fireChanged();
+		assertEquals(3, support.getModificationCount());
+		assertEquals(2, listener.count);
+	}
+
+	@Test
+	public void testBatch() {
+		ChartChangeSupport support = new ChartChangeSupport(this);
+		CountListener listener = new CountListener();
+		support.addListener(listener);
+
+		support.beginUpdate();
+		support.beginUpdate();
+		support.fireChanged();
+		support.fireChanged();
+		support.endUpdate();
+		assertEquals(1, support.getUpdateDepth());
+		assertEquals(0, listener.count);
+		support.endUpdate();
+		assertEquals(0, support.getUpdateDepth());
+		assertEquals(1, listener.count);
+		assertEquals(2, listener.event.getModificationCount());
+
+		// 変更の無い一括更新は通知しない
+		support.beginUpdate();
+		support.endUpdate();
+		assertEquals(1, listener.count);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testEndUpdateWithoutBegin() {
+		new ChartChangeSupport(this).endUpdate();
+	}
+
+	@Test
+	public void testForwarder() {
+		ChartChangeSupport parent = new ChartChangeSupport(this);
+		ChartChangeSupport child = new ChartChangeSupport(this);
+		CountListener listener = new CountListener();
+		parent.addListener(listener);
+		child.addListener(parent.getForwarder());
+
+		child.fireChanged();
+		assertEquals(1, child.getModificationCount());
+		assertEquals(1, parent.getModificationCount());
+		assertEquals(1, listener.count);
+	}
+
+	@Test
+	public void testDatasetBatch() {
+		LineDataset dataset = new LineDataset();
+		LineSeries series = new LineSeries();
+		dataset.addSeries(series);
+		CountListener datasetListener = new CountListener();
+		CountListener seriesListener = new CountListener();
+		dataset.addChartChangeListener(datasetListener);
+		series.addChartChangeListener(seriesListener);
+
+		series.add(1.0);
+		assertEquals(1, datasetListener.count);
+		assertEquals(1, seriesListener.count);
+
+		// データセットの一括更新中はシリーズの変更も保留される
+		dataset.beginUpdate();
+		series.add(2.0);
+		series.add(3.0);
+		LineSeries added = new LineSeries();
+		dataset.addSeries(added);
+		added.add(4.0);
+		assertEquals(1, datasetListener.count);
+		assertEquals(1, seriesListener.count);
+		dataset.endUpdate();
+		assertEquals(2, datasetListener.count);
+		assertEquals(2, seriesListener.count);
+
+		added.add(5.0);
+		assertEquals(3, datasetListener.count);
+	}
+
+	private static final class CountListener implements ChartChangeListener {
+
+		private int count;
+
+		private ChartChangeEvent event;
+
+		@Override
+		public void chartChanged(final ChartChangeEvent aEvent) {
+			count++;
+			event = aEvent;
+		}
+	}
+}
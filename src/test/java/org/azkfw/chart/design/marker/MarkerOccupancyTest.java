@@ -0,0 +1,100 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.design.marker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+
+import org.azkfw.graphics.Rect;
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link MarkerOccupancy}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class MarkerOccupancyTest {
+
+	@Test
+	public void testOccupy() {
+		MarkerOccupancy occupancy = new MarkerOccupancy(new Rect(10, 20, 100, 50));
+		Marker marker = new CircleMarker(5, Color.RED);
+		assertTrue(occupancy.occupy(marker, 50, 40));
+		assertFalse(occupancy.occupy(marker, 50, 40));
+		assertTrue(occupancy.occupy(marker, 51, 40));
+		assertTrue(occupancy.occupy(marker, 50, 41));
+
+		// 等しいマーカーは同じマーカーとして扱う
+		assertFalse(occupancy.occupy(new CircleMarker(5, Color.RED), 50, 40));
+		assertEquals(2, occupancy.getSkippedCount());
+	}
+
+	@Test
+	public void testOtherMarker() {
+		MarkerOccupancy occupancy = new MarkerOccupancy(new Rect(0, 0, 100, 100));
+		Marker circle = new CircleMarker(5, Color.RED);
+		Marker square = new SquareMarker(5, Color.RED);
+		Marker blue = new CircleMarker(5, Color.BLUE);
+		assertTrue(occupancy.occupy(circle, 10, 10));
+		assertTrue(occupancy.occupy(square, 10, 10));
+		assertTrue(occupancy.occupy(blue, 10, 10));
+		assertFalse(occupancy.occupy(blue, 10, 10));
+
+		// 最後に描画したマーカーのみを記録する
+		assertTrue(occupancy.occupy(circle, 10, 10));
+		assertFalse(occupancy.occupy(circle, 10, 10));
+		assertEquals(2, occupancy.getSkippedCount());
+	}
+
+	@Test
+	public void testBoundary() {
+		// 記録範囲は上下左右に32の余白を含む
+		MarkerOccupancy occupancy = new MarkerOccupancy(new Rect(10, 20, 100, 50));
+		Marker marker = new CircleMarker(5, Color.RED);
+		int[][] inside = new int[][] { { -22, -12 }, { 141, -12 }, { -22, 101 }, { 141, 101 } };
+		for (int[] point : inside) {
+			assertTrue(occupancy.occupy(marker, point[0], point[1]));
+			assertFalse(occupancy.occupy(marker, point[0], point[1]));
+		}
+		int[][] outside = new int[][] { { -23, 0 }, { 142, 0 }, { 0, -13 }, { 0, 102 }, { Integer.MIN_VALUE, Integer.MAX_VALUE } };
+		for (int[] point : outside) {
+			assertTrue(occupancy.occupy(marker, point[0], point[1]));
+			assertTrue(occupancy.occupy(marker, point[0], point[1]));
+		}
+		assertEquals(4, occupancy.getSkippedCount());
+	}
+
+	@Test
+	public void testClear() {
+		MarkerOccupancy occupancy = new MarkerOccupancy(new Rect(0, 0, 100, 100));
+		Marker marker = new CircleMarker(5, Color.RED);
+		occupancy.clear();
+		assertTrue(occupancy.occupy(marker, 10, 10));
+		assertFalse(occupancy.occupy(marker, 10, 10));
+		occupancy.clear();
+		assertTrue(occupancy.occupy(marker, 10, 10));
+		assertFalse(occupancy.occupy(marker, 10, 10));
+		// 省略したマーカー数はクリアされない
+		assertEquals(2, occupancy.getSkippedCount());
+	}
+}
@@ -0,0 +1,234 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+
+import org.azkfw.chart.charts.bar.BarDataset;
+import org.azkfw.chart.charts.bar.BarSeries;
+import org.azkfw.chart.charts.line.LineDataset;
+import org.azkfw.chart.charts.line.LineSeries;
+import org.azkfw.chart.charts.scatter.ScatterDataset;
+import org.azkfw.chart.charts.scatter.ScatterSeries;
+import org.azkfw.chart.charts.spectrum.DenseSpectrumDataset;
+import org.azkfw.chart.charts.spectrum.SpectrumDataset;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link ChartDataWriter}と{@link ChartDataFile}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class ChartDataFileTest {
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("chartdata", ".azcd");
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Test
+	public void testLineDataset() throws IOException {
+		LineDataset dataset = new LineDataset("line");
+		dataset.addSeries(LineSeries.wrap("a", new double[] { 1.0, -2.5, Double.NaN, 1e300 }));
+		dataset.addSeries(new LineSeries("b"));
+		new ChartDataWriter().write(file, dataset);
+
+		try (ChartDataFile data = new ChartDataFile(file)) {
+			assertSame(ChartDataFile.DataType.Line, data.getDataType());
+			LineDataset actual = data.getLineDataset();
+			assertEquals("line", actual.getTitle());
+			assertEquals(2, actual.getSeriesList().size());
+			assertSeries(dataset.getSeriesList().get(0), actual.getSeriesList().get(0));
+			assertEquals("b", actual.getSeriesList().get(1).getTitle());
+			assertEquals(0, actual.getSeriesList().get(1).getSize());
+		}
+	}
+
+	@Test
+	public void testBarDataset() throws IOException {
+		BarDataset dataset = new BarDataset("bar");
+		dataset.addSeries(BarSeries.wrap("a", new double[] { 3.0, 1.0, 4.0 }));
+		new ChartDataWriter().write(file, dataset);
+
+		try (ChartDataFile data = new ChartDataFile(file)) {
+			assertSame(ChartDataFile.DataType.Bar, data.getDataType());
+			BarSeries actual = data.getBarDataset().getSeriesList().get(0);
+			assertEquals("a", actual.getTitle());
+			assertEquals(3, actual.getSize());
+			assertEquals(4.0, actual.getValue(2), 0.0);
+		}
+	}
+
+	@Test
+	public void testScatterDataset() throws IOException {
+		int size = 10000;
+		Random random = new Random(1);
+		double[] linearXs = new double[size];
+		double[] sortedXs = new double[size];
+		double[] randomXs = new double[size];
+		double[] ys = new double[size];
+		for (int i = 0; i < size; i++) {
+			linearXs[i] = i * 0.5;
+			sortedXs[i] = i + (i % 3) * 0.25;
+			randomXs[i] = random.nextGaussian();
+			ys[i] = Math.sin(i);
+		}
+		ys[5] = Double.NaN;
+		ScatterDataset dataset = new ScatterDataset("scatter");
+		dataset.addSeries(ScatterSeries.wrap("linear", linearXs, ys));
+		dataset.addSeries(ScatterSeries.wrap("sorted", sortedXs, ys));
+		dataset.addSeries(ScatterSeries.wrap("random", randomXs, ys));
+
+		for (boolean delta : new boolean[] { false, true }) {
+			ChartDataWriter writer = new ChartDataWriter();
+			writer.setDeltaEncoding(delta);
+			writer.write(file, dataset);
+			try (ChartDataFile data = new ChartDataFile(file)) {
+				assertSame(ChartDataFile.DataType.Scatter, data.getDataType());
+				ScatterDataset actual = data.getScatterDataset();
+				assertEquals(3, actual.getSeriesList().size());
+				for (int i = 0; i < 3; i++) {
+					assertSeries(dataset.getSeriesList().get(i), actual.getSeriesList().get(i));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSpectrumDataset() throws IOException {
+		DenseSpectrumDataset dataset = new DenseSpectrumDataset("spectrum", 3, 4);
+		for (int row = 0; row < 3; row++) {
+			for (int col = 0; col < 4; col++) {
+				dataset.setValue(row, col, row * 10 + col + 0.1);
+			}
+		}
+		new ChartDataWriter().write(file, dataset);
+
+		try (ChartDataFile data = new ChartDataFile(file)) {
+			assertSame(ChartDataFile.DataType.Spectrum, data.getDataType());
+			SpectrumDataset actual = data.getSpectrumDataset();
+			assertEquals(3, actual.getRowSize());
+			assertEquals(4, actual.getColSize());
+			for (int row = 0; row < 3; row++) {
+				for (int col = 0; col < 4; col++) {
+					assertEquals(dataset.getValue(row, col), actual.getValue(row, col), 0.0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testFloatPrecision() throws IOException {
+		double[] values = new double[] { 0.1, Math.PI, -1e-10, Double.NaN };
+		LineDataset dataset = new LineDataset("line");
+		dataset.addSeries(LineSeries.wrap("a", values));
+		ChartDataWriter writer = new ChartDataWriter();
+		writer.setFloatPrecision(true);
+		writer.write(file, dataset);
+
+		try (ChartDataFile data = new ChartDataFile(file)) {
+			LineSeries actual = data.getLineDataset().getSeriesList().get(0);
+			for (int i = 0; i < values.length; i++) {
+				assertEquals((double) (float) values[i], actual.getValue(i), 0.0);
+			}
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testWrongDataType() throws IOException {
+		LineDataset dataset = new LineDataset("line");
+		dataset.addSeries(LineSeries.wrap("a", new double[] { 1.0 }));
+		new ChartDataWriter().write(file, dataset);
+
+		try (ChartDataFile data = new ChartDataFile(file)) {
+			data.getSpectrumDataset();
+		}
+	}
+
+	@Test
+	public void testIllegalMagic() throws IOException {
+		LineDataset dataset = new LineDataset("line");
+		dataset.addSeries(LineSeries.wrap("a", new double[] { 1.0, 2.0 }));
+		new ChartDataWriter().write(file, dataset);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.writeInt(0);
+		}
+		assertOpenFails();
+	}
+
+	@Test
+	public void testTruncated() throws IOException {
+		LineDataset dataset = new LineDataset("line");
+		dataset.addSeries(LineSeries.wrap("a", new double[1000]));
+		new ChartDataWriter().write(file, dataset);
+		long length = file.length();
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(length - 8);
+		}
+		assertOpenFails();
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(ChartDataFormat.FILE_HEADER_SIZE - 1);
+		}
+		assertOpenFails();
+	}
+
+	private void assertOpenFails() {
+		try {
+			new ChartDataFile(file).close();
+			fail();
+		} catch (IOException ex) {
+			// OK
+		}
+	}
+
+	private static void assertSeries(final LineSeries aExpected, final LineSeries aActual) {
+		assertEquals(aExpected.getTitle(), aActual.getTitle());
+		assertEquals(aExpected.getSize(), aActual.getSize());
+		for (int i = 0; i < aExpected.getSize(); i++) {
+			assertEquals(aExpected.getValue(i), aActual.getValue(i), 0.0);
+		}
+	}
+
+	private static void assertSeries(final ScatterSeries aExpected, final ScatterSeries aActual) {
+		assertEquals(aExpected.getTitle(), aActual.getTitle());
+		assertEquals(aExpected.getSize(), aActual.getSize());
+		for (int i = 0; i < aExpected.getSize(); i++) {
+			assertEquals(aExpected.getX(i), aActual.getX(i), 0.0);
+			assertEquals(aExpected.getY(i), aActual.getY(i), 0.0);
+		}
+	}
+}
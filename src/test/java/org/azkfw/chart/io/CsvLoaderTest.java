@@ -0,0 +1,143 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.azkfw.chart.charts.line.LineDataset;
+import org.azkfw.chart.charts.scatter.ScatterDataset;
+import org.azkfw.chart.charts.scatter.ScatterSeries;
+import org.azkfw.chart.charts.spectrum.DenseSpectrumDataset;
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link CsvLoader}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class CsvLoaderTest {
+
+	@Test
+	public void testLoad() throws IOException {
+		File file = createFile("x,y\n1,2\n\n3,4.5\r\n5\n\"7\",abc\n");
+		CsvLoader loader = new CsvLoader();
+		loader.setHeader(true);
+		double[][] values = loader.load(file, 1, 0);
+		assertArrayEquals(new double[] { 2.0, 4.5, Double.NaN, Double.NaN }, values[0], 0.0);
+		assertArrayEquals(new double[] { 1.0, 3.0, 5.0, 7.0 }, values[1], 0.0);
+	}
+
+	@Test
+	public void testHeader() throws IOException {
+		File file = createFile("﻿time;\"value\"\n0;1\n");
+		CsvLoader loader = new CsvLoader();
+		loader.setDelimiter(';');
+		loader.setHeader(true);
+		assertArrayEquals(new Object[] { "time", "value" }, loader.readHeader(file));
+		assertArrayEquals(new int[] { 1 }, loader.getColumnIndexes(file, "value"));
+
+		LineDataset dataset = loader.loadLineDataset(file, "value");
+		assertEquals("value", dataset.getSeriesList().get(0).getTitle());
+		assertEquals(1.0, dataset.getSeriesList().get(0).getValue(0), 0.0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testColumnNotFound() throws IOException {
+		File file = createFile("x,y\n1,2\n");
+		CsvLoader loader = new CsvLoader();
+		loader.setHeader(true);
+		loader.getColumnIndexes(file, "z");
+	}
+
+	@Test
+	public void testParallelMatchesSerial() throws IOException {
+		// 複数のチャンクに分割される大きさのファイル
+		int rowSize = 200000;
+		StringBuilder text = new StringBuilder();
+		for (int row = 0; row < rowSize; row++) {
+			text.append(row).append(',').append(row * 0.25).append(',').append(-row).append('\n');
+		}
+		File file = createFile(text.toString());
+
+		CsvLoader serial = new CsvLoader();
+		serial.setParallelism(1);
+		CsvLoader parallel = new CsvLoader();
+		parallel.setParallelism(4);
+		double[][] expected = serial.load(file, 0, 1, 2);
+		double[][] actual = parallel.load(file, 0, 1, 2);
+		for (int col = 0; col < 3; col++) {
+			assertEquals(rowSize, actual[col].length);
+			assertArrayEquals(expected[col], actual[col], 0.0);
+		}
+		for (int row = 0; row < rowSize; row += 997) {
+			assertEquals(row, actual[0][row], 0.0);
+			assertEquals(row * 0.25, actual[1][row], 0.0);
+			assertEquals(-row, actual[2][row], 0.0);
+		}
+	}
+
+	@Test
+	public void testScatterDatasetDoesNotShareX() throws IOException {
+		File file = createFile("1,2,3\n4,5,6\n");
+		ScatterDataset dataset = new CsvLoader().loadScatterDataset(file, 0, 1, 2);
+		List<ScatterSeries> seriesList = dataset.getSeriesList();
+		assertEquals(2, seriesList.size());
+		ScatterSeries series1 = seriesList.get(0);
+		ScatterSeries series2 = seriesList.get(1);
+		assertEquals(4.0, series2.getX(1), 0.0);
+		assertEquals(6.0, series2.getY(1), 0.0);
+
+		series1.clear();
+		series1.add(-1.0, -1.0);
+		series1.add(-2.0, -2.0);
+		assertEquals(1.0, series2.getX(0), 0.0);
+		assertEquals(4.0, series2.getX(1), 0.0);
+		assertNotSame(series1, series2);
+	}
+
+	@Test
+	public void testSpectrumDataset() throws IOException {
+		File file = createFile("1,2,3\n4,5,6\n");
+		DenseSpectrumDataset dataset = new CsvLoader().loadSpectrumDataset(file);
+		assertEquals(2, dataset.getRowSize());
+		assertEquals(3, dataset.getColSize());
+		assertEquals(6.0, dataset.getValue(1, 2), 0.0);
+		assertTrue(dataset.getValue(0, 0) == 1.0);
+	}
+
+	private static File createFile(final String aText) throws IOException {
+		File file = File.createTempFile("csvloader", ".csv");
+		file.deleteOnExit();
+		try (OutputStream stream = new FileOutputStream(file)) {
+			stream.write(aText.getBytes(StandardCharsets.UTF_8));
+		}
+		return file;
+	}
+}
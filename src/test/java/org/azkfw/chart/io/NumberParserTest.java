@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.azkfw.chart.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * このクラスは、{@link NumberParser}のテストクラスです。
+ * 
+ * @since 1.5.1
+ * @version 1.5.1 2026/10/17
+ * @author Kawakicchi
+ */
+public class NumberParserTest {
+
+	@Test
+	public void testSimpleValues() {
+		assertParse(0.0, "0");
+		assertParse(-0.0, "-0");
+		assertParse(123.0, "123");
+		assertParse(-123.45, "-123.45");
+		assertParse(0.5, ".5");
+		assertParse(5.0, "5.");
+		assertParse(1.5, "+1.5");
+		assertParse(1.25e-3, "1.25e-3");
+		assertParse(1.25e3, "1.25E+3");
+	}
+
+	@Test
+	public void testWhitespaceAndQuotes() {
+		assertParse(42.0, "  42  ");
+		assertParse(42.0, "\"42\"");
+		assertParse(-1.5, " \"-1.5\" ");
+	}
+
+	@Test
+	public void testInvalidValues() {
+		assertTrue(Double.isNaN(parse("")));
+		assertTrue(Double.isNaN(parse("   ")));
+		assertTrue(Double.isNaN(parse("abc")));
+		assertTrue(Double.isNaN(parse("1.2.3")));
+		assertTrue(Double.isNaN(parse("-")));
+	}
+
+	@Test
+	public void testRoundTrip() {
+		// 文字列表現から正確に元の値へ戻る
+		Random random = new Random(8);
+		for (int i = 0; i < 100000; i++) {
+			double value;
+			switch (i % 4) {
+			case 0:
+				value = random.nextDouble();
+				break;
+			case 1:
+				value = (random.nextDouble() - 0.5) * 1e6;
+				break;
+			case 2:
+				value = Math.round(random.nextGaussian() * 1e4) / 100.0;
+				break;
+			default:
+				value = Double.longBitsToDouble(random.nextLong());
+				if (Double.isNaN(value) || Double.isInfinite(value)) {
+					continue;
+				}
+				break;
+			}
+			assertParse(value, Double.toString(value));
+		}
+	}
+
+	@Test
+	public void testLongMantissa() {
+		assertParse(Double.parseDouble("3.14159265358979323846264338327950288"), "3.14159265358979323846264338327950288");
+		assertParse(Double.parseDouble("123456789012345678901234567890"), "123456789012345678901234567890");
+		assertParse(Double.parseDouble("1e300"), "1e300");
+		assertParse(Double.parseDouble("1e-300"), "1e-300");
+	}
+
+	@Test
+	public void testRange() {
+		byte[] bytes = "1,23,456".getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		assertEquals(23.0, NumberParser.parse(buffer, 2, 4), 0.0);
+		assertEquals(456.0, NumberParser.parse(buffer, 5, 8), 0.0);
+	}
+
+	private static double parse(final String aText) {
+		byte[] bytes = aText.getBytes(StandardCharsets.US_ASCII);
+		return NumberParser.parse(ByteBuffer.wrap(bytes), 0, bytes.length);
+	}
+
+	private static void assertParse(final double aExpected, final String aText) {
+		double actual = parse(aText);
+		assertEquals(aText, Double.doubleToLongBits(aExpected), Double.doubleToLongBits(actual));
+	}
+}